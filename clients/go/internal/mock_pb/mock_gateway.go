@@ -172,6 +172,26 @@ func (mr *MockGatewayClientMockRecorder) CreateProcessInstance(ctx, in interface
 	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "CreateProcessInstance", reflect.TypeOf((*MockGatewayClient)(nil).CreateProcessInstance), varargs...)
 }
 
+// CreateProcessInstanceBatch mocks base method.
+func (m *MockGatewayClient) CreateProcessInstanceBatch(ctx context.Context, in *pb.CreateProcessInstanceBatchRequest, opts ...grpc.CallOption) (*pb.CreateProcessInstanceBatchResponse, error) {
+	m.ctrl.T.Helper()
+	varargs := []interface{}{ctx, in}
+	for _, a := range opts {
+		varargs = append(varargs, a)
+	}
+	ret := m.ctrl.Call(m, "CreateProcessInstanceBatch", varargs...)
+	ret0, _ := ret[0].(*pb.CreateProcessInstanceBatchResponse)
+	ret1, _ := ret[1].(error)
+	return ret0, ret1
+}
+
+// CreateProcessInstanceBatch indicates an expected call of CreateProcessInstanceBatch.
+func (mr *MockGatewayClientMockRecorder) CreateProcessInstanceBatch(ctx, in interface{}, opts ...interface{}) *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	varargs := append([]interface{}{ctx, in}, opts...)
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "CreateProcessInstanceBatch", reflect.TypeOf((*MockGatewayClient)(nil).CreateProcessInstanceBatch), varargs...)
+}
+
 // CreateProcessInstanceWithResult mocks base method.
 func (m *MockGatewayClient) CreateProcessInstanceWithResult(ctx context.Context, in *pb.CreateProcessInstanceWithResultRequest, opts ...grpc.CallOption) (*pb.CreateProcessInstanceWithResultResponse, error) {
 	m.ctrl.T.Helper()
@@ -352,6 +372,26 @@ func (mr *MockGatewayClientMockRecorder) PublishMessage(ctx, in interface{}, opt
 	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "PublishMessage", reflect.TypeOf((*MockGatewayClient)(nil).PublishMessage), varargs...)
 }
 
+// PublishMessageBatch mocks base method.
+func (m *MockGatewayClient) PublishMessageBatch(ctx context.Context, in *pb.PublishMessageBatchRequest, opts ...grpc.CallOption) (*pb.PublishMessageBatchResponse, error) {
+	m.ctrl.T.Helper()
+	varargs := []interface{}{ctx, in}
+	for _, a := range opts {
+		varargs = append(varargs, a)
+	}
+	ret := m.ctrl.Call(m, "PublishMessageBatch", varargs...)
+	ret0, _ := ret[0].(*pb.PublishMessageBatchResponse)
+	ret1, _ := ret[1].(error)
+	return ret0, ret1
+}
+
+// PublishMessageBatch indicates an expected call of PublishMessageBatch.
+func (mr *MockGatewayClientMockRecorder) PublishMessageBatch(ctx, in interface{}, opts ...interface{}) *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	varargs := append([]interface{}{ctx, in}, opts...)
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "PublishMessageBatch", reflect.TypeOf((*MockGatewayClient)(nil).PublishMessageBatch), varargs...)
+}
+
 // ResolveIncident mocks base method.
 func (m *MockGatewayClient) ResolveIncident(ctx context.Context, in *pb.ResolveIncidentRequest, opts ...grpc.CallOption) (*pb.ResolveIncidentResponse, error) {
 	m.ctrl.T.Helper()
@@ -835,6 +875,21 @@ func (mr *MockGatewayServerMockRecorder) CreateProcessInstance(arg0, arg1 interf
 	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "CreateProcessInstance", reflect.TypeOf((*MockGatewayServer)(nil).CreateProcessInstance), arg0, arg1)
 }
 
+// CreateProcessInstanceBatch mocks base method.
+func (m *MockGatewayServer) CreateProcessInstanceBatch(arg0 context.Context, arg1 *pb.CreateProcessInstanceBatchRequest) (*pb.CreateProcessInstanceBatchResponse, error) {
+	m.ctrl.T.Helper()
+	ret := m.ctrl.Call(m, "CreateProcessInstanceBatch", arg0, arg1)
+	ret0, _ := ret[0].(*pb.CreateProcessInstanceBatchResponse)
+	ret1, _ := ret[1].(error)
+	return ret0, ret1
+}
+
+// CreateProcessInstanceBatch indicates an expected call of CreateProcessInstanceBatch.
+func (mr *MockGatewayServerMockRecorder) CreateProcessInstanceBatch(arg0, arg1 interface{}) *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "CreateProcessInstanceBatch", reflect.TypeOf((*MockGatewayServer)(nil).CreateProcessInstanceBatch), arg0, arg1)
+}
+
 // CreateProcessInstanceWithResult mocks base method.
 func (m *MockGatewayServer) CreateProcessInstanceWithResult(arg0 context.Context, arg1 *pb.CreateProcessInstanceWithResultRequest) (*pb.CreateProcessInstanceWithResultResponse, error) {
 	m.ctrl.T.Helper()
@@ -970,6 +1025,21 @@ func (mr *MockGatewayServerMockRecorder) PublishMessage(arg0, arg1 interface{})
 	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "PublishMessage", reflect.TypeOf((*MockGatewayServer)(nil).PublishMessage), arg0, arg1)
 }
 
+// PublishMessageBatch mocks base method.
+func (m *MockGatewayServer) PublishMessageBatch(arg0 context.Context, arg1 *pb.PublishMessageBatchRequest) (*pb.PublishMessageBatchResponse, error) {
+	m.ctrl.T.Helper()
+	ret := m.ctrl.Call(m, "PublishMessageBatch", arg0, arg1)
+	ret0, _ := ret[0].(*pb.PublishMessageBatchResponse)
+	ret1, _ := ret[1].(error)
+	return ret0, ret1
+}
+
+// PublishMessageBatch indicates an expected call of PublishMessageBatch.
+func (mr *MockGatewayServerMockRecorder) PublishMessageBatch(arg0, arg1 interface{}) *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "PublishMessageBatch", reflect.TypeOf((*MockGatewayServer)(nil).PublishMessageBatch), arg0, arg1)
+}
+
 // ResolveIncident mocks base method.
 func (m *MockGatewayServer) ResolveIncident(arg0 context.Context, arg1 *pb.ResolveIncidentRequest) (*pb.ResolveIncidentResponse, error) {
 	m.ctrl.T.Helper()
@@ -12,7 +12,9 @@ import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
 import java.time.Duration;
 import java.util.function.Supplier;
 import org.agrona.concurrent.BackoffIdleStrategy;
+import org.agrona.concurrent.BusySpinIdleStrategy;
 import org.agrona.concurrent.IdleStrategy;
+import org.agrona.concurrent.SleepingIdleStrategy;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -31,24 +33,70 @@ public final class ActorIdleStrategyConfiguration {
   }
 
   public ActorIdleStrategyConfiguration() {
-    this(new IdleStrategyProperties(null, null, null, null));
+    this(new IdleStrategyProperties(null, null, null, null, null, null, null));
   }
 
   @Bean
-  public IdleStrategySupplier toSupplier() {
+  public IdleStrategySuppliers toSuppliers() {
+    return new IdleStrategySuppliers(toSupplier(properties.cpu()), toSupplier(properties.io()));
+  }
+
+  /**
+   * Creates the supplier for a thread group, where every property which is not set for the group
+   * falls back to the global property.
+   */
+  private IdleStrategySupplier toSupplier(@Nullable final ThreadGroupIdleStrategyProperties group) {
+    final var groupProperties =
+        group == null ? new ThreadGroupIdleStrategyProperties(null, null, null, null, null) : group;
     return new IdleStrategySupplier(
-        properties.maxSpins(),
-        properties.maxYields(),
-        properties.minParkPeriodNs(),
-        properties.maxParkPeriodNs());
+        firstNonNull(groupProperties.maxSpins(), properties.maxSpins()),
+        firstNonNull(groupProperties.maxYields(), properties.maxYields()),
+        groupProperties.minParkPeriod() == null
+            ? properties.minParkPeriodNs()
+            : groupProperties.minParkPeriod().toNanos(),
+        groupProperties.maxParkPeriod() == null
+            ? properties.maxParkPeriodNs()
+            : groupProperties.maxParkPeriod().toNanos(),
+        firstNonNull(groupProperties.type(), properties.type()));
   }
 
+  private static <T> T firstNonNull(@Nullable final T value, final T fallback) {
+    return value != null ? value : fallback;
+  }
+
+  /** The kind of idle strategy an actor thread uses when there is no work available. */
+  public enum IdleStrategyType {
+    /**
+     * Spins, then yields, then parks with an exponentially increasing park period, bounded by the
+     * min and max park period. This is the default and a good trade-off between latency and CPU
+     * usage.
+     */
+    BACKOFF,
+    /**
+     * Never gives up the CPU, which results in the lowest wake-up latency at the cost of keeping
+     * every idle thread at 100% CPU usage. Only recommended on dedicated hosts.
+     */
+    BUSY_SPIN,
+    /**
+     * Always parks for the max park period, which results in the lowest CPU usage at the cost of a
+     * higher wake-up latency. Recommended on shared or overcommitted hosts.
+     */
+    PARK
+  }
+
+  /**
+   * @param cpu overrides the global properties for the CPU bound thread group
+   * @param io overrides the global properties for the I/O bound thread group
+   */
   @ConfigurationProperties(prefix = "zeebe.actor.idle")
   public record IdleStrategyProperties(
       @Nullable Long maxSpins,
       @Nullable Long maxYields,
       @Nullable Duration minParkPeriod,
-      @Nullable Duration maxParkPeriod) {
+      @Nullable Duration maxParkPeriod,
+      @Nullable IdleStrategyType type,
+      @Nullable ThreadGroupIdleStrategyProperties cpu,
+      @Nullable ThreadGroupIdleStrategyProperties io) {
     @Override
     public Long maxSpins() {
       return maxSpins == null ? ActorSchedulerBuilder.DEFAULT_MAX_SPINS : maxSpins;
@@ -70,15 +118,37 @@ public final class ActorIdleStrategyConfiguration {
           ? ActorSchedulerBuilder.DEFAULT_MAX_PARK_PERIOD_NS
           : maxParkPeriod.toNanos();
     }
+
+    @Override
+    public IdleStrategyType type() {
+      return type == null ? IdleStrategyType.BACKOFF : type;
+    }
   }
 
+  /** Idle strategy properties of a single thread group; unset properties use the global ones. */
+  public record ThreadGroupIdleStrategyProperties(
+      @Nullable Long maxSpins,
+      @Nullable Long maxYields,
+      @Nullable Duration minParkPeriod,
+      @Nullable Duration maxParkPeriod,
+      @Nullable IdleStrategyType type) {}
+
   public record IdleStrategySupplier(
-      long maxSpins, long maxYields, long minParkPeriodNs, long maxParkPeriodNs)
+      long maxSpins,
+      long maxYields,
+      long minParkPeriodNs,
+      long maxParkPeriodNs,
+      IdleStrategyType type)
       implements Supplier<IdleStrategy> {
 
     @Override
     public IdleStrategy get() {
-      return new BackoffIdleStrategy(maxSpins, maxYields, minParkPeriodNs, maxParkPeriodNs);
+      return switch (type) {
+        case BACKOFF ->
+            new BackoffIdleStrategy(maxSpins, maxYields, minParkPeriodNs, maxParkPeriodNs);
+        case BUSY_SPIN -> new BusySpinIdleStrategy();
+        case PARK -> new SleepingIdleStrategy(maxParkPeriodNs);
+      };
     }
 
     public static IdleStrategySupplier ofDefault() {
@@ -86,7 +156,17 @@ public final class ActorIdleStrategyConfiguration {
           ActorSchedulerBuilder.DEFAULT_MAX_SPINS,
           ActorSchedulerBuilder.DEFAULT_MAX_YIELDS,
           ActorSchedulerBuilder.DEFAULT_MIN_PARK_PERIOD_NS,
-          ActorSchedulerBuilder.DEFAULT_MAX_PARK_PERIOD_NS);
+          ActorSchedulerBuilder.DEFAULT_MAX_PARK_PERIOD_NS,
+          IdleStrategyType.BACKOFF);
+    }
+  }
+
+  /** The idle strategy suppliers for the CPU bound and the I/O bound actor thread groups. */
+  public record IdleStrategySuppliers(IdleStrategySupplier cpuBound, IdleStrategySupplier ioBound) {
+
+    public static IdleStrategySuppliers ofDefault() {
+      return new IdleStrategySuppliers(
+          IdleStrategySupplier.ofDefault(), IdleStrategySupplier.ofDefault());
     }
   }
 }
@@ -7,8 +7,9 @@
  */
 package io.camunda.commons.actor;
 
-import io.camunda.commons.actor.ActorIdleStrategyConfiguration.IdleStrategySupplier;
+import io.camunda.commons.actor.ActorIdleStrategyConfiguration.IdleStrategySuppliers;
 import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.ThreadAffinity;
 import io.camunda.zeebe.util.VisibleForTesting;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
@@ -19,16 +20,16 @@ import org.springframework.context.annotation.Configuration;
 public final class ActorSchedulerConfiguration {
 
   private final SchedulerConfiguration schedulerConfiguration;
-  private final IdleStrategySupplier idleStrategySupplier;
+  private final IdleStrategySuppliers idleStrategySuppliers;
   private final ActorClockConfiguration actorClockConfiguration;
 
   @Autowired
   public ActorSchedulerConfiguration(
       final SchedulerConfiguration schedulerConfiguration,
-      final IdleStrategySupplier idleStrategySupplier,
+      final IdleStrategySuppliers idleStrategySuppliers,
       final ActorClockConfiguration actorClockConfiguration) {
     this.schedulerConfiguration = schedulerConfiguration;
-    this.idleStrategySupplier = idleStrategySupplier;
+    this.idleStrategySuppliers = idleStrategySuppliers;
     this.actorClockConfiguration = actorClockConfiguration;
   }
 
@@ -47,13 +48,43 @@ public final class ActorSchedulerConfiguration {
             .setIoBoundActorThreadCount(ioThreads)
             .setMetricsEnabled(metricsEnabled)
             .setSchedulerName(String.format("%s-%s", prefix, nodeId))
-            .setIdleStrategySupplier(idleStrategySupplier)
+            .setCpuBoundIdleStrategySupplier(idleStrategySuppliers.cpuBound())
+            .setIoBoundIdleStrategySupplier(idleStrategySuppliers.ioBound())
+            .setCpuBoundThreadAffinity(
+                ThreadAffinity.parseCpuList(schedulerConfiguration.cpuThreadAffinity()))
+            .setIoBoundThreadAffinity(
+                ThreadAffinity.parseCpuList(schedulerConfiguration.ioThreadAffinity()))
+            .setPartitionAffinityEnabled(schedulerConfiguration.partitionAffinityEnabled())
+            .setVirtualThreadsForBlockingTasksEnabled(
+                schedulerConfiguration.virtualThreadsForBlockingTasksEnabled())
+            .setProfilingEnabled(schedulerConfiguration.actorProfilingEnabled())
             .build();
     scheduler.start();
 
     return scheduler;
   }
 
+  /**
+   * @param cpuThreadAffinity CPU list (e.g. {@code 0-3,8}) to pin the CPU threads to, empty to not
+   *     pin them
+   * @param ioThreadAffinity CPU list (e.g. {@code 0-3,8}) to pin the IO threads to, empty to not
+   *     pin them
+   * @param partitionAffinityEnabled whether the actors of a partition prefer to run on the same
+   *     thread
+   * @param virtualThreadsForBlockingTasksEnabled whether blocking sections of actors run on virtual
+   *     threads instead of the actor threads
+   * @param actorProfilingEnabled whether the execution and queue wait time of each actor is
+   *     recorded
+   */
   public record SchedulerConfiguration(
-      int cpuThreads, int ioThreads, boolean metricsEnabled, String prefix, String nodeId) {}
+      int cpuThreads,
+      int ioThreads,
+      boolean metricsEnabled,
+      String prefix,
+      String nodeId,
+      String cpuThreadAffinity,
+      String ioThreadAffinity,
+      boolean partitionAffinityEnabled,
+      boolean virtualThreadsForBlockingTasksEnabled,
+      boolean actorProfilingEnabled) {}
 }
@@ -69,7 +69,17 @@ public final class BrokerBasedConfiguration {
     final var ioThreads = threadCfg.getIoThreadCount();
     final var metricsEnabled = properties.getExperimental().getFeatures().isEnableActorMetrics();
     final var nodeId = String.valueOf(properties.getCluster().getNodeId());
-    return new SchedulerConfiguration(cpuThreads, ioThreads, metricsEnabled, "Broker", nodeId);
+    return new SchedulerConfiguration(
+        cpuThreads,
+        ioThreads,
+        metricsEnabled,
+        "Broker",
+        nodeId,
+        threadCfg.getCpuThreadAffinity(),
+        threadCfg.getIoThreadAffinity(),
+        threadCfg.isPartitionAffinityEnabled(),
+        threadCfg.isVirtualThreadsForBlockingTasksEnabled(),
+        threadCfg.isActorProfilingEnabled());
   }
 
   @ConditionalOnProperty(prefix = "zeebe.broker.gateway", name = "enable", havingValue = "false")
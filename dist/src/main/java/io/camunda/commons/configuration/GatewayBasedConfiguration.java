@@ -91,7 +91,8 @@ public final class GatewayBasedConfiguration {
     final var ioThreads = 0;
     final var metricsEnabled = false;
     final var nodeId = properties.getCluster().getMemberId();
-    return new SchedulerConfiguration(cpuThreads, ioThreads, metricsEnabled, "Gateway", nodeId);
+    return new SchedulerConfiguration(
+        cpuThreads, ioThreads, metricsEnabled, "Gateway", nodeId, "", "", false, false, false);
   }
 
   @Bean
@@ -0,0 +1,61 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.shared.management;
+
+import io.camunda.zeebe.scheduler.ActorProfiler;
+import io.camunda.zeebe.scheduler.ActorProfiler.ActorProfile;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.util.VisibleForTesting;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.stereotype.Component;
+
+/**
+ * An actuator endpoint which exposes the profile of the actors running on this node, i.e. how many
+ * jobs each actor executed, how long they ran, and how long they waited in the actor's queue. The
+ * profile is only recorded if actor profiling is enabled via {@code
+ * zeebe.broker.threads.actorProfilingEnabled}.
+ */
+@Component
+@WebEndpoint(id = "actors")
+public final class ActorProfileEndpoint {
+  private final ActorProfiler profiler;
+
+  @Autowired
+  public ActorProfileEndpoint(final ActorScheduler scheduler) {
+    this(scheduler.getActorProfiler());
+  }
+
+  @VisibleForTesting
+  ActorProfileEndpoint(final ActorProfiler profiler) {
+    this.profiler = profiler;
+  }
+
+  /**
+   * GET /actuator/actors - returns the profile of every actor which executed at least one job,
+   * ordered by the time spent executing jobs, descending.
+   *
+   * @return 200 and the actor profiles, or 403 if actor profiling is disabled
+   */
+  @ReadOperation
+  public WebEndpointResponse<?> getProfiles() {
+    if (!profiler.isEnabled()) {
+      return new WebEndpointResponse<>(
+          "Expected to read the actor profiles, but actor profiling is disabled; enable it via "
+              + "`zeebe.broker.threads.actorProfilingEnabled`",
+          403);
+    }
+
+    return new WebEndpointResponse<>(new Response(profiler.getProfiles()));
+  }
+
+  public record Response(List<ActorProfile> actors) {}
+}
@@ -11,7 +11,7 @@ import static org.assertj.core.api.Assertions.assertThatCode;
 
 import io.atomix.cluster.AtomixCluster;
 import io.camunda.commons.actor.ActorClockConfiguration;
-import io.camunda.commons.actor.ActorIdleStrategyConfiguration.IdleStrategySupplier;
+import io.camunda.commons.actor.ActorIdleStrategyConfiguration.IdleStrategySuppliers;
 import io.camunda.commons.actor.ActorSchedulerConfiguration;
 import io.camunda.commons.broker.client.BrokerClientConfiguration;
 import io.camunda.commons.clustering.AtomixClusterConfiguration;
@@ -150,7 +150,7 @@ final class StandaloneGatewaySecurityTest {
     atomixCluster = clusterConfiguration.atomixCluster();
     final ActorSchedulerConfiguration actorSchedulerConfiguration =
         new ActorSchedulerConfiguration(
-            schedulerConfig, IdleStrategySupplier.ofDefault(), new ActorClockConfiguration(false));
+            schedulerConfig, IdleStrategySuppliers.ofDefault(), new ActorClockConfiguration(false));
 
     actorScheduler = actorSchedulerConfiguration.scheduler();
     final var topologyServices = new DynamicClusterServices(actorScheduler, atomixCluster);
@@ -11,8 +11,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import io.camunda.commons.actor.ActorIdleStrategyConfiguration;
 import io.camunda.commons.actor.ActorIdleStrategyConfiguration.IdleStrategyProperties;
+import io.camunda.commons.actor.ActorIdleStrategyConfiguration.IdleStrategyType;
+import io.camunda.commons.actor.ActorIdleStrategyConfiguration.ThreadGroupIdleStrategyProperties;
 import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
 import java.time.Duration;
+import org.agrona.concurrent.BackoffIdleStrategy;
+import org.agrona.concurrent.BusySpinIdleStrategy;
+import org.agrona.concurrent.SleepingIdleStrategy;
 import org.junit.jupiter.api.Test;
 
 final class IdleStrategyConfigTest {
@@ -20,11 +25,12 @@ final class IdleStrategyConfigTest {
   void shouldConfigureIdleStrategy() {
     // given
     final var props =
-        new IdleStrategyProperties(50L, 62L, Duration.ofNanos(100), Duration.ofNanos(500));
+        new IdleStrategyProperties(
+            50L, 62L, Duration.ofNanos(100), Duration.ofNanos(500), null, null, null);
     final var config = new ActorIdleStrategyConfiguration(props);
 
     // when
-    final var idleStrategy = config.toSupplier().get();
+    final var idleStrategy = config.toSuppliers().cpuBound().get();
 
     // then
     assertThat(idleStrategy)
@@ -37,11 +43,11 @@ final class IdleStrategyConfigTest {
   @Test
   void shouldUseSchedulerDefaults() {
     // given
-    final var props = new IdleStrategyProperties(null, null, null, null);
+    final var props = new IdleStrategyProperties(null, null, null, null, null, null, null);
     final var config = new ActorIdleStrategyConfiguration(props);
 
     // when
-    final var idleStrategy = config.toSupplier().get();
+    final var idleStrategy = config.toSuppliers().cpuBound().get();
 
     // then
     assertThat(idleStrategy)
@@ -56,11 +62,12 @@ final class IdleStrategyConfigTest {
   @Test
   void shouldAcceptPartialConfig() {
     // given
-    final var props = new IdleStrategyProperties(null, 62L, Duration.ofNanos(100), null);
+    final var props =
+        new IdleStrategyProperties(null, 62L, Duration.ofNanos(100), null, null, null, null);
     final var config = new ActorIdleStrategyConfiguration(props);
 
     // when
-    final var idleStrategy = config.toSupplier().get();
+    final var idleStrategy = config.toSuppliers().cpuBound().get();
 
     // then
     assertThat(idleStrategy)
@@ -70,4 +77,47 @@ final class IdleStrategyConfigTest {
         .hasFieldOrPropertyWithValue(
             "maxParkPeriodNs", ActorSchedulerBuilder.DEFAULT_MAX_PARK_PERIOD_NS);
   }
+
+  @Test
+  void shouldConfigureIdleStrategyType() {
+    // given
+    final var props =
+        new IdleStrategyProperties(null, null, null, null, IdleStrategyType.BUSY_SPIN, null, null);
+    final var config = new ActorIdleStrategyConfiguration(props);
+
+    // when
+    final var suppliers = config.toSuppliers();
+
+    // then
+    assertThat(suppliers.cpuBound().get()).isInstanceOf(BusySpinIdleStrategy.class);
+    assertThat(suppliers.ioBound().get()).isInstanceOf(BusySpinIdleStrategy.class);
+  }
+
+  @Test
+  void shouldOverrideIdleStrategyPerThreadGroup() {
+    // given
+    final var cpu =
+        new ThreadGroupIdleStrategyProperties(10L, null, null, null, IdleStrategyType.BACKOFF);
+    final var io =
+        new ThreadGroupIdleStrategyProperties(
+            null, null, null, Duration.ofMillis(5), IdleStrategyType.PARK);
+    final var props =
+        new IdleStrategyProperties(50L, 62L, Duration.ofNanos(100), null, null, cpu, io);
+    final var config = new ActorIdleStrategyConfiguration(props);
+
+    // when
+    final var suppliers = config.toSuppliers();
+
+    // then
+    assertThat(suppliers.cpuBound().get())
+        .isInstanceOf(BackoffIdleStrategy.class)
+        .hasFieldOrPropertyWithValue("maxSpins", 10L)
+        .hasFieldOrPropertyWithValue("maxYields", 62L)
+        .hasFieldOrPropertyWithValue("minParkPeriodNs", 100L)
+        .hasFieldOrPropertyWithValue(
+            "maxParkPeriodNs", ActorSchedulerBuilder.DEFAULT_MAX_PARK_PERIOD_NS);
+    assertThat(suppliers.ioBound().get())
+        .isInstanceOf(SleepingIdleStrategy.class)
+        .hasFieldOrPropertyWithValue("sleepPeriodNs", Duration.ofMillis(5).toNanos());
+  }
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.shared.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ActorProfiler;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.shared.management.ActorProfileEndpoint.Response;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.Test;
+
+final class ActorProfileEndpointTest {
+
+  @Test
+  void shouldRejectIfProfilingIsDisabled() {
+    // given
+    final var endpoint = new ActorProfileEndpoint(ActorProfiler.disabled());
+
+    // when
+    final var response = endpoint.getProfiles();
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(403);
+  }
+
+  @Test
+  void shouldReturnActorProfiles() throws Exception {
+    // given
+    try (final var scheduler =
+        ActorScheduler.newActorScheduler().setProfilingEnabled(true).build()) {
+      scheduler.start();
+      final var actor = new ProfiledActor();
+      scheduler.submitActor(actor).join();
+      actor.call(() -> null).join();
+      final var endpoint = new ActorProfileEndpoint(scheduler);
+
+      // when
+      final var response = endpoint.getProfiles();
+
+      // then
+      assertThat(response.getStatus()).isEqualTo(200);
+      assertThat(response.getBody())
+          .asInstanceOf(InstanceOfAssertFactories.type(Response.class))
+          .extracting(Response::actors)
+          .asInstanceOf(InstanceOfAssertFactories.LIST)
+          .anySatisfy(
+              profile ->
+                  assertThat(profile).hasFieldOrPropertyWithValue("actorName", "ProfiledActor"));
+    }
+  }
+
+  private static final class ProfiledActor extends Actor {
+    @Override
+    public String getName() {
+      return "ProfiledActor";
+    }
+  }
+}
@@ -17,6 +17,11 @@ import io.camunda.service.security.auth.Authentication;
 import io.camunda.service.transformers.ServiceTransformers;
 import io.camunda.util.ObjectBuilder;
 import io.camunda.zeebe.broker.client.api.BrokerClient;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCreateProcessInstanceBatchRequest;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 public final class ProcessInstanceServices
@@ -50,4 +55,27 @@ public final class ProcessInstanceServices
       final Function<ProcessInstanceQuery.Builder, ObjectBuilder<ProcessInstanceQuery>> fn) {
     return search(SearchQueryBuilders.processInstanceSearchQuery(fn));
   }
+
+  public CompletableFuture<ProcessInstanceCreationRecord> createProcessInstanceBatch(
+      final ProcessInstanceBatchCreateRequest request) {
+    final var brokerRequest =
+        new BrokerCreateProcessInstanceBatchRequest()
+            .setBpmnProcessId(request.bpmnProcessId())
+            .setKey(request.processDefinitionKey())
+            .setVersion(request.version())
+            .setTenantId(request.tenantId());
+    request.startInstructions().forEach(brokerRequest::addStartInstruction);
+    request
+        .variables()
+        .forEach(variables -> brokerRequest.addInstance(getDocumentOrEmpty(variables)));
+    return sendBrokerRequest(brokerRequest);
+  }
+
+  public record ProcessInstanceBatchCreateRequest(
+      long processDefinitionKey,
+      String bpmnProcessId,
+      int version,
+      String tenantId,
+      List<String> startInstructions,
+      List<Map<String, Object>> variables) {}
 }
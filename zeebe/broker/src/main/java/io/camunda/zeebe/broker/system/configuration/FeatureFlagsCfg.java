@@ -37,6 +37,11 @@ public final class FeatureFlagsCfg {
       DEFAULT_SETTINGS.enableTimerDueDateCheckerAsync();
   private boolean enableStraightThroughProcessingLoopDetector =
       DEFAULT_SETTINGS.enableStraightThroughProcessingLoopDetector();
+  private boolean enableJobDueDateCheckerAsync = DEFAULT_SETTINGS.enableJobDueDateCheckerAsync();
+  private boolean enableInterPartitionCommandBatching =
+      DEFAULT_SETTINGS.enableInterPartitionCommandBatching();
+  private boolean enableIncrementalOutputCollection =
+      DEFAULT_SETTINGS.enableIncrementalOutputCollection();
 
   public boolean isEnableYieldingDueDateChecker() {
     return enableYieldingDueDateChecker;
@@ -79,13 +84,42 @@ public final class FeatureFlagsCfg {
     this.enableStraightThroughProcessingLoopDetector = enableStraightThroughProcessingLoopDetector;
   }
 
+  public boolean isEnableJobDueDateCheckerAsync() {
+    return enableJobDueDateCheckerAsync;
+  }
+
+  public void setEnableJobDueDateCheckerAsync(final boolean enableJobDueDateCheckerAsync) {
+    this.enableJobDueDateCheckerAsync = enableJobDueDateCheckerAsync;
+  }
+
+  public boolean isEnableInterPartitionCommandBatching() {
+    return enableInterPartitionCommandBatching;
+  }
+
+  public void setEnableInterPartitionCommandBatching(
+      final boolean enableInterPartitionCommandBatching) {
+    this.enableInterPartitionCommandBatching = enableInterPartitionCommandBatching;
+  }
+
+  public boolean isEnableIncrementalOutputCollection() {
+    return enableIncrementalOutputCollection;
+  }
+
+  public void setEnableIncrementalOutputCollection(
+      final boolean enableIncrementalOutputCollection) {
+    this.enableIncrementalOutputCollection = enableIncrementalOutputCollection;
+  }
+
   public FeatureFlags toFeatureFlags() {
     return new FeatureFlags(
         enableYieldingDueDateChecker,
         enableActorMetrics,
         enableMessageTtlCheckerAsync,
         enableTimerDueDateCheckerAsync,
-        enableStraightThroughProcessingLoopDetector
+        enableStraightThroughProcessingLoopDetector,
+        enableJobDueDateCheckerAsync,
+        enableInterPartitionCommandBatching,
+        enableIncrementalOutputCollection
         /*, enableFoo*/ );
   }
 
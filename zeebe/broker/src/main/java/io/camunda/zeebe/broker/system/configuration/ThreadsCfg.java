@@ -10,6 +10,11 @@ package io.camunda.zeebe.broker.system.configuration;
 public final class ThreadsCfg implements ConfigurationEntry {
   private int cpuThreadCount = 2;
   private int ioThreadCount = 2;
+  private String cpuThreadAffinity = "";
+  private String ioThreadAffinity = "";
+  private boolean partitionAffinityEnabled = false;
+  private boolean virtualThreadsForBlockingTasksEnabled = false;
+  private boolean actorProfilingEnabled = false;
 
   public int getCpuThreadCount() {
     return cpuThreadCount;
@@ -27,6 +32,47 @@ public final class ThreadsCfg implements ConfigurationEntry {
     ioThreadCount = ioThreads;
   }
 
+  public String getCpuThreadAffinity() {
+    return cpuThreadAffinity;
+  }
+
+  public void setCpuThreadAffinity(final String cpuThreadAffinity) {
+    this.cpuThreadAffinity = cpuThreadAffinity;
+  }
+
+  public String getIoThreadAffinity() {
+    return ioThreadAffinity;
+  }
+
+  public void setIoThreadAffinity(final String ioThreadAffinity) {
+    this.ioThreadAffinity = ioThreadAffinity;
+  }
+
+  public boolean isPartitionAffinityEnabled() {
+    return partitionAffinityEnabled;
+  }
+
+  public void setPartitionAffinityEnabled(final boolean partitionAffinityEnabled) {
+    this.partitionAffinityEnabled = partitionAffinityEnabled;
+  }
+
+  public boolean isVirtualThreadsForBlockingTasksEnabled() {
+    return virtualThreadsForBlockingTasksEnabled;
+  }
+
+  public void setVirtualThreadsForBlockingTasksEnabled(
+      final boolean virtualThreadsForBlockingTasksEnabled) {
+    this.virtualThreadsForBlockingTasksEnabled = virtualThreadsForBlockingTasksEnabled;
+  }
+
+  public boolean isActorProfilingEnabled() {
+    return actorProfilingEnabled;
+  }
+
+  public void setActorProfilingEnabled(final boolean actorProfilingEnabled) {
+    this.actorProfilingEnabled = actorProfilingEnabled;
+  }
+
   @Override
   public String toString() {
     return "ThreadsCfg{"
@@ -34,6 +80,18 @@ public final class ThreadsCfg implements ConfigurationEntry {
         + cpuThreadCount
         + ", ioThreadCount="
         + ioThreadCount
+        + ", cpuThreadAffinity='"
+        + cpuThreadAffinity
+        + '\''
+        + ", ioThreadAffinity='"
+        + ioThreadAffinity
+        + '\''
+        + ", partitionAffinityEnabled="
+        + partitionAffinityEnabled
+        + ", virtualThreadsForBlockingTasksEnabled="
+        + virtualThreadsForBlockingTasksEnabled
+        + ", actorProfilingEnabled="
+        + actorProfilingEnabled
         + '}';
   }
 }
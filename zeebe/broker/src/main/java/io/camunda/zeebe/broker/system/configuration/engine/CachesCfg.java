@@ -9,11 +9,16 @@ package io.camunda.zeebe.broker.system.configuration.engine;
 
 import io.camunda.zeebe.broker.system.configuration.ConfigurationEntry;
 import io.camunda.zeebe.engine.EngineConfiguration;
+import org.springframework.util.unit.DataSize;
 
 public final class CachesCfg implements ConfigurationEntry {
   private int drgCacheCapacity = EngineConfiguration.DEFAULT_DRG_CACHE_CAPACITY;
   private int formCacheCapacity = EngineConfiguration.DEFAULT_FORM_CACHE_CAPACITY;
   private int processCacheCapacity = EngineConfiguration.DEFAULT_PROCESS_CACHE_CAPACITY;
+  private int elementInstanceCacheCapacity =
+      EngineConfiguration.DEFAULT_ELEMENT_INSTANCE_CACHE_CAPACITY;
+  private DataSize deployedResourceCacheMemoryBudget =
+      DataSize.ofBytes(EngineConfiguration.DEFAULT_DEPLOYED_RESOURCE_CACHE_MEMORY_BUDGET);
 
   public int getDrgCacheCapacity() {
     return drgCacheCapacity;
@@ -39,6 +44,23 @@ public final class CachesCfg implements ConfigurationEntry {
     this.processCacheCapacity = processCacheCapacity;
   }
 
+  public int getElementInstanceCacheCapacity() {
+    return elementInstanceCacheCapacity;
+  }
+
+  public void setElementInstanceCacheCapacity(final int elementInstanceCacheCapacity) {
+    this.elementInstanceCacheCapacity = elementInstanceCacheCapacity;
+  }
+
+  public DataSize getDeployedResourceCacheMemoryBudget() {
+    return deployedResourceCacheMemoryBudget;
+  }
+
+  public void setDeployedResourceCacheMemoryBudget(
+      final DataSize deployedResourceCacheMemoryBudget) {
+    this.deployedResourceCacheMemoryBudget = deployedResourceCacheMemoryBudget;
+  }
+
   @Override
   public String toString() {
     return "CachesCfg{"
@@ -48,6 +70,10 @@ public final class CachesCfg implements ConfigurationEntry {
         + formCacheCapacity
         + ", processCacheCapacity="
         + processCacheCapacity
+        + ", elementInstanceCacheCapacity="
+        + elementInstanceCacheCapacity
+        + ", deployedResourceCacheMemoryBudget="
+        + deployedResourceCacheMemoryBudget
         + '}';
   }
 }
@@ -0,0 +1,44 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.system.configuration.engine;
+
+import io.camunda.zeebe.broker.system.configuration.ConfigurationEntry;
+import io.camunda.zeebe.engine.EngineConfiguration;
+
+public class DistributionsCfg implements ConfigurationEntry {
+  private int redistributionScanLimit =
+      EngineConfiguration.DEFAULT_DISTRIBUTIONS_REDISTRIBUTION_SCAN_LIMIT;
+  private int redistributionRetryLimit =
+      EngineConfiguration.DEFAULT_DISTRIBUTIONS_REDISTRIBUTION_RETRY_LIMIT;
+
+  public int getRedistributionScanLimit() {
+    return redistributionScanLimit;
+  }
+
+  public void setRedistributionScanLimit(final int redistributionScanLimit) {
+    this.redistributionScanLimit = redistributionScanLimit;
+  }
+
+  public int getRedistributionRetryLimit() {
+    return redistributionRetryLimit;
+  }
+
+  public void setRedistributionRetryLimit(final int redistributionRetryLimit) {
+    this.redistributionRetryLimit = redistributionRetryLimit;
+  }
+
+  @Override
+  public String toString() {
+    return "DistributionsCfg{"
+        + "redistributionScanLimit="
+        + redistributionScanLimit
+        + ", redistributionRetryLimit="
+        + redistributionRetryLimit
+        + '}';
+  }
+}
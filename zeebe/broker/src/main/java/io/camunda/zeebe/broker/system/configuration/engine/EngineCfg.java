@@ -17,6 +17,10 @@ public final class EngineCfg implements ConfigurationEntry {
   private CachesCfg caches = new CachesCfg();
   private JobsCfg jobs = new JobsCfg();
   private ValidatorsCfg validators = new ValidatorsCfg();
+  private VariablesCfg variables = new VariablesCfg();
+  private ProcessInstancesCfg processInstances = new ProcessInstancesCfg();
+  private DistributionsCfg distributions = new DistributionsCfg();
+  private StateCfg state = new StateCfg();
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -24,6 +28,10 @@ public final class EngineCfg implements ConfigurationEntry {
     caches.init(globalConfig, brokerBase);
     jobs.init(globalConfig, brokerBase);
     validators.init(globalConfig, brokerBase);
+    variables.init(globalConfig, brokerBase);
+    processInstances.init(globalConfig, brokerBase);
+    distributions.init(globalConfig, brokerBase);
+    state.init(globalConfig, brokerBase);
   }
 
   public MessagesCfg getMessages() {
@@ -58,6 +66,38 @@ public final class EngineCfg implements ConfigurationEntry {
     this.validators = validators;
   }
 
+  public VariablesCfg getVariables() {
+    return variables;
+  }
+
+  public void setVariables(final VariablesCfg variables) {
+    this.variables = variables;
+  }
+
+  public ProcessInstancesCfg getProcessInstances() {
+    return processInstances;
+  }
+
+  public void setProcessInstances(final ProcessInstancesCfg processInstances) {
+    this.processInstances = processInstances;
+  }
+
+  public DistributionsCfg getDistributions() {
+    return distributions;
+  }
+
+  public void setDistributions(final DistributionsCfg distributions) {
+    this.distributions = distributions;
+  }
+
+  public StateCfg getState() {
+    return state;
+  }
+
+  public void setState(final StateCfg state) {
+    this.state = state;
+  }
+
   @Override
   public String toString() {
     return "EngineCfg{"
@@ -69,6 +109,14 @@ public final class EngineCfg implements ConfigurationEntry {
         + jobs
         + ", validators="
         + validators
+        + ", variables="
+        + variables
+        + ", processInstances="
+        + processInstances
+        + ", distributions="
+        + distributions
+        + ", state="
+        + state
         + '}';
   }
 
@@ -76,11 +124,20 @@ public final class EngineCfg implements ConfigurationEntry {
     return new EngineConfiguration()
         .setMessagesTtlCheckerBatchLimit(messages.getTtlCheckerBatchLimit())
         .setMessagesTtlCheckerInterval(messages.getTtlCheckerInterval())
+        .setMessagesCorrelationFilterCapacity(messages.getCorrelationFilterCapacity())
         .setDrgCacheCapacity(caches.getDrgCacheCapacity())
         .setFormCacheCapacity(caches.getFormCacheCapacity())
         .setProcessCacheCapacity(caches.getProcessCacheCapacity())
+        .setElementInstanceCacheCapacity(caches.getElementInstanceCacheCapacity())
+        .setDeployedResourceCacheMemoryBudget(
+            caches.getDeployedResourceCacheMemoryBudget().toBytes())
         .setJobsTimeoutCheckerPollingInterval(jobs.getTimeoutCheckerPollingInterval())
         .setJobsTimeoutCheckerBatchLimit(jobs.getTimeoutCheckerBatchLimit())
-        .setValidatorsResultsOutputMaxSize(validators.getResultsOutputMaxSize());
+        .setValidatorsResultsOutputMaxSize(validators.getResultsOutputMaxSize())
+        .setVariablesOffloadThreshold(variables.getOffloadThreshold())
+        .setProcessInstancesAwaitResultTimeout(processInstances.getAwaitResultTimeout())
+        .setDistributionsRedistributionScanLimit(distributions.getRedistributionScanLimit())
+        .setDistributionsRedistributionRetryLimit(distributions.getRedistributionRetryLimit())
+        .setStateCompactValueEncodingEnabled(state.isEnableCompactValueEncoding());
   }
 }
@@ -15,6 +15,8 @@ public final class MessagesCfg implements ConfigurationEntry {
 
   private int ttlCheckerBatchLimit = EngineConfiguration.DEFAULT_MESSAGES_TTL_CHECKER_BATCH_LIMIT;
   private Duration ttlCheckerInterval = EngineConfiguration.DEFAULT_MESSAGES_TTL_CHECKER_INTERVAL;
+  private int correlationFilterCapacity =
+      EngineConfiguration.DEFAULT_MESSAGES_CORRELATION_FILTER_CAPACITY;
 
   public int getTtlCheckerBatchLimit() {
     return ttlCheckerBatchLimit;
@@ -32,6 +34,14 @@ public final class MessagesCfg implements ConfigurationEntry {
     this.ttlCheckerInterval = ttlCheckerInterval;
   }
 
+  public int getCorrelationFilterCapacity() {
+    return correlationFilterCapacity;
+  }
+
+  public void setCorrelationFilterCapacity(final int correlationFilterCapacity) {
+    this.correlationFilterCapacity = correlationFilterCapacity;
+  }
+
   @Override
   public String toString() {
     return "MessagesCfg{"
@@ -39,6 +49,8 @@ public final class MessagesCfg implements ConfigurationEntry {
         + ttlCheckerBatchLimit
         + ", ttlCheckerInterval="
         + ttlCheckerInterval
+        + ", correlationFilterCapacity="
+        + correlationFilterCapacity
         + '}';
   }
 }
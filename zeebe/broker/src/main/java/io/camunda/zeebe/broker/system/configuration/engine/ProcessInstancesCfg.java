@@ -0,0 +1,31 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.system.configuration.engine;
+
+import io.camunda.zeebe.broker.system.configuration.ConfigurationEntry;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import java.time.Duration;
+
+public final class ProcessInstancesCfg implements ConfigurationEntry {
+
+  private Duration awaitResultTimeout =
+      EngineConfiguration.DEFAULT_PROCESS_INSTANCES_AWAIT_RESULT_TIMEOUT;
+
+  public Duration getAwaitResultTimeout() {
+    return awaitResultTimeout;
+  }
+
+  public void setAwaitResultTimeout(final Duration awaitResultTimeout) {
+    this.awaitResultTimeout = awaitResultTimeout;
+  }
+
+  @Override
+  public String toString() {
+    return "ProcessInstancesCfg{" + "awaitResultTimeout=" + awaitResultTimeout + '}';
+  }
+}
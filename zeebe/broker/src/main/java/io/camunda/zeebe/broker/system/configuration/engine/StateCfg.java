@@ -0,0 +1,30 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.system.configuration.engine;
+
+import io.camunda.zeebe.broker.system.configuration.ConfigurationEntry;
+import io.camunda.zeebe.engine.EngineConfiguration;
+
+public final class StateCfg implements ConfigurationEntry {
+
+  private boolean enableCompactValueEncoding =
+      EngineConfiguration.DEFAULT_STATE_COMPACT_VALUE_ENCODING_ENABLED;
+
+  public boolean isEnableCompactValueEncoding() {
+    return enableCompactValueEncoding;
+  }
+
+  public void setEnableCompactValueEncoding(final boolean enableCompactValueEncoding) {
+    this.enableCompactValueEncoding = enableCompactValueEncoding;
+  }
+
+  @Override
+  public String toString() {
+    return "StateCfg{" + "enableCompactValueEncoding=" + enableCompactValueEncoding + '}';
+  }
+}
@@ -112,7 +112,13 @@ public final class InterPartitionCommandServiceStep implements PartitionTransiti
 
     final var sender =
         new InterPartitionCommandSenderService(
-            context.getClusterCommunicationService(), context.getPartitionId());
+            context.getClusterCommunicationService(),
+            context.getPartitionId(),
+            context
+                .getBrokerCfg()
+                .getExperimental()
+                .getFeatures()
+                .isEnableInterPartitionCommandBatching());
     final var actorStarted = context.getActorSchedulingService().submitActor(sender);
     actorStarted.onComplete(
         (ignore, error) -> {
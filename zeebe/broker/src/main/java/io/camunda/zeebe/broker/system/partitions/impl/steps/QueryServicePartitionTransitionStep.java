@@ -44,7 +44,11 @@ public final class QueryServicePartitionTransitionStep implements PartitionTrans
     if (targetRole != Role.INACTIVE
         && (currentRole == Role.LEADER || context.getQueryService() == null)) {
       try {
-        final var service = new StateQueryService(context.getZeebeDb());
+        final var service =
+            new StateQueryService(
+                context.getZeebeDb(),
+                context.getPartitionId(),
+                context.getBrokerCfg().getExperimental().getEngine().createEngineConfiguration());
         context.setQueryService(service);
         return CompletableActorFuture.completed(null);
       } catch (final Exception e) {
@@ -10,6 +10,8 @@ package io.camunda.zeebe.broker.transport.partitionapi;
 import io.atomix.cluster.MemberId;
 import io.camunda.zeebe.backup.processing.state.CheckpointState;
 import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.broker.protocol.InterPartitionCommandBatchDecoder;
+import io.camunda.zeebe.broker.protocol.InterPartitionCommandBatchDecoder.CommandsDecoder;
 import io.camunda.zeebe.broker.protocol.InterPartitionMessageDecoder;
 import io.camunda.zeebe.broker.protocol.MessageHeaderDecoder;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
@@ -26,6 +28,8 @@ import io.camunda.zeebe.protocol.record.intent.management.CheckpointIntent;
 import io.camunda.zeebe.stream.impl.TypedEventRegistry;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.ReflectUtil;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
@@ -48,9 +52,8 @@ final class InterPartitionCommandReceiverImpl {
 
     if (!diskSpaceAvailable) {
       LOG.warn(
-          "Ignoring command {} {} from {}, checkpoint {}, no disk space available",
-          decoded.metadata.getValueType(),
-          decoded.metadata.getIntent(),
+          "Ignoring {} from {}, checkpoint {}, no disk space available",
+          decoded.describeCommands(),
           memberId,
           decoded.checkpointId);
       return;
@@ -63,7 +66,7 @@ final class InterPartitionCommandReceiverImpl {
       return;
     }
 
-    writeCommand(decoded).ifLeft(failure -> logWriteFailure(memberId, decoded, failure));
+    writeCommands(decoded).ifLeft(failure -> logWriteFailure(memberId, decoded, failure));
   }
 
   private void logCheckpointFailure(
@@ -71,11 +74,10 @@ final class InterPartitionCommandReceiverImpl {
       final DecodedMessage decoded,
       final Either<WriteFailure, Long> checkpointWritten) {
     LOG.warn(
-        "Failed to write new command for checkpoint {} (currently at {}), ignoring command {} {} from {} (error = {})",
+        "Failed to write new command for checkpoint {} (currently at {}), ignoring {} from {} (error = {})",
         decoded.checkpointId,
         checkpointId,
-        decoded.metadata.getValueType(),
-        decoded.metadata.getIntent(),
+        decoded.describeCommands(),
         memberId,
         checkpointWritten.getLeft());
   }
@@ -83,9 +85,8 @@ final class InterPartitionCommandReceiverImpl {
   private void logWriteFailure(
       final MemberId memberId, final DecodedMessage decoded, final WriteFailure failure) {
     LOG.warn(
-        "Failed to write command {} {} from {} to logstream (error = {})",
-        decoded.metadata.getValueType(),
-        decoded.metadata.getIntent(),
+        "Failed to write {} from {} to logstream (error = {})",
+        decoded.describeCommands(),
         memberId,
         failure);
   }
@@ -110,14 +111,16 @@ final class InterPartitionCommandReceiverImpl {
         WriteContext.interPartition(), LogAppendEntry.of(metadata, checkpointRecord));
   }
 
-  private Either<WriteFailure, Long> writeCommand(final DecodedMessage decoded) {
-    final var appendEntry =
-        decoded
-            .recordKey()
-            .map(key -> LogAppendEntry.of(key, decoded.metadata(), decoded.command()))
-            .orElseGet(() -> LogAppendEntry.of(decoded.metadata(), decoded.command()));
+  private Either<WriteFailure, Long> writeCommands(final DecodedMessage decoded) {
+    if (decoded.commands().size() == 1) {
+      return logStreamWriter.tryWrite(
+          WriteContext.interPartition(), decoded.commands().getFirst().toAppendEntry());
+    }
 
-    return logStreamWriter.tryWrite(WriteContext.interPartition(), appendEntry);
+    // all commands of a message are written as one batch, i.e. they are either all written or none
+    final var appendEntries =
+        decoded.commands().stream().map(DecodedCommand::toAppendEntry).toList();
+    return logStreamWriter.tryWrite(WriteContext.interPartition(), appendEntries);
   }
 
   void setDiskSpaceAvailable(final boolean available) {
@@ -128,21 +131,41 @@ final class InterPartitionCommandReceiverImpl {
     this.checkpointId = checkpointId;
   }
 
-  private record DecodedMessage(
-      long checkpointId,
-      Optional<Long> recordKey,
-      RecordMetadata metadata,
-      UnifiedRecordValue command) {}
+  private record DecodedMessage(long checkpointId, List<DecodedCommand> commands) {
+
+    private String describeCommands() {
+      if (commands.size() == 1) {
+        final var metadata = commands.getFirst().metadata();
+        return "command %s %s".formatted(metadata.getValueType(), metadata.getIntent());
+      }
+      return "%d commands".formatted(commands.size());
+    }
+  }
+
+  private record DecodedCommand(
+      Optional<Long> recordKey, RecordMetadata metadata, UnifiedRecordValue command) {
+
+    private LogAppendEntry toAppendEntry() {
+      return recordKey
+          .map(key -> LogAppendEntry.of(key, metadata, command))
+          .orElseGet(() -> LogAppendEntry.of(metadata, command));
+    }
+  }
 
   private static final class Decoder {
     private final InterPartitionMessageDecoder messageDecoder = new InterPartitionMessageDecoder();
+    private final InterPartitionCommandBatchDecoder batchDecoder =
+        new InterPartitionCommandBatchDecoder();
     private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
 
     DecodedMessage decodeMessage(final byte[] message) {
-      final var messageBuffer = new UnsafeBuffer();
-      final var recordMetadata = new RecordMetadata();
+      final var messageBuffer = new UnsafeBuffer(message);
+      headerDecoder.wrap(messageBuffer, 0);
+
+      if (headerDecoder.templateId() == InterPartitionCommandBatchDecoder.TEMPLATE_ID) {
+        return decodeBatch(messageBuffer);
+      }
 
-      messageBuffer.wrap(message);
       messageDecoder.wrapAndApplyHeader(messageBuffer, 0, headerDecoder);
 
       final var checkpointId = messageDecoder.checkpointId();
@@ -151,12 +174,6 @@ final class InterPartitionCommandReceiverImpl {
         recordKey = Optional.of(messageDecoder.recordKey());
       }
 
-      final var valueType = ValueType.get(messageDecoder.valueType());
-      final var intent = Intent.fromProtocolValue(valueType, messageDecoder.intent());
-
-      // rebuild the record metadata first, all messages must contain commands
-      recordMetadata.reset().recordType(RecordType.COMMAND).valueType(valueType).intent(intent);
-
       // wrap the command buffer around the rest of the message
       // this does not try to parse the command, we are just assuming that these bytes
       // are a valid command
@@ -164,6 +181,61 @@ final class InterPartitionCommandReceiverImpl {
           messageDecoder.limit() + InterPartitionMessageDecoder.commandHeaderLength();
       final var commandLength = messageDecoder.commandLength();
 
+      final var command =
+          decodeCommand(
+              messageBuffer,
+              messageDecoder.valueType(),
+              messageDecoder.intent(),
+              recordKey,
+              commandOffset,
+              commandLength);
+      return new DecodedMessage(checkpointId, List.of(command));
+    }
+
+    private DecodedMessage decodeBatch(final UnsafeBuffer messageBuffer) {
+      batchDecoder.wrapAndApplyHeader(messageBuffer, 0, headerDecoder);
+
+      final var checkpointId = batchDecoder.checkpointId();
+      final var commandsDecoder = batchDecoder.commands();
+      final var commands = new ArrayList<DecodedCommand>(commandsDecoder.count());
+      for (final var commandDecoder : commandsDecoder) {
+        Optional<Long> recordKey = Optional.empty();
+        if (commandDecoder.recordKey() != CommandsDecoder.recordKeyNullValue()) {
+          recordKey = Optional.of(commandDecoder.recordKey());
+        }
+
+        final var commandOffset = batchDecoder.limit() + CommandsDecoder.commandHeaderLength();
+        final var commandLength = commandDecoder.commandLength();
+        commands.add(
+            decodeCommand(
+                messageBuffer,
+                commandDecoder.valueType(),
+                commandDecoder.intent(),
+                recordKey,
+                commandOffset,
+                commandLength));
+
+        // skip the command to continue with the next one
+        batchDecoder.limit(commandOffset + commandLength);
+      }
+
+      return new DecodedMessage(checkpointId, commands);
+    }
+
+    private DecodedCommand decodeCommand(
+        final UnsafeBuffer messageBuffer,
+        final short encodedValueType,
+        final short encodedIntent,
+        final Optional<Long> recordKey,
+        final int commandOffset,
+        final int commandLength) {
+      final var valueType = ValueType.get(encodedValueType);
+      final var intent = Intent.fromProtocolValue(valueType, encodedIntent);
+
+      // rebuild the record metadata first, all messages must contain commands
+      final var recordMetadata =
+          new RecordMetadata().recordType(RecordType.COMMAND).valueType(valueType).intent(intent);
+
       final var valueClass = TypedEventRegistry.EVENT_REGISTRY.get(valueType);
       if (valueClass == null) {
         throw new IllegalArgumentException(
@@ -172,7 +244,7 @@ final class InterPartitionCommandReceiverImpl {
       final var value = ReflectUtil.newInstance(valueClass);
 
       value.wrap(messageBuffer, commandOffset, commandLength);
-      return new DecodedMessage(checkpointId, recordKey, recordMetadata, value);
+      return new DecodedCommand(recordKey, recordMetadata, value);
     }
   }
 }
@@ -12,6 +12,7 @@ import io.atomix.cluster.messaging.ClusterCommunicationService;
 import io.atomix.utils.serializer.serializers.DefaultSerializers;
 import io.camunda.zeebe.backup.processing.state.CheckpointState;
 import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.broker.protocol.InterPartitionCommandBatchEncoder;
 import io.camunda.zeebe.broker.protocol.InterPartitionMessageEncoder;
 import io.camunda.zeebe.broker.protocol.MessageHeaderEncoder;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
@@ -19,7 +20,10 @@ import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.stream.api.InterPartitionCommandSender;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
+import org.agrona.ExpandableArrayBuffer;
 import org.agrona.collections.Int2IntHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
@@ -28,6 +32,12 @@ final class InterPartitionCommandSenderImpl implements InterPartitionCommandSend
 
   public static final String TOPIC_PREFIX = "inter-partition-";
 
+  /**
+   * The maximum length of the commands which are sent together in one message. This keeps the
+   * resulting batch on the receiver well below the maximum size of a log entry.
+   */
+  static final int MAX_BATCH_LENGTH = 512 * 1024;
+
   private static final Logger LOG = Loggers.TRANSPORT_LOGGER;
   private final ClusterCommunicationService communicationService;
 
@@ -73,7 +83,63 @@ final class InterPartitionCommandSenderImpl implements InterPartitionCommandSend
 
     final var message =
         Encoder.encode(checkpointId, receiverPartitionId, valueType, intent, recordKey, command);
+    unicast(receiverPartitionId, partitionLeader, message);
+  }
 
+  /**
+   * Sends all given commands to the receiver partition, in as few messages as possible. The
+   * receiver writes the commands of a message as one batch to its log. A message contains at most
+   * {@link #MAX_BATCH_LENGTH} bytes of commands, unless a single command is larger than that.
+   */
+  void sendCommands(final int receiverPartitionId, final List<Command> commands) {
+    if (!partitionLeaders.containsKey(receiverPartitionId)) {
+      LOG.warn(
+          "Not sending {} commands to {}, no known leader for this partition",
+          commands.size(),
+          receiverPartitionId);
+      return;
+    }
+    final int partitionLeader = partitionLeaders.get(receiverPartitionId);
+
+    int batchStart = 0;
+    int batchLength = 0;
+    for (int i = 0; i < commands.size(); i++) {
+      final int commandLength = commands.get(i).value().getLength();
+      if (i > batchStart && batchLength + commandLength > MAX_BATCH_LENGTH) {
+        sendBatch(receiverPartitionId, partitionLeader, commands.subList(batchStart, i));
+        batchStart = i;
+        batchLength = 0;
+      }
+      batchLength += commandLength;
+    }
+    sendBatch(receiverPartitionId, partitionLeader, commands.subList(batchStart, commands.size()));
+  }
+
+  private void sendBatch(
+      final int receiverPartitionId, final int partitionLeader, final List<Command> commands) {
+    if (commands.size() == 1) {
+      final var command = commands.getFirst();
+      sendCommand(
+          receiverPartitionId,
+          command.valueType(),
+          command.intent(),
+          command.recordKey(),
+          command.value());
+      return;
+    }
+
+    LOG.trace(
+        "Sending {} commands to partition {}, leader {}",
+        commands.size(),
+        receiverPartitionId,
+        partitionLeader);
+
+    final var message = Encoder.encodeBatch(checkpointId, receiverPartitionId, commands);
+    unicast(receiverPartitionId, partitionLeader, message);
+  }
+
+  private void unicast(
+      final int receiverPartitionId, final int partitionLeader, final byte[] message) {
     communicationService.unicast(
         TOPIC_PREFIX + receiverPartitionId,
         message,
@@ -124,5 +190,40 @@ final class InterPartitionCommandSenderImpl implements InterPartitionCommandSend
 
       return messageBuffer.byteArray();
     }
+
+    private static byte[] encodeBatch(
+        final long checkpointId, final int receiverPartitionId, final List<Command> commands) {
+      final var headerEncoder = new MessageHeaderEncoder();
+      final var bodyEncoder = new InterPartitionCommandBatchEncoder();
+      final var messageBuffer = new ExpandableArrayBuffer();
+      final var commandBuffer = new ExpandableArrayBuffer();
+
+      final var commandsEncoder =
+          bodyEncoder
+              .wrapAndApplyHeader(messageBuffer, 0, headerEncoder)
+              .receiverPartitionId(receiverPartitionId)
+              .checkpointId(checkpointId)
+              .commandsCount(commands.size());
+      for (final var command : commands) {
+        final int commandLength = command.value().getLength();
+        command.value().write(commandBuffer, 0);
+        commandsEncoder
+            .next()
+            .valueType(command.valueType().value())
+            .intent(command.intent().value())
+            .recordKey(
+                Objects.requireNonNullElseGet(
+                    command.recordKey(),
+                    InterPartitionCommandBatchEncoder.CommandsEncoder::recordKeyNullValue))
+            .putCommand(commandBuffer, 0, commandLength);
+      }
+
+      return Arrays.copyOf(
+          messageBuffer.byteArray(),
+          MessageHeaderEncoder.ENCODED_LENGTH + bodyEncoder.encodedLength());
+    }
   }
+
+  /** A command which is sent together with other commands to the same partition. */
+  record Command(ValueType valueType, Intent intent, Long recordKey, UnifiedRecordValue value) {}
 }
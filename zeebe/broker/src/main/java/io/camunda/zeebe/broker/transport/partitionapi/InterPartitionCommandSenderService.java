@@ -10,28 +10,53 @@ package io.camunda.zeebe.broker.transport.partitionapi;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
 import io.camunda.zeebe.backup.api.CheckpointListener;
 import io.camunda.zeebe.broker.partitioning.topology.TopologyPartitionListener;
+import io.camunda.zeebe.broker.transport.partitionapi.InterPartitionCommandSenderImpl.Command;
 import io.camunda.zeebe.protocol.impl.encoding.BrokerInfo;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.scheduler.Actor;
 import io.camunda.zeebe.stream.api.InterPartitionCommandSender;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.collections.Int2ObjectHashMap;
 
+/**
+ * Sends commands to other partitions from its own actor. If batching is enabled, commands which are
+ * sent while the actor is busy are buffered per receiver partition, and sent together once the
+ * actor gets to them. This way, the many commands which are sent when processing a single command
+ * (e.g. opening message subscriptions on several partitions) are written as one batch on each
+ * receiver partition, instead of one entry per command.
+ *
+ * <p>Batching is disabled by default, since receivers of older versions can't read batches. It must
+ * only be enabled once all brokers of the cluster were updated. Until then, every command is sent
+ * as a single message, as before.
+ */
 public final class InterPartitionCommandSenderService extends Actor
     implements InterPartitionCommandSender, CheckpointListener, TopologyPartitionListener {
 
   final InterPartitionCommandSenderImpl commandSender;
   final int partitionId;
+  private final boolean batchingEnabled;
+  private final Int2ObjectHashMap<List<Command>> pendingCommands = new Int2ObjectHashMap<>();
 
   public InterPartitionCommandSenderService(
-      final ClusterCommunicationService communicationService, final int partitionId) {
+      final ClusterCommunicationService communicationService,
+      final int partitionId,
+      final boolean batchingEnabled) {
     commandSender = new InterPartitionCommandSenderImpl(communicationService);
     this.partitionId = partitionId;
+    this.batchingEnabled = batchingEnabled;
   }
 
   @Override
   public void onNewCheckpointCreated(final long checkpointId) {
-    actor.submit(() -> commandSender.setCheckpointId(checkpointId));
+    actor.submit(
+        () -> {
+          // commands buffered before the checkpoint must be sent with the previous checkpoint id
+          sendPendingCommands();
+          commandSender.setCheckpointId(checkpointId);
+        });
   }
 
   @Override
@@ -40,7 +65,7 @@ public final class InterPartitionCommandSenderService extends Actor
       final ValueType valueType,
       final Intent intent,
       final UnifiedRecordValue command) {
-    actor.submit(() -> commandSender.sendCommand(receiverPartitionId, valueType, intent, command));
+    sendCommand(receiverPartitionId, valueType, intent, null, command);
   }
 
   @Override
@@ -50,13 +75,33 @@ public final class InterPartitionCommandSenderService extends Actor
       final Intent intent,
       final Long recordKey,
       final UnifiedRecordValue command) {
-    actor.submit(
-        () ->
-            commandSender.sendCommand(receiverPartitionId, valueType, intent, recordKey, command));
+    if (!batchingEnabled) {
+      actor.submit(
+          () ->
+              commandSender.sendCommand(
+                  receiverPartitionId, valueType, intent, recordKey, command));
+      return;
+    }
+
+    final var pendingCommand = new Command(valueType, intent, recordKey, command);
+    actor.submit(() -> bufferCommand(receiverPartitionId, pendingCommand));
   }
 
   @Override
   public void onPartitionLeaderUpdated(final int partitionId, final BrokerInfo member) {
     actor.submit(() -> commandSender.setCurrentLeader(partitionId, member.getNodeId()));
   }
+
+  private void bufferCommand(final int receiverPartitionId, final Command command) {
+    if (pendingCommands.isEmpty()) {
+      // all commands which are submitted until this job runs are sent together
+      actor.submit(this::sendPendingCommands);
+    }
+    pendingCommands.computeIfAbsent(receiverPartitionId, ignore -> new ArrayList<>()).add(command);
+  }
+
+  private void sendPendingCommands() {
+    pendingCommands.forEach(commandSender::sendCommands);
+    pendingCommands.clear();
+  }
 }
@@ -30,6 +30,8 @@ final class EngineCfgTest {
     // then
     assertThat(configuration.getMessagesTtlCheckerBatchLimit()).isEqualTo(Integer.MAX_VALUE);
     assertThat(configuration.getMessagesTtlCheckerInterval()).isEqualTo(Duration.ofMinutes(1));
+    assertThat(configuration.getMessagesCorrelationFilterCapacity())
+        .isEqualTo(EngineConfiguration.DEFAULT_MESSAGES_CORRELATION_FILTER_CAPACITY);
     assertThat(configuration.getDrgCacheCapacity()).isEqualTo(1000L);
     assertThat(configuration.getJobsTimeoutCheckerPollingInterval())
         .isEqualTo(Duration.ofSeconds(1));
@@ -38,8 +40,22 @@ final class EngineCfgTest {
         .isEqualTo(EngineConfiguration.DEFAULT_FORM_CACHE_CAPACITY);
     assertThat(configuration.getProcessCacheCapacity())
         .isEqualTo(EngineConfiguration.DEFAULT_PROCESS_CACHE_CAPACITY);
+    assertThat(configuration.getElementInstanceCacheCapacity())
+        .isEqualTo(EngineConfiguration.DEFAULT_ELEMENT_INSTANCE_CACHE_CAPACITY);
+    assertThat(configuration.getDeployedResourceCacheMemoryBudget())
+        .isEqualTo(EngineConfiguration.DEFAULT_DEPLOYED_RESOURCE_CACHE_MEMORY_BUDGET);
     assertThat(configuration.getValidatorsResultsOutputMaxSize())
         .isEqualTo(EngineConfiguration.DEFAULT_VALIDATORS_RESULTS_OUTPUT_MAX_SIZE);
+    assertThat(configuration.getVariablesOffloadThreshold())
+        .isEqualTo(EngineConfiguration.DEFAULT_VARIABLES_OFFLOAD_THRESHOLD);
+    assertThat(configuration.getProcessInstancesAwaitResultTimeout())
+        .isEqualTo(EngineConfiguration.DEFAULT_PROCESS_INSTANCES_AWAIT_RESULT_TIMEOUT);
+    assertThat(configuration.getDistributionsRedistributionScanLimit())
+        .isEqualTo(EngineConfiguration.DEFAULT_DISTRIBUTIONS_REDISTRIBUTION_SCAN_LIMIT);
+    assertThat(configuration.getDistributionsRedistributionRetryLimit())
+        .isEqualTo(EngineConfiguration.DEFAULT_DISTRIBUTIONS_REDISTRIBUTION_RETRY_LIMIT);
+    assertThat(configuration.isStateCompactValueEncodingEnabled())
+        .isEqualTo(EngineConfiguration.DEFAULT_STATE_COMPACT_VALUE_ENCODING_ENABLED);
   }
 
   @Test
@@ -53,12 +69,21 @@ final class EngineCfgTest {
     // then
     assertThat(configuration.getMessagesTtlCheckerBatchLimit()).isEqualTo(1000);
     assertThat(configuration.getMessagesTtlCheckerInterval()).isEqualTo(Duration.ofSeconds(15));
+    assertThat(configuration.getMessagesCorrelationFilterCapacity()).isEqualTo(5000);
     assertThat(configuration.getDrgCacheCapacity()).isEqualTo(2000L);
     assertThat(configuration.getJobsTimeoutCheckerPollingInterval())
         .isEqualTo(Duration.ofSeconds(15));
     assertThat(configuration.getJobsTimeoutCheckerBatchLimit()).isEqualTo(1000);
     assertThat(configuration.getDrgCacheCapacity()).isEqualTo(2000L);
     assertThat(configuration.getDrgCacheCapacity()).isEqualTo(2000L);
+    assertThat(configuration.getElementInstanceCacheCapacity()).isEqualTo(2000);
+    assertThat(configuration.getDeployedResourceCacheMemoryBudget()).isEqualTo(2 * 1024 * 1024);
     assertThat(configuration.getValidatorsResultsOutputMaxSize()).isEqualTo(2000);
+    assertThat(configuration.getVariablesOffloadThreshold()).isEqualTo(2000);
+    assertThat(configuration.getProcessInstancesAwaitResultTimeout())
+        .isEqualTo(Duration.ofSeconds(30));
+    assertThat(configuration.getDistributionsRedistributionScanLimit()).isEqualTo(5000);
+    assertThat(configuration.getDistributionsRedistributionRetryLimit()).isEqualTo(500);
+    assertThat(configuration.isStateCompactValueEncodingEnabled()).isTrue();
   }
 }
@@ -162,4 +162,105 @@ final class FeatureFlagsCfgTest {
     // then
     assertThat(featureFlagsCfg.isEnableStraightThroughProcessingLoopDetector()).isTrue();
   }
+
+  @Test
+  void shouldDisableJobDueDateCheckerAsyncByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var featureFlagsCfg = cfg.getExperimental().getFeatures();
+
+    // then
+    assertThat(featureFlagsCfg.isEnableJobDueDateCheckerAsync()).isFalse();
+  }
+
+  @Test
+  void shouldSetEnableJobDueDateCheckerAsyncFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("feature-flags-cfg", environment);
+    final var featureFlagsCfg = cfg.getExperimental().getFeatures();
+
+    // then
+    assertThat(featureFlagsCfg.isEnableJobDueDateCheckerAsync()).isTrue();
+  }
+
+  @Test
+  void shouldSetEnableJobDueDateCheckerAsyncFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.features.enableJobDueDateCheckerAsync", "false");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("feature-flags-cfg", environment);
+    final var featureFlagsCfg = cfg.getExperimental().getFeatures();
+
+    // then
+    assertThat(featureFlagsCfg.isEnableJobDueDateCheckerAsync()).isFalse();
+  }
+
+  @Test
+  void shouldDisableInterPartitionCommandBatchingByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var featureFlagsCfg = cfg.getExperimental().getFeatures();
+
+    // then
+    assertThat(featureFlagsCfg.isEnableInterPartitionCommandBatching()).isFalse();
+  }
+
+  @Test
+  void shouldSetEnableInterPartitionCommandBatchingFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("feature-flags-cfg", environment);
+    final var featureFlagsCfg = cfg.getExperimental().getFeatures();
+
+    // then
+    assertThat(featureFlagsCfg.isEnableInterPartitionCommandBatching()).isTrue();
+  }
+
+  @Test
+  void shouldSetEnableInterPartitionCommandBatchingFromEnv() {
+    // given
+    environment.put(
+        "zeebe.broker.experimental.features.enableInterPartitionCommandBatching", "false");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("feature-flags-cfg", environment);
+    final var featureFlagsCfg = cfg.getExperimental().getFeatures();
+
+    // then
+    assertThat(featureFlagsCfg.isEnableInterPartitionCommandBatching()).isFalse();
+  }
+
+  @Test
+  void shouldDisableIncrementalOutputCollectionByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var featureFlagsCfg = cfg.getExperimental().getFeatures();
+
+    // then
+    assertThat(featureFlagsCfg.isEnableIncrementalOutputCollection()).isFalse();
+  }
+
+  @Test
+  void shouldSetEnableIncrementalOutputCollectionFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("feature-flags-cfg", environment);
+    final var featureFlagsCfg = cfg.getExperimental().getFeatures();
+
+    // then
+    assertThat(featureFlagsCfg.isEnableIncrementalOutputCollection()).isTrue();
+  }
+
+  @Test
+  void shouldSetEnableIncrementalOutputCollectionFromEnv() {
+    // given
+    environment.put(
+        "zeebe.broker.experimental.features.enableIncrementalOutputCollection", "false");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("feature-flags-cfg", environment);
+    final var featureFlagsCfg = cfg.getExperimental().getFeatures();
+
+    // then
+    assertThat(featureFlagsCfg.isEnableIncrementalOutputCollection()).isFalse();
+  }
 }
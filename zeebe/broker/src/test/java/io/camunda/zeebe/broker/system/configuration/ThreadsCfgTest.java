@@ -10,6 +10,7 @@ package io.camunda.zeebe.broker.system.configuration;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Collections;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
@@ -115,4 +116,102 @@ final class ThreadsCfgTest {
     // then
     assertThat(cpuThreadCount).isEqualTo(6);
   }
+
+  @Test
+  void shouldNotPinThreadsByDefault() {
+    // given
+    final ThreadsCfg cfg = new ThreadsCfg();
+
+    // then
+    assertThat(cfg.getCpuThreadAffinity()).isEmpty();
+    assertThat(cfg.getIoThreadAffinity()).isEmpty();
+    assertThat(cfg.isPartitionAffinityEnabled()).isFalse();
+  }
+
+  @Test
+  void shouldSetThreadAffinityFromConfig() {
+    // given
+    final var cfg = TestConfigReader.readConfig("threads-cfg", Collections.emptyMap()).getThreads();
+
+    // then
+    assertThat(cfg.getCpuThreadAffinity()).isEqualTo("0-4");
+    assertThat(cfg.getIoThreadAffinity()).isEqualTo("5,6");
+    assertThat(cfg.isPartitionAffinityEnabled()).isTrue();
+  }
+
+  @Test
+  void shouldSetThreadAffinityFromEnv() {
+    // given
+    final var environment =
+        Map.of(
+            "zeebe.broker.threads.cpuThreadAffinity",
+            "8-12",
+            "zeebe.broker.threads.ioThreadAffinity",
+            "13",
+            "zeebe.broker.threads.partitionAffinityEnabled",
+            "false");
+    final var cfg = TestConfigReader.readConfig("threads-cfg", environment).getThreads();
+
+    // then
+    assertThat(cfg.getCpuThreadAffinity()).isEqualTo("8-12");
+    assertThat(cfg.getIoThreadAffinity()).isEqualTo("13");
+    assertThat(cfg.isPartitionAffinityEnabled()).isFalse();
+  }
+
+  @Test
+  void shouldDisableVirtualThreadsForBlockingTasksByDefault() {
+    // given
+    final ThreadsCfg cfg = new ThreadsCfg();
+
+    // then
+    assertThat(cfg.isVirtualThreadsForBlockingTasksEnabled()).isFalse();
+  }
+
+  @Test
+  void shouldSetVirtualThreadsForBlockingTasksFromConfig() {
+    // given
+    final var cfg = TestConfigReader.readConfig("threads-cfg", Collections.emptyMap()).getThreads();
+
+    // then
+    assertThat(cfg.isVirtualThreadsForBlockingTasksEnabled()).isTrue();
+  }
+
+  @Test
+  void shouldSetVirtualThreadsForBlockingTasksFromEnv() {
+    // given
+    final var environment =
+        Map.of("zeebe.broker.threads.virtualThreadsForBlockingTasksEnabled", "false");
+    final var cfg = TestConfigReader.readConfig("threads-cfg", environment).getThreads();
+
+    // then
+    assertThat(cfg.isVirtualThreadsForBlockingTasksEnabled()).isFalse();
+  }
+
+  @Test
+  void shouldDisableActorProfilingByDefault() {
+    // given
+    final ThreadsCfg cfg = new ThreadsCfg();
+
+    // then
+    assertThat(cfg.isActorProfilingEnabled()).isFalse();
+  }
+
+  @Test
+  void shouldSetActorProfilingFromConfig() {
+    // given
+    final var cfg = TestConfigReader.readConfig("threads-cfg", Collections.emptyMap()).getThreads();
+
+    // then
+    assertThat(cfg.isActorProfilingEnabled()).isTrue();
+  }
+
+  @Test
+  void shouldSetActorProfilingFromEnv() {
+    // given
+    final var environment = Map.of("zeebe.broker.threads.actorProfilingEnabled", "false");
+    final var cfg = TestConfigReader.readConfig("threads-cfg", environment).getThreads();
+
+    // then
+    assertThat(cfg.isActorProfilingEnabled()).isFalse();
+  }
 }
@@ -10,7 +10,9 @@ package io.camunda.zeebe.broker.transport.partitionapi;
 import static io.camunda.zeebe.broker.transport.partitionapi.InterPartitionCommandSenderImpl.TOPIC_PREFIX;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -19,6 +21,7 @@ import static org.mockito.Mockito.withSettings;
 
 import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.camunda.zeebe.broker.transport.partitionapi.InterPartitionCommandSenderImpl.Command;
 import io.camunda.zeebe.logstreams.impl.log.LogEntryDescriptor;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
@@ -31,6 +34,8 @@ import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.protocol.record.intent.MessageSubscriptionIntent;
 import io.camunda.zeebe.util.Either;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.List;
 import org.agrona.ExpandableArrayBuffer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
@@ -70,6 +75,7 @@ final class InterPartitionCommandReceiverTest {
         mock(LogStreamWriter.class, withSettings().defaultAnswer(Answers.RETURNS_SELF));
     when(logStreamWriter.tryWrite(any(WriteContext.class), any(LogAppendEntry.class)))
         .thenReturn(Either.right(1L));
+    when(logStreamWriter.tryWrite(any(WriteContext.class), anyList())).thenReturn(Either.right(1L));
     return logStreamWriter;
   }
 
@@ -220,6 +226,137 @@ final class InterPartitionCommandReceiverTest {
     assertThat(entryCaptor.getValue().key()).isEqualTo(LogEntryDescriptor.KEY_NULL_VALUE);
   }
 
+  @Test
+  void shouldWriteSentCommandsAsOneBatch() {
+    // given
+    final var receiverBrokerId = 3;
+    final var receiverPartitionId = 5;
+
+    final var firstValue =
+        new MessageSubscriptionRecord().setProcessInstanceKey(1).setElementInstanceKey(1);
+    final var secondValue =
+        new MessageSubscriptionRecord().setProcessInstanceKey(2).setElementInstanceKey(2);
+    final var sentMessages =
+        sendCommands(
+            receiverBrokerId,
+            receiverPartitionId,
+            List.of(
+                new Command(
+                    ValueType.MESSAGE_SUBSCRIPTION,
+                    MessageSubscriptionIntent.CORRELATE,
+                    10L,
+                    firstValue),
+                new Command(
+                    ValueType.MESSAGE_SUBSCRIPTION,
+                    MessageSubscriptionIntent.DELETE,
+                    null,
+                    secondValue)));
+
+    final LogStreamWriter logStreamWriter = getLogStreamWriter();
+    final var receiver = new InterPartitionCommandReceiverImpl(logStreamWriter);
+
+    // when
+    assertThat(sentMessages).hasSize(1);
+    receiver.handleMessage(new MemberId("0"), sentMessages.getFirst());
+
+    // then
+    final ArgumentCaptor<List<LogAppendEntry>> entriesCaptor = ArgumentCaptor.forClass(List.class);
+    verify(logStreamWriter).tryWrite(any(WriteContext.class), entriesCaptor.capture());
+    final var entries = entriesCaptor.getValue();
+    assertThat(entries)
+        .extracting(LogAppendEntry::key)
+        .containsExactly(10L, LogEntryDescriptor.KEY_NULL_VALUE);
+    assertThat(entries)
+        .extracting(LogAppendEntry::recordValue)
+        .containsExactly(firstValue, secondValue);
+    assertThat(entries)
+        .extracting(entry -> readMetadata(entry).getIntent())
+        .containsExactly(MessageSubscriptionIntent.CORRELATE, MessageSubscriptionIntent.DELETE);
+  }
+
+  @Test
+  void shouldSplitCommandsExceedingMaxBatchLength() {
+    // given
+    final var receiverBrokerId = 3;
+    final var receiverPartitionId = 5;
+
+    final var smallValue =
+        new MessageSubscriptionRecord().setProcessInstanceKey(1).setElementInstanceKey(1);
+    final var largeValue =
+        new MessageSubscriptionRecord()
+            .setProcessInstanceKey(2)
+            .setElementInstanceKey(2)
+            .setMessageName(
+                BufferUtil.wrapString(
+                    "x".repeat(InterPartitionCommandSenderImpl.MAX_BATCH_LENGTH)));
+    final var command =
+        new Command(
+            ValueType.MESSAGE_SUBSCRIPTION, MessageSubscriptionIntent.CORRELATE, null, smallValue);
+
+    // when
+    final var sentMessages =
+        sendCommands(
+            receiverBrokerId,
+            receiverPartitionId,
+            List.of(
+                command,
+                command,
+                new Command(
+                    ValueType.MESSAGE_SUBSCRIPTION,
+                    MessageSubscriptionIntent.CORRELATE,
+                    null,
+                    largeValue)));
+
+    // then - the small commands are sent together, the large one on its own
+    assertThat(sentMessages).hasSize(2);
+
+    final LogStreamWriter logStreamWriter = getLogStreamWriter();
+    final var receiver = new InterPartitionCommandReceiverImpl(logStreamWriter);
+    receiver.handleMessage(new MemberId("0"), sentMessages.get(0));
+    receiver.handleMessage(new MemberId("0"), sentMessages.get(1));
+
+    final ArgumentCaptor<List<LogAppendEntry>> entriesCaptor = ArgumentCaptor.forClass(List.class);
+    verify(logStreamWriter).tryWrite(any(WriteContext.class), entriesCaptor.capture());
+    assertThat(entriesCaptor.getValue()).hasSize(2);
+
+    final var entryCaptor = ArgumentCaptor.forClass(LogAppendEntry.class);
+    verify(logStreamWriter).tryWrite(any(WriteContext.class), entryCaptor.capture());
+    assertThat(entryCaptor.getValue().recordValue()).isEqualTo(largeValue);
+  }
+
+  private static RecordMetadata readMetadata(final LogAppendEntry entry) {
+    final var metadataWriter = entry.recordMetadata();
+    final var metadataBuffer = new ExpandableArrayBuffer();
+    final var metadata = new RecordMetadata();
+    metadataWriter.write(metadataBuffer, 0);
+    metadata.wrap(metadataBuffer, 0, metadataWriter.getLength());
+    return metadata;
+  }
+
+  private List<byte[]> sendCommands(
+      final Integer receiverBrokerId,
+      final Integer receiverPartitionId,
+      final List<Command> commands) {
+    final ClusterCommunicationService communicationService =
+        mock(ClusterCommunicationService.class);
+
+    final var sender = new InterPartitionCommandSenderImpl(communicationService);
+    sender.setCurrentLeader(receiverPartitionId, receiverBrokerId);
+
+    sender.sendCommands(receiverPartitionId, commands);
+
+    final var messageCaptor = ArgumentCaptor.forClass(byte[].class);
+    verify(communicationService, atLeastOnce())
+        .unicast(
+            eq(TOPIC_PREFIX + receiverPartitionId),
+            messageCaptor.capture(),
+            any(),
+            any(),
+            eq(true));
+
+    return messageCaptor.getAllValues();
+  }
+
   private byte[] sendCommand(
       final Integer receiverBrokerId,
       final Integer receiverPartitionId,
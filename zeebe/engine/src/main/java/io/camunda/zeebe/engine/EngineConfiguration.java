@@ -13,6 +13,7 @@ public final class EngineConfiguration {
 
   public static final int DEFAULT_MESSAGES_TTL_CHECKER_BATCH_LIMIT = Integer.MAX_VALUE;
   public static final Duration DEFAULT_MESSAGES_TTL_CHECKER_INTERVAL = Duration.ofMinutes(1);
+  public static final int DEFAULT_MESSAGES_CORRELATION_FILTER_CAPACITY = 100_000;
 
   public static final int DEFAULT_MAX_ERROR_MESSAGE_SIZE = 10000;
 
@@ -23,21 +24,43 @@ public final class EngineConfiguration {
   public static final int DEFAULT_DRG_CACHE_CAPACITY = 1000;
   public static final int DEFAULT_FORM_CACHE_CAPACITY = 1000;
   public static final int DEFAULT_PROCESS_CACHE_CAPACITY = 1000;
+  public static final int DEFAULT_ELEMENT_INSTANCE_CACHE_CAPACITY = 10_000;
+  public static final long DEFAULT_DEPLOYED_RESOURCE_CACHE_MEMORY_BUDGET = 64 * 1024 * 1024;
   public static final Duration DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL = Duration.ofSeconds(1);
   public static final int DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT = Integer.MAX_VALUE;
   public static final int DEFAULT_VALIDATORS_RESULTS_OUTPUT_MAX_SIZE = 12 * 1024;
+  public static final int DEFAULT_VARIABLES_OFFLOAD_THRESHOLD = 0;
+  public static final Duration DEFAULT_PROCESS_INSTANCES_AWAIT_RESULT_TIMEOUT = Duration.ZERO;
+  public static final int DEFAULT_DISTRIBUTIONS_REDISTRIBUTION_SCAN_LIMIT = 10_000;
+  public static final int DEFAULT_DISTRIBUTIONS_REDISTRIBUTION_RETRY_LIMIT = 100;
+  public static final boolean DEFAULT_STATE_COMPACT_VALUE_ENCODING_ENABLED = false;
 
   private int messagesTtlCheckerBatchLimit = DEFAULT_MESSAGES_TTL_CHECKER_BATCH_LIMIT;
   private Duration messagesTtlCheckerInterval = DEFAULT_MESSAGES_TTL_CHECKER_INTERVAL;
+  private int messagesCorrelationFilterCapacity = DEFAULT_MESSAGES_CORRELATION_FILTER_CAPACITY;
   private int drgCacheCapacity = DEFAULT_DRG_CACHE_CAPACITY;
   private int formCacheCapacity = DEFAULT_FORM_CACHE_CAPACITY;
   private int processCacheCapacity = DEFAULT_FORM_CACHE_CAPACITY;
+  private int elementInstanceCacheCapacity = DEFAULT_ELEMENT_INSTANCE_CACHE_CAPACITY;
+  private long deployedResourceCacheMemoryBudget = DEFAULT_DEPLOYED_RESOURCE_CACHE_MEMORY_BUDGET;
 
   private Duration jobsTimeoutCheckerPollingInterval = DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL;
   private int jobsTimeoutCheckerBatchLimit = DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT;
 
   private int validatorsResultsOutputMaxSize = DEFAULT_VALIDATORS_RESULTS_OUTPUT_MAX_SIZE;
 
+  private int variablesOffloadThreshold = DEFAULT_VARIABLES_OFFLOAD_THRESHOLD;
+
+  private Duration processInstancesAwaitResultTimeout =
+      DEFAULT_PROCESS_INSTANCES_AWAIT_RESULT_TIMEOUT;
+
+  private int distributionsRedistributionScanLimit =
+      DEFAULT_DISTRIBUTIONS_REDISTRIBUTION_SCAN_LIMIT;
+  private int distributionsRedistributionRetryLimit =
+      DEFAULT_DISTRIBUTIONS_REDISTRIBUTION_RETRY_LIMIT;
+
+  private boolean stateCompactValueEncodingEnabled = DEFAULT_STATE_COMPACT_VALUE_ENCODING_ENABLED;
+
   public int getMessagesTtlCheckerBatchLimit() {
     return messagesTtlCheckerBatchLimit;
   }
@@ -58,6 +81,16 @@ public final class EngineConfiguration {
     return this;
   }
 
+  public int getMessagesCorrelationFilterCapacity() {
+    return messagesCorrelationFilterCapacity;
+  }
+
+  public EngineConfiguration setMessagesCorrelationFilterCapacity(
+      final int messagesCorrelationFilterCapacity) {
+    this.messagesCorrelationFilterCapacity = messagesCorrelationFilterCapacity;
+    return this;
+  }
+
   public int getDrgCacheCapacity() {
     return drgCacheCapacity;
   }
@@ -85,6 +118,26 @@ public final class EngineConfiguration {
     return this;
   }
 
+  public int getElementInstanceCacheCapacity() {
+    return elementInstanceCacheCapacity;
+  }
+
+  public EngineConfiguration setElementInstanceCacheCapacity(
+      final int elementInstanceCacheCapacity) {
+    this.elementInstanceCacheCapacity = elementInstanceCacheCapacity;
+    return this;
+  }
+
+  public long getDeployedResourceCacheMemoryBudget() {
+    return deployedResourceCacheMemoryBudget;
+  }
+
+  public EngineConfiguration setDeployedResourceCacheMemoryBudget(
+      final long deployedResourceCacheMemoryBudget) {
+    this.deployedResourceCacheMemoryBudget = deployedResourceCacheMemoryBudget;
+    return this;
+  }
+
   public Duration getJobsTimeoutCheckerPollingInterval() {
     return jobsTimeoutCheckerPollingInterval;
   }
@@ -113,4 +166,53 @@ public final class EngineConfiguration {
     validatorsResultsOutputMaxSize = maxSize;
     return this;
   }
+
+  public int getVariablesOffloadThreshold() {
+    return variablesOffloadThreshold;
+  }
+
+  public EngineConfiguration setVariablesOffloadThreshold(final int variablesOffloadThreshold) {
+    this.variablesOffloadThreshold = variablesOffloadThreshold;
+    return this;
+  }
+
+  public Duration getProcessInstancesAwaitResultTimeout() {
+    return processInstancesAwaitResultTimeout;
+  }
+
+  public EngineConfiguration setProcessInstancesAwaitResultTimeout(
+      final Duration processInstancesAwaitResultTimeout) {
+    this.processInstancesAwaitResultTimeout = processInstancesAwaitResultTimeout;
+    return this;
+  }
+
+  public int getDistributionsRedistributionScanLimit() {
+    return distributionsRedistributionScanLimit;
+  }
+
+  public EngineConfiguration setDistributionsRedistributionScanLimit(
+      final int distributionsRedistributionScanLimit) {
+    this.distributionsRedistributionScanLimit = distributionsRedistributionScanLimit;
+    return this;
+  }
+
+  public int getDistributionsRedistributionRetryLimit() {
+    return distributionsRedistributionRetryLimit;
+  }
+
+  public EngineConfiguration setDistributionsRedistributionRetryLimit(
+      final int distributionsRedistributionRetryLimit) {
+    this.distributionsRedistributionRetryLimit = distributionsRedistributionRetryLimit;
+    return this;
+  }
+
+  public boolean isStateCompactValueEncodingEnabled() {
+    return stateCompactValueEncodingEnabled;
+  }
+
+  public EngineConfiguration setStateCompactValueEncodingEnabled(
+      final boolean stateCompactValueEncodingEnabled) {
+    this.stateCompactValueEncodingEnabled = stateCompactValueEncodingEnabled;
+    return this;
+  }
 }
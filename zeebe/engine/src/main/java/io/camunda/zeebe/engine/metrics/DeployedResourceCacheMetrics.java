@@ -0,0 +1,84 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+
+public final class DeployedResourceCacheMetrics {
+
+  private static final String HIT = "hit";
+  private static final String MISS = "miss";
+
+  private static final Counter LOOKUPS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("deployed_resource_cache_lookups_total")
+          .help(
+              "Number of lookups of deployed resources, by whether they were served from the cache")
+          .labelNames("partition", "state", "cache", "result")
+          .register();
+
+  private static final Histogram LOAD_DURATION =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("deployed_resource_cache_load_duration_seconds")
+          .help(
+              "Time to load a deployed resource from the state and parse it, on a cache miss;"
+                  + " the count is the number of loads")
+          .labelNames("partition", "state", "cache")
+          .buckets(.0001, .0005, .001, .005, .01, .05, .1, .5, 1, 5)
+          .register();
+
+  private static final Counter EVICTIONS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("deployed_resource_cache_evictions_total")
+          .help("Number of deployed resources evicted from the cache to stay within its budget")
+          .labelNames("partition", "state", "cache")
+          .register();
+
+  private static final Gauge WEIGHT =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("deployed_resource_cache_weight_bytes")
+          .help("Estimated memory used by the cached deployed resources")
+          .labelNames("partition", "state")
+          .register();
+
+  private final String partitionIdLabel;
+  private final String stateLabel;
+  private final Gauge.Child weight;
+
+  public DeployedResourceCacheMetrics(final int partitionId, final String state) {
+    partitionIdLabel = String.valueOf(partitionId);
+    stateLabel = state;
+    weight = WEIGHT.labels(partitionIdLabel, stateLabel);
+  }
+
+  public void hit(final String cache) {
+    LOOKUPS.labels(partitionIdLabel, stateLabel, cache, HIT).inc();
+  }
+
+  public void miss(final String cache) {
+    LOOKUPS.labels(partitionIdLabel, stateLabel, cache, MISS).inc();
+  }
+
+  public void loaded(final String cache, final long durationNanos) {
+    LOAD_DURATION.labels(partitionIdLabel, stateLabel, cache).observe(durationNanos / 1e9);
+  }
+
+  public void evicted(final String cache) {
+    EVICTIONS.labels(partitionIdLabel, stateLabel, cache).inc();
+  }
+
+  public void setWeight(final long bytes) {
+    weight.set(bytes);
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+
+public final class ElementInstanceCacheMetrics {
+
+  private static final String HIT = "hit";
+  private static final String MISS = "miss";
+
+  private static final Counter ELEMENT_INSTANCE_CACHE_LOOKUPS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("element_instance_cache_lookups_total")
+          .help("Number of element instance lookups, by whether they were served from the cache")
+          .labelNames("partition", "result")
+          .register();
+
+  private final Counter.Child hits;
+  private final Counter.Child misses;
+
+  public ElementInstanceCacheMetrics(final int partitionId) {
+    final var partitionIdLabel = String.valueOf(partitionId);
+    hits = ELEMENT_INSTANCE_CACHE_LOOKUPS.labels(partitionIdLabel, HIT);
+    misses = ELEMENT_INSTANCE_CACHE_LOOKUPS.labels(partitionIdLabel, MISS);
+  }
+
+  public void hit() {
+    hits.inc();
+  }
+
+  public void miss() {
+    misses.inc();
+  }
+}
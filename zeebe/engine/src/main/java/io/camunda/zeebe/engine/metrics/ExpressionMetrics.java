@@ -0,0 +1,52 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Histogram;
+
+public final class ExpressionMetrics {
+
+  private static final String STATIC = "static";
+  private static final String CONSTANT = "constant";
+  private static final String VARIABLE = "variable";
+
+  private static final Histogram EVALUATION_DURATION =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("expression_evaluation_duration_seconds")
+          .help(
+              "Time to evaluate an expression on the processing thread, by whether the expression"
+                  + " is static, constant (evaluated once per process definition) or depends on"
+                  + " variables; the count is the number of evaluations")
+          .labelNames("partition", "kind")
+          .buckets(.000001, .00001, .00005, .0001, .0005, .001, .005, .01, .05, .1)
+          .register();
+
+  private final Histogram.Child staticDuration;
+  private final Histogram.Child constantDuration;
+  private final Histogram.Child variableDuration;
+
+  public ExpressionMetrics(final int partitionId) {
+    final var partitionIdLabel = String.valueOf(partitionId);
+    staticDuration = EVALUATION_DURATION.labels(partitionIdLabel, STATIC);
+    constantDuration = EVALUATION_DURATION.labels(partitionIdLabel, CONSTANT);
+    variableDuration = EVALUATION_DURATION.labels(partitionIdLabel, VARIABLE);
+  }
+
+  public void evaluatedStatic(final long durationNanos) {
+    staticDuration.observe(durationNanos / 1e9);
+  }
+
+  public void evaluatedConstant(final long durationNanos) {
+    constantDuration.observe(durationNanos / 1e9);
+  }
+
+  public void evaluatedVariable(final long durationNanos) {
+    variableDuration.observe(durationNanos / 1e9);
+  }
+}
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.processing;
 
+import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.metrics.ProcessEngineMetrics;
 import io.camunda.zeebe.engine.processing.bpmn.BpmnStreamProcessor;
 import io.camunda.zeebe.engine.processing.bpmn.behavior.BpmnBehaviors;
@@ -16,11 +17,14 @@ import io.camunda.zeebe.engine.processing.message.ProcessMessageSubscriptionCorr
 import io.camunda.zeebe.engine.processing.message.ProcessMessageSubscriptionCreateProcessor;
 import io.camunda.zeebe.engine.processing.message.ProcessMessageSubscriptionDeleteProcessor;
 import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSender;
+import io.camunda.zeebe.engine.processing.processinstance.AwaitResultTimeoutChecker;
 import io.camunda.zeebe.engine.processing.processinstance.ProcessInstanceBatchActivateProcessor;
 import io.camunda.zeebe.engine.processing.processinstance.ProcessInstanceBatchTerminateProcessor;
 import io.camunda.zeebe.engine.processing.processinstance.ProcessInstanceCancelProcessor;
+import io.camunda.zeebe.engine.processing.processinstance.ProcessInstanceCreationCreateBatchProcessor;
 import io.camunda.zeebe.engine.processing.processinstance.ProcessInstanceCreationCreateProcessor;
 import io.camunda.zeebe.engine.processing.processinstance.ProcessInstanceCreationCreateWithResultProcessor;
+import io.camunda.zeebe.engine.processing.processinstance.ProcessInstanceCreationExpireAwaitingResultProcessor;
 import io.camunda.zeebe.engine.processing.processinstance.ProcessInstanceMigrationMigrateProcessor;
 import io.camunda.zeebe.engine.processing.processinstance.ProcessInstanceModificationModifyProcessor;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
@@ -62,7 +66,8 @@ public final class BpmnProcessors {
       final Writers writers,
       final CommandDistributionBehavior commandDistributionBehavior,
       final int partitionId,
-      final int partitionsCount) {
+      final int partitionsCount,
+      final EngineConfiguration config) {
     final MutableProcessMessageSubscriptionState subscriptionState =
         processingState.getProcessMessageSubscriptionState();
     final var keyGenerator = processingState.getKeyGenerator();
@@ -92,7 +97,12 @@ public final class BpmnProcessors {
         keyGenerator,
         writers);
     addProcessInstanceCreationStreamProcessors(
-        typedRecordProcessors, processingState, writers, bpmnBehaviors, processEngineMetrics);
+        typedRecordProcessors,
+        processingState,
+        writers,
+        bpmnBehaviors,
+        processEngineMetrics,
+        config);
     addProcessInstanceModificationStreamProcessors(
         typedRecordProcessors, processingState, writers, bpmnBehaviors);
     addProcessInstanceMigrationStreamProcessors(
@@ -103,7 +113,8 @@ public final class BpmnProcessors {
         commandDistributionBehavior,
         partitionId,
         partitionsCount);
-    addProcessInstanceBatchStreamProcessors(typedRecordProcessors, processingState, writers);
+    addProcessInstanceBatchStreamProcessors(
+        typedRecordProcessors, processingState, writers, bpmnStreamProcessor);
 
     return bpmnStreamProcessor;
   }
@@ -200,7 +211,8 @@ public final class BpmnProcessors {
       final MutableProcessingState processingState,
       final Writers writers,
       final BpmnBehaviors bpmnBehaviors,
-      final ProcessEngineMetrics metrics) {
+      final ProcessEngineMetrics metrics,
+      final EngineConfiguration config) {
     final MutableElementInstanceState elementInstanceState =
         processingState.getElementInstanceState();
     final KeyGenerator keyGenerator = processingState.getKeyGenerator();
@@ -215,7 +227,24 @@ public final class BpmnProcessors {
         ValueType.PROCESS_INSTANCE_CREATION,
         ProcessInstanceCreationIntent.CREATE_WITH_AWAITING_RESULT,
         new ProcessInstanceCreationCreateWithResultProcessor(
-            createProcessor, elementInstanceState));
+            createProcessor,
+            elementInstanceState,
+            config.getProcessInstancesAwaitResultTimeout()));
+
+    typedRecordProcessors.onCommand(
+        ValueType.PROCESS_INSTANCE_CREATION,
+        ProcessInstanceCreationIntent.EXPIRE_AWAITING_RESULT,
+        new ProcessInstanceCreationExpireAwaitingResultProcessor(
+            elementInstanceState, writers, config.getProcessInstancesAwaitResultTimeout()));
+    typedRecordProcessors.withListener(
+        new AwaitResultTimeoutChecker(
+            elementInstanceState, config.getProcessInstancesAwaitResultTimeout()));
+
+    typedRecordProcessors.onCommand(
+        ValueType.PROCESS_INSTANCE_CREATION,
+        ProcessInstanceCreationIntent.CREATE_BATCH,
+        new ProcessInstanceCreationCreateBatchProcessor(
+            createProcessor, keyGenerator, writers, metrics));
   }
 
   private static void addProcessInstanceModificationStreamProcessors(
@@ -258,7 +287,8 @@ public final class BpmnProcessors {
   private static void addProcessInstanceBatchStreamProcessors(
       final TypedRecordProcessors typedRecordProcessors,
       final MutableProcessingState processingState,
-      final Writers writers) {
+      final Writers writers,
+      final BpmnStreamProcessor bpmnStreamProcessor) {
     typedRecordProcessors
         .onCommand(
             ValueType.PROCESS_INSTANCE_BATCH,
@@ -274,6 +304,7 @@ public final class BpmnProcessors {
                 writers,
                 processingState.getKeyGenerator(),
                 processingState.getElementInstanceState(),
-                processingState.getProcessState()));
+                processingState.getProcessState(),
+                bpmnStreamProcessor));
   }
 }
@@ -32,6 +32,7 @@ import io.camunda.zeebe.engine.processing.message.MessageEventProcessors;
 import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSender;
 import io.camunda.zeebe.engine.processing.resource.ResourceDeletionDeleteProcessor;
 import io.camunda.zeebe.engine.processing.signal.SignalBroadcastProcessor;
+import io.camunda.zeebe.engine.processing.signal.SignalTriggerSubscriptionsProcessor;
 import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessorContext;
@@ -99,7 +100,8 @@ public final class EngineProcessors {
             timerChecker,
             jobStreamer,
             jobMetrics,
-            decisionBehavior);
+            decisionBehavior,
+            featureFlags);
 
     final var commandDistributionBehavior =
         new CommandDistributionBehavior(
@@ -131,7 +133,8 @@ public final class EngineProcessors {
         writers,
         config,
         featureFlags,
-        commandDistributionBehavior);
+        commandDistributionBehavior,
+        partitionsCount);
 
     final TypedRecordProcessor<ProcessInstanceRecord> bpmnStreamProcessor =
         addProcessProcessors(
@@ -144,7 +147,8 @@ public final class EngineProcessors {
             timerChecker,
             commandDistributionBehavior,
             partitionId,
-            partitionsCount);
+            partitionsCount,
+            config);
 
     addDecisionProcessors(typedRecordProcessors, decisionBehavior, writers, processingState);
 
@@ -155,7 +159,8 @@ public final class EngineProcessors {
         bpmnBehaviors,
         writers,
         jobMetrics,
-        config);
+        config,
+        featureFlags);
 
     addIncidentProcessors(
         processingState,
@@ -170,6 +175,7 @@ public final class EngineProcessors {
         commandDistributionBehavior,
         bpmnBehaviors);
     addSignalBroadcastProcessors(
+        partitionId,
         typedRecordProcessors,
         bpmnBehaviors,
         writers,
@@ -180,7 +186,8 @@ public final class EngineProcessors {
         writers,
         processingState,
         scheduledTaskStateFactory,
-        interPartitionCommandSender);
+        interPartitionCommandSender,
+        config);
 
     UserTaskEventProcessors.addUserTaskProcessors(
         typedRecordProcessors, processingState, bpmnBehaviors, writers);
@@ -196,7 +203,8 @@ public final class EngineProcessors {
       final DueDateTimerChecker timerChecker,
       final JobStreamer jobStreamer,
       final JobMetrics jobMetrics,
-      final DecisionBehavior decisionBehavior) {
+      final DecisionBehavior decisionBehavior,
+      final FeatureFlags featureFlags) {
     return new BpmnBehaviorsImpl(
         processingState,
         writers,
@@ -205,7 +213,8 @@ public final class EngineProcessors {
         subscriptionCommandSender,
         partitionsCount,
         timerChecker,
-        jobStreamer);
+        jobStreamer,
+        featureFlags);
   }
 
   private static TypedRecordProcessor<ProcessInstanceRecord> addProcessProcessors(
@@ -218,7 +227,8 @@ public final class EngineProcessors {
       final DueDateTimerChecker timerChecker,
       final CommandDistributionBehavior commandDistributionBehavior,
       final int partitionId,
-      final int partitionsCount) {
+      final int partitionsCount,
+      final EngineConfiguration config) {
     return BpmnProcessors.addBpmnStreamProcessor(
         processingState,
         scheduledTaskState,
@@ -229,7 +239,8 @@ public final class EngineProcessors {
         writers,
         commandDistributionBehavior,
         partitionId,
-        partitionsCount);
+        partitionsCount,
+        config);
   }
 
   private static void addDeploymentRelatedProcessorAndServices(
@@ -303,7 +314,8 @@ public final class EngineProcessors {
       final Writers writers,
       final EngineConfiguration config,
       final FeatureFlags featureFlags,
-      final CommandDistributionBehavior commandDistributionBehavior) {
+      final CommandDistributionBehavior commandDistributionBehavior,
+      final int partitionsCount) {
     MessageEventProcessors.addMessageProcessors(
         bpmnBehaviors,
         typedRecordProcessors,
@@ -313,7 +325,8 @@ public final class EngineProcessors {
         writers,
         config,
         featureFlags,
-        commandDistributionBehavior);
+        commandDistributionBehavior,
+        partitionsCount);
   }
 
   private static void addDecisionProcessors(
@@ -349,6 +362,7 @@ public final class EngineProcessors {
   }
 
   private static void addSignalBroadcastProcessors(
+      final int partitionId,
       final TypedRecordProcessors typedRecordProcessors,
       final BpmnBehaviorsImpl bpmnBehaviors,
       final Writers writers,
@@ -364,6 +378,16 @@ public final class EngineProcessors {
             commandDistributionBehavior);
     typedRecordProcessors.onCommand(
         ValueType.SIGNAL, SignalIntent.BROADCAST, signalBroadcastProcessor);
+    typedRecordProcessors.onCommand(
+        ValueType.SIGNAL,
+        SignalIntent.TRIGGER_SUBSCRIPTIONS,
+        new SignalTriggerSubscriptionsProcessor(
+            partitionId,
+            writers,
+            processingState.getKeyGenerator(),
+            processingState,
+            bpmnBehaviors.stateBehavior(),
+            bpmnBehaviors.eventTriggerBehavior()));
   }
 
   private static void addCommandDistributionProcessors(
@@ -371,12 +395,15 @@ public final class EngineProcessors {
       final Writers writers,
       final ProcessingState processingState,
       final Supplier<ScheduledTaskState> scheduledTaskStateFactory,
-      final InterPartitionCommandSender interPartitionCommandSender) {
+      final InterPartitionCommandSender interPartitionCommandSender,
+      final EngineConfiguration config) {
 
     // periodically retries command distribution
     typedRecordProcessors.withListener(
         new CommandRedistributor(
-            scheduledTaskStateFactory.get().getDistributionState(), interPartitionCommandSender));
+            scheduledTaskStateFactory.get().getDistributionState(),
+            interPartitionCommandSender,
+            config));
 
     final var commandDistributionAcknowledgeProcessor =
         new CommandDistributionAcknowledgeProcessor(
@@ -114,6 +114,30 @@ public final class BpmnStreamProcessor implements TypedRecordProcessor<ProcessIn
                     record, RejectionType.INVALID_STATE, violation.getMessage()));
   }
 
+  /**
+   * Activates the given element directly, resulting in the same records as processing an
+   * ACTIVATE_ELEMENT command for it, but without writing and processing the command first.
+   *
+   * @param elementInstanceKey the key of the new element instance
+   * @param recordValue the element instance to activate
+   * @return {@code true} if the element was activated, or {@code false} if it can't be activated in
+   *     the current state, in which case nothing is written
+   */
+  public boolean activateElement(
+      final long elementInstanceKey, final ProcessInstanceRecord recordValue) {
+    context.init(elementInstanceKey, recordValue, ProcessInstanceIntent.ACTIVATE_ELEMENT);
+
+    final var processor = processors.getProcessor(recordValue.getBpmnElementType());
+    final ExecutableFlowElement element = getElement(recordValue, processor);
+    if (stateTransitionGuard.isValidStateTransition(context, element).isLeft()) {
+      return false;
+    }
+
+    LOGGER.trace("Activate element directly [context: {}]", context);
+    processEvent(ProcessInstanceIntent.ACTIVATE_ELEMENT, processor, element);
+    return true;
+  }
+
   @Override
   public ProcessingError tryHandleError(
       final TypedRecord<ProcessInstanceRecord> command, final Throwable error) {
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.engine.processing.bpmn.behavior;
 
 import io.camunda.zeebe.el.ExpressionLanguageFactory;
+import io.camunda.zeebe.engine.metrics.ExpressionMetrics;
 import io.camunda.zeebe.engine.metrics.JobMetrics;
 import io.camunda.zeebe.engine.processing.bpmn.ProcessInstanceStateTransitionGuard;
 import io.camunda.zeebe.engine.processing.bpmn.clock.ZeebeFeelEngineClock;
@@ -16,6 +17,7 @@ import io.camunda.zeebe.engine.processing.common.DecisionBehavior;
 import io.camunda.zeebe.engine.processing.common.ElementActivationBehavior;
 import io.camunda.zeebe.engine.processing.common.EventTriggerBehavior;
 import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
+import io.camunda.zeebe.engine.processing.common.MeteredExpressionLanguage;
 import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSender;
 import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
@@ -24,6 +26,7 @@ import io.camunda.zeebe.engine.processing.variable.VariableBehavior;
 import io.camunda.zeebe.engine.processing.variable.VariableStateEvaluationContextLookup;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.scheduler.clock.ActorClock;
+import io.camunda.zeebe.util.FeatureFlags;
 
 public final class BpmnBehaviorsImpl implements BpmnBehaviors {
 
@@ -56,11 +59,14 @@ public final class BpmnBehaviorsImpl implements BpmnBehaviors {
       final SubscriptionCommandSender subscriptionCommandSender,
       final int partitionsCount,
       final DueDateTimerChecker timerChecker,
-      final JobStreamer jobStreamer) {
+      final JobStreamer jobStreamer,
+      final FeatureFlags featureFlags) {
     expressionBehavior =
         new ExpressionProcessor(
-            ExpressionLanguageFactory.createExpressionLanguage(
-                new ZeebeFeelEngineClock(ActorClock.current())),
+            new MeteredExpressionLanguage(
+                ExpressionLanguageFactory.createExpressionLanguage(
+                    new ZeebeFeelEngineClock(ActorClock.current())),
+                new ExpressionMetrics(processingState.getPartitionId())),
             new VariableStateEvaluationContextLookup(processingState.getVariableState()));
 
     variableBehavior =
@@ -135,7 +141,12 @@ public final class BpmnBehaviorsImpl implements BpmnBehaviors {
             jobMetrics);
 
     multiInstanceOutputCollectionBehavior =
-        new MultiInstanceOutputCollectionBehavior(stateBehavior, expressionBehavior());
+        new MultiInstanceOutputCollectionBehavior(
+            stateBehavior,
+            expressionBehavior(),
+            processingState.getElementInstanceState(),
+            writers.state(),
+            featureFlags.enableIncrementalOutputCollection());
 
     elementActivationBehavior =
         new ElementActivationBehavior(
@@ -80,7 +80,9 @@ public class BpmnJobActivationBehavior {
       final var jobBatchKey = keyGenerator.nextKey();
       stateWriter.appendFollowUpEvent(jobBatchKey, JobBatchIntent.ACTIVATED, jobBatchRecord);
 
-      jobVariablesCollector.setJobVariables(properties.fetchVariables(), wrappedJobRecord);
+      // the jobs of sibling element instances share the variables of their parent scope
+      jobVariablesCollector.setJobVariablesWithCachedParentScope(
+          properties.fetchVariables(), wrappedJobRecord);
       final var pushableJobRecord = new JobRecord();
       cloneJob(wrappedJobRecord, pushableJobRecord);
       final var activatedJob = new ActivatedJobImpl();
@@ -12,32 +12,63 @@ import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 import io.camunda.zeebe.engine.processing.bpmn.BpmnElementContext;
 import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
 import io.camunda.zeebe.engine.processing.common.Failure;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableLoopCharacteristics;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableMultiInstanceBody;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
+import io.camunda.zeebe.engine.state.immutable.ElementInstanceState;
 import io.camunda.zeebe.msgpack.spec.MsgPackReader;
 import io.camunda.zeebe.msgpack.spec.MsgPackToken;
 import io.camunda.zeebe.msgpack.spec.MsgPackType;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceBatchRecord;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceBatchIntent;
 import io.camunda.zeebe.protocol.record.value.ErrorType;
 import io.camunda.zeebe.util.Either;
 import java.util.Optional;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
+import org.agrona.collections.MutableInteger;
+import org.agrona.collections.MutableReference;
 import org.agrona.concurrent.UnsafeBuffer;
 
+/**
+ * Collects the output elements of the child instances of a multi-instance body into its output
+ * collection.
+ *
+ * <p>By default, the output collection is updated whenever a child instance completes. This
+ * rewrites the whole output collection every time, which is quadratic in the size of the
+ * collection. If incremental collection is enabled, the output element of a completed child
+ * instance of a parallel multi-instance body is stored separately under the multi-instance body
+ * instead, and the output collection is assembled once when the multi-instance body completes. The
+ * child instances don't see the output elements of their siblings then. The output collection of a
+ * sequential multi-instance body, or of one whose completion condition refers to it, is always
+ * updated eagerly.
+ */
 public final class MultiInstanceOutputCollectionBehavior {
 
   private final MsgPackReader outputCollectionReader = new MsgPackReader();
   private final MsgPackWriter outputCollectionWriter = new MsgPackWriter();
   private final ExpandableArrayBuffer outputCollectionBuffer = new ExpandableArrayBuffer();
   private final DirectBuffer updatedOutputCollectionBuffer = new UnsafeBuffer(0, 0);
+  private final ProcessInstanceBatchRecord outputElementRecord = new ProcessInstanceBatchRecord();
 
   private final BpmnStateBehavior stateBehavior;
   private final ExpressionProcessor expressionProcessor;
+  private final ElementInstanceState elementInstanceState;
+  private final StateWriter stateWriter;
+  private final boolean incrementalCollectionEnabled;
 
   MultiInstanceOutputCollectionBehavior(
-      final BpmnStateBehavior stateBehavior, final ExpressionProcessor expressionProcessor) {
+      final BpmnStateBehavior stateBehavior,
+      final ExpressionProcessor expressionProcessor,
+      final ElementInstanceState elementInstanceState,
+      final StateWriter stateWriter,
+      final boolean incrementalCollectionEnabled) {
     this.stateBehavior = stateBehavior;
     this.expressionProcessor = expressionProcessor;
+    this.elementInstanceState = elementInstanceState;
+    this.stateWriter = stateWriter;
+    this.incrementalCollectionEnabled = incrementalCollectionEnabled;
   }
 
   public void initializeOutputCollection(
@@ -79,6 +110,15 @@ public final class MultiInstanceOutputCollectionBehavior {
     final var loopCounter =
         stateBehavior.getElementInstance(childContext).getMultiInstanceLoopCounter();
 
+    if (canCollectIncrementally(element.getLoopCharacteristics())) {
+      return readOutputElementVariable(element, childContext)
+          .map(
+              elementVariable -> {
+                collectOutputElement(childContext, flowScopeContext, loopCounter, elementVariable);
+                return null;
+              });
+    }
+
     return readOutputElementVariable(element, childContext)
         .flatMap(
             elementVariable -> {
@@ -103,6 +143,98 @@ public final class MultiInstanceOutputCollectionBehavior {
             });
   }
 
+  private boolean canCollectIncrementally(final ExecutableLoopCharacteristics loopCharacteristics) {
+    return incrementalCollectionEnabled
+        && !loopCharacteristics.isSequential()
+        && !loopCharacteristics.isOutputCollectionReadByCompletionCondition();
+  }
+
+  /**
+   * Writes the collected output elements of the child instances into the output collection of the
+   * given multi-instance body. The output collection is read and written only once, regardless of
+   * the number of collected output elements. This must be done even if incremental collection is
+   * disabled, because output elements may have been collected before it was disabled.
+   *
+   * @param element the multi-instance body
+   * @param context the context of the completing multi-instance body
+   * @return either a failure if the output collection can't be updated, or nothing
+   */
+  public Either<Failure, Void> assembleOutputCollection(
+      final ExecutableMultiInstanceBody element, final BpmnElementContext context) {
+    final var outputCollection = element.getLoopCharacteristics().getOutputCollection();
+    if (outputCollection.isEmpty()) {
+      return Either.right(null);
+    }
+
+    final var variableName = outputCollection.get();
+    final var variableScopeKey = context.getElementInstanceKey();
+    final var currentCollection = stateBehavior.getLocalVariable(context, variableName);
+
+    outputCollectionReader.wrap(currentCollection, 0, currentCollection.capacity());
+    final var token = outputCollectionReader.readToken();
+    final var size = token.getSize();
+    outputCollectionWriter.wrap(outputCollectionBuffer, 0);
+    outputCollectionWriter.writeArrayHeader(size);
+
+    // the output elements are visited in the order of their loop counters, so the collection can
+    // be rewritten in a single pass
+    final var lastIndex = new MutableInteger(0);
+    final var failure = new MutableReference<Failure>();
+    elementInstanceState.forEachMultiInstanceOutputElement(
+        variableScopeKey,
+        (loopCounter, outputElement) -> {
+          if (failure.get() != null) {
+            return;
+          }
+
+          final var optValidationFailure =
+              validateIsCollectionAndHasAppropriateSIze(
+                  loopCounter, variableScopeKey, variableName, token);
+          if (optValidationFailure.isPresent()) {
+            failure.set(optValidationFailure.get());
+            return;
+          }
+
+          copyItems(currentCollection, loopCounter - lastIndex.get() - 1);
+          outputCollectionReader.skipValue();
+          outputCollectionWriter.writeRaw(outputElement);
+          lastIndex.set(loopCounter);
+        });
+
+    if (failure.get() != null) {
+      return Either.left(failure.get());
+    }
+    if (lastIndex.get() == 0) {
+      // no output element was collected, the collection is unchanged
+      return Either.right(null);
+    }
+
+    copyItems(currentCollection, size - lastIndex.get());
+    final var length = outputCollectionWriter.getOffset();
+    updatedOutputCollectionBuffer.wrap(outputCollectionBuffer, 0, length);
+
+    stateBehavior.setLocalVariable(context, variableName, updatedOutputCollectionBuffer);
+    return Either.right(null);
+  }
+
+  private void collectOutputElement(
+      final BpmnElementContext childContext,
+      final BpmnElementContext flowScopeContext,
+      final int loopCounter,
+      final DirectBuffer outputElement) {
+    outputElementRecord.reset();
+    outputElementRecord
+        .setProcessInstanceKey(childContext.getProcessInstanceKey())
+        .setBatchElementInstanceKey(flowScopeContext.getElementInstanceKey())
+        .setIndex(loopCounter)
+        .setOutputElement(outputElement);
+
+    stateWriter.appendFollowUpEvent(
+        flowScopeContext.getElementInstanceKey(),
+        ProcessInstanceBatchIntent.OUTPUT_ELEMENT_COLLECTED,
+        outputElementRecord);
+  }
+
   private Either<Failure, DirectBuffer> readOutputElementVariable(
       final ExecutableMultiInstanceBody element, final BpmnElementContext context) {
     final var expression = element.getLoopCharacteristics().getOutputElement().orElseThrow();
@@ -142,6 +274,13 @@ public final class MultiInstanceOutputCollectionBehavior {
     return Either.right(updatedOutputCollectionBuffer);
   }
 
+  private void copyItems(final DirectBuffer array, final int count) {
+    final var offsetBefore = outputCollectionReader.getOffset();
+    outputCollectionReader.skipValues(count);
+    final var offsetAfter = outputCollectionReader.getOffset();
+    outputCollectionWriter.writeRaw(array, offsetBefore, offsetAfter - offsetBefore);
+  }
+
   private Optional<Failure> validateIsCollectionAndHasAppropriateSIze(
       final int index,
       final long variableScopeKey,
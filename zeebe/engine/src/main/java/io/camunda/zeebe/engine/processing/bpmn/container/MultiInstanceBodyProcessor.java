@@ -99,6 +99,16 @@ public final class MultiInstanceBodyProcessor
   public Either<Failure, ?> onComplete(
       final ExecutableMultiInstanceBody element, final BpmnElementContext context) {
 
+    // the output elements of the child instances are collected separately, so the output
+    // collection must be assembled before it is propagated
+    return multiInstanceOutputCollectionBehavior
+        .assembleOutputCollection(element, context)
+        .flatMap(ok -> complete(element, context));
+  }
+
+  private Either<Failure, BpmnElementContext> complete(
+      final ExecutableMultiInstanceBody element, final BpmnElementContext context) {
+
     eventSubscriptionBehavior.unsubscribeFromEvents(context);
 
     element
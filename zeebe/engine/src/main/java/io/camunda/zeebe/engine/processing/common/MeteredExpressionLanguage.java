@@ -0,0 +1,53 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.common;
+
+import io.camunda.zeebe.el.EvaluationContext;
+import io.camunda.zeebe.el.EvaluationResult;
+import io.camunda.zeebe.el.Expression;
+import io.camunda.zeebe.el.ExpressionLanguage;
+import io.camunda.zeebe.engine.metrics.ExpressionMetrics;
+
+/**
+ * An expression language which measures how long the evaluation of expressions takes, by the kind
+ * of the expression. Constant expressions are evaluated once and return the same result afterward,
+ * so their measured cost shows how much the caching saves.
+ */
+public final class MeteredExpressionLanguage implements ExpressionLanguage {
+
+  private final ExpressionLanguage delegate;
+  private final ExpressionMetrics metrics;
+
+  public MeteredExpressionLanguage(
+      final ExpressionLanguage delegate, final ExpressionMetrics metrics) {
+    this.delegate = delegate;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public Expression parseExpression(final String expression) {
+    return delegate.parseExpression(expression);
+  }
+
+  @Override
+  public EvaluationResult evaluateExpression(
+      final Expression expression, final EvaluationContext context) {
+    final long startNanos = System.nanoTime();
+    final var result = delegate.evaluateExpression(expression, context);
+    final long durationNanos = System.nanoTime() - startNanos;
+
+    if (expression.isStatic()) {
+      metrics.evaluatedStatic(durationNanos);
+    } else if (expression.isConstant()) {
+      metrics.evaluatedConstant(durationNanos);
+    } else {
+      metrics.evaluatedVariable(durationNanos);
+    }
+    return result;
+  }
+}
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.engine.processing.deployment.model.element;
 
 import io.camunda.zeebe.el.Expression;
+import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.util.Optional;
 import org.agrona.DirectBuffer;
 
@@ -23,6 +24,8 @@ public class ExecutableLoopCharacteristics {
   private final Optional<DirectBuffer> outputCollection;
   private final Optional<Expression> outputElement;
 
+  private final boolean isOutputCollectionReadByCompletionCondition;
+
   public ExecutableLoopCharacteristics(
       final boolean isSequential,
       final Optional<Expression> completionCondition,
@@ -36,6 +39,17 @@ public class ExecutableLoopCharacteristics {
     this.inputElement = inputElement;
     this.outputCollection = outputCollection;
     this.outputElement = outputElement;
+
+    isOutputCollectionReadByCompletionCondition =
+        outputCollection
+            .flatMap(
+                variableName ->
+                    completionCondition.map(
+                        condition ->
+                            condition
+                                .getVariableNames()
+                                .contains(BufferUtil.bufferAsString(variableName))))
+            .orElse(false);
   }
 
   public boolean isSequential() {
@@ -62,6 +76,14 @@ public class ExecutableLoopCharacteristics {
     return outputElement;
   }
 
+  /**
+   * Returns {@code true} if the completion condition refers to the output collection. In this case,
+   * the output collection must be up to date after every completed child instance.
+   */
+  public boolean isOutputCollectionReadByCompletionCondition() {
+    return isOutputCollectionReadByCompletionCondition;
+  }
+
   @Override
   public String toString() {
     return "ExecutableLoopCharacteristics{"
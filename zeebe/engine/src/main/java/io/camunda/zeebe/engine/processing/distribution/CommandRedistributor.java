@@ -7,16 +7,15 @@
  */
 package io.camunda.zeebe.engine.processing.distribution;
 
+import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.state.immutable.DistributionState;
 import io.camunda.zeebe.protocol.impl.record.value.distribution.CommandDistributionRecord;
 import io.camunda.zeebe.stream.api.InterPartitionCommandSender;
 import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
 import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
 import java.time.Duration;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.function.Predicate;
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.Long2LongHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -29,7 +28,15 @@ import org.slf4j.LoggerFactory;
  * exponential backoff is statically configured to start of at 10 seconds {@link
  * #COMMAND_REDISTRIBUTION_INTERVAL} until it reaches a maximum of 5 minutes {@link
  * #RETRY_MAX_BACKOFF_DURATION}, doubling every time. This backoff is tracked for each pending
- * distribution individually.
+ * distribution individually, as the retry cycle in which it is due next.
+ *
+ * <p>When a partition is unavailable for a while, the pending distributions can pile up. To keep
+ * each retry cycle short, a cycle visits at most {@link
+ * EngineConfiguration#getDistributionsRedistributionScanLimit()} pending distributions, and the
+ * next cycle resumes where the previous one stopped. A pending distribution that became due while
+ * it was not visited is retried the next time it is visited. Additionally, at most {@link
+ * EngineConfiguration#getDistributionsRedistributionRetryLimit()} pending distributions are resent
+ * to each partition per cycle. The others stay due and are retried in one of the next cycles.
  */
 public final class CommandRedistributor implements StreamProcessorLifecycleAware {
 
@@ -52,21 +59,41 @@ public final class CommandRedistributor implements StreamProcessorLifecycleAware
   private static final long MAX_RETRY_CYCLES =
       RETRY_MAX_BACKOFF_DURATION.dividedBy(COMMAND_REDISTRIBUTION_INTERVAL);
 
+  /** The distribution key to start the scan at, if it starts at the first pending distribution. */
+  private static final long FIRST_DISTRIBUTION_KEY = 0L;
+
   private static final Logger LOG = LoggerFactory.getLogger(CommandRedistributor.class);
 
   private final DistributionState distributionState;
   private final InterPartitionCommandSender commandSender;
 
-  /**
-   * Tracks the number of attempted retry cycles for each pending distribution. Note that this
-   * includes retry cycles where the pending distribution was not resend due to exponential backoff.
-   */
-  private final Map<PendingDistribution, Long> retryCyclesPerDistribution = new HashMap<>();
+  /** The maximum number of pending distributions that are visited in a single retry cycle. */
+  private final int scanLimit;
+
+  /** The maximum number of pending distributions that are resent to a partition per cycle. */
+  private final int retryLimit;
+
+  /** Tracks the retries of the pending distributions for each receiving partition. */
+  private final Int2ObjectHashMap<PartitionRetries> retriesPerPartition = new Int2ObjectHashMap<>();
+
+  /** The number of the current retry cycle, incremented at the start of each cycle. */
+  private long retryCycle;
+
+  /** The distribution key at which the next retry cycle resumes the scan. */
+  private long scanCursor = FIRST_DISTRIBUTION_KEY;
+
+  private int visitedInCycle;
+  private long lastVisitedDistributionKey;
+  private boolean isScanCompleted;
 
   public CommandRedistributor(
-      final DistributionState distributionState, final InterPartitionCommandSender commandSender) {
+      final DistributionState distributionState,
+      final InterPartitionCommandSender commandSender,
+      final EngineConfiguration config) {
     this.distributionState = distributionState;
     this.commandSender = commandSender;
+    scanLimit = config.getDistributionsRedistributionScanLimit();
+    retryLimit = config.getDistributionsRedistributionRetryLimit();
   }
 
   @Override
@@ -76,62 +103,136 @@ public final class CommandRedistributor implements StreamProcessorLifecycleAware
         .runAtFixedRate(COMMAND_REDISTRIBUTION_INTERVAL, this::runRetryCycle);
   }
 
-  private void runRetryCycle() {
-    final var pendingDistributions = new HashSet<PendingDistribution>();
-    distributionState.foreachPendingDistribution(
-        (distributionKey, record) -> {
-          final var pending = new PendingDistribution(distributionKey, record.getPartitionId());
-          pendingDistributions.add(pending);
-          retryDistribution(pending, record);
-        });
-
-    // Remove retry cycle tracking for completed distributions, i.e. those not visited in this cycle
-    retryCyclesPerDistribution.keySet().removeIf(Predicate.not(pendingDistributions::contains));
+  void runRetryCycle() {
+    retryCycle++;
+    retriesPerPartition.values().forEach(PartitionRetries::startCycle);
+    visitedInCycle = 0;
+    lastVisitedDistributionKey = -1L;
+    isScanCompleted = true;
+
+    distributionState.foreachPendingDistribution(scanCursor, this::visitPendingDistribution);
+
+    if (isScanCompleted) {
+      // Remove retry tracking for completed distributions, i.e. those not visited in this scan
+      retriesPerPartition.values().forEach(PartitionRetries::completeScan);
+      scanCursor = FIRST_DISTRIBUTION_KEY;
+    }
+  }
+
+  private boolean visitPendingDistribution(
+      final long distributionKey, final CommandDistributionRecord commandDistributionRecord) {
+    // only stop between distribution keys, so that the next cycle doesn't visit any partition of a
+    // distribution twice in the same scan
+    if (distributionKey != lastVisitedDistributionKey && visitedInCycle >= scanLimit) {
+      scanCursor = distributionKey;
+      isScanCompleted = false;
+      return false;
+    }
+
+    visitedInCycle++;
+    lastVisitedDistributionKey = distributionKey;
+    retryDistribution(distributionKey, commandDistributionRecord);
+    return true;
   }
 
   private void retryDistribution(
-      final PendingDistribution pending,
-      final CommandDistributionRecord commandDistributionRecord) {
-    if (!shouldRetryNow(pending)) {
+      final long distributionKey, final CommandDistributionRecord commandDistributionRecord) {
+    final int partitionId = commandDistributionRecord.getPartitionId();
+    final var retries =
+        retriesPerPartition.computeIfAbsent(partitionId, p -> new PartitionRetries(retryLimit));
+    if (!retries.shouldRetryNow(distributionKey, retryCycle)) {
       return;
     }
 
     LOG.info(
-        "Retrying to distribute pending command {} to partition {}",
-        pending.distributionKey,
-        pending.partitionId);
+        "Retrying to distribute pending command {} to partition {}", distributionKey, partitionId);
 
     commandSender.sendCommand(
-        pending.partitionId,
+        partitionId,
         commandDistributionRecord.getValueType(),
         commandDistributionRecord.getIntent(),
-        pending.distributionKey,
+        distributionKey,
         commandDistributionRecord.getCommandValue());
   }
 
   /**
-   * Returns whether a pending distribution should be retried now, or not in this cycle.
+   * Tracks the retries of the pending distributions to a single partition. For each pending
+   * distribution, the retry cycle in which it is due next and its current backoff (in retry cycles)
+   * are kept in primitive maps.
    *
-   * <p>Calling this method increments the retry cycles tracking ({@link
-   * #retryCyclesPerDistribution}) of that pending distribution, or initiates it at 0. The number of
-   * cycles is used to implement a simple exponential backoff.
+   * <p>The tracking of the current scan is kept apart from that of the previous scan, so that the
+   * tracking of completed distributions, i.e. those not visited in a complete scan, can be removed.
    */
-  private boolean shouldRetryNow(final PendingDistribution pendingDistribution) {
-    // retryCycles starts off at 0, ensuring that we wait between COMMAND_REDISTRIBUTION_INTERVAL
-    // and 2 * COMMAND_REDISTRIBUTION_INTERVAL before retrying distribution.
-    final long retryCycle =
-        retryCyclesPerDistribution.compute(
-            pendingDistribution, (k, retryCycles) -> retryCycles != null ? retryCycles + 1 : 0L);
-
-    if (retryCycle >= MAX_RETRY_CYCLES) {
-      // Retry in intervals of RETRY_MAX_BACKOFF_DURATION
-      return retryCycle % MAX_RETRY_CYCLES == 0;
-    } else {
-      // Retry in intervals of COMMAND_REDISTRIBUTION_INTERVAL
-      // The interval is doubling until we reached RETRY_MAX_BACKOFF_DURATION
-      return Long.bitCount(retryCycle) == 1;
+  private static final class PartitionRetries {
+
+    private static final long NOT_TRACKED = -1L;
+
+    private final int retryLimit;
+
+    private Long2LongHashMap dueCycles = new Long2LongHashMap(NOT_TRACKED);
+    private Long2LongHashMap backoffCycles = new Long2LongHashMap(NOT_TRACKED);
+    private Long2LongHashMap previousScanDueCycles = new Long2LongHashMap(NOT_TRACKED);
+    private Long2LongHashMap previousScanBackoffCycles = new Long2LongHashMap(NOT_TRACKED);
+    private int retriesInCycle;
+
+    private PartitionRetries(final int retryLimit) {
+      this.retryLimit = retryLimit;
+    }
+
+    private void startCycle() {
+      retriesInCycle = 0;
     }
-  }
 
-  private record PendingDistribution(long distributionKey, int partitionId) {}
+    private void completeScan() {
+      final var completedScanDueCycles = dueCycles;
+      dueCycles = previousScanDueCycles;
+      dueCycles.clear();
+      previousScanDueCycles = completedScanDueCycles;
+
+      final var completedScanBackoffCycles = backoffCycles;
+      backoffCycles = previousScanBackoffCycles;
+      backoffCycles.clear();
+      previousScanBackoffCycles = completedScanBackoffCycles;
+    }
+
+    /**
+     * Returns whether a pending distribution should be retried in the given retry cycle.
+     *
+     * <p>The first time a pending distribution is visited, it becomes due in the next retry cycle,
+     * ensuring that we wait between COMMAND_REDISTRIBUTION_INTERVAL and 2 *
+     * COMMAND_REDISTRIBUTION_INTERVAL before retrying the distribution. Each retry moves the due
+     * cycle by the current backoff, which doubles until it reaches {@link #MAX_RETRY_CYCLES}. If
+     * the pending distribution is due, but the partition already received the maximum number of
+     * retries in this cycle, it stays due, so that it's retried the next time it is visited.
+     */
+    private boolean shouldRetryNow(final long distributionKey, final long retryCycle) {
+      long dueCycle = dueCycles.get(distributionKey);
+      final long backoff;
+      if (dueCycle == NOT_TRACKED) {
+        dueCycle = previousScanDueCycles.remove(distributionKey);
+        backoff = previousScanBackoffCycles.remove(distributionKey);
+      } else {
+        backoff = backoffCycles.get(distributionKey);
+      }
+
+      if (dueCycle == NOT_TRACKED) {
+        track(distributionKey, retryCycle + 1, 1);
+        return false;
+      }
+
+      if (retryCycle < dueCycle || retriesInCycle >= retryLimit) {
+        track(distributionKey, dueCycle, backoff);
+        return false;
+      }
+
+      retriesInCycle++;
+      track(distributionKey, retryCycle + backoff, Math.min(backoff * 2, MAX_RETRY_CYCLES));
+      return true;
+    }
+
+    private void track(final long distributionKey, final long dueCycle, final long backoff) {
+      dueCycles.put(distributionKey, dueCycle);
+      backoffCycles.put(distributionKey, backoff);
+    }
+  }
 }
@@ -21,11 +21,11 @@ public final class JobBackoffChecker implements StreamProcessorLifecycleAware {
 
   private final DueDateChecker backOffDueDateChecker;
 
-  public JobBackoffChecker(final JobState jobState) {
+  public JobBackoffChecker(final JobState jobState, final boolean scheduleAsync) {
     backOffDueDateChecker =
         new DueDateChecker(
             BACKOFF_RESOLUTION,
-            false,
+            scheduleAsync,
             taskResultBuilder ->
                 jobState.findBackedOffJobs(
                     ActorClock.currentTimeMillis(),
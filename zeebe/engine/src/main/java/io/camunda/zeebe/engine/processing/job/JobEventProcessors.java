@@ -18,6 +18,7 @@ import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
 import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.util.FeatureFlags;
 import java.util.function.Supplier;
 
 public final class JobEventProcessors {
@@ -29,7 +30,8 @@ public final class JobEventProcessors {
       final BpmnBehaviors bpmnBehaviors,
       final Writers writers,
       final JobMetrics jobMetrics,
-      final EngineConfiguration config) {
+      final EngineConfiguration config,
+      final FeatureFlags featureFlags) {
 
     final var jobState = processingState.getJobState();
     final var keyGenerator = processingState.getKeyGenerator();
@@ -44,7 +46,9 @@ public final class JobEventProcessors {
             bpmnBehaviors.stateBehavior());
 
     final var jobBackoffChecker =
-        new JobBackoffChecker(scheduledTaskStateFactory.get().getJobState());
+        new JobBackoffChecker(
+            scheduledTaskStateFactory.get().getJobState(),
+            featureFlags.enableJobDueDateCheckerAsync());
     typedRecordProcessors
         .onCommand(
             ValueType.JOB,
@@ -98,7 +102,8 @@ public final class JobEventProcessors {
             new JobTimeoutCheckerScheduler(
                 scheduledTaskStateFactory.get().getJobState(),
                 config.getJobsTimeoutCheckerPollingInterval(),
-                config.getJobsTimeoutCheckerBatchLimit()))
+                config.getJobsTimeoutCheckerBatchLimit(),
+                featureFlags.enableJobDueDateCheckerAsync()))
         .withListener(jobBackoffChecker);
   }
 }
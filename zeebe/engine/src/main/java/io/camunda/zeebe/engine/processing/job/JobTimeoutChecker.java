@@ -36,17 +36,29 @@ final class JobTimeoutChecker implements Task {
   private ReadonlyStreamProcessorContext processingContext;
   private final Duration pollingInterval;
   private final int batchLimit;
+  private final boolean scheduleAsync;
 
   public JobTimeoutChecker(
-      final JobState state, final Duration pollingInterval, final int batchLimit) {
+      final JobState state,
+      final Duration pollingInterval,
+      final int batchLimit,
+      final boolean scheduleAsync) {
     this.state = state;
     this.pollingInterval = pollingInterval;
     this.batchLimit = batchLimit;
+    this.scheduleAsync = scheduleAsync;
   }
 
   public void schedule(final Duration idleInterval) {
-    if (shouldReschedule) {
-      processingContext.getScheduleService().runDelayed(idleInterval, this);
+    if (!shouldReschedule) {
+      return;
+    }
+
+    final var scheduleService = processingContext.getScheduleService();
+    if (scheduleAsync) {
+      scheduleService.runDelayedAsync(idleInterval, this);
+    } else {
+      scheduleService.runDelayed(idleInterval, this);
     }
   }
 
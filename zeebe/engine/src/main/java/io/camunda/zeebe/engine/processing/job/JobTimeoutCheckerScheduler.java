@@ -20,9 +20,12 @@ public final class JobTimeoutCheckerScheduler implements StreamProcessorLifecycl
   private final JobTimeoutChecker jobTimeoutChecker;
 
   public JobTimeoutCheckerScheduler(
-      final JobState state, final Duration pollingInterval, final int batchLimit) {
+      final JobState state,
+      final Duration pollingInterval,
+      final int batchLimit,
+      final boolean scheduleAsync) {
     this.pollingInterval = pollingInterval;
-    jobTimeoutChecker = new JobTimeoutChecker(state, pollingInterval, batchLimit);
+    jobTimeoutChecker = new JobTimeoutChecker(state, pollingInterval, batchLimit, scheduleAsync);
   }
 
   @Override
@@ -32,6 +32,24 @@ public class JobVariablesCollector {
     }
   }
 
+  /**
+   * Sets the variables of the job like {@link #setJobVariables(Collection, JobRecord)}, but caches
+   * the variables the job's element instance inherits from its parent scope. Use this when the jobs
+   * of sibling element instances are collected one after another, e.g. when the jobs of a parallel
+   * multi-instance activity are pushed right after they are created.
+   */
+  public void setJobVariablesWithCachedParentScope(
+      final Collection<DirectBuffer> requestedVariables, final JobRecord jobRecord) {
+    final long elementInstanceKey = jobRecord.getElementInstanceKey();
+    if (elementInstanceKey >= 0) {
+      jobRecord.setVariables(
+          variableState.getVariablesAsDocumentWithCachedParentScope(
+              elementInstanceKey, requestedVariables));
+    } else {
+      jobRecord.setVariables(DocumentValue.EMPTY_DOCUMENT);
+    }
+  }
+
   private DirectBuffer collectVariables(
       final Collection<DirectBuffer> variableNames, final long elementInstanceKey) {
     final DirectBuffer variables;
@@ -0,0 +1,127 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.message;
+
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedRejectionWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
+import io.camunda.zeebe.protocol.impl.SubscriptionUtil;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageBatchRecord;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.MessageBatchIntent;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+
+/**
+ * Publishes multiple messages from a single command. All messages of the batch are expected to
+ * belong to this partition, i.e. their correlation keys are hashed to it, and each message results
+ * in the same records as if it was published with a single {@link
+ * io.camunda.zeebe.protocol.record.intent.MessageIntent#PUBLISH} command.
+ *
+ * <p>A message is rejected individually if its correlation key belongs to another partition, if a
+ * message with the same id was already published, or if it doesn't fit into the batch of records
+ * which results from processing the command anymore. In the latter case, all following messages
+ * are rejected as well, so the published messages are always a prefix of the messages which were
+ * not rejected for another reason. The response contains the key or the rejection of every
+ * message, in the order of the command.
+ */
+public final class MessageBatchPublishProcessor
+    implements TypedRecordProcessor<MessageBatchRecord> {
+
+  private static final String ERROR_MESSAGE_NO_MESSAGES =
+      "Expected to publish at least one message, but none given";
+  private static final String ERROR_MESSAGE_EXCEEDED_BATCH_SIZE =
+      "Expected to publish message, but the records of the previous messages of the batch already"
+          + " exceeded the maximum batch size; publish it in another batch";
+  private static final String ERROR_MESSAGE_WRONG_PARTITION =
+      "Expected to publish message with correlation key '%s' on partition %d, but it belongs to"
+          + " partition %d";
+
+  private final MessageBatchRecord responseRecord = new MessageBatchRecord();
+
+  private final MessagePublishProcessor publishProcessor;
+  private final int partitionId;
+  private final int partitionsCount;
+  private final StateWriter stateWriter;
+  private final TypedRejectionWriter rejectionWriter;
+  private final TypedResponseWriter responseWriter;
+
+  public MessageBatchPublishProcessor(
+      final MessagePublishProcessor publishProcessor,
+      final int partitionId,
+      final int partitionsCount,
+      final Writers writers) {
+    this.publishProcessor = publishProcessor;
+    this.partitionId = partitionId;
+    this.partitionsCount = partitionsCount;
+    stateWriter = writers.state();
+    rejectionWriter = writers.rejection();
+    responseWriter = writers.response();
+  }
+
+  @Override
+  public void processRecord(final TypedRecord<MessageBatchRecord> command) {
+    final MessageBatchRecord record = command.getValue();
+    if (record.messages().isEmpty()) {
+      rejectionWriter.appendRejection(
+          command, RejectionType.INVALID_ARGUMENT, ERROR_MESSAGE_NO_MESSAGES);
+      responseWriter.writeRejectionOnCommand(
+          command, RejectionType.INVALID_ARGUMENT, ERROR_MESSAGE_NO_MESSAGES);
+      return;
+    }
+
+    responseRecord.reset();
+
+    boolean exceededBatchSize = false;
+    for (final MessageRecord message : record.messages()) {
+      final var result = responseRecord.results().add().setTenantId(message.getTenantId());
+
+      final int messagePartitionId =
+          SubscriptionUtil.getSubscriptionPartitionId(
+              message.getCorrelationKeyBuffer(), partitionsCount);
+      if (messagePartitionId != partitionId) {
+        result.setRejection(
+            RejectionType.INVALID_ARGUMENT,
+            ERROR_MESSAGE_WRONG_PARTITION.formatted(
+                BufferUtil.bufferAsString(message.getCorrelationKeyBuffer()),
+                partitionId,
+                messagePartitionId));
+        continue;
+      }
+
+      exceededBatchSize = exceededBatchSize || !canWriteMessage(message);
+      if (exceededBatchSize) {
+        result.setRejection(
+            RejectionType.EXCEEDED_BATCH_RECORD_SIZE, ERROR_MESSAGE_EXCEEDED_BATCH_SIZE);
+      } else if (publishProcessor.isAlreadyPublished(message)) {
+        result.setRejection(
+            RejectionType.ALREADY_EXISTS,
+            MessagePublishProcessor.getAlreadyPublishedReason(message));
+      } else {
+        result.setMessageKey(publishProcessor.publishMessage(message, command.getTimestamp()));
+      }
+    }
+
+    if (command.hasRequestMetadata()) {
+      responseWriter.writeEventOnCommand(
+          command.getKey(), MessageBatchIntent.PUBLISH, responseRecord, command);
+    }
+  }
+
+  private boolean canWriteMessage(final MessageRecord message) {
+    // the message is written at least twice, once in the published event and once per correlated
+    // subscription; the buffer accounts for the metadata and the other records of the correlation
+    final int expectedLength =
+        message.getEncodedLength() * 2 + EngineConfiguration.BATCH_SIZE_CALCULATION_BUFFER;
+    return stateWriter.canWriteEventOfLength(expectedLength);
+  }
+}
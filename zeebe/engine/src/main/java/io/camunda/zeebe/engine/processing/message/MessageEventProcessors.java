@@ -39,7 +39,8 @@ public final class MessageEventProcessors {
       final Writers writers,
       final EngineConfiguration config,
       final FeatureFlags featureFlags,
-      final CommandDistributionBehavior commandDistributionBehavior) {
+      final CommandDistributionBehavior commandDistributionBehavior,
+      final int partitionsCount) {
 
     final MutableMessageState messageState = processingState.getMessageState();
     final MutableMessageSubscriptionState subscriptionState =
@@ -51,21 +52,25 @@ public final class MessageEventProcessors {
     final KeyGenerator keyGenerator = processingState.getKeyGenerator();
     final var processState = processingState.getProcessState();
 
+    final var publishProcessor =
+        new MessagePublishProcessor(
+            messageState,
+            subscriptionState,
+            startEventSubscriptionState,
+            eventScopeInstanceState,
+            subscriptionCommandSender,
+            keyGenerator,
+            writers,
+            processState,
+            bpmnBehaviors.eventTriggerBehavior(),
+            bpmnBehaviors.stateBehavior());
     typedRecordProcessors
+        .onCommand(ValueType.MESSAGE, MessageIntent.PUBLISH, publishProcessor)
         .onCommand(
-            ValueType.MESSAGE,
-            MessageIntent.PUBLISH,
-            new MessagePublishProcessor(
-                messageState,
-                subscriptionState,
-                startEventSubscriptionState,
-                eventScopeInstanceState,
-                subscriptionCommandSender,
-                keyGenerator,
-                writers,
-                processState,
-                bpmnBehaviors.eventTriggerBehavior(),
-                bpmnBehaviors.stateBehavior()))
+            ValueType.MESSAGE_BATCH,
+            MessageBatchIntent.PUBLISH,
+            new MessageBatchPublishProcessor(
+                publishProcessor, processingState.getPartitionId(), partitionsCount, writers))
         .onCommand(
             ValueType.MESSAGE_BATCH,
             MessageBatchIntent.EXPIRE,
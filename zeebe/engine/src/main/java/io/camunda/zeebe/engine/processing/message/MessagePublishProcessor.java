@@ -40,8 +40,6 @@ public final class MessagePublishProcessor implements TypedRecordProcessor<Messa
   private final StateWriter stateWriter;
   private final MessageCorrelateBehavior correlateBehavior;
 
-  private MessageRecord messageRecord;
-  private long messageKey;
   private final TypedResponseWriter responseWriter;
   private final TypedRejectionWriter rejectionWriter;
 
@@ -81,62 +79,63 @@ public final class MessagePublishProcessor implements TypedRecordProcessor<Messa
 
   @Override
   public void processRecord(final TypedRecord<MessageRecord> command) {
-    messageRecord = command.getValue();
+    final MessageRecord messageRecord = command.getValue();
 
-    if (messageRecord.hasMessageId()
-        && messageState.exist(
-            messageRecord.getNameBuffer(),
-            messageRecord.getCorrelationKeyBuffer(),
-            messageRecord.getMessageIdBuffer(),
-            messageRecord.getTenantId())) {
-      final String rejectionReason =
-          String.format(
-              ALREADY_PUBLISHED_MESSAGE, bufferAsString(messageRecord.getMessageIdBuffer()));
+    if (isAlreadyPublished(messageRecord)) {
+      final String rejectionReason = getAlreadyPublishedReason(messageRecord);
 
       rejectionWriter.appendRejection(command, RejectionType.ALREADY_EXISTS, rejectionReason);
       responseWriter.writeRejectionOnCommand(
           command, RejectionType.ALREADY_EXISTS, rejectionReason);
     } else {
-      handleNewMessage(command);
+      final long messageKey = publishMessage(messageRecord, command.getTimestamp());
+      responseWriter.writeEventOnCommand(
+          messageKey, MessageIntent.PUBLISHED, messageRecord, command);
     }
   }
 
-  private void handleNewMessage(final TypedRecord<MessageRecord> command) {
-    messageKey = keyGenerator.nextKey();
-
-    // calculate the deadline based on the command's timestamp
-    messageRecord.setDeadline(command.getTimestamp() + messageRecord.getTimeToLive());
+  boolean isAlreadyPublished(final MessageRecord messageRecord) {
+    return messageRecord.hasMessageId()
+        && messageState.exist(
+            messageRecord.getNameBuffer(),
+            messageRecord.getCorrelationKeyBuffer(),
+            messageRecord.getMessageIdBuffer(),
+            messageRecord.getTenantId());
+  }
 
-    stateWriter.appendFollowUpEvent(messageKey, MessageIntent.PUBLISHED, command.getValue());
-    responseWriter.writeEventOnCommand(
-        messageKey, MessageIntent.PUBLISHED, command.getValue(), command);
+  static String getAlreadyPublishedReason(final MessageRecord messageRecord) {
+    return String.format(
+        ALREADY_PUBLISHED_MESSAGE, bufferAsString(messageRecord.getMessageIdBuffer()));
+  }
 
-    correlateToSubscriptions(messageKey, messageRecord);
-    correlateToMessageStartEvents(messageRecord);
+  /**
+   * Publishes the given message and correlates it to the open subscriptions and message start
+   * events. The deadline of the message is calculated based on the given timestamp of the command.
+   *
+   * @return the key of the published message
+   */
+  long publishMessage(final MessageRecord messageRecord, final long timestamp) {
+    final long messageKey = keyGenerator.nextKey();
 
-    if (messageRecord.getTimeToLive() <= 0L) {
-      // avoid that the message can be correlated again by writing the EXPIRED event as a follow-up
-      stateWriter.appendFollowUpEvent(messageKey, MessageIntent.EXPIRED, messageRecord);
-    }
-  }
+    // calculate the deadline based on the command's timestamp
+    messageRecord.setDeadline(timestamp + messageRecord.getTimeToLive());
 
-  private void correlateToSubscriptions(final long messageKey, final MessageRecord message) {
-    correlateBehavior.correlateToMessageEvents(
-        new MessageData(
-            messageKey,
-            message.getNameBuffer(),
-            message.getCorrelationKeyBuffer(),
-            message.getVariablesBuffer(),
-            message.getTenantId()));
-  }
+    stateWriter.appendFollowUpEvent(messageKey, MessageIntent.PUBLISHED, messageRecord);
 
-  private void correlateToMessageStartEvents(final MessageRecord messageRecord) {
-    correlateBehavior.correlateToMessageStartEvents(
+    final var messageData =
         new MessageData(
             messageKey,
             messageRecord.getNameBuffer(),
             messageRecord.getCorrelationKeyBuffer(),
             messageRecord.getVariablesBuffer(),
-            messageRecord.getTenantId()));
+            messageRecord.getTenantId());
+    correlateBehavior.correlateToMessageEvents(messageData);
+    correlateBehavior.correlateToMessageStartEvents(messageData);
+
+    if (messageRecord.getTimeToLive() <= 0L) {
+      // avoid that the message can be correlated again by writing the EXPIRED event as a follow-up
+      stateWriter.appendFollowUpEvent(messageKey, MessageIntent.EXPIRED, messageRecord);
+    }
+    return messageKey;
   }
 }
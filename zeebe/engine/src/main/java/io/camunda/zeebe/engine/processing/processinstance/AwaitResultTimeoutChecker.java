@@ -0,0 +1,67 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.processinstance;
+
+import io.camunda.zeebe.engine.state.immutable.ElementInstanceState;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
+import io.camunda.zeebe.scheduler.clock.ActorClock;
+import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
+import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
+import io.camunda.zeebe.stream.api.scheduling.Task;
+import io.camunda.zeebe.stream.api.scheduling.TaskResult;
+import io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder;
+import java.time.Duration;
+
+/**
+ * The Await Result Timeout Checker looks for requests awaiting the result of a process instance
+ * whose deadline has passed, and for each of those it writes an EXPIRE_AWAITING_RESULT command. The
+ * command is answered with a timeout rejection to the waiting request.
+ *
+ * <p>It is only scheduled if an await result timeout is configured. It runs on the stream processor
+ * actor, because it reads the in-memory registry of the awaited process instances. A request is
+ * visited again in the next run if its command was not processed yet, which the processor ignores.
+ */
+public final class AwaitResultTimeoutChecker implements StreamProcessorLifecycleAware, Task {
+
+  /** Specifies how often the checker runs, i.e. the fixed delay between runs. */
+  static final Duration CHECK_INTERVAL = Duration.ofSeconds(1);
+
+  private final ElementInstanceState elementInstanceState;
+  private final Duration awaitResultTimeout;
+  private final ProcessInstanceCreationRecord expireRecord = new ProcessInstanceCreationRecord();
+
+  public AwaitResultTimeoutChecker(
+      final ElementInstanceState elementInstanceState, final Duration awaitResultTimeout) {
+    this.elementInstanceState = elementInstanceState;
+    this.awaitResultTimeout = awaitResultTimeout;
+  }
+
+  @Override
+  public void onRecovered(final ReadonlyStreamProcessorContext context) {
+    if (!awaitResultTimeout.isZero()) {
+      context.getScheduleService().runAtFixedRate(CHECK_INTERVAL, this);
+    }
+  }
+
+  @Override
+  public TaskResult execute(final TaskResultBuilder taskResultBuilder) {
+    elementInstanceState.forEachExpiredAwaitResultRequest(
+        ActorClock.currentTimeMillis(),
+        processInstanceKey -> {
+          expireRecord.reset();
+          expireRecord.setProcessInstanceKey(processInstanceKey);
+          return taskResultBuilder.appendCommandRecord(
+              processInstanceKey,
+              ProcessInstanceCreationIntent.EXPIRE_AWAITING_RESULT,
+              expireRecord);
+        });
+
+    return taskResultBuilder.build();
+  }
+}
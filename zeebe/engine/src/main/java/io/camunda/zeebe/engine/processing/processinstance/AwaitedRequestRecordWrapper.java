@@ -0,0 +1,137 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.processinstance;
+
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import java.util.Map;
+
+/**
+ * Wraps a command that is not written by a client, so that it is answered to the request which
+ * awaits the result of a process instance. All other properties are those of the command.
+ */
+final class AwaitedRequestRecordWrapper implements TypedRecord<ProcessInstanceCreationRecord> {
+
+  private final TypedRecord<ProcessInstanceCreationRecord> command;
+  private final long requestId;
+  private final int requestStreamId;
+
+  AwaitedRequestRecordWrapper(
+      final TypedRecord<ProcessInstanceCreationRecord> command,
+      final long requestId,
+      final int requestStreamId) {
+    this.command = command;
+    this.requestId = requestId;
+    this.requestStreamId = requestStreamId;
+  }
+
+  @Override
+  public String toJson() {
+    return command.toJson();
+  }
+
+  @Override
+  public long getPosition() {
+    return command.getPosition();
+  }
+
+  @Override
+  public long getSourceRecordPosition() {
+    return command.getSourceRecordPosition();
+  }
+
+  @Override
+  public long getTimestamp() {
+    return command.getTimestamp();
+  }
+
+  @Override
+  public Intent getIntent() {
+    return command.getIntent();
+  }
+
+  @Override
+  public int getPartitionId() {
+    return command.getPartitionId();
+  }
+
+  @Override
+  public RecordType getRecordType() {
+    return command.getRecordType();
+  }
+
+  @Override
+  public RejectionType getRejectionType() {
+    return command.getRejectionType();
+  }
+
+  @Override
+  public String getRejectionReason() {
+    return command.getRejectionReason();
+  }
+
+  @Override
+  public String getBrokerVersion() {
+    return command.getBrokerVersion();
+  }
+
+  @Override
+  public Map<String, Object> getAuthorizations() {
+    return command.getAuthorizations();
+  }
+
+  @Override
+  public int getRecordVersion() {
+    return command.getRecordVersion();
+  }
+
+  @Override
+  public ValueType getValueType() {
+    return command.getValueType();
+  }
+
+  @Override
+  public long getOperationReference() {
+    return command.getOperationReference();
+  }
+
+  @Override
+  public Record<ProcessInstanceCreationRecord> copyOf() {
+    return this;
+  }
+
+  @Override
+  public long getKey() {
+    return command.getKey();
+  }
+
+  @Override
+  public ProcessInstanceCreationRecord getValue() {
+    return command.getValue();
+  }
+
+  @Override
+  public int getRequestStreamId() {
+    return requestStreamId;
+  }
+
+  @Override
+  public long getRequestId() {
+    return requestId;
+  }
+
+  @Override
+  public int getLength() {
+    return command.getLength();
+  }
+}
@@ -8,48 +8,120 @@
 package io.camunda.zeebe.engine.processing.processinstance;
 
 import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.processing.bpmn.BpmnStreamProcessor;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableActivity;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableMultiInstanceBody;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedCommandWriter;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
 import io.camunda.zeebe.engine.state.immutable.ElementInstanceState;
 import io.camunda.zeebe.engine.state.immutable.ProcessState;
+import io.camunda.zeebe.engine.state.instance.ElementInstance;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceBatchRecord;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceBatchIntent;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.stream.api.records.ExceededBatchRecordSizeException;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.stream.api.state.KeyGenerator;
 
+/**
+ * Activates the child instances of a parallel multi-instance body, as many as fit into the batch of
+ * records which results from processing the command. The remaining ones are activated by a
+ * follow-up command.
+ *
+ * <p>Where possible, the child instances are activated directly, writing the same events as
+ * processing an ACTIVATE_ELEMENT command for each of them would, but without writing and processing
+ * these commands one by one. Child instances whose records can't be estimated upfront are activated
+ * by commands instead.
+ */
 public final class ProcessInstanceBatchActivateProcessor
     implements TypedRecordProcessor<ProcessInstanceBatchRecord> {
+
+  /**
+   * The number of records which are written at least when activating a child instance directly,
+   * i.e. the ELEMENT_ACTIVATING and ELEMENT_ACTIVATED events, and the events of the element itself.
+   *
+   * <p>This is a lower bound, not an exact size. Elements that write more or larger records on
+   * activation (e.g. a job with large custom headers, message or timer subscriptions of attached
+   * boundary events, or the events of an embedded sub-process' start event) are only covered by
+   * {@link EngineConfiguration#BATCH_SIZE_CALCULATION_BUFFER}. If the records still exceed the
+   * batch, {@link #tryHandleError(TypedRecord, Throwable)} activates the child instances by
+   * commands instead.
+   */
+  private static final int DIRECT_ACTIVATION_RECORDS = 3;
+
   private final TypedCommandWriter commandWriter;
   private final KeyGenerator keyGenerator;
   private final ElementInstanceState elementInstanceState;
   private final ProcessState processState;
+  private final BpmnStreamProcessor bpmnStreamProcessor;
 
   public ProcessInstanceBatchActivateProcessor(
       final Writers writers,
       final KeyGenerator keyGenerator,
       final ElementInstanceState elementInstanceState,
-      final ProcessState processState) {
+      final ProcessState processState,
+      final BpmnStreamProcessor bpmnStreamProcessor) {
     commandWriter = writers.command();
     this.keyGenerator = keyGenerator;
     this.elementInstanceState = elementInstanceState;
     this.processState = processState;
+    this.bpmnStreamProcessor = bpmnStreamProcessor;
   }
 
   @Override
   public void processRecord(final TypedRecord<ProcessInstanceBatchRecord> record) {
+    final var parentElementInstance =
+        elementInstanceState.getInstance(record.getValue().getBatchElementInstanceKey());
+    final var childElement = getChildElement(parentElementInstance);
+    activateChildInstances(
+        record, parentElementInstance, childElement, canActivateDirectly(childElement));
+  }
+
+  /**
+   * Falls back to activating the child instances by ACTIVATE_ELEMENT commands if the directly
+   * activated child instances exceeded the batch, despite the estimation of {@link
+   * #DIRECT_ACTIVATION_RECORDS}. The processing of the command has been rolled back at this point,
+   * so no child instance was activated yet. A command is only a single record per child instance,
+   * which is what the estimation in {@link #canActivateChildInstance} expects, so the remaining
+   * child instances are split into follow-up batch commands as usual.
+   */
+  @Override
+  public ProcessingError tryHandleError(
+      final TypedRecord<ProcessInstanceBatchRecord> command, final Throwable error) {
+    if (error instanceof ExceededBatchRecordSizeException) {
+      // the directly activated child instances didn't fit into the batch, despite the estimation;
+      // activate them by commands instead, the processing was rolled back already
+      final var parentElementInstance =
+          elementInstanceState.getInstance(command.getValue().getBatchElementInstanceKey());
+      activateChildInstances(
+          command, parentElementInstance, getChildElement(parentElementInstance), false);
+      return ProcessingError.EXPECTED_ERROR;
+    }
+    return ProcessingError.UNEXPECTED_ERROR;
+  }
+
+  private void activateChildInstances(
+      final TypedRecord<ProcessInstanceBatchRecord> record,
+      final ElementInstance parentElementInstance,
+      final ExecutableActivity childElement,
+      final boolean activateDirectly) {
     final var recordValue = record.getValue();
 
-    final ProcessInstanceRecord childInstanceRecord = createChildInstanceRecord(recordValue);
+    final ProcessInstanceRecord childInstanceRecord =
+        createChildInstanceRecord(parentElementInstance, childElement);
     var amountOfChildInstancesToActivate = recordValue.getIndex();
     while (amountOfChildInstancesToActivate > 0) {
-      if (canWriteCommands(record, childInstanceRecord)) {
+      if (canActivateChildInstance(record, childInstanceRecord, activateDirectly)) {
         final long childInstanceKey = keyGenerator.nextKey();
-        commandWriter.appendFollowUpCommand(
-            childInstanceKey, ProcessInstanceIntent.ACTIVATE_ELEMENT, childInstanceRecord);
+        if (!activateDirectly
+            || !bpmnStreamProcessor.activateElement(childInstanceKey, childInstanceRecord)) {
+          // a rejected ACTIVATE_ELEMENT command shows why the child instance can't be activated
+          commandWriter.appendFollowUpCommand(
+              childInstanceKey, ProcessInstanceIntent.ACTIVATE_ELEMENT, childInstanceRecord);
+        }
         amountOfChildInstancesToActivate--;
       } else {
         writeFollowupBatchCommand(recordValue, amountOfChildInstancesToActivate);
@@ -58,10 +130,7 @@ public final class ProcessInstanceBatchActivateProcessor
     }
   }
 
-  private ProcessInstanceRecord createChildInstanceRecord(
-      final ProcessInstanceBatchRecord recordValue) {
-    final var parentElementInstance =
-        elementInstanceState.getInstance(recordValue.getBatchElementInstanceKey());
+  private ExecutableActivity getChildElement(final ElementInstance parentElementInstance) {
     final var processDefinition =
         processState
             .getProcessByKeyAndTenant(
@@ -71,8 +140,18 @@ public final class ProcessInstanceBatchActivateProcessor
 
     final var parentElement =
         processDefinition.getElementById(parentElementInstance.getValue().getElementId());
-    final var childElement = ((ExecutableMultiInstanceBody) parentElement).getInnerActivity();
+    return ((ExecutableMultiInstanceBody) parentElement).getInnerActivity();
+  }
+
+  private static boolean canActivateDirectly(final ExecutableActivity childElement) {
+    // input mappings and call activities can write variables of any size, which makes it impossible
+    // to estimate whether the records of the child instance fit into the batch
+    return childElement.getInputMappings().isEmpty()
+        && childElement.getElementType() != BpmnElementType.CALL_ACTIVITY;
+  }
 
+  private ProcessInstanceRecord createChildInstanceRecord(
+      final ElementInstance parentElementInstance, final ExecutableActivity childElement) {
     final var childInstanceRecord = new ProcessInstanceRecord();
     childInstanceRecord.wrap(parentElementInstance.getValue());
     childInstanceRecord
@@ -94,16 +173,21 @@ public final class ProcessInstanceBatchActivateProcessor
     commandWriter.appendFollowUpCommand(key, ProcessInstanceBatchIntent.ACTIVATE, nextBatchRecord);
   }
 
-  private boolean canWriteCommands(
+  private boolean canActivateChildInstance(
       final TypedRecord<ProcessInstanceBatchRecord> record,
-      final ProcessInstanceRecord childInstanceRecord) {
-    // We must have space in the batch to write both the ACTIVATE command as the potential
-    // follow-up batch command. An excessive 8Kb is added to account for metadata. This is way
-    // more than will be necessary.
-    final var expectedCommandLength =
+      final ProcessInstanceRecord childInstanceRecord,
+      final boolean activateDirectly) {
+    // We must have space in the batch to write both the records of the child instance as the
+    // potential follow-up batch command. An excessive 8Kb is added to account for metadata and the
+    // variables of the child instance. This is way more than will be necessary.
+    final var childInstanceLength =
+        activateDirectly
+            ? childInstanceRecord.getLength() * DIRECT_ACTIVATION_RECORDS
+            : childInstanceRecord.getLength();
+    final var expectedLength =
         record.getLength()
-            + childInstanceRecord.getLength()
+            + childInstanceLength
             + EngineConfiguration.BATCH_SIZE_CALCULATION_BUFFER;
-    return commandWriter.canWriteCommandOfLength(expectedCommandLength);
+    return commandWriter.canWriteCommandOfLength(expectedLength);
   }
 }
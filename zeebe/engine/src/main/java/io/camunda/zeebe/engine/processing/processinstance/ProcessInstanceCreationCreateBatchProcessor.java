@@ -0,0 +1,180 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.processinstance;
+
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.metrics.ProcessEngineMetrics;
+import io.camunda.zeebe.engine.processing.common.EventSubscriptionException;
+import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedRejectionWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
+import io.camunda.zeebe.engine.state.deployment.DeployedProcess;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationBatchInstance;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.api.state.KeyGenerator;
+
+/**
+ * Creates multiple instances of the same process, each with its own variables, from a single
+ * command. The process definition is looked up and validated once for the whole batch, and every
+ * created instance results in the same records as if it was created with a single {@link
+ * ProcessInstanceCreationIntent#CREATE} command.
+ *
+ * <p>If not all instances fit into the batch of records which results from processing the command,
+ * the instances which don't fit are rejected individually. The created instances are always a
+ * prefix of the requested ones, so a client can resubmit the remaining ones in a new command. The
+ * response contains the key or the rejection of every requested instance, in the requested order.
+ */
+public final class ProcessInstanceCreationCreateBatchProcessor
+    implements TypedRecordProcessor<ProcessInstanceCreationRecord> {
+
+  private static final String ERROR_MESSAGE_NO_INSTANCES =
+      "Expected to create at least one process instance, but none given";
+  private static final String ERROR_MESSAGE_EXCEEDED_BATCH_SIZE =
+      "Expected to create process instance, but the records of the previous instances of the batch"
+          + " already exceeded the maximum batch size; create it in another batch";
+
+  private final ProcessInstanceCreationRecord createdRecord = new ProcessInstanceCreationRecord();
+  private final ProcessInstanceCreationRecord responseRecord = new ProcessInstanceCreationRecord();
+
+  private final ProcessInstanceCreationCreateProcessor createProcessor;
+  private final KeyGenerator keyGenerator;
+  private final StateWriter stateWriter;
+  private final TypedRejectionWriter rejectionWriter;
+  private final TypedResponseWriter responseWriter;
+  private final ProcessEngineMetrics metrics;
+
+  public ProcessInstanceCreationCreateBatchProcessor(
+      final ProcessInstanceCreationCreateProcessor createProcessor,
+      final KeyGenerator keyGenerator,
+      final Writers writers,
+      final ProcessEngineMetrics metrics) {
+    this.createProcessor = createProcessor;
+    this.keyGenerator = keyGenerator;
+    stateWriter = writers.state();
+    rejectionWriter = writers.rejection();
+    responseWriter = writers.response();
+    this.metrics = metrics;
+  }
+
+  @Override
+  public void processRecord(final TypedRecord<ProcessInstanceCreationRecord> command) {
+    final ProcessInstanceCreationRecord record = command.getValue();
+    if (record.batchInstances().isEmpty()) {
+      reject(command, RejectionType.INVALID_ARGUMENT, ERROR_MESSAGE_NO_INSTANCES);
+      return;
+    }
+
+    createProcessor
+        .getValidProcess(record)
+        .ifRightOrLeft(
+            process -> createProcessInstances(command, process),
+            rejection -> reject(command, rejection.type(), rejection.reason()));
+  }
+
+  @Override
+  public ProcessingError tryHandleError(
+      final TypedRecord<ProcessInstanceCreationRecord> command, final Throwable error) {
+    if (error instanceof final EventSubscriptionException exception) {
+      // This exception is only thrown for ProcessInstanceCreationRecord with start instructions
+      reject(command, RejectionType.INVALID_ARGUMENT, exception.getMessage());
+      return ProcessingError.EXPECTED_ERROR;
+    }
+    return ProcessingError.UNEXPECTED_ERROR;
+  }
+
+  private void createProcessInstances(
+      final TypedRecord<ProcessInstanceCreationRecord> command, final DeployedProcess process) {
+    final ProcessInstanceCreationRecord record = command.getValue();
+
+    responseRecord.reset();
+    responseRecord
+        .setBpmnProcessId(process.getBpmnProcessId())
+        .setVersion(process.getVersion())
+        .setProcessDefinitionKey(process.getKey())
+        .setTenantId(process.getTenantId());
+
+    boolean exceededBatchSize = false;
+    for (final ProcessInstanceCreationBatchInstance instance : record.batchInstances()) {
+      final var result = responseRecord.batchInstances().add();
+
+      exceededBatchSize =
+          exceededBatchSize || !canWriteProcessInstance(record, instance, process);
+      if (exceededBatchSize) {
+        result.setRejection(
+            RejectionType.EXCEEDED_BATCH_RECORD_SIZE, ERROR_MESSAGE_EXCEEDED_BATCH_SIZE);
+        continue;
+      }
+
+      final long processInstanceKey =
+          createProcessor.createProcessInstance(record, instance.getVariablesBuffer(), process);
+      writeCreatedEvent(record, instance, process, processInstanceKey);
+      result.setProcessInstanceKey(processInstanceKey);
+    }
+
+    if (command.hasRequestMetadata()) {
+      responseWriter.writeEventOnCommand(
+          command.getKey(), ProcessInstanceCreationIntent.CREATED, responseRecord, command);
+    }
+  }
+
+  private void writeCreatedEvent(
+      final ProcessInstanceCreationRecord record,
+      final ProcessInstanceCreationBatchInstance instance,
+      final DeployedProcess process,
+      final long processInstanceKey) {
+    initCreatedRecord(record, instance, process, processInstanceKey);
+    stateWriter.appendFollowUpEvent(
+        keyGenerator.nextKey(), ProcessInstanceCreationIntent.CREATED, createdRecord);
+    metrics.processInstanceCreated(createdRecord);
+  }
+
+  private boolean canWriteProcessInstance(
+      final ProcessInstanceCreationRecord record,
+      final ProcessInstanceCreationBatchInstance instance,
+      final DeployedProcess process) {
+    // the expected length is based on the created event and the variable and process instance
+    // records of the instance, filled in as they would be written, as well as an 8 KB buffer for
+    // the metadata and the records which result from activating the start instructions
+    initCreatedRecord(record, instance, process, Long.MAX_VALUE);
+    final int expectedLength =
+        createdRecord.getLength()
+            + createProcessor.getProcessInstanceRecordsLength(
+                instance.getVariablesBuffer(), process)
+            + EngineConfiguration.BATCH_SIZE_CALCULATION_BUFFER;
+    return stateWriter.canWriteEventOfLength(expectedLength);
+  }
+
+  private void initCreatedRecord(
+      final ProcessInstanceCreationRecord record,
+      final ProcessInstanceCreationBatchInstance instance,
+      final DeployedProcess process,
+      final long processInstanceKey) {
+    createdRecord.reset();
+    createdRecord
+        .setBpmnProcessId(process.getBpmnProcessId())
+        .setVersion(process.getVersion())
+        .setProcessDefinitionKey(process.getKey())
+        .setTenantId(process.getTenantId())
+        .setProcessInstanceKey(processInstanceKey)
+        .setVariables(instance.getVariablesBuffer());
+    record.startInstructions().forEach(createdRecord::addStartInstruction);
+  }
+
+  private void reject(
+      final TypedRecord<ProcessInstanceCreationRecord> command,
+      final RejectionType type,
+      final String reason) {
+    rejectionWriter.appendRejection(command, type, reason);
+    responseWriter.writeRejectionOnCommand(command, type, reason);
+  }
+}
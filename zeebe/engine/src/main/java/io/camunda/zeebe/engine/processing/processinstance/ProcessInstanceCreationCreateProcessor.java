@@ -103,8 +103,7 @@ public final class ProcessInstanceCreationCreateProcessor
 
     final ProcessInstanceCreationRecord record = command.getValue();
 
-    getProcess(record)
-        .flatMap(process -> validateCommand(command.getValue(), process))
+    getValidProcess(record)
         .ifRightOrLeft(
             process -> createProcessInstance(controller, record, process),
             rejection -> controller.reject(rejection.type, rejection.reason));
@@ -126,14 +125,29 @@ public final class ProcessInstanceCreationCreateProcessor
     return ProcessingError.UNEXPECTED_ERROR;
   }
 
-  private void createProcessInstance(
-      final CommandControl<ProcessInstanceCreationRecord> controller,
+  /**
+   * Looks up the process definition of the given creation record, and validates that an instance of
+   * it can be created as requested.
+   */
+  Either<Rejection, DeployedProcess> getValidProcess(final ProcessInstanceCreationRecord record) {
+    return getProcess(record).flatMap(process -> validateCommand(record, process));
+  }
+
+  /**
+   * Creates a new instance of the given process with the given variables, and activates it
+   * according to the start instructions of the given creation record. The process must have been
+   * validated with {@link #getValidProcess(ProcessInstanceCreationRecord)} before.
+   *
+   * @return the key of the created process instance
+   */
+  long createProcessInstance(
       final ProcessInstanceCreationRecord record,
+      final DirectBuffer variables,
       final DeployedProcess process) {
     final long processInstanceKey = keyGenerator.nextKey();
 
     setVariablesFromDocument(
-        record,
+        variables,
         process.getKey(),
         processInstanceKey,
         process.getBpmnProcessId(),
@@ -146,6 +160,37 @@ public final class ProcessInstanceCreationCreateProcessor
     } else {
       activateElementsForStartInstructions(record.startInstructions(), process, processInstance);
     }
+    return processInstanceKey;
+  }
+
+  /**
+   * Returns the length of the variable records and of the process instance record which {@link
+   * #createProcessInstance(ProcessInstanceCreationRecord, DirectBuffer, DeployedProcess)} writes
+   * for an instance of the given process with the given variables. The records which result from
+   * activating the elements of start instructions are not included.
+   *
+   * <p>As the key of the instance is not known yet, the length is calculated with the largest
+   * possible key, so that it is never underestimated.
+   */
+  int getProcessInstanceRecordsLength(final DirectBuffer variables, final DeployedProcess process) {
+    final long processInstanceKey = Long.MAX_VALUE;
+    final int variablesLength =
+        variableBehavior.getLocalDocumentRecordsLength(
+            processInstanceKey,
+            process.getKey(),
+            processInstanceKey,
+            process.getBpmnProcessId(),
+            process.getTenantId(),
+            variables);
+    return variablesLength + initProcessInstanceRecord(process, processInstanceKey).getLength();
+  }
+
+  private void createProcessInstance(
+      final CommandControl<ProcessInstanceCreationRecord> controller,
+      final ProcessInstanceCreationRecord record,
+      final DeployedProcess process) {
+    final long processInstanceKey =
+        createProcessInstance(record, record.getVariablesBuffer(), process);
 
     record
         .setProcessInstanceKey(processInstanceKey)
@@ -301,7 +346,7 @@ public final class ProcessInstanceCreationCreateProcessor
   }
 
   private void setVariablesFromDocument(
-      final ProcessInstanceCreationRecord record,
+      final DirectBuffer variables,
       final long processDefinitionKey,
       final long processInstanceKey,
       final DirectBuffer bpmnProcessId,
@@ -313,7 +358,7 @@ public final class ProcessInstanceCreationCreateProcessor
         processInstanceKey,
         bpmnProcessId,
         tenantId,
-        record.getVariablesBuffer());
+        variables);
   }
 
   private ProcessInstanceRecord initProcessInstanceRecord(
@@ -402,7 +447,7 @@ public final class ProcessInstanceCreationCreateProcessor
         });
   }
 
-  private record Rejection(RejectionType type, String reason) {}
+  record Rejection(RejectionType type, String reason) {}
 
   private record ElementIdAndType(String elementId, BpmnElementType elementType) {}
 }
@@ -17,13 +17,16 @@ import io.camunda.zeebe.msgpack.value.StringValue;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
 import io.camunda.zeebe.protocol.record.RejectionType;
 import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
+import java.time.Duration;
 
 public final class ProcessInstanceCreationCreateWithResultProcessor
     implements CommandProcessor<ProcessInstanceCreationRecord> {
 
   private final ProcessInstanceCreationCreateProcessor createProcessor;
   private final MutableElementInstanceState elementInstanceState;
+  private final Duration awaitResultTimeout;
   private final AwaitProcessInstanceResultMetadata awaitResultMetadata =
       new AwaitProcessInstanceResultMetadata();
 
@@ -34,9 +37,11 @@ public final class ProcessInstanceCreationCreateWithResultProcessor
 
   public ProcessInstanceCreationCreateWithResultProcessor(
       final ProcessInstanceCreationCreateProcessor createProcessor,
-      final MutableElementInstanceState elementInstanceState) {
+      final MutableElementInstanceState elementInstanceState,
+      final Duration awaitResultTimeout) {
     this.createProcessor = createProcessor;
     this.elementInstanceState = elementInstanceState;
+    this.awaitResultTimeout = awaitResultTimeout;
   }
 
   @Override
@@ -83,7 +88,11 @@ public final class ProcessInstanceCreationCreateWithResultProcessor
       awaitResultMetadata
           .setRequestId(command.getRequestId())
           .setRequestStreamId(command.getRequestStreamId())
-          .setFetchVariables(fetchVariables);
+          .setFetchVariables(fetchVariables)
+          .setDeadline(
+              awaitResultTimeout.isZero()
+                  ? AwaitProcessInstanceResultMetadata.NO_DEADLINE
+                  : ActorClock.currentTimeMillis() + awaitResultTimeout.toMillis());
 
       elementInstanceState.setAwaitResultRequestMetadata(
           updatedValue.getProcessInstanceKey(), awaitResultMetadata);
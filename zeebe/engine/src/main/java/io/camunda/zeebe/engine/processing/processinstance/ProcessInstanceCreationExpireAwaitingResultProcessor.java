@@ -0,0 +1,79 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.processinstance;
+
+import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedRejectionWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
+import io.camunda.zeebe.engine.state.mutable.MutableElementInstanceState;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.scheduler.clock.ActorClock;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import java.time.Duration;
+
+/**
+ * Answers a request awaiting the result of a process instance with a timeout rejection, once its
+ * deadline has passed. The request is no longer awaited afterwards, so the result of the process
+ * instance is not sent when it completes.
+ */
+public final class ProcessInstanceCreationExpireAwaitingResultProcessor
+    implements TypedRecordProcessor<ProcessInstanceCreationRecord> {
+
+  private static final String ERROR_MESSAGE_TIMED_OUT =
+      "Expected to respond with the result of process instance with key '%d', but it was not"
+          + " completed within the await result timeout of %s";
+  private static final String ERROR_MESSAGE_NOT_AWAITED =
+      "Expected to expire the request awaiting the result of process instance with key '%d', but"
+          + " no expired request was found";
+
+  private final MutableElementInstanceState elementInstanceState;
+  private final TypedRejectionWriter rejectionWriter;
+  private final TypedResponseWriter responseWriter;
+  private final Duration awaitResultTimeout;
+
+  public ProcessInstanceCreationExpireAwaitingResultProcessor(
+      final MutableElementInstanceState elementInstanceState,
+      final Writers writers,
+      final Duration awaitResultTimeout) {
+    this.elementInstanceState = elementInstanceState;
+    rejectionWriter = writers.rejection();
+    responseWriter = writers.response();
+    this.awaitResultTimeout = awaitResultTimeout;
+  }
+
+  @Override
+  public void processRecord(final TypedRecord<ProcessInstanceCreationRecord> command) {
+    final long processInstanceKey = command.getValue().getProcessInstanceKey();
+    final var requestMetadata =
+        elementInstanceState.getAwaitResultRequestMetadata(processInstanceKey);
+
+    // the result was sent in the meantime, or the request was expired by a previous command
+    if (requestMetadata == null || !requestMetadata.isExpired(ActorClock.currentTimeMillis())) {
+      rejectionWriter.appendRejection(
+          command,
+          RejectionType.INVALID_STATE,
+          ERROR_MESSAGE_NOT_AWAITED.formatted(processInstanceKey));
+      return;
+    }
+
+    final long requestId = requestMetadata.getRequestId();
+    final int requestStreamId = requestMetadata.getRequestStreamId();
+    elementInstanceState.removeAwaitResultRequestMetadata(processInstanceKey);
+
+    final String reason = ERROR_MESSAGE_TIMED_OUT.formatted(processInstanceKey, awaitResultTimeout);
+    rejectionWriter.appendRejection(command, RejectionType.DEADLINE_EXCEEDED, reason);
+    // the command was written by the timeout checker, so the rejection is sent to the request
+    // that awaits the result instead
+    responseWriter.writeRejectionOnCommand(
+        new AwaitedRequestRecordWrapper(command, requestId, requestStreamId),
+        RejectionType.DEADLINE_EXCEEDED,
+        reason);
+  }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.signal;
+
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.processing.bpmn.behavior.BpmnStateBehavior;
+import io.camunda.zeebe.engine.processing.common.EventHandle;
+import io.camunda.zeebe.engine.processing.common.EventTriggerBehavior;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableCatchEvent;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedCommandWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
+import io.camunda.zeebe.engine.state.immutable.ElementInstanceState;
+import io.camunda.zeebe.engine.state.immutable.ProcessState;
+import io.camunda.zeebe.engine.state.immutable.ProcessingState;
+import io.camunda.zeebe.engine.state.immutable.SignalSubscriptionState;
+import io.camunda.zeebe.protocol.impl.record.value.signal.SignalRecord;
+import io.camunda.zeebe.protocol.impl.record.value.signal.SignalSubscriptionRecord;
+import io.camunda.zeebe.protocol.record.intent.SignalIntent;
+import io.camunda.zeebe.stream.api.state.KeyGenerator;
+import org.agrona.DirectBuffer;
+
+/**
+ * Triggers the subscriptions of a broadcasted signal on this partition. A signal may have more
+ * subscriptions than fit into the batch of records which results from processing a single command.
+ * Therefore, the subscriptions are triggered in the order of their keys, until the batch is full.
+ * The remaining ones are triggered by a {@link SignalIntent#TRIGGER_SUBSCRIPTIONS} command, which
+ * holds the key of the next subscription to trigger.
+ *
+ * <p>Subscription keys are generated by this partition, so subscriptions which are opened after the
+ * broadcast have higher keys than any key generated before. A key generated when the broadcast is
+ * processed is the exclusive upper bound of the subscriptions to trigger. It is carried along in
+ * the {@link SignalIntent#TRIGGER_SUBSCRIPTIONS} command, so a subscription opened in between the
+ * batches is not triggered by the broadcast, just like it wouldn't be if all subscriptions fit into
+ * a single batch.
+ */
+final class SignalSubscriptionTrigger {
+
+  private final SignalRecord nextSubscriptionsRecord = new SignalRecord();
+
+  private final StateWriter stateWriter;
+  private final TypedCommandWriter commandWriter;
+  private final KeyGenerator keyGenerator;
+  private final EventHandle eventHandle;
+  private final SignalSubscriptionState signalSubscriptionState;
+  private final ProcessState processState;
+  private final ElementInstanceState elementInstanceState;
+
+  private boolean hasTriggeredSubscription;
+
+  SignalSubscriptionTrigger(
+      final Writers writers,
+      final KeyGenerator keyGenerator,
+      final ProcessingState processingState,
+      final BpmnStateBehavior stateBehavior,
+      final EventTriggerBehavior eventTriggerBehavior) {
+    stateWriter = writers.state();
+    commandWriter = writers.command();
+    this.keyGenerator = keyGenerator;
+    signalSubscriptionState = processingState.getSignalSubscriptionState();
+    processState = processingState.getProcessState();
+    elementInstanceState = processingState.getElementInstanceState();
+    eventHandle =
+        new EventHandle(
+            keyGenerator,
+            processingState.getEventScopeInstanceState(),
+            writers,
+            processState,
+            eventTriggerBehavior,
+            stateBehavior);
+  }
+
+  /**
+   * Returns whether the signal has any subscriptions on this partition, without seeking the state.
+   */
+  boolean hasSubscriptions(final SignalRecord signal) {
+    return signalSubscriptionState.hasSubscriptions(
+        signal.getSignalNameBuffer(), signal.getTenantId());
+  }
+
+  /**
+   * Triggers the subscriptions of the signal, starting at the given subscription key. At least one
+   * subscription is triggered, even if it doesn't fit into the batch anymore.
+   *
+   * @param signalKey the key of the broadcasted signal
+   * @param signal the broadcasted signal
+   * @param startAtSubscriptionKey the key of the first subscription to trigger, or a negative value
+   *     to start at the first subscription
+   * @param subscriptionKeyUpperBound the exclusive upper bound of the keys of the subscriptions to
+   *     trigger, i.e. a key generated by this partition when the broadcast was processed
+   * @param triggerStartEvents whether the subscriptions of signal start events are triggered; start
+   *     events are only triggered on the partition which received the broadcast
+   */
+  void triggerSubscriptions(
+      final long signalKey,
+      final SignalRecord signal,
+      final long startAtSubscriptionKey,
+      final long subscriptionKeyUpperBound,
+      final boolean triggerStartEvents) {
+    hasTriggeredSubscription = false;
+
+    signalSubscriptionState.visitBySignalName(
+        signal.getSignalNameBuffer(),
+        signal.getTenantId(),
+        startAtSubscriptionKey,
+        (subscriptionKey, subscription) -> {
+          if (subscriptionKey >= subscriptionKeyUpperBound) {
+            // the subscription was opened after the broadcast
+            return false;
+          }
+
+          if (hasTriggeredSubscription && !canTriggerSubscription(signal)) {
+            writeNextSubscriptionsCommand(
+                signalKey, signal, subscriptionKey, subscriptionKeyUpperBound);
+            return false;
+          }
+
+          triggerSubscription(subscription.getRecord(), signal, triggerStartEvents);
+          hasTriggeredSubscription = true;
+          return true;
+        });
+  }
+
+  private boolean canTriggerSubscription(final SignalRecord signal) {
+    // the variables of the signal are written when triggering the subscription, and again in the
+    // command for the next subscriptions. An excessive 8Kb is added to account for the metadata
+    // and the other records which result from triggering the subscription.
+    final var expectedLength =
+        signal.getLength() * 2 + EngineConfiguration.BATCH_SIZE_CALCULATION_BUFFER;
+    return stateWriter.canWriteEventOfLength(expectedLength);
+  }
+
+  private void writeNextSubscriptionsCommand(
+      final long signalKey,
+      final SignalRecord signal,
+      final long subscriptionKey,
+      final long subscriptionKeyUpperBound) {
+    nextSubscriptionsRecord.reset();
+    nextSubscriptionsRecord.wrap(signal);
+    nextSubscriptionsRecord
+        .setSubscriptionKey(subscriptionKey)
+        .setSubscriptionKeyUpperBound(subscriptionKeyUpperBound);
+    commandWriter.appendFollowUpCommand(
+        signalKey, SignalIntent.TRIGGER_SUBSCRIPTIONS, nextSubscriptionsRecord);
+  }
+
+  private void triggerSubscription(
+      final SignalSubscriptionRecord subscription,
+      final SignalRecord signal,
+      final boolean triggerStartEvents) {
+    if (subscription.getCatchEventInstanceKey() == -1) {
+      if (triggerStartEvents) {
+        eventHandle.activateProcessInstanceForStartEvent(
+            subscription.getProcessDefinitionKey(),
+            keyGenerator.nextKey(),
+            subscription.getCatchEventIdBuffer(),
+            signal.getVariablesBuffer(),
+            signal.getTenantId());
+      }
+    } else {
+      activateElement(subscription, signal.getVariablesBuffer());
+    }
+  }
+
+  private void activateElement(
+      final SignalSubscriptionRecord subscription, final DirectBuffer variables) {
+    final var processDefinitionKey = subscription.getProcessDefinitionKey();
+    final var catchEventInstanceKey = subscription.getCatchEventInstanceKey();
+    final var catchEventId = subscription.getCatchEventIdBuffer();
+    final var catchEvent =
+        processState.getFlowElement(
+            processDefinitionKey,
+            subscription.getTenantId(),
+            catchEventId,
+            ExecutableCatchEvent.class);
+
+    final var elementInstance = elementInstanceState.getInstance(catchEventInstanceKey);
+    final var canTriggerElement = eventHandle.canTriggerElement(elementInstance, catchEventId);
+
+    if (canTriggerElement) {
+      eventHandle.activateElement(
+          catchEvent, catchEventInstanceKey, elementInstance.getValue(), variables);
+    }
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.signal;
+
+import io.camunda.zeebe.engine.processing.bpmn.behavior.BpmnStateBehavior;
+import io.camunda.zeebe.engine.processing.common.EventTriggerBehavior;
+import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
+import io.camunda.zeebe.engine.state.immutable.ProcessingState;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.record.value.signal.SignalRecord;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.api.state.KeyGenerator;
+
+/**
+ * Continues triggering the subscriptions of a broadcasted signal, when they didn't fit into the
+ * batch of the broadcast. The command is keyed by the broadcasted signal.
+ */
+public final class SignalTriggerSubscriptionsProcessor
+    implements TypedRecordProcessor<SignalRecord> {
+
+  private final int partitionId;
+  private final SignalSubscriptionTrigger subscriptionTrigger;
+
+  public SignalTriggerSubscriptionsProcessor(
+      final int partitionId,
+      final Writers writers,
+      final KeyGenerator keyGenerator,
+      final ProcessingState processingState,
+      final BpmnStateBehavior stateBehavior,
+      final EventTriggerBehavior eventTriggerBehavior) {
+    this.partitionId = partitionId;
+    subscriptionTrigger =
+        new SignalSubscriptionTrigger(
+            writers, keyGenerator, processingState, stateBehavior, eventTriggerBehavior);
+  }
+
+  @Override
+  public void processRecord(final TypedRecord<SignalRecord> command) {
+    final long signalKey = command.getKey();
+    // the signal key is generated by the partition which received the broadcast; the start events
+    // are only triggered there, and not on the partitions the broadcast was distributed to
+    final boolean triggerStartEvents = Protocol.decodePartitionId(signalKey) == partitionId;
+
+    final var signalRecord = command.getValue();
+    subscriptionTrigger.triggerSubscriptions(
+        signalKey,
+        signalRecord,
+        signalRecord.getSubscriptionKey(),
+        signalRecord.getSubscriptionKeyUpperBound(),
+        triggerStartEvents);
+  }
+}
@@ -81,6 +81,43 @@ public final class VariableBehavior {
     }
   }
 
+  /**
+   * Returns the total length of the variable records which {@link #mergeLocalDocument(long, long,
+   * long, DirectBuffer, String, DirectBuffer)} would write at most for the given document, without
+   * writing them.
+   *
+   * @param scopeKey the scope key for each variable
+   * @param processDefinitionKey the process key to be associated with each variable
+   * @param processInstanceKey the process instance key to be associated with each variable
+   * @param document the document to merge
+   * @return the summed length of the variable records
+   */
+  public int getLocalDocumentRecordsLength(
+      final long scopeKey,
+      final long processDefinitionKey,
+      final long processInstanceKey,
+      final DirectBuffer bpmnProcessId,
+      final String tenantId,
+      final DirectBuffer document) {
+    indexedDocument.index(document);
+    if (indexedDocument.isEmpty()) {
+      return 0;
+    }
+
+    variableRecord
+        .setScopeKey(scopeKey)
+        .setProcessDefinitionKey(processDefinitionKey)
+        .setProcessInstanceKey(processInstanceKey)
+        .setBpmnProcessId(bpmnProcessId)
+        .setTenantId(tenantId);
+    int length = 0;
+    for (final DocumentEntry entry : indexedDocument) {
+      applyEntryToRecord(entry);
+      length += variableRecord.getLength();
+    }
+    return length;
+  }
+
   /**
    * Merges the given document, propagating its changes from the bottom to the top of the scope
    * hierarchy.
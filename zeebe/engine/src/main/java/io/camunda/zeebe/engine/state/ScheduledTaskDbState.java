@@ -29,7 +29,13 @@ import io.camunda.zeebe.engine.state.message.DbProcessMessageSubscriptionState;
 import io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 
-/** Contains read-only state that can be accessed safely by scheduled tasks. */
+/**
+ * Contains read-only state that can be accessed safely by scheduled tasks.
+ *
+ * <p>The state is expected to be backed by a read-only transaction context (see {@link
+ * ZeebeDb#createReadOnlyContext()}), such that scheduled tasks running asynchronously to the stream
+ * processor read from a consistent snapshot of the database and can't modify it.
+ */
 public final class ScheduledTaskDbState implements ScheduledTaskState {
 
   private final DistributionState distributionState;
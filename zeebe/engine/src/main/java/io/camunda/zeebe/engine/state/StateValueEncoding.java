@@ -0,0 +1,80 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state;
+
+import io.camunda.zeebe.db.impl.ZeebeDbConstants;
+import java.nio.ByteOrder;
+import org.agrona.BitUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * Helpers for state values which are stored in a compact, fixed layout instead of as a MessagePack
+ * map. A MessagePack map repeats the name of every property in every value, and has to be parsed
+ * property by property on every read, which adds up for values that are written and read for almost
+ * every command.
+ *
+ * <p>A compact value starts with a version byte, followed by the fixed-size fields, followed by the
+ * variable-length fields, each prefixed with its length. The version byte is always smaller than
+ * {@code 0x80}, while a MessagePack map always starts with a byte of at least {@code 0x80}, so
+ * values which were written by a previous version can still be read and are converted the next time
+ * they are written.
+ */
+public final class StateValueEncoding {
+
+  public static final ByteOrder BYTE_ORDER = ZeebeDbConstants.ZB_DB_BYTE_ORDER;
+
+  private static final int MSGPACK_MAP_MIN_HEADER = 0x80;
+
+  private StateValueEncoding() {}
+
+  /**
+   * @return true if the value is stored in the compact layout with the given version, false if it
+   *     is stored as a MessagePack map
+   * @throws IllegalStateException if the value is stored in a compact layout with an unknown
+   *     version, e.g. one written by a newer version
+   */
+  public static boolean isCompact(
+      final DirectBuffer buffer, final int offset, final int length, final byte version) {
+    if (length == 0) {
+      return false;
+    }
+
+    final int header = buffer.getByte(offset) & 0xFF;
+    if (header >= MSGPACK_MAP_MIN_HEADER) {
+      return false;
+    }
+    if (header != version) {
+      throw new IllegalStateException(
+          "Expected state value to be encoded with version %d, but was %d"
+              .formatted(version, header));
+    }
+    return true;
+  }
+
+  /**
+   * @return the number of bytes required to write the given buffer with {@link
+   *     #writeBytes(MutableDirectBuffer, int, DirectBuffer)}
+   */
+  public static int lengthOfBytes(final DirectBuffer bytes) {
+    return BitUtil.SIZE_OF_INT + bytes.capacity();
+  }
+
+  /**
+   * Writes the length of the given buffer, followed by its bytes.
+   *
+   * @return the offset after the written bytes
+   */
+  public static int writeBytes(
+      final MutableDirectBuffer buffer, final int offset, final DirectBuffer bytes) {
+    final int length = bytes.capacity();
+    buffer.putInt(offset, length, BYTE_ORDER);
+    buffer.putBytes(offset + BitUtil.SIZE_OF_INT, bytes, 0, length);
+    return offset + BitUtil.SIZE_OF_INT + length;
+  }
+}
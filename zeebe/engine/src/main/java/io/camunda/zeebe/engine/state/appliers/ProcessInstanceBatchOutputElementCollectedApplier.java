@@ -0,0 +1,31 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.appliers;
+
+import io.camunda.zeebe.engine.state.TypedEventApplier;
+import io.camunda.zeebe.engine.state.mutable.MutableElementInstanceState;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceBatchRecord;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceBatchIntent;
+
+/** Applies state changes for `ProcessInstanceBatch:Output_Element_Collected` */
+final class ProcessInstanceBatchOutputElementCollectedApplier
+    implements TypedEventApplier<ProcessInstanceBatchIntent, ProcessInstanceBatchRecord> {
+
+  private final MutableElementInstanceState elementInstanceState;
+
+  public ProcessInstanceBatchOutputElementCollectedApplier(
+      final MutableElementInstanceState elementInstanceState) {
+    this.elementInstanceState = elementInstanceState;
+  }
+
+  @Override
+  public void applyState(final long key, final ProcessInstanceBatchRecord value) {
+    elementInstanceState.addMultiInstanceOutputElement(
+        value.getBatchElementInstanceKey(), (int) value.getIndex(), value.getOutputElementBuffer());
+  }
+}
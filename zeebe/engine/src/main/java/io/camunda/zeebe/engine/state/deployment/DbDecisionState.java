@@ -7,9 +7,6 @@
  */
 package io.camunda.zeebe.engine.state.deployment;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
@@ -25,6 +22,7 @@ import io.camunda.zeebe.dmn.DecisionEngine;
 import io.camunda.zeebe.dmn.DecisionEngineFactory;
 import io.camunda.zeebe.dmn.ParsedDecisionRequirementsGraph;
 import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.state.deployment.DeployedResourceCache.Region;
 import io.camunda.zeebe.engine.state.mutable.MutableDecisionState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DecisionRecord;
@@ -37,11 +35,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ExecutionException;
 import org.agrona.DirectBuffer;
 
 public final class DbDecisionState implements MutableDecisionState {
 
+  private static final int ESTIMATED_PARSED_DRG_SIZE_FACTOR = 4;
+
   private final DecisionEngine decisionEngine = DecisionEngineFactory.createDecisionEngine();
 
   private final DbString tenantIdKey;
@@ -93,12 +92,13 @@ public final class DbDecisionState implements MutableDecisionState {
           DbTenantAwareKey<DbCompositeKey<DbString, DbInt>>, DbForeignKey<DbTenantAwareKey<DbLong>>>
       decisionRequirementsKeyByIdAndVersion;
 
-  private final LoadingCache<TenantIdAndDrgKey, DeployedDrg> drgCache;
+  private final Region<TenantIdAndDrgKey, DeployedDrg> drgCache;
 
   public DbDecisionState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final TransactionContext transactionContext,
-      final EngineConfiguration config) {
+      final EngineConfiguration config,
+      final DeployedResourceCache deployedResourceCache) {
     tenantIdKey = new DbString();
     dbDecisionKey = new DbLong();
     tenantAwareDecisionKey =
@@ -179,17 +179,8 @@ public final class DbDecisionState implements MutableDecisionState {
             fkDecisionRequirements);
 
     drgCache =
-        CacheBuilder.newBuilder()
-            .maximumSize(config.getDrgCacheCapacity())
-            .build(
-                new CacheLoader<>() {
-                  @Override
-                  public DeployedDrg load(final TenantIdAndDrgKey tenantIdAndDrgKey)
-                      throws DrgNotFoundException {
-                    return findAndParseDecisionRequirementsByKeyFromDb(
-                        tenantIdAndDrgKey.drgKey, tenantIdAndDrgKey.tenantId);
-                  }
-                });
+        deployedResourceCache.createRegion(
+            "drg", config.getDrgCacheCapacity(), DbDecisionState::estimateWeight);
   }
 
   @Override
@@ -256,14 +247,14 @@ public final class DbDecisionState implements MutableDecisionState {
   }
 
   private DeployedDrg findAndParseDecisionRequirementsByKeyFromDb(
-      final long decisionRequirementsKey, final String tenantId) throws DrgNotFoundException {
+      final long decisionRequirementsKey, final String tenantId) {
     tenantIdKey.wrapString(tenantId);
     dbDecisionRequirementsKey.wrapLong(decisionRequirementsKey);
 
     final PersistedDecisionRequirements persistedDrg =
         decisionRequirementsByKey.get(tenantAwareDecisionRequirementsKey);
     if (persistedDrg == null) {
-      throw new DrgNotFoundException();
+      return null;
     }
 
     final PersistedDecisionRequirements copiedDrg = persistedDrg.copy();
@@ -277,13 +268,16 @@ public final class DbDecisionState implements MutableDecisionState {
 
   private Optional<DeployedDrg> findDeployedDrg(
       final long decisionRequirementsKey, final String tenantId) {
-    try {
-      // The cache automatically fetches it from the state if the key does not exist.
-      return Optional.of(drgCache.get(new TenantIdAndDrgKey(tenantId, decisionRequirementsKey)));
-    } catch (final ExecutionException e) {
-      // We reach this when we couldn't load the DRG from the state.
-      return Optional.empty();
-    }
+    return Optional.ofNullable(
+        drgCache.getOrLoad(
+            new TenantIdAndDrgKey(tenantId, decisionRequirementsKey),
+            key -> findAndParseDecisionRequirementsByKeyFromDb(key.drgKey, key.tenantId)));
+  }
+
+  private static int estimateWeight(final DeployedDrg drg) {
+    // the parsed DRG holds the DMN model of the resource, with its compiled expressions, which is
+    // a multiple of the size of the resource itself
+    return drg.getResource().capacity() * ESTIMATED_PARSED_DRG_SIZE_FACTOR;
   }
 
   /**
@@ -507,10 +501,4 @@ public final class DbDecisionState implements MutableDecisionState {
   }
 
   private record TenantIdAndDrgKey(String tenantId, Long drgKey) {}
-
-  /**
-   * This exception is thrown when the drgCache can't find a DRG in the state for a given key. This
-   * must be a checked exception, because of the way the {@link LoadingCache} works.
-   */
-  private static final class DrgNotFoundException extends Exception {}
 }
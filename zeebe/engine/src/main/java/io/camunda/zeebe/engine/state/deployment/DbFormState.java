@@ -7,8 +7,6 @@
  */
 package io.camunda.zeebe.engine.state.deployment;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
@@ -18,6 +16,7 @@ import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
 import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.state.deployment.DeployedResourceCache.Region;
 import io.camunda.zeebe.engine.state.mutable.MutableFormState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.FormRecord;
@@ -40,12 +39,13 @@ public class DbFormState implements MutableFormState {
   private final DbTenantAwareKey<DbCompositeKey<DbString, DbLong>> tenantAwareIdAndVersionKey;
   private final ColumnFamily<DbTenantAwareKey<DbCompositeKey<DbString, DbLong>>, PersistedForm>
       formByIdAndVersionColumnFamily;
-  private final Cache<TenantIdAndFormId, PersistedForm> formsByTenantIdAndIdCache;
+  private final Region<TenantIdAndFormId, PersistedForm> formsByTenantIdAndIdCache;
 
   public DbFormState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final TransactionContext transactionContext,
-      final EngineConfiguration config) {
+      final EngineConfiguration config,
+      final DeployedResourceCache deployedResourceCache) {
     tenantIdKey = new DbString();
     dbFormKey = new DbLong();
     tenantAwareFormKey = new DbTenantAwareKey<>(tenantIdKey, dbFormKey, PlacementType.PREFIX);
@@ -71,7 +71,8 @@ public class DbFormState implements MutableFormState {
             DEFAULT_VERSION_VALUE, zeebeDb, ZbColumnFamilies.FORM_VERSION, transactionContext);
 
     formsByTenantIdAndIdCache =
-        CacheBuilder.newBuilder().maximumSize(config.getFormCacheCapacity()).build();
+        deployedResourceCache.createRegion(
+            "form", config.getFormCacheCapacity(), PersistedForm::getLength);
   }
 
   @Override
@@ -127,17 +128,10 @@ public class DbFormState implements MutableFormState {
   public Optional<PersistedForm> findLatestFormById(
       final DirectBuffer formId, final String tenantId) {
     tenantIdKey.wrapString(tenantId);
-    final Optional<PersistedForm> cachedForm = getFormFromCache(tenantId, formId);
-    if (cachedForm.isPresent()) {
-      return cachedForm;
-    }
-
-    final PersistedForm persistedForm = getPersistedFormById(formId, tenantId);
-    if (persistedForm == null) {
-      return Optional.empty();
-    }
-    formsByTenantIdAndIdCache.put(new TenantIdAndFormId(tenantId, formId), persistedForm);
-    return Optional.of(persistedForm);
+    return Optional.ofNullable(
+        formsByTenantIdAndIdCache.getOrLoad(
+            new TenantIdAndFormId(tenantId, formId),
+            key -> getPersistedFormById(formId, tenantId)));
   }
 
   @Override
@@ -170,11 +164,5 @@ public class DbFormState implements MutableFormState {
     return persistedForm.copy();
   }
 
-  private Optional<PersistedForm> getFormFromCache(
-      final String tenantId, final DirectBuffer formId) {
-    return Optional.ofNullable(
-        formsByTenantIdAndIdCache.getIfPresent(new TenantIdAndFormId(tenantId, formId)));
-  }
-
   private record TenantIdAndFormId(String tenantId, DirectBuffer formId) {}
 }
@@ -26,6 +26,7 @@ import io.camunda.zeebe.engine.processing.deployment.model.BpmnFactory;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableFlowElement;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
 import io.camunda.zeebe.engine.processing.deployment.model.transformation.BpmnTransformer;
+import io.camunda.zeebe.engine.state.deployment.DeployedResourceCache.Region;
 import io.camunda.zeebe.engine.state.deployment.PersistedProcess.PersistedProcessState;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessState;
 import io.camunda.zeebe.model.bpmn.Bpmn;
@@ -48,11 +49,24 @@ public final class DbProcessState implements MutableProcessState {
 
   private static final int DEFAULT_VERSION_VALUE = 0;
 
+  /**
+   * A rough estimate of the memory used by a transformed flow element, including its compiled
+   * expressions and mappings, which is added to the size of the persisted process.
+   */
+  private static final int ESTIMATED_FLOW_ELEMENT_WEIGHT = 2 * 1024;
+
   private final BpmnTransformer transformer = BpmnFactory.createTransformer();
   private final ProcessRecord processRecordForDeployments = new ProcessRecord();
-  private final Cache<TenantIdAndProcessIdAndVersion, DeployedProcess>
-      processesByTenantAndProcessIdAndVersionCache;
-  private final Cache<TenantIdAndProcessDefinitionKey, DeployedProcess> processByTenantAndKeyCache;
+
+  /**
+   * Maps the process id and version to the process definition key, to look up the process in the
+   * {@link #processByTenantAndKeyCache}; the processes are only cached there, so they are only
+   * weighed once.
+   */
+  private final Cache<TenantIdAndProcessIdAndVersion, Long>
+      processKeyByTenantAndProcessIdAndVersionCache;
+
+  private final Region<TenantIdAndProcessDefinitionKey, DeployedProcess> processByTenantAndKeyCache;
 
   /** [tenant id | process definition key] => process */
   private final ColumnFamily<DbTenantAwareKey<DbLong>, PersistedProcess> processColumnFamily;
@@ -82,7 +96,8 @@ public final class DbProcessState implements MutableProcessState {
   public DbProcessState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final TransactionContext transactionContext,
-      final EngineConfiguration config) {
+      final EngineConfiguration config,
+      final DeployedResourceCache deployedResourceCache) {
     processDefinitionKey = new DbLong();
     persistedProcess = new PersistedProcess();
     tenantIdKey = new DbString();
@@ -121,12 +136,13 @@ public final class DbProcessState implements MutableProcessState {
             digest);
 
     processByTenantAndKeyCache =
-        CacheBuilder.newBuilder().maximumSize(config.getProcessCacheCapacity()).build();
+        deployedResourceCache.createRegion(
+            "process", config.getProcessCacheCapacity(), DbProcessState::estimateWeight);
 
     versionManager =
         new VersionManager(
             DEFAULT_VERSION_VALUE, zeebeDb, ZbColumnFamilies.PROCESS_VERSION, transactionContext);
-    processesByTenantAndProcessIdAndVersionCache =
+    processKeyByTenantAndProcessIdAndVersionCache =
         CacheBuilder.newBuilder().maximumSize(config.getProcessCacheCapacity()).build();
   }
 
@@ -186,7 +202,7 @@ public final class DbProcessState implements MutableProcessState {
             processRecord.getTenantId(),
             processRecord.getBpmnProcessIdBuffer(),
             processRecord.getVersion());
-    processesByTenantAndProcessIdAndVersionCache.invalidate(tenantIdAndProcessIdAndVersion);
+    processKeyByTenantAndProcessIdAndVersionCache.invalidate(tenantIdAndProcessIdAndVersion);
 
     final var key =
         new TenantIdAndProcessDefinitionKey(
@@ -227,8 +243,17 @@ public final class DbProcessState implements MutableProcessState {
     versionManager.addResourceVersion(bpmnProcessId, version, processRecord.getTenantId());
   }
 
-  // is called on getters, if process is not in memory
-  private DeployedProcess updateInMemoryState(final PersistedProcess persistedProcess) {
+  // is called if the persisted process changed, to replace the cached process
+  private void updateInMemoryState(final PersistedProcess persistedProcess) {
+    final DeployedProcess deployedProcess = transform(persistedProcess);
+    final var key =
+        new TenantIdAndProcessDefinitionKey(
+            deployedProcess.getTenantId(), deployedProcess.getKey());
+    processByTenantAndKeyCache.put(key, deployedProcess);
+    addProcessKeyToInMemoryState(deployedProcess);
+  }
+
+  private DeployedProcess transform(final PersistedProcess persistedProcess) {
 
     // we have to copy to store this in cache
     final byte[] bytes = new byte[persistedProcess.getLength()];
@@ -255,11 +280,7 @@ public final class DbProcessState implements MutableProcessState {
                                 + " but after transformation no such executable process could be found.",
                             persistedProcess.getKey())));
 
-    final DeployedProcess deployedProcess = new DeployedProcess(executableProcess, copiedProcess);
-
-    addProcessToInMemoryState(deployedProcess);
-
-    return deployedProcess;
+    return new DeployedProcess(executableProcess, copiedProcess);
   }
 
   private BpmnModelInstance readModelInstanceFromBuffer(final DirectBuffer buffer) {
@@ -268,30 +289,28 @@ public final class DbProcessState implements MutableProcessState {
     }
   }
 
-  private void addProcessToInMemoryState(final DeployedProcess deployedProcess) {
-    final DirectBuffer bpmnProcessId = deployedProcess.getBpmnProcessId();
-
-    final var key =
-        new TenantIdAndProcessDefinitionKey(
-            deployedProcess.getTenantId(), deployedProcess.getKey());
-    processByTenantAndKeyCache.put(key, deployedProcess);
-
+  private void addProcessKeyToInMemoryState(final DeployedProcess deployedProcess) {
     final var tenantIdAndProcessIdAndVersion =
         new TenantIdAndProcessIdAndVersion(
-            deployedProcess.getTenantId(), bpmnProcessId, deployedProcess.getVersion());
+            deployedProcess.getTenantId(),
+            deployedProcess.getBpmnProcessId(),
+            deployedProcess.getVersion());
 
-    processesByTenantAndProcessIdAndVersionCache.put(
-        tenantIdAndProcessIdAndVersion, deployedProcess);
+    processKeyByTenantAndProcessIdAndVersionCache.put(
+        tenantIdAndProcessIdAndVersion, deployedProcess.getKey());
+  }
+
+  private static int estimateWeight(final DeployedProcess deployedProcess) {
+    return deployedProcess.getResource().capacity()
+        + deployedProcess.getProcess().getFlowElements().size() * ESTIMATED_FLOW_ELEMENT_WEIGHT;
   }
 
   @Override
   public DeployedProcess getLatestProcessVersionByProcessId(
       final DirectBuffer processIdBuffer, final String tenantId) {
     final long latestVersion = versionManager.getLatestResourceVersion(processIdBuffer, tenantId);
-    final var tenantIdAndProcessIdAndVersion =
-        new TenantIdAndProcessIdAndVersion(tenantId, processIdBuffer, latestVersion);
     final var cachedProcess =
-        processesByTenantAndProcessIdAndVersionCache.getIfPresent(tenantIdAndProcessIdAndVersion);
+        getCachedProcessByProcessIdAndVersion(processIdBuffer, latestVersion, tenantId);
 
     if (cachedProcess == null) {
       processId.wrapBuffer(processIdBuffer);
@@ -303,10 +322,7 @@ public final class DbProcessState implements MutableProcessState {
   @Override
   public DeployedProcess getProcessByProcessIdAndVersion(
       final DirectBuffer processId, final int version, final String tenantId) {
-    final var tenantIdAndProcessIdAndVersion =
-        new TenantIdAndProcessIdAndVersion(tenantId, processId, version);
-    final var cachedProcess =
-        processesByTenantAndProcessIdAndVersionCache.getIfPresent(tenantIdAndProcessIdAndVersion);
+    final var cachedProcess = getCachedProcessByProcessIdAndVersion(processId, version, tenantId);
 
     if (cachedProcess == null) {
       return lookupPersistenceState(processId, version, tenantId);
@@ -316,14 +332,9 @@ public final class DbProcessState implements MutableProcessState {
 
   @Override
   public DeployedProcess getProcessByKeyAndTenant(final long key, final String tenantId) {
-    final var tenantIdAndProcessDefinitionKey = new TenantIdAndProcessDefinitionKey(tenantId, key);
-    final DeployedProcess cachedProcess =
-        processByTenantAndKeyCache.getIfPresent(tenantIdAndProcessDefinitionKey);
-
-    if (cachedProcess == null) {
-      return lookupPersistenceStateForProcessByKey(key, tenantId);
-    }
-    return cachedProcess;
+    return processByTenantAndKeyCache.getOrLoad(
+        new TenantIdAndProcessDefinitionKey(tenantId, key),
+        ignored -> lookupPersistenceStateForProcessByKey(key, tenantId));
   }
 
   @Override
@@ -381,7 +392,7 @@ public final class DbProcessState implements MutableProcessState {
   @Override
   public void clearCache() {
     processByTenantAndKeyCache.invalidateAll();
-    processesByTenantAndProcessIdAndVersionCache.invalidateAll();
+    processKeyByTenantAndProcessIdAndVersionCache.invalidateAll();
     versionManager.clear();
   }
 
@@ -394,7 +405,7 @@ public final class DbProcessState implements MutableProcessState {
         processByIdAndVersionColumnFamily.get(tenantAwareProcessIdAndVersionKey);
 
     if (processWithVersionAndId != null) {
-      return updateInMemoryState(processWithVersionAndId);
+      return getOrTransform(processWithVersionAndId);
     }
     return null;
   }
@@ -409,14 +420,7 @@ public final class DbProcessState implements MutableProcessState {
         processByIdAndVersionColumnFamily.get(tenantAwareProcessIdAndVersionKey);
 
     if (processWithVersionAndId != null) {
-      updateInMemoryState(processWithVersionAndId);
-
-      final var tenantIdAndProcessIdAndVersion =
-          new TenantIdAndProcessIdAndVersion(tenantId, processIdBuffer, version);
-
-      // return the cached copy
-      return processesByTenantAndProcessIdAndVersionCache.getIfPresent(
-          tenantIdAndProcessIdAndVersion);
+      return getOrTransform(processWithVersionAndId);
     }
     // does not exist in persistence and in memory state
     return null;
@@ -430,15 +434,39 @@ public final class DbProcessState implements MutableProcessState {
     final PersistedProcess processWithKey =
         processColumnFamily.get(tenantAwareProcessDefinitionKey);
     if (processWithKey != null) {
-      updateInMemoryState(processWithKey);
-
-      final var key = new TenantIdAndProcessDefinitionKey(tenantId, processDefinitionKey);
-      return processByTenantAndKeyCache.getIfPresent(key);
+      final DeployedProcess deployedProcess = transform(processWithKey);
+      addProcessKeyToInMemoryState(deployedProcess);
+      return deployedProcess;
     }
     // does not exist in persistence and in memory state
     return null;
   }
 
+  private DeployedProcess getCachedProcessByProcessIdAndVersion(
+      final DirectBuffer processIdBuffer, final long version, final String tenantId) {
+    final Long cachedKey =
+        processKeyByTenantAndProcessIdAndVersionCache.getIfPresent(
+            new TenantIdAndProcessIdAndVersion(tenantId, processIdBuffer, version));
+    if (cachedKey == null) {
+      return null;
+    }
+    return processByTenantAndKeyCache.get(new TenantIdAndProcessDefinitionKey(tenantId, cachedKey));
+  }
+
+  /**
+   * Returns the cached process of the given persisted process, which was looked up by its id and
+   * version, or transforms and caches it if the process is not cached by its key either.
+   */
+  private DeployedProcess getOrTransform(final PersistedProcess persistedProcess) {
+    final var key =
+        new TenantIdAndProcessDefinitionKey(
+            persistedProcess.getTenantId(), persistedProcess.getKey());
+    final DeployedProcess deployedProcess =
+        processByTenantAndKeyCache.getOrLoad(key, ignored -> transform(persistedProcess));
+    addProcessKeyToInMemoryState(deployedProcess);
+    return deployedProcess;
+  }
+
   record TenantIdAndProcessIdAndVersion(String tenantId, DirectBuffer processId, long Version) {}
 
   record TenantIdAndProcessDefinitionKey(String tenantId, long processDefinitionKey) {}
@@ -0,0 +1,231 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import io.camunda.zeebe.engine.metrics.DeployedResourceCacheMetrics;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * A least-recently-used cache of parsed deployed resources, e.g. processes, decision requirements
+ * graphs and forms, which is bounded by the estimated memory of its entries instead of their
+ * number. Parsed resources vary from a few kilobytes to several megabytes, so a bound on the number
+ * of entries either evicts small resources needlessly or holds on to too much memory for large
+ * ones.
+ *
+ * <p>The cache is split into {@link Region regions}, one per kind of resource, which share the same
+ * memory budget. Each region estimates the memory of its entries with its own weigher, and may
+ * additionally bound its number of entries. When the budget is exceeded, the least recently used
+ * entries of any region are evicted, except for the most recently added one, so that a single
+ * resource larger than the whole budget is still parsed only once while it is used.
+ *
+ * <p>Like the state it belongs to, the cache is not thread-safe. A partition therefore has one
+ * cache for its processing state and another one for its query service, which reads the state
+ * concurrently. Both split the memory budget of the partition, and are told apart by the {@code
+ * state} label of the metrics.
+ */
+public final class DeployedResourceCache {
+
+  private static final String PROCESSING_STATE = "processing";
+  private static final String QUERY_STATE = "query";
+
+  /** The query service only looks up a few processes, so it gets a small part of the budget. */
+  private static final int QUERY_BUDGET_DIVISOR = 16;
+
+  private final long memoryBudget;
+  private final DeployedResourceCacheMetrics metrics;
+  private final LinkedHashMap<EntryKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long weight;
+
+  /**
+   * @param partitionId the partition the cache belongs to, for the metrics
+   * @param state the state the cache belongs to, for the metrics
+   * @param memoryBudget the estimated memory in bytes that the entries of all regions may use; if
+   *     0, nothing is cached
+   */
+  DeployedResourceCache(final int partitionId, final String state, final long memoryBudget) {
+    this.memoryBudget = memoryBudget;
+    metrics = new DeployedResourceCacheMetrics(partitionId, state);
+  }
+
+  /**
+   * @param partitionMemoryBudget the estimated memory in bytes that all caches of the partition may
+   *     use together
+   * @return the cache of the processing state of the partition
+   */
+  public static DeployedResourceCache forProcessingState(
+      final int partitionId, final long partitionMemoryBudget) {
+    return new DeployedResourceCache(
+        partitionId,
+        PROCESSING_STATE,
+        partitionMemoryBudget - partitionMemoryBudget / QUERY_BUDGET_DIVISOR);
+  }
+
+  /**
+   * @param partitionMemoryBudget the estimated memory in bytes that all caches of the partition may
+   *     use together
+   * @return the cache of the state read by the query service of the partition
+   */
+  public static DeployedResourceCache forQueryState(
+      final int partitionId, final long partitionMemoryBudget) {
+    return new DeployedResourceCache(
+        partitionId, QUERY_STATE, partitionMemoryBudget / QUERY_BUDGET_DIVISOR);
+  }
+
+  /**
+   * @param name the name of the region, used as label of the metrics
+   * @param maxEntries the maximum number of entries of the region; if 0, nothing is cached
+   * @param weigher estimates the memory in bytes used by an entry of the region
+   */
+  public <K, V> Region<K, V> createRegion(
+      final String name, final int maxEntries, final ToIntFunction<V> weigher) {
+    return new Region<>(name, maxEntries, weigher);
+  }
+
+  long getWeight() {
+    return weight;
+  }
+
+  private void remove(final Iterator<Entry> iterator, final Entry entry) {
+    iterator.remove();
+    removed(entry);
+  }
+
+  private void removed(final Entry entry) {
+    weight -= entry.weight();
+    entry.region().size--;
+  }
+
+  private void evict() {
+    final Iterator<Entry> iterator = entries.values().iterator();
+    while (weight > memoryBudget && entries.size() > 1) {
+      final Entry eldest = iterator.next();
+      remove(iterator, eldest);
+      metrics.evicted(eldest.region().name);
+    }
+    metrics.setWeight(weight);
+  }
+
+  private void evictEldestOf(final Region<?, ?> region) {
+    final Iterator<Entry> iterator = entries.values().iterator();
+    while (iterator.hasNext()) {
+      final Entry entry = iterator.next();
+      if (entry.region() == region) {
+        remove(iterator, entry);
+        metrics.evicted(region.name);
+        return;
+      }
+    }
+  }
+
+  /** A part of the cache for one kind of resource, e.g. processes by their key. */
+  public final class Region<K, V> {
+
+    private final String name;
+    private final int maxEntries;
+    private final ToIntFunction<V> weigher;
+    private int size;
+
+    private Region(final String name, final int maxEntries, final ToIntFunction<V> weigher) {
+      this.name = name;
+      this.maxEntries = maxEntries;
+      this.weigher = weigher;
+    }
+
+    /**
+     * @return the cached value for the given key, or null if it is not cached
+     */
+    public V get(final K key) {
+      final Entry entry = entries.get(new EntryKey(this, key));
+      if (entry == null) {
+        metrics.miss(name);
+        return null;
+      }
+
+      metrics.hit(name);
+      return value(entry);
+    }
+
+    /**
+     * Returns the cached value for the given key, or loads and caches it if it is not cached.
+     *
+     * @param loader loads the value from the state; returns null if it doesn't exist, in which case
+     *     nothing is cached
+     * @return the cached or loaded value, or null if it doesn't exist
+     */
+    public V getOrLoad(final K key, final Function<K, V> loader) {
+      final V cachedValue = get(key);
+      if (cachedValue != null) {
+        return cachedValue;
+      }
+
+      final long start = System.nanoTime();
+      final V loadedValue = loader.apply(key);
+      metrics.loaded(name, System.nanoTime() - start);
+
+      if (loadedValue != null) {
+        put(key, loadedValue);
+      }
+      return loadedValue;
+    }
+
+    /** Caches the given value, replacing the previously cached value of the key. */
+    public void put(final K key, final V value) {
+      invalidate(key);
+      if (memoryBudget <= 0 || maxEntries <= 0) {
+        return;
+      }
+
+      final Entry entry = new Entry(this, value, weigher.applyAsInt(value));
+      entries.put(new EntryKey(this, key), entry);
+      weight += entry.weight();
+      size++;
+
+      if (size > maxEntries) {
+        evictEldestOf(this);
+      }
+      evict();
+    }
+
+    public void invalidate(final K key) {
+      final Entry entry = entries.remove(new EntryKey(this, key));
+      if (entry != null) {
+        removed(entry);
+        metrics.setWeight(weight);
+      }
+    }
+
+    public void invalidateAll() {
+      final Iterator<Map.Entry<EntryKey, Entry>> iterator = entries.entrySet().iterator();
+      while (iterator.hasNext() && size > 0) {
+        final Entry entry = iterator.next().getValue();
+        if (entry.region() == this) {
+          iterator.remove();
+          removed(entry);
+        }
+      }
+      metrics.setWeight(weight);
+    }
+
+    int size() {
+      return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V value(final Entry entry) {
+      return (V) entry.value();
+    }
+  }
+
+  private record EntryKey(Region<?, ?> region, Object key) {}
+
+  private record Entry(Region<?, ?> region, Object value, int weight) {}
+}
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.engine.state.distribution;
 
 import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.KeyValuePairVisitor;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
@@ -136,33 +137,51 @@ public class DbDistributionState implements MutableDistributionState {
 
   @Override
   public void foreachPendingDistribution(final PendingDistributionVisitor visitor) {
+    pendingDistributionColumnFamily.whileTrue(
+        createPendingDistributionVisitor(
+            (distributionKey, pendingDistribution) -> {
+              visitor.visit(distributionKey, pendingDistribution);
+              return true;
+            }));
+  }
+
+  @Override
+  public void foreachPendingDistribution(
+      final long startAtDistributionKey, final PendingDistributionWhileTrueVisitor visitor) {
+    // partition ids are positive, so this is the first key of the distribution
+    distributionKey.wrapLong(startAtDistributionKey);
+    partitionKey.wrapInt(0);
+    pendingDistributionColumnFamily.whileTrue(
+        distributionPartitionKey, createPendingDistributionVisitor(visitor));
+  }
+
+  private KeyValuePairVisitor<DbCompositeKey<DbForeignKey<DbLong>, DbInt>, DbNil>
+      createPendingDistributionVisitor(final PendingDistributionWhileTrueVisitor visitor) {
     final var lastDistributionKey = new MutableLong(0);
     final var lastPendingDistribution = new MutableReference<CommandDistributionRecord>();
 
-    pendingDistributionColumnFamily.forEach(
-        (compositeKey, nil) -> {
-          final var distributionKey = compositeKey.first().inner().getValue();
-          final var partitionId = compositeKey.second().getValue();
-
-          // we may encounter the same distribution key for several partitions, we can reuse it
-          if (lastDistributionKey.value != distributionKey) {
-            final var pendingDistribution =
-                getCommandDistributionRecord(distributionKey, partitionId);
-            if (pendingDistribution == null) {
-              LOG.warn(
-                  "Expected to find a pending distribution with key {} for a partition {}, but none found. The state is inconsistent",
-                  distributionKey,
-                  partitionId);
-              // we ignore this currently
-              return;
-            }
-            lastDistributionKey.set(distributionKey);
-            lastPendingDistribution.set(pendingDistribution);
-          }
-
-          final var commandDistributionRecord = new CommandDistributionRecord();
-          commandDistributionRecord.wrap(lastPendingDistribution.get()).setPartitionId(partitionId);
-          visitor.visit(distributionKey, commandDistributionRecord);
-        });
+    return (compositeKey, nil) -> {
+      final var distributionKey = compositeKey.first().inner().getValue();
+      final var partitionId = compositeKey.second().getValue();
+
+      // we may encounter the same distribution key for several partitions, we can reuse it
+      if (lastDistributionKey.value != distributionKey) {
+        final var pendingDistribution = getCommandDistributionRecord(distributionKey, partitionId);
+        if (pendingDistribution == null) {
+          LOG.warn(
+              "Expected to find a pending distribution with key {} for a partition {}, but none found. The state is inconsistent",
+              distributionKey,
+              partitionId);
+          // we ignore this currently
+          return true;
+        }
+        lastDistributionKey.set(distributionKey);
+        lastPendingDistribution.set(pendingDistribution);
+      }
+
+      final var commandDistributionRecord = new CommandDistributionRecord();
+      commandDistributionRecord.wrap(lastPendingDistribution.get()).setPartitionId(partitionId);
+      return visitor.visit(distributionKey, commandDistributionRecord);
+    };
   }
 }
@@ -0,0 +1,380 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.duedate;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.DbKey;
+import io.camunda.zeebe.db.KeyValuePairVisitor;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbBytes;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbInt;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbNil;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import org.agrona.collections.Long2LongHashMap;
+
+/**
+ * Wraps a column family which indexes entries by due date, i.e. whose keys are prefixed with the
+ * due date, and keeps track of how many entries fall into each coarse time bucket.
+ *
+ * <p>Due date indexes are mostly written at the end and deleted at the front, so a scan from the
+ * beginning of the column family has to skip the tombstones of all entries which were removed since
+ * the last compaction, which can be millions after a burst of timers or deadlines. The bucket
+ * counts let a scan seek directly to the first bucket with live entries instead, skipping all
+ * tombstones of the buckets before it.
+ *
+ * <p>The counts are stored in the {@link ZbColumnFamilies#DUE_DATE_BUCKETS} column family and
+ * updated in the same transaction as the entries, so all modifications of the wrapped column family
+ * must go through this index.
+ *
+ * <p>Entries which were written before the buckets existed are counted lazily, one bucket per
+ * modification of the index, instead of scanning the whole column family at once. The progress is
+ * stored next to the counts: all buckets before it are counted, and a scan can seek to it if none
+ * of them contains live entries.
+ *
+ * <p>Unless the transaction context is read-only, the first bucket, the progress and the counts of
+ * recently modified buckets are cached in memory and dropped when a transaction is rolled back. A
+ * read-only context doesn't observe the modifications of the processing context, so it always reads
+ * them from the column family.
+ */
+public final class DueDateIndex<K extends DbKey> {
+
+  /** The width of a time bucket in milliseconds. */
+  public static final long BUCKET_WIDTH = 10_000L;
+
+  /** The reserved bucket under which the progress of counting the existing entries is stored. */
+  private static final long PROGRESS_BUCKET = Long.MAX_VALUE;
+
+  /** The progress once all entries are counted, or the first bucket if no bucket is counted. */
+  private static final long NONE = Long.MAX_VALUE;
+
+  private static final long UNKNOWN = -1L;
+  private static final int MAX_CACHED_BUCKET_COUNTS = 1_024;
+
+  private final int indexId;
+  private final ColumnFamily<DbCompositeKey<DbLong, K>, DbNil> entriesColumnFamily;
+  private final DbCompositeKey<DbLong, K> entryKey;
+
+  private final DbLong countedDueDate;
+  private final DbCompositeKey<DbLong, DbBytes> countedKey;
+  private final DbLong countFromDueDate;
+  private final DbCompositeKey<DbLong, DbBytes> countFromKey;
+
+  /**
+   * A second view on the wrapped column family to count existing entries, which ignores the second
+   * part of the key, so that counting doesn't overwrite the key instances of the caller.
+   */
+  private final ColumnFamily<DbCompositeKey<DbLong, DbBytes>, DbNil> countingColumnFamily;
+
+  private final DbInt bucketIndexId;
+  private final DbLong bucket;
+  private final DbCompositeKey<DbInt, DbLong> bucketKey;
+  private final DbLong bucketCount;
+
+  /**
+   *
+   *
+   * <pre>index id | bucket -> number of entries</pre>
+   *
+   * <pre>index id | {@link #PROGRESS_BUCKET} -> first bucket which is not counted yet</pre>
+   */
+  private final ColumnFamily<DbCompositeKey<DbInt, DbLong>, DbLong> bucketsColumnFamily;
+
+  private final boolean isCacheEnabled;
+  private final Long2LongHashMap cachedBucketCounts = new Long2LongHashMap(UNKNOWN);
+  private long cachedFirstBucket = UNKNOWN;
+  private long cachedProgress = UNKNOWN;
+
+  private long firstBucket;
+  private long countingBucket;
+  private long countingEntries;
+
+  public DueDateIndex(
+      final Index index,
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final ColumnFamily<DbCompositeKey<DbLong, K>, DbNil> entriesColumnFamily,
+      final DbCompositeKey<DbLong, K> entryKey) {
+    indexId = index.ordinal();
+    this.entriesColumnFamily = entriesColumnFamily;
+    this.entryKey = entryKey;
+
+    countedDueDate = new DbLong();
+    countedKey = new DbCompositeKey<>(countedDueDate, new DbBytes());
+    countFromDueDate = new DbLong();
+    countFromKey = new DbCompositeKey<>(countFromDueDate, new DbBytes());
+    countingColumnFamily =
+        zeebeDb.createColumnFamily(
+            index.columnFamily, transactionContext, countedKey, DbNil.INSTANCE);
+
+    bucketIndexId = new DbInt();
+    bucket = new DbLong();
+    bucketKey = new DbCompositeKey<>(bucketIndexId, bucket);
+    bucketCount = new DbLong();
+    bucketsColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.DUE_DATE_BUCKETS, transactionContext, bucketKey, bucketCount);
+
+    isCacheEnabled = !transactionContext.isReadOnly();
+    if (isCacheEnabled) {
+      transactionContext.addRollbackListener(this::clearCache);
+    }
+  }
+
+  /** Inserts the given entry, which must not exist yet. */
+  public void insert(final DbCompositeKey<DbLong, K> key) {
+    final long dueDate = key.first().getValue();
+    entriesColumnFamily.insert(key, DbNil.INSTANCE);
+    if (isCounted(dueDate)) {
+      updateBucketCount(bucketOf(dueDate), 1);
+    }
+    countNextBucket();
+  }
+
+  /** Deletes the given entry, which must exist. */
+  public void deleteExisting(final DbCompositeKey<DbLong, K> key) {
+    final long dueDate = key.first().getValue();
+    entriesColumnFamily.deleteExisting(key);
+    if (isCounted(dueDate)) {
+      updateBucketCount(bucketOf(dueDate), -1);
+    }
+    countNextBucket();
+  }
+
+  /** Deletes the given entry, if it exists. */
+  public void deleteIfExists(final DbCompositeKey<DbLong, K> key) {
+    if (entriesColumnFamily.exists(key)) {
+      deleteExisting(key);
+    }
+  }
+
+  /**
+   * Visits the entries in ascending order of their due date, until the visitor returns false. The
+   * iteration starts at the first bucket which contains live entries.
+   *
+   * <p>Similar to {@link ColumnFamily#whileTrue(KeyValuePairVisitor)}.
+   */
+  public void whileTrue(final KeyValuePairVisitor<DbCompositeKey<DbLong, K>, DbNil> visitor) {
+    final long startBucket = startBucket();
+    if (startBucket == NONE) {
+      // all entries are counted and no bucket contains live entries
+      return;
+    }
+
+    final long startDueDate = startBucket * BUCKET_WIDTH;
+    if (startDueDate <= 0) {
+      entriesColumnFamily.whileTrue(visitor);
+      return;
+    }
+
+    // all buckets before the start are empty, so there is no live entry with a smaller due date
+    // and we can seek regardless of the second part of the key
+    entryKey.first().wrapLong(startDueDate - 1);
+    entriesColumnFamily.whileTrue(entryKey, visitor);
+  }
+
+  /**
+   * Visits the entries in ascending order of their due date, starting at the given entry or at the
+   * first bucket which contains live entries, whichever comes later.
+   *
+   * <p>Similar to {@link ColumnFamily#whileTrue(DbKey, KeyValuePairVisitor)}.
+   */
+  public void whileTrue(
+      final DbCompositeKey<DbLong, K> startAtKey,
+      final KeyValuePairVisitor<DbCompositeKey<DbLong, K>, DbNil> visitor) {
+    final long startBucket = startBucket();
+    if (startBucket == NONE) {
+      return;
+    }
+
+    if (startAtKey.first().getValue() >= startBucket * BUCKET_WIDTH) {
+      entriesColumnFamily.whileTrue(startAtKey, visitor);
+    } else {
+      whileTrue(visitor);
+    }
+  }
+
+  /**
+   * Returns the bucket to start a scan at, i.e. the first counted bucket which contains live
+   * entries, or the first bucket which is not counted yet if there is none.
+   */
+  private long startBucket() {
+    return Math.min(firstBucket(), progress());
+  }
+
+  private long firstBucket() {
+    if (isCacheEnabled && cachedFirstBucket != UNKNOWN) {
+      return cachedFirstBucket;
+    }
+
+    bucketIndexId.wrapInt(indexId);
+    firstBucket = NONE;
+    bucketsColumnFamily.whileEqualPrefix(
+        bucketIndexId,
+        (key, count) -> {
+          final long bucketOfEntries = key.second().getValue();
+          if (bucketOfEntries != PROGRESS_BUCKET) {
+            firstBucket = bucketOfEntries;
+          }
+          return false;
+        });
+
+    if (isCacheEnabled) {
+      cachedFirstBucket = firstBucket;
+    }
+    return firstBucket;
+  }
+
+  private long progress() {
+    if (isCacheEnabled && cachedProgress != UNKNOWN) {
+      return cachedProgress;
+    }
+
+    bucketIndexId.wrapInt(indexId);
+    bucket.wrapLong(PROGRESS_BUCKET);
+    final var storedProgress = bucketsColumnFamily.get(bucketKey);
+    final long progress = storedProgress == null ? 0L : storedProgress.getValue();
+
+    if (isCacheEnabled) {
+      cachedProgress = progress;
+    }
+    return progress;
+  }
+
+  private void updateProgress(final long progress) {
+    bucketIndexId.wrapInt(indexId);
+    bucket.wrapLong(PROGRESS_BUCKET);
+    bucketCount.wrapLong(progress);
+    bucketsColumnFamily.upsert(bucketKey, bucketCount);
+    if (isCacheEnabled) {
+      cachedProgress = progress;
+    }
+  }
+
+  /**
+   * Returns whether the entry with the given due date is counted in its bucket. Entries with a
+   * negative due date fall into the first bucket but are ordered after all others, so they are only
+   * counted once all other entries are.
+   */
+  private boolean isCounted(final long dueDate) {
+    final long progress = progress();
+    return progress == NONE || (dueDate >= 0 && bucketOf(dueDate) < progress);
+  }
+
+  /**
+   * Counts the entries of the next bucket which is not counted yet, if there is any. Entries which
+   * are inserted or deleted in buckets that are not counted yet don't change any count, so they are
+   * counted here once the progress reaches their bucket.
+   */
+  private void countNextBucket() {
+    final long progress = progress();
+    if (progress == NONE) {
+      return;
+    }
+
+    countingBucket = UNKNOWN;
+    countingEntries = 0;
+    countFromDueDate.wrapLong(progress * BUCKET_WIDTH);
+    countingColumnFamily.whileTrue(
+        countFromKey,
+        (key, nil) -> {
+          final long dueDate = key.first().getValue();
+          if (dueDate < 0) {
+            // the remaining entries all have a negative due date, count them at once
+            if (countingBucket != UNKNOWN) {
+              return false;
+            }
+          } else if (countingBucket == UNKNOWN) {
+            countingBucket = bucketOf(dueDate);
+          } else if (bucketOf(dueDate) != countingBucket) {
+            return false;
+          }
+
+          countingEntries++;
+          return true;
+        });
+
+    if (countingBucket == UNKNOWN) {
+      if (countingEntries > 0) {
+        updateBucketCount(0L, countingEntries);
+      }
+      updateProgress(NONE);
+    } else {
+      updateBucketCount(countingBucket, countingEntries);
+      updateProgress(countingBucket + 1);
+    }
+  }
+
+  private void updateBucketCount(final long bucketToUpdate, final long delta) {
+    bucketIndexId.wrapInt(indexId);
+    bucket.wrapLong(bucketToUpdate);
+
+    final long existingCount = bucketCount(bucketToUpdate);
+    final long newCount = existingCount + delta;
+    if (newCount > 0) {
+      bucketCount.wrapLong(newCount);
+      bucketsColumnFamily.upsert(bucketKey, bucketCount);
+    } else if (existingCount > 0) {
+      bucketsColumnFamily.deleteExisting(bucketKey);
+    }
+
+    if (!isCacheEnabled) {
+      return;
+    }
+
+    if (cachedBucketCounts.size() >= MAX_CACHED_BUCKET_COUNTS) {
+      cachedBucketCounts.clear();
+    }
+    cachedBucketCounts.put(bucketToUpdate, Math.max(0, newCount));
+
+    if (existingCount <= 0 && newCount > 0 && cachedFirstBucket != UNKNOWN) {
+      cachedFirstBucket = Math.min(cachedFirstBucket, bucketToUpdate);
+    } else if (newCount <= 0 && cachedFirstBucket == bucketToUpdate) {
+      cachedFirstBucket = UNKNOWN;
+    }
+  }
+
+  /** Returns the count of the given bucket, which must be wrapped in {@link #bucketKey}. */
+  private long bucketCount(final long bucketToCount) {
+    if (isCacheEnabled) {
+      final long cachedCount = cachedBucketCounts.get(bucketToCount);
+      if (cachedCount != UNKNOWN) {
+        return cachedCount;
+      }
+    }
+
+    final var existingCount = bucketsColumnFamily.get(bucketKey);
+    return existingCount == null ? 0 : existingCount.getValue();
+  }
+
+  private void clearCache() {
+    cachedBucketCounts.clear();
+    cachedFirstBucket = UNKNOWN;
+    cachedProgress = UNKNOWN;
+  }
+
+  private static long bucketOf(final long dueDate) {
+    return Math.max(0, Math.floorDiv(dueDate, BUCKET_WIDTH));
+  }
+
+  /** The due date indexes which keep track of their buckets. Do not reorder. */
+  public enum Index {
+    TIMER_DUE_DATES(ZbColumnFamilies.TIMER_DUE_DATES),
+    JOB_DEADLINES(ZbColumnFamilies.JOB_DEADLINES),
+    JOB_BACKOFF(ZbColumnFamilies.JOB_BACKOFF),
+    MESSAGE_DEADLINES(ZbColumnFamilies.MESSAGE_DEADLINES);
+
+    private final ZbColumnFamilies columnFamily;
+
+    Index(final ZbColumnFamilies columnFamily) {
+      this.columnFamily = columnFamily;
+    }
+  }
+}
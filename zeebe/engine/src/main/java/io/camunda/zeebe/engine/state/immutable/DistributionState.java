@@ -51,6 +51,20 @@ public interface DistributionState {
    */
   void foreachPendingDistribution(PendingDistributionVisitor visitor);
 
+  /**
+   * Visits the persisted pending distributions in the order of their distribution keys, starting at
+   * the given distribution key. The visitor can stop the iteration by returning false.
+   *
+   * <p>Note that a new instance of the record is provided for each visit, so the visitor does not
+   * have to make a copy when long term access is needed.
+   *
+   * @param startAtDistributionKey the distribution key to start at; if no pending distribution
+   *     exists for this key, the iteration starts at the next one
+   * @param visitor Each pending distribution is visited by this visitor, until it returns false
+   */
+  void foreachPendingDistribution(
+      long startAtDistributionKey, PendingDistributionWhileTrueVisitor visitor);
+
   /** This visitor can visit pending distributions of {@link CommandDistributionRecord}. */
   @FunctionalInterface
   interface PendingDistributionVisitor {
@@ -63,4 +77,21 @@ public interface DistributionState {
      */
     void visit(final long distributionKey, final CommandDistributionRecord pendingDistribution);
   }
+
+  /**
+   * This visitor can visit pending distributions of {@link CommandDistributionRecord}, and stop the
+   * iteration.
+   */
+  @FunctionalInterface
+  interface PendingDistributionWhileTrueVisitor {
+
+    /**
+     * Visits a pending distribution.
+     *
+     * @param distributionKey The key of the pending distribution
+     * @param pendingDistribution The pending distribution itself as command distribution record
+     * @return true to continue with the next pending distribution, false to stop the iteration
+     */
+    boolean visit(final long distributionKey, final CommandDistributionRecord pendingDistribution);
+  }
 }
@@ -12,6 +12,7 @@ import io.camunda.zeebe.engine.state.instance.ElementInstance;
 import java.util.List;
 import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.function.LongPredicate;
 import org.agrona.DirectBuffer;
 
 public interface ElementInstanceState {
@@ -38,6 +39,16 @@ public interface ElementInstanceState {
 
   AwaitProcessInstanceResultMetadata getAwaitResultRequestMetadata(long processInstanceKey);
 
+  /**
+   * Visits the process instances whose result is awaited by a request with a deadline before or at
+   * the given time, in the order of their deadlines.
+   *
+   * @param now the current time in milliseconds
+   * @param visitor called with the key of each such process instance; returns false to stop the
+   *     iteration
+   */
+  void forEachExpiredAwaitResultRequest(long now, LongPredicate visitor);
+
   /**
    * Returns the number of the taken sequence flows that are connected to the given (joining)
    * gateway.
@@ -80,4 +91,24 @@ public interface ElementInstanceState {
    * @return a boolean indicating if there are running instances
    */
   boolean hasActiveProcessInstances(long processDefinitionKey, final List<Long> bannedInstances);
+
+  /**
+   * Applies the provided visitor to each collected output element of the given multi-instance body,
+   * in the order of the loop counters of the child instances that produced them.
+   *
+   * @param multiInstanceBodyKey the key of the multi-instance body
+   * @param visitor the visitor which is applied for each output element
+   */
+  void forEachMultiInstanceOutputElement(
+      long multiInstanceBodyKey, MultiInstanceOutputElementVisitor visitor);
+
+  @FunctionalInterface
+  interface MultiInstanceOutputElementVisitor {
+
+    /**
+     * @param loopCounter the loop counter of the child instance that produced the output element
+     * @param outputElement the output element; only valid during the visit
+     */
+    void visit(int loopCounter, DirectBuffer outputElement);
+  }
 }
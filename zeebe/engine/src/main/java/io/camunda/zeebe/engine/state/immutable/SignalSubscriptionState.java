@@ -9,6 +9,7 @@ package io.camunda.zeebe.engine.state.immutable;
 
 import io.camunda.zeebe.engine.state.signal.SignalSubscription;
 import io.camunda.zeebe.protocol.impl.record.value.signal.SignalSubscriptionRecord;
+import java.util.function.BiFunction;
 import org.agrona.DirectBuffer;
 
 public interface SignalSubscriptionState {
@@ -18,6 +19,36 @@ public interface SignalSubscriptionState {
   void visitBySignalName(
       DirectBuffer signalName, String tenantId, SignalSubscriptionVisitor visitor);
 
+  /**
+   * Visits the subscriptions of the given signal in the order of their subscription keys. The
+   * visitor can indicate via the return value, whether the iteration should continue or not. This
+   * means if the visitor returns false the iteration will stop.
+   *
+   * <p>The given {@code startAtSubscriptionKey} indicates where the iteration should start. If the
+   * key exists, the first visited subscription has this key. If the key doesn't exist it will start
+   * after. If the key is negative, the iteration starts at the first subscription.
+   *
+   * @param signalName the name of the signal
+   * @param tenantId the tenant the signal belongs to
+   * @param startAtSubscriptionKey the subscription key the iteration should start at
+   * @param visitor the function that is called for each subscription key and subscription
+   */
+  void visitBySignalName(
+      DirectBuffer signalName,
+      String tenantId,
+      long startAtSubscriptionKey,
+      BiFunction<Long, SignalSubscription, Boolean> visitor);
+
+  /**
+   * Returns whether any subscription for the given signal exists. This is answered from an
+   * in-memory count of the subscriptions per signal name, without seeking the column family.
+   *
+   * @param signalName the name of the signal
+   * @param tenantId the tenant the signal belongs to
+   * @return true if at least one subscription exists, otherwise false
+   */
+  boolean hasSubscriptions(DirectBuffer signalName, String tenantId);
+
   /**
    * Visit all subscriptions with the given process definition key.
    *
@@ -27,6 +27,20 @@ public interface VariableState {
 
   DirectBuffer getVariablesAsDocument(long scopeKey, Collection<DirectBuffer> names);
 
+  /**
+   * Returns the variables visible in the given scope, like {@link #getVariablesAsDocument(long,
+   * Collection)}. The variables which the scope inherits from its parent scope are cached, so that
+   * the variables of sibling scopes can be collected without walking up the shared scopes again,
+   * e.g. for the jobs of a parallel multi-instance activity. The cache holds the variables of a
+   * single parent scope, and is invalidated when a variable of it or its ancestors changes.
+   *
+   * @param scopeKey the key of the scope
+   * @param names the names of the variables to collect, or empty to collect all variables
+   * @return the variables as document; the buffer is only valid until the next call
+   */
+  DirectBuffer getVariablesAsDocumentWithCachedParentScope(
+      long scopeKey, Collection<DirectBuffer> names);
+
   DirectBuffer getVariablesLocalAsDocument(long scopeKey);
 
   boolean isEmpty();
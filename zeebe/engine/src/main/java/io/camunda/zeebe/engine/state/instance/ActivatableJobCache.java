@@ -0,0 +1,140 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiPredicate;
+import org.agrona.DirectBuffer;
+
+/**
+ * A bounded, in-memory index of the activatable jobs per job type, which maps the key of each
+ * activatable job to its tenant. It avoids seeking the {@code JOB_ACTIVATABLE} column family over
+ * and over again when many workers poll for the same few job types, where every seek has to skip
+ * the tombstones of all previously activated jobs.
+ *
+ * <p>The index of a job type is loaded lazily from the column family on first access (e.g. after
+ * recovery), and from then on jobs are added eagerly whenever they become activatable. Jobs are
+ * <em>not</em> removed eagerly when they stop being activatable; instead, every entry is validated
+ * against the column family before it is visited, and removed if it is no longer activatable. As
+ * the validation happens within a transaction, the index must be {@link #clear() cleared} whenever
+ * a transaction is rolled back, which {@link DbJobState} does with a rollback listener.
+ *
+ * <p>If the index of a job type grows beyond {@link #maxJobsPerType}, it is dropped, and the job
+ * type is served from the column family until its index could be loaded again. At most {@link
+ * #maxTypes} job types are indexed; loading another one evicts the least recently used type.
+ */
+final class ActivatableJobCache {
+  static final int DEFAULT_MAX_JOBS_PER_TYPE = 10_000;
+  static final int DEFAULT_MAX_TYPES = 1_000;
+
+  private final Map<String, TreeMap<Long, String>> jobsByType;
+  private final int maxJobsPerType;
+  private final int maxTypes;
+
+  ActivatableJobCache(final int maxJobsPerType, final int maxTypes) {
+    this.maxJobsPerType = maxJobsPerType;
+    this.maxTypes = maxTypes;
+    // access ordered, so that types which are no longer polled are evicted first
+    jobsByType =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(
+              final Map.Entry<String, TreeMap<Long, String>> eldest) {
+            return size() > maxTypes;
+          }
+        };
+  }
+
+  /**
+   * Adds the job to the index of its type, if that index is loaded already. Otherwise the job is
+   * picked up once the index is loaded.
+   */
+  void add(final DirectBuffer type, final long key, final String tenantId) {
+    final var typeString = BufferUtil.bufferAsString(type);
+    final var jobs = jobsByType.get(typeString);
+    if (jobs == null) {
+      return;
+    }
+
+    jobs.put(key, tenantId);
+    if (jobs.size() > maxJobsPerType) {
+      jobsByType.remove(typeString);
+    }
+  }
+
+  /**
+   * Returns whether the index of the given type is loaded. If not, tries to load it with the given
+   * loader, which must visit all activatable jobs of the type, and must stop if the visitor returns
+   * false.
+   *
+   * @return true if the index of the type is loaded and can be used, false if the job type needs to
+   *     be served from the column family
+   */
+  boolean ensureLoaded(final DirectBuffer type, final Loader loader) {
+    final var typeString = BufferUtil.bufferAsString(type);
+    if (jobsByType.get(typeString) != null) {
+      return true;
+    }
+
+    final var jobs = new TreeMap<Long, String>();
+    loader.load(
+        (key, tenantId) -> {
+          jobs.put(key, tenantId);
+          return jobs.size() <= maxJobsPerType;
+        });
+    if (jobs.size() > maxJobsPerType) {
+      return false;
+    }
+
+    jobsByType.put(typeString, jobs);
+    return true;
+  }
+
+  /**
+   * Visits the indexed jobs of the given type in ascending key order, until the visitor returns
+   * false. The index of the type must be loaded. Entries for which the validator returns false are
+   * removed from the index and not visited.
+   *
+   * <p>The index may be modified by the visitor, since the iteration continues from the next key
+   * after the last visited one.
+   */
+  void forEach(
+      final DirectBuffer type,
+      final BiPredicate<Long, String> validator,
+      final BiPredicate<Long, String> visitor) {
+    final var jobs = jobsByType.get(BufferUtil.bufferAsString(type));
+    if (jobs == null) {
+      return;
+    }
+
+    var entry = jobs.firstEntry();
+    while (entry != null) {
+      final long key = entry.getKey();
+      final String tenantId = entry.getValue();
+      if (!validator.test(key, tenantId)) {
+        jobs.remove(key);
+      } else if (!visitor.test(key, tenantId)) {
+        return;
+      }
+      entry = jobs.higherEntry(key);
+    }
+  }
+
+  /** Drops the indexes of all job types; they are loaded again on the next access. */
+  void clear() {
+    jobsByType.clear();
+  }
+
+  @FunctionalInterface
+  interface Loader {
+    void load(BiPredicate<Long, String> visitor);
+  }
+}
@@ -17,17 +17,22 @@ import java.util.Objects;
 
 public final class AwaitProcessInstanceResultMetadata extends UnpackedObject implements DbValue {
 
+  /** The request is awaited until the process instance is completed. */
+  public static final long NO_DEADLINE = -1L;
+
   private final LongProperty requestIdProperty = new LongProperty("requestId", -1);
   private final IntegerProperty requestStreamIdProperty =
       new IntegerProperty("requestStreamId", -1);
   private final ArrayProperty<StringValue> fetchVariablesProperty =
       new ArrayProperty<>("fetchVariables", StringValue::new);
+  private final LongProperty deadlineProperty = new LongProperty("deadline", NO_DEADLINE);
 
   public AwaitProcessInstanceResultMetadata() {
-    super(3);
+    super(4);
     declareProperty(requestIdProperty)
         .declareProperty(requestStreamIdProperty)
-        .declareProperty(fetchVariablesProperty);
+        .declareProperty(fetchVariablesProperty)
+        .declareProperty(deadlineProperty);
   }
 
   public long getRequestId() {
@@ -59,10 +64,32 @@ public final class AwaitProcessInstanceResultMetadata extends UnpackedObject imp
     return this;
   }
 
+  /**
+   * @return the time in milliseconds after which the request is no longer awaited, or {@link
+   *     #NO_DEADLINE}
+   */
+  public long getDeadline() {
+    return deadlineProperty.getValue();
+  }
+
+  public AwaitProcessInstanceResultMetadata setDeadline(final long deadline) {
+    deadlineProperty.setValue(deadline);
+    return this;
+  }
+
+  public boolean isExpired(final long now) {
+    final long deadline = getDeadline();
+    return deadline != NO_DEADLINE && deadline <= now;
+  }
+
   @Override
   public int hashCode() {
     return Objects.hash(
-        super.hashCode(), requestIdProperty, requestStreamIdProperty, fetchVariablesProperty);
+        super.hashCode(),
+        requestIdProperty,
+        requestStreamIdProperty,
+        fetchVariablesProperty,
+        deadlineProperty);
   }
 
   @Override
@@ -79,6 +106,7 @@ public final class AwaitProcessInstanceResultMetadata extends UnpackedObject imp
     final AwaitProcessInstanceResultMetadata that = (AwaitProcessInstanceResultMetadata) o;
     return requestIdProperty.equals(that.requestIdProperty)
         && requestStreamIdProperty.equals(that.requestStreamIdProperty)
-        && fetchVariablesProperty.equals(that.fetchVariablesProperty);
+        && fetchVariablesProperty.equals(that.fetchVariablesProperty)
+        && deadlineProperty.equals(that.deadlineProperty);
   }
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import java.util.function.LongPredicate;
+import org.agrona.collections.Long2LongHashMap;
+import org.agrona.collections.LongArrayQueue;
+
+/**
+ * An in-memory registry of the process instances whose result is awaited by a request, together
+ * with the deadline of the request. It mirrors the {@code AWAIT_WORKLOW_RESULT} column family, so
+ * that completing or removing a process instance whose result is not awaited, which is the common
+ * case, doesn't need to look up the column family at all.
+ *
+ * <p>The registry is loaded from the column family on its first use, which makes the column family
+ * (restored from the snapshot) its recovery path. As the registry is updated within a transaction,
+ * it must be {@link #clear() cleared} whenever a transaction is rolled back; it is loaded again on
+ * its next use.
+ *
+ * <p>Requests with a deadline are additionally kept in a queue, ordered by their deadline, so that
+ * expired requests can be found without scanning all awaited process instances. Removed requests
+ * stay in the queue until they reach its head.
+ */
+final class AwaitResultRequestRegistry {
+
+  private static final long NOT_AWAITED = Long.MIN_VALUE;
+
+  private final Long2LongHashMap deadlines = new Long2LongHashMap(NOT_AWAITED);
+  private final LongArrayQueue expiringProcessInstanceKeys = new LongArrayQueue();
+  private boolean loaded;
+
+  boolean isLoaded() {
+    return loaded;
+  }
+
+  /**
+   * Marks the registry as loaded. The awaited process instances must have been {@link #add(long,
+   * long) added} in the order of their deadlines before.
+   */
+  void setLoaded() {
+    loaded = true;
+  }
+
+  /**
+   * Registers the request for the given process instance. Requests must be added in the order of
+   * their deadlines, which holds for requests that are created with the same timeout.
+   */
+  void add(final long processInstanceKey, final long deadline) {
+    deadlines.put(processInstanceKey, deadline);
+    if (deadline != AwaitProcessInstanceResultMetadata.NO_DEADLINE) {
+      expiringProcessInstanceKeys.offerLong(processInstanceKey);
+    }
+  }
+
+  boolean isAwaited(final long processInstanceKey) {
+    return deadlines.containsKey(processInstanceKey);
+  }
+
+  /**
+   * @return true if the result of the process instance was awaited
+   */
+  boolean remove(final long processInstanceKey) {
+    final boolean wasAwaited = deadlines.remove(processInstanceKey) != NOT_AWAITED;
+    while (!expiringProcessInstanceKeys.isEmpty()
+        && !deadlines.containsKey(expiringProcessInstanceKeys.peekLong())) {
+      expiringProcessInstanceKeys.pollLong();
+    }
+    return wasAwaited;
+  }
+
+  /**
+   * Visits the process instances whose request has a deadline before or at the given time, in the
+   * order of their deadlines. The requests are not removed.
+   *
+   * @param now the current time in milliseconds
+   * @param visitor called with the key of each process instance whose request expired; returns
+   *     false to stop the iteration
+   */
+  void forEachExpired(final long now, final LongPredicate visitor) {
+    final var iterator = expiringProcessInstanceKeys.iterator();
+    while (iterator.hasNext()) {
+      final long processInstanceKey = iterator.nextValue();
+      final long deadline = deadlines.get(processInstanceKey);
+      if (deadline == NOT_AWAITED) {
+        // the request was removed already, when its process instance was removed
+        continue;
+      }
+
+      if (deadline > now || !visitor.test(processInstanceKey)) {
+        return;
+      }
+    }
+  }
+
+  void clear() {
+    deadlines.clear();
+    expiringProcessInstanceKeys.clear();
+    loaded = false;
+  }
+}
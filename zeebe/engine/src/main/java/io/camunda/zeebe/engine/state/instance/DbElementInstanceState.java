@@ -10,6 +10,7 @@ package io.camunda.zeebe.engine.state.instance;
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbBytes;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
 import io.camunda.zeebe.db.impl.DbForeignKey;
 import io.camunda.zeebe.db.impl.DbForeignKey.MatchType;
@@ -17,6 +18,8 @@ import io.camunda.zeebe.db.impl.DbInt;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.metrics.ElementInstanceCacheMetrics;
 import io.camunda.zeebe.engine.state.mutable.MutableElementInstanceState;
 import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
@@ -25,12 +28,14 @@ import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
 import io.camunda.zeebe.protocol.record.value.BpmnElementType;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.LongPredicate;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.MutableInteger;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -49,6 +54,7 @@ public final class DbElementInstanceState implements MutableElementInstanceState
   private final AwaitProcessInstanceResultMetadata awaitResultMetadata;
   private final ColumnFamily<DbLong, AwaitProcessInstanceResultMetadata>
       awaitProcessInstanceResultMetadataColumnFamily;
+  private final AwaitResultRequestRegistry awaitResultRequests = new AwaitResultRequestRegistry();
 
   private final DbLong flowScopeKey = new DbLong();
   private final DbString gatewayElementId = new DbString();
@@ -64,8 +70,20 @@ public final class DbElementInstanceState implements MutableElementInstanceState
   private final ColumnFamily<DbCompositeKey<DbCompositeKey<DbLong, DbString>, DbString>, DbInt>
       numberOfTakenSequenceFlowsColumnFamily;
 
+  private final DbLong multiInstanceBodyKey = new DbLong();
+  private final DbInt loopCounter = new DbInt();
+  private final DbCompositeKey<DbLong, DbInt> multiInstanceBodyKeyAndLoopCounter;
+  private final DbBytes outputElement = new DbBytes();
+
+  /** [multi-instance body key | loop counter] => [output element of the child instance] */
+  private final ColumnFamily<DbCompositeKey<DbLong, DbInt>, DbBytes>
+      multiInstanceOutputElementsColumnFamily;
+
   private final MutableVariableState variableState;
 
+  private final ElementInstanceCache cache;
+  private final ElementInstanceCacheMetrics cacheMetrics;
+
   private final DbLong processDefinitionKey;
   private final DbCompositeKey<DbLong, DbLong> processInstanceKeyByProcessDefinitionKey;
 
@@ -76,9 +94,15 @@ public final class DbElementInstanceState implements MutableElementInstanceState
   public DbElementInstanceState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final TransactionContext transactionContext,
-      final MutableVariableState variableState) {
+      final MutableVariableState variableState,
+      final int partitionId,
+      final EngineConfiguration config) {
 
     this.variableState = variableState;
+    cache = new ElementInstanceCache(config.getElementInstanceCacheCapacity());
+    transactionContext.addRollbackListener(cache::clear);
+    transactionContext.addRollbackListener(awaitResultRequests::clear);
+    cacheMetrics = new ElementInstanceCacheMetrics(partitionId);
 
     elementInstanceKey = new DbLong();
     parentKey =
@@ -133,6 +157,14 @@ public final class DbElementInstanceState implements MutableElementInstanceState
             transactionContext,
             processInstanceKeyByProcessDefinitionKey,
             DbNil.INSTANCE);
+
+    multiInstanceBodyKeyAndLoopCounter = new DbCompositeKey<>(multiInstanceBodyKey, loopCounter);
+    multiInstanceOutputElementsColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.MULTI_INSTANCE_OUTPUT_ELEMENTS,
+            transactionContext,
+            multiInstanceBodyKeyAndLoopCounter,
+            outputElement);
   }
 
   @Override
@@ -162,29 +194,35 @@ public final class DbElementInstanceState implements MutableElementInstanceState
 
   @Override
   public void removeInstance(final long key) {
-    elementInstanceKey.wrapLong(key);
-    final var instance = elementInstanceColumnFamily.get(elementInstanceKey);
+    final var instance = getInstance(key);
     if (instance == null) {
       return;
     }
     final long parent = instance.getParentKey();
+    elementInstanceKey.wrapLong(key);
     parentKey.inner().wrapLong(parent);
     parentChildColumnFamily.deleteIfExists(parentChildKey);
     elementInstanceColumnFamily.deleteExisting(elementInstanceKey);
+    cache.remove(key);
     variableState.removeScope(key);
-    awaitProcessInstanceResultMetadataColumnFamily.deleteIfExists(elementInstanceKey);
     removeNumberOfTakenSequenceFlows(key);
 
     final var recordValue = instance.getValue();
     if (recordValue.getBpmnElementType() == BpmnElementType.PROCESS) {
+      // only awaited process instances have an entry; avoid writing a tombstone for the others
+      if (getAwaitResultRequests().remove(key)) {
+        elementInstanceKey.wrapLong(key);
+        awaitProcessInstanceResultMetadataColumnFamily.deleteIfExists(elementInstanceKey);
+      }
       processDefinitionKey.wrapLong(recordValue.getProcessDefinitionKey());
       processInstanceKeyByProcessDefinitionKeyColumnFamily.deleteExisting(
           processInstanceKeyByProcessDefinitionKey);
+    } else if (recordValue.getBpmnElementType() == BpmnElementType.MULTI_INSTANCE_BODY) {
+      removeMultiInstanceOutputElements(key);
     }
 
     if (parent > 0) {
-      elementInstanceKey.wrapLong(parent);
-      final var parentInstance = elementInstanceColumnFamily.get(elementInstanceKey);
+      final var parentInstance = getInstance(parent);
       if (parentInstance == null) {
         final var errorMsg =
             "Expected to find parent instance for element instance with key %d, but none was found.";
@@ -201,6 +239,7 @@ public final class DbElementInstanceState implements MutableElementInstanceState
     parentKey.inner().wrapLong(instance.getParentKey());
 
     elementInstanceColumnFamily.insert(elementInstanceKey, instance);
+    cache.update(instance);
     parentChildColumnFamily.insert(parentChildKey, DbNil.INSTANCE);
     variableState.createScope(elementInstanceKey.getValue(), parentKey.inner().getValue());
 
@@ -217,12 +256,12 @@ public final class DbElementInstanceState implements MutableElementInstanceState
     elementInstanceKey.wrapLong(scopeInstance.getKey());
     parentKey.inner().wrapLong(scopeInstance.getParentKey());
     elementInstanceColumnFamily.update(elementInstanceKey, scopeInstance);
+    cache.update(scopeInstance);
   }
 
   @Override
   public void updateInstance(final long key, final Consumer<ElementInstance> modifier) {
-    elementInstanceKey.wrapLong(key);
-    final var scopeInstance = elementInstanceColumnFamily.get(elementInstanceKey);
+    final var scopeInstance = getInstance(key);
     modifier.accept(scopeInstance);
     updateInstance(scopeInstance);
   }
@@ -230,10 +269,18 @@ public final class DbElementInstanceState implements MutableElementInstanceState
   @Override
   public void setAwaitResultRequestMetadata(
       final long processInstanceKey, final AwaitProcessInstanceResultMetadata metadata) {
+    getAwaitResultRequests().add(processInstanceKey, metadata.getDeadline());
     elementInstanceKey.wrapLong(processInstanceKey);
     awaitProcessInstanceResultMetadataColumnFamily.insert(elementInstanceKey, metadata);
   }
 
+  @Override
+  public void removeAwaitResultRequestMetadata(final long processInstanceKey) {
+    getAwaitResultRequests().remove(processInstanceKey);
+    elementInstanceKey.wrapLong(processInstanceKey);
+    awaitProcessInstanceResultMetadataColumnFamily.deleteIfExists(elementInstanceKey);
+  }
+
   @Override
   public void incrementNumberOfTakenSequenceFlows(
       final long flowScopeKey,
@@ -292,8 +339,27 @@ public final class DbElementInstanceState implements MutableElementInstanceState
         processInstanceKeyByProcessDefinitionKey);
   }
 
+  @Override
+  public void addMultiInstanceOutputElement(
+      final long multiInstanceBodyKey, final int loopCounter, final DirectBuffer outputElement) {
+    this.multiInstanceBodyKey.wrapLong(multiInstanceBodyKey);
+    this.loopCounter.wrapInt(loopCounter);
+    this.outputElement.wrapBuffer(outputElement, 0, outputElement.capacity());
+    multiInstanceOutputElementsColumnFamily.upsert(
+        multiInstanceBodyKeyAndLoopCounter, this.outputElement);
+  }
+
   @Override
   public ElementInstance getInstance(final long key) {
+    if (cache.isEnabled()) {
+      final var cachedInstance = cache.get(key);
+      if (cachedInstance != null) {
+        cacheMetrics.hit();
+        return cachedInstance;
+      }
+      cacheMetrics.miss();
+    }
+
     elementInstanceKey.wrapLong(key);
     final ElementInstance elementInstance = elementInstanceColumnFamily.get(elementInstanceKey);
     return copyElementInstance(elementInstance);
@@ -344,10 +410,35 @@ public final class DbElementInstanceState implements MutableElementInstanceState
   @Override
   public AwaitProcessInstanceResultMetadata getAwaitResultRequestMetadata(
       final long processInstanceKey) {
+    if (!getAwaitResultRequests().isAwaited(processInstanceKey)) {
+      return null;
+    }
     elementInstanceKey.wrapLong(processInstanceKey);
     return awaitProcessInstanceResultMetadataColumnFamily.get(elementInstanceKey);
   }
 
+  @Override
+  public void forEachExpiredAwaitResultRequest(final long now, final LongPredicate visitor) {
+    getAwaitResultRequests().forEachExpired(now, visitor);
+  }
+
+  /**
+   * Returns the registry of the awaited process instances, and loads it from the column family
+   * first if it was not loaded yet.
+   */
+  private AwaitResultRequestRegistry getAwaitResultRequests() {
+    if (!awaitResultRequests.isLoaded()) {
+      final List<long[]> requests = new ArrayList<>();
+      awaitProcessInstanceResultMetadataColumnFamily.forEach(
+          (key, metadata) -> requests.add(new long[] {key.getValue(), metadata.getDeadline()}));
+      // requests without a deadline are sorted first, but they are not queued for expiry anyway
+      requests.sort(Comparator.comparingLong(request -> request[1]));
+      requests.forEach(request -> awaitResultRequests.add(request[0], request[1]));
+      awaitResultRequests.setLoaded();
+    }
+    return awaitResultRequests;
+  }
+
   @Override
   public int getNumberOfTakenSequenceFlows(
       final long flowScopeKey, final DirectBuffer gatewayElementId) {
@@ -428,6 +519,18 @@ public final class DbElementInstanceState implements MutableElementInstanceState
     return null;
   }
 
+  @Override
+  public void forEachMultiInstanceOutputElement(
+      final long multiInstanceBodyKey, final MultiInstanceOutputElementVisitor visitor) {
+    this.multiInstanceBodyKey.wrapLong(multiInstanceBodyKey);
+
+    multiInstanceOutputElementsColumnFamily.whileEqualPrefix(
+        this.multiInstanceBodyKey,
+        (key, element) -> {
+          visitor.visit(key.second().getValue(), element.getDirectBuffer());
+        });
+  }
+
   private void removeNumberOfTakenSequenceFlows(final long flowScopeKey) {
     this.flowScopeKey.wrapLong(flowScopeKey);
 
@@ -437,4 +540,14 @@ public final class DbElementInstanceState implements MutableElementInstanceState
           numberOfTakenSequenceFlowsColumnFamily.deleteExisting(key);
         });
   }
+
+  private void removeMultiInstanceOutputElements(final long multiInstanceBodyKey) {
+    this.multiInstanceBodyKey.wrapLong(multiInstanceBodyKey);
+
+    multiInstanceOutputElementsColumnFamily.whileEqualPrefix(
+        this.multiInstanceBodyKey,
+        (key, element) -> {
+          multiInstanceOutputElementsColumnFamily.deleteExisting(key);
+        });
+  }
 }
@@ -9,6 +9,7 @@ package io.camunda.zeebe.engine.state.instance;
 
 import io.camunda.zeebe.auth.impl.Authorization;
 import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.KeyValuePairVisitor;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
@@ -19,6 +20,8 @@ import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
 import io.camunda.zeebe.engine.Loggers;
+import io.camunda.zeebe.engine.state.duedate.DueDateIndex;
+import io.camunda.zeebe.engine.state.duedate.DueDateIndex.Index;
 import io.camunda.zeebe.engine.state.immutable.JobState;
 import io.camunda.zeebe.engine.state.mutable.MutableJobState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
@@ -60,21 +63,37 @@ public final class DbJobState implements JobState, MutableJobState {
   private final ColumnFamily<
           DbTenantAwareKey<DbCompositeKey<DbString, DbForeignKey<DbLong>>>, DbNil>
       activatableColumnFamily;
+  private final ActivatableJobCache activatableJobCache;
 
   // timeout => key
   private final DbLong deadlineKey;
   private final DbCompositeKey<DbLong, DbForeignKey<DbLong>> deadlineJobKey;
   private final ColumnFamily<DbCompositeKey<DbLong, DbForeignKey<DbLong>>, DbNil>
       deadlinesColumnFamily;
+  private final DueDateIndex<DbForeignKey<DbLong>> deadlineIndex;
 
   private final DbLong backoffKey;
   private final DbCompositeKey<DbLong, DbForeignKey<DbLong>> backoffJobKey;
   private final ColumnFamily<DbCompositeKey<DbLong, DbForeignKey<DbLong>>, DbNil>
       backoffColumnFamily;
+  private final DueDateIndex<DbForeignKey<DbLong>> backoffIndex;
   private long nextBackOffDueDate;
 
   public DbJobState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+    this(
+        zeebeDb,
+        transactionContext,
+        new ActivatableJobCache(
+            ActivatableJobCache.DEFAULT_MAX_JOBS_PER_TYPE, ActivatableJobCache.DEFAULT_MAX_TYPES));
+  }
+
+  DbJobState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final ActivatableJobCache activatableJobCache) {
+    this.activatableJobCache = activatableJobCache;
+    transactionContext.addRollbackListener(activatableJobCache::clear);
 
     jobKey = new DbLong();
     fkJob = new DbForeignKey<>(jobKey, ZbColumnFamilies.JOBS);
@@ -102,12 +121,22 @@ public final class DbJobState implements JobState, MutableJobState {
     deadlinesColumnFamily =
         zeebeDb.createColumnFamily(
             ZbColumnFamilies.JOB_DEADLINES, transactionContext, deadlineJobKey, DbNil.INSTANCE);
+    deadlineIndex =
+        new DueDateIndex<>(
+            Index.JOB_DEADLINES,
+            zeebeDb,
+            transactionContext,
+            deadlinesColumnFamily,
+            deadlineJobKey);
 
     backoffKey = new DbLong();
     backoffJobKey = new DbCompositeKey<>(backoffKey, fkJob);
     backoffColumnFamily =
         zeebeDb.createColumnFamily(
             ZbColumnFamilies.JOB_BACKOFF, transactionContext, backoffJobKey, DbNil.INSTANCE);
+    backoffIndex =
+        new DueDateIndex<>(
+            Index.JOB_BACKOFF, zeebeDb, transactionContext, backoffColumnFamily, backoffJobKey);
   }
 
   @Override
@@ -233,7 +262,7 @@ public final class DbJobState implements JobState, MutableJobState {
           final var deadline = key.first().getValue();
           final var job = jobsColumnFamily.get(jobKey);
           if (job == null || job.getRecord().getDeadline() != deadline) {
-            deadlinesColumnFamily.deleteExisting(key);
+            deadlineIndex.deleteExisting(key);
           }
           return true;
         });
@@ -248,7 +277,7 @@ public final class DbJobState implements JobState, MutableJobState {
           final var job = jobsColumnFamily.get(jobKey);
           if (job == null || job.getRecord().getRecurringTime() != backoff) {
             LOG.debug("Deleting orphaned job with key {}", key);
-            backoffColumnFamily.deleteExisting(key);
+            backoffIndex.deleteExisting(key);
           }
           return true;
         });
@@ -263,7 +292,7 @@ public final class DbJobState implements JobState, MutableJobState {
       final long oldDeadline = job.getDeadline();
 
       deadlineKey.wrapLong(oldDeadline);
-      deadlinesColumnFamily.deleteExisting(deadlineJobKey);
+      deadlineIndex.deleteExisting(deadlineJobKey);
 
       job.setDeadline(newDeadline);
       updateJobRecord(jobKey, job);
@@ -286,7 +315,7 @@ public final class DbJobState implements JobState, MutableJobState {
           if (jobRecord == null
               || jobRecord.getRecord().getRetries() <= 0
               || jobRecord.getRecord().getRetryBackoff() <= 0) {
-            backoffColumnFamily.deleteExisting(key);
+            backoffIndex.deleteExisting(key);
           } else {
             jobsWithBackoff.add(jobKey.getValue());
           }
@@ -305,7 +334,7 @@ public final class DbJobState implements JobState, MutableJobState {
           final var retries = jobRecord.getRecord().getRetries();
           if (backoff > 0 && retries > 0) {
             backoffKey.wrapLong(backoff);
-            backoffColumnFamily.insert(backoffJobKey, DbNil.INSTANCE);
+            backoffIndex.insert(backoffJobKey);
           }
         });
   }
@@ -348,18 +377,8 @@ public final class DbJobState implements JobState, MutableJobState {
       final DeadlineIndex startAt,
       final BiPredicate<Long, JobRecord> callback) {
 
-    final DbCompositeKey<DbLong, DbForeignKey<DbLong>> startAtKey;
-    if (startAt != null) {
-      deadlineKey.wrapLong(startAt.deadline());
-      jobKey.wrapLong(startAt.key());
-      startAtKey = deadlineJobKey;
-    } else {
-      startAtKey = null;
-    }
-
     final var lastVisitedIndex = new AtomicReference<DeadlineIndex>();
-    deadlinesColumnFamily.whileTrue(
-        startAtKey,
+    final KeyValuePairVisitor<DbCompositeKey<DbLong, DbForeignKey<DbLong>>, DbNil> visitor =
         (key, value) -> {
           final var deadline = key.first().getValue();
           final var isDue = deadline < executionTimestamp;
@@ -373,7 +392,15 @@ public final class DbJobState implements JobState, MutableJobState {
             return false;
           }
           return true;
-        });
+        };
+
+    if (startAt != null) {
+      deadlineKey.wrapLong(startAt.deadline());
+      jobKey.wrapLong(startAt.key());
+      deadlineIndex.whileTrue(deadlineJobKey, visitor);
+    } else {
+      deadlineIndex.whileTrue(visitor);
+    }
 
     return lastVisitedIndex.get();
   }
@@ -407,8 +434,15 @@ public final class DbJobState implements JobState, MutableJobState {
       final DirectBuffer type,
       final List<String> tenantIds,
       final BiFunction<Long, JobRecord, Boolean> callback) {
-    jobTypeKey.wrapBuffer(type);
+    if (activatableJobCache.ensureLoaded(type, visitor -> loadActivatableJobs(type, visitor))) {
+      activatableJobCache.forEach(
+          type,
+          (key, tenantId) -> isActivatable(type, key, tenantId),
+          (key, tenantId) -> !tenantIds.contains(tenantId) || visitJob(key, callback::apply));
+      return;
+    }
 
+    jobTypeKey.wrapBuffer(type);
     activatableColumnFamily.whileEqualPrefix(
         jobTypeKey,
         ((tenantAwareCompositeKey, zbNil) -> {
@@ -450,7 +484,7 @@ public final class DbJobState implements JobState, MutableJobState {
   @Override
   public long findBackedOffJobs(final long timestamp, final BiPredicate<Long, JobRecord> callback) {
     nextBackOffDueDate = -1L;
-    backoffColumnFamily.whileTrue(
+    backoffIndex.whileTrue(
         (key, value) -> {
           final long deadline = key.first().getValue();
           boolean consumed = false;
@@ -475,6 +509,24 @@ public final class DbJobState implements JobState, MutableJobState {
     return callback.test(jobKey, job);
   }
 
+  private void loadActivatableJobs(
+      final DirectBuffer type, final BiPredicate<Long, String> visitor) {
+    jobTypeKey.wrapBuffer(type);
+    activatableColumnFamily.whileEqualPrefix(
+        jobTypeKey,
+        (tenantAwareCompositeKey, zbNil) -> {
+          final long key = tenantAwareCompositeKey.wrappedKey().second().inner().getValue();
+          return visitor.test(key, tenantAwareCompositeKey.tenantKey().toString());
+        });
+  }
+
+  private boolean isActivatable(final DirectBuffer type, final long key, final String tenantId) {
+    jobTypeKey.wrapBuffer(type);
+    jobKey.wrapLong(key);
+    tenantIdKey.wrapString(tenantId);
+    return activatableColumnFamily.exists(tenantAwareTypeJobKey);
+  }
+
   private void createJobRecord(final long key, final JobRecord record) {
     jobKey.wrapLong(key);
     // do not persist variables in job state
@@ -510,6 +562,7 @@ public final class DbJobState implements JobState, MutableJobState {
     // Need to upsert here because jobs can be marked as failed (and thus made activatable)
     // without activating them first
     activatableColumnFamily.upsert(tenantAwareTypeJobKey, DbNil.INSTANCE);
+    activatableJobCache.add(type, key, tenantId);
   }
 
   private void makeJobNotActivatable(final DirectBuffer type, final String tenantId) {
@@ -525,7 +578,7 @@ public final class DbJobState implements JobState, MutableJobState {
     if (deadline > 0) {
       jobKey.wrapLong(job);
       deadlineKey.wrapLong(deadline);
-      deadlinesColumnFamily.insert(deadlineJobKey, DbNil.INSTANCE);
+      deadlineIndex.insert(deadlineJobKey);
     }
   }
 
@@ -533,7 +586,7 @@ public final class DbJobState implements JobState, MutableJobState {
     if (deadline > 0) {
       jobKey.wrapLong(job);
       deadlineKey.wrapLong(deadline);
-      deadlinesColumnFamily.deleteIfExists(deadlineJobKey);
+      deadlineIndex.deleteIfExists(deadlineJobKey);
     }
   }
 
@@ -541,7 +594,7 @@ public final class DbJobState implements JobState, MutableJobState {
     if (backoff > 0) {
       jobKey.wrapLong(job);
       backoffKey.wrapLong(backoff);
-      backoffColumnFamily.insert(backoffJobKey, DbNil.INSTANCE);
+      backoffIndex.insert(backoffJobKey);
     }
   }
 
@@ -549,7 +602,7 @@ public final class DbJobState implements JobState, MutableJobState {
     if (backoff > 0) {
       jobKey.wrapLong(job);
       backoffKey.wrapLong(backoff);
-      backoffColumnFamily.deleteIfExists(backoffJobKey);
+      backoffIndex.deleteIfExists(backoffJobKey);
     }
   }
 
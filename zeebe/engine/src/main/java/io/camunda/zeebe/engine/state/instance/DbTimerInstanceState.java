@@ -15,6 +15,9 @@ import io.camunda.zeebe.db.impl.DbForeignKey;
 import io.camunda.zeebe.db.impl.DbForeignKey.MatchType;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbNil;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.state.duedate.DueDateIndex;
+import io.camunda.zeebe.engine.state.duedate.DueDateIndex.Index;
 import io.camunda.zeebe.engine.state.mutable.MutableTimerInstanceState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import java.util.function.Consumer;
@@ -28,17 +31,25 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
   private final DbForeignKey<DbLong> elementInstanceKey;
   private final DbCompositeKey<DbForeignKey<DbLong>, DbLong> elementAndTimerKey;
 
-  private final ColumnFamily<
-          DbCompositeKey<DbLong, DbCompositeKey<DbForeignKey<DbLong>, DbLong>>, DbNil>
-      dueDateColumnFamily;
   private final DbLong dueDate;
   private final DbCompositeKey<DbLong, DbCompositeKey<DbForeignKey<DbLong>, DbLong>>
       dueDateCompositeKey;
+  private final DueDateIndex<DbCompositeKey<DbForeignKey<DbLong>, DbLong>> dueDateIndex;
+
+  private final boolean isCompactEncoding;
 
   private long nextDueDate;
 
   public DbTimerInstanceState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+    this(zeebeDb, transactionContext, new EngineConfiguration());
+  }
+
+  public DbTimerInstanceState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final EngineConfiguration config) {
+    isCompactEncoding = config.isStateCompactValueEncodingEnabled();
     timerInstance = new TimerInstance();
     timerKey = new DbLong();
     elementInstanceKey =
@@ -54,12 +65,20 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
     dueDate = new DbLong();
     dueDateCompositeKey = new DbCompositeKey<>(dueDate, elementAndTimerKey);
-    dueDateColumnFamily =
-        zeebeDb.createColumnFamily(
-            ZbColumnFamilies.TIMER_DUE_DATES,
+    final ColumnFamily<DbCompositeKey<DbLong, DbCompositeKey<DbForeignKey<DbLong>, DbLong>>, DbNil>
+        dueDateColumnFamily =
+            zeebeDb.createColumnFamily(
+                ZbColumnFamilies.TIMER_DUE_DATES,
+                transactionContext,
+                dueDateCompositeKey,
+                DbNil.INSTANCE);
+    dueDateIndex =
+        new DueDateIndex<>(
+            Index.TIMER_DUE_DATES,
+            zeebeDb,
             transactionContext,
-            dueDateCompositeKey,
-            DbNil.INSTANCE);
+            dueDateColumnFamily,
+            dueDateCompositeKey);
   }
 
   @Override
@@ -67,10 +86,11 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
     timerKey.wrapLong(timer.getKey());
     elementInstanceKey.inner().wrapLong(timer.getElementInstanceKey());
 
+    timer.setCompactEncoding(isCompactEncoding);
     timerInstanceColumnFamily.insert(elementAndTimerKey, timer);
 
     dueDate.wrapLong(timer.getDueDate());
-    dueDateColumnFamily.insert(dueDateCompositeKey, DbNil.INSTANCE);
+    dueDateIndex.insert(dueDateCompositeKey);
   }
 
   @Override
@@ -80,14 +100,14 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
     timerInstanceColumnFamily.deleteExisting(elementAndTimerKey);
 
     dueDate.wrapLong(timer.getDueDate());
-    dueDateColumnFamily.deleteExisting(dueDateCompositeKey);
+    dueDateIndex.deleteExisting(dueDateCompositeKey);
   }
 
   @Override
   public long processTimersWithDueDateBefore(final long timestamp, final TimerVisitor consumer) {
     nextDueDate = -1L;
 
-    dueDateColumnFamily.whileTrue(
+    dueDateIndex.whileTrue(
         (key, nil) -> {
           final var dueDate = key.first().getValue();
           final var elementAndTimerKey = key.second();
@@ -0,0 +1,85 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A bounded, least-recently-used cache of the active flow scopes, i.e. of the element instances
+ * which have active children. Flow scopes are read and updated over and over again while their
+ * children are processed, e.g. the body of a large multi-instance loop whose child count changes
+ * with every child that is activated or completed.
+ *
+ * <p>The cache is written through: every instance which is written to the state is either put into
+ * the cache, if it is an active flow scope, or removed from it. The instances are kept in their
+ * encoded form, since every reader gets its own copy, which is decoded from the cached bytes. As
+ * the cache is updated within a transaction, it must be {@link #clear() cleared} whenever a
+ * transaction is rolled back, which {@link DbElementInstanceState} does with a rollback listener.
+ */
+final class ElementInstanceCache {
+
+  private final Map<Long, byte[]> instances;
+  private final int capacity;
+
+  ElementInstanceCache(final int capacity) {
+    this.capacity = capacity;
+    instances =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(final Map.Entry<Long, byte[]> eldest) {
+            return size() > capacity;
+          }
+        };
+  }
+
+  boolean isEnabled() {
+    return capacity > 0;
+  }
+
+  /**
+   * @return a copy of the cached instance, or null if the instance is not cached
+   */
+  ElementInstance get(final long key) {
+    final var bytes = instances.get(key);
+    if (bytes == null) {
+      return null;
+    }
+
+    final var instance = new ElementInstance();
+    instance.wrap(new UnsafeBuffer(bytes), 0, bytes.length);
+    return instance;
+  }
+
+  /**
+   * Caches the given instance if it is an active flow scope, otherwise removes it from the cache.
+   */
+  void update(final ElementInstance instance) {
+    if (!isEnabled()) {
+      return;
+    }
+    if (instance.getNumberOfActiveElementInstances() <= 0) {
+      instances.remove(instance.getKey());
+      return;
+    }
+
+    final var bytes = new byte[instance.getLength()];
+    instance.write(new UnsafeBuffer(bytes), 0);
+    instances.put(instance.getKey(), bytes);
+  }
+
+  void remove(final long key) {
+    instances.remove(key);
+  }
+
+  /** Drops all cached instances; they are cached again on their next update. */
+  void clear() {
+    instances.clear();
+  }
+}
@@ -7,21 +7,48 @@
  */
 package io.camunda.zeebe.engine.state.instance;
 
+import static io.camunda.zeebe.engine.state.StateValueEncoding.BYTE_ORDER;
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 
 import io.camunda.zeebe.db.DbValue;
+import io.camunda.zeebe.engine.state.StateValueEncoding;
 import io.camunda.zeebe.msgpack.UnpackedObject;
 import io.camunda.zeebe.msgpack.property.IntegerProperty;
 import io.camunda.zeebe.msgpack.property.LongProperty;
 import io.camunda.zeebe.msgpack.property.StringProperty;
 import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import org.agrona.BitUtil;
 import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
+/**
+ * A timer as it is stored in the state. It is written as MessagePack map, or, if enabled by {@link
+ * #setCompactEncoding(boolean)}, in a compact layout (see {@link StateValueEncoding}):
+ *
+ * <pre>
+ * version | key | element instance key | process instance key | process definition key
+ *   | due date | repetitions | handler node id length | handler node id | tenant id length
+ *   | tenant id
+ * </pre>
+ *
+ * Timers are read in either format, regardless of the format they are written in.
+ */
 public final class TimerInstance extends UnpackedObject implements DbValue, TenantOwned {
 
   public static final long NO_ELEMENT_INSTANCE = -1L;
 
+  private static final byte VERSION = 1;
+  private static final int KEY_OFFSET = BitUtil.SIZE_OF_BYTE;
+  private static final int ELEMENT_INSTANCE_KEY_OFFSET = KEY_OFFSET + BitUtil.SIZE_OF_LONG;
+  private static final int PROCESS_INSTANCE_KEY_OFFSET =
+      ELEMENT_INSTANCE_KEY_OFFSET + BitUtil.SIZE_OF_LONG;
+  private static final int PROCESS_DEFINITION_KEY_OFFSET =
+      PROCESS_INSTANCE_KEY_OFFSET + BitUtil.SIZE_OF_LONG;
+  private static final int DUE_DATE_OFFSET = PROCESS_DEFINITION_KEY_OFFSET + BitUtil.SIZE_OF_LONG;
+  private static final int REPETITIONS_OFFSET = DUE_DATE_OFFSET + BitUtil.SIZE_OF_LONG;
+  private static final int HANDLER_NODE_ID_OFFSET = REPETITIONS_OFFSET + BitUtil.SIZE_OF_INT;
+
   private final StringProperty handlerNodeIdProp = new StringProperty("handlerNodeId", "");
   private final LongProperty processDefinitionKeyProp =
       new LongProperty("processDefinitionKey", 0L);
@@ -33,6 +60,8 @@ public final class TimerInstance extends UnpackedObject implements DbValue, Tena
   private final LongProperty dueDateProp = new LongProperty("dueDate", 0L);
   private final IntegerProperty repetitionsProp = new IntegerProperty("repetitions", 0);
 
+  private boolean isCompactEncoding;
+
   public TimerInstance() {
     super(8);
     declareProperty(handlerNodeIdProp)
@@ -101,12 +130,73 @@ public final class TimerInstance extends UnpackedObject implements DbValue, Tena
     processInstanceKeyProp.setValue(processInstanceKey);
   }
 
+  /**
+   * @param compactEncoding true to write the timer in the compact layout, false to write it as
+   *     MessagePack map
+   */
+  public void setCompactEncoding(final boolean compactEncoding) {
+    isCompactEncoding = compactEncoding;
+  }
+
   @Override
   public void wrap(final DirectBuffer buffer, final int offset, final int length) {
     final byte[] bytes = new byte[length];
     final UnsafeBuffer mutableBuffer = new UnsafeBuffer(bytes);
     buffer.getBytes(offset, bytes, 0, length);
-    super.wrap(mutableBuffer, 0, length);
+
+    if (!StateValueEncoding.isCompact(mutableBuffer, 0, length, VERSION)) {
+      super.wrap(mutableBuffer, 0, length);
+      return;
+    }
+
+    reset();
+    keyProp.setValue(mutableBuffer.getLong(KEY_OFFSET, BYTE_ORDER));
+    elementInstanceKeyProp.setValue(mutableBuffer.getLong(ELEMENT_INSTANCE_KEY_OFFSET, BYTE_ORDER));
+    processInstanceKeyProp.setValue(mutableBuffer.getLong(PROCESS_INSTANCE_KEY_OFFSET, BYTE_ORDER));
+    processDefinitionKeyProp.setValue(
+        mutableBuffer.getLong(PROCESS_DEFINITION_KEY_OFFSET, BYTE_ORDER));
+    dueDateProp.setValue(mutableBuffer.getLong(DUE_DATE_OFFSET, BYTE_ORDER));
+    repetitionsProp.setValue(mutableBuffer.getInt(REPETITIONS_OFFSET, BYTE_ORDER));
+
+    final int handlerNodeIdLength = mutableBuffer.getInt(HANDLER_NODE_ID_OFFSET, BYTE_ORDER);
+    final int handlerNodeIdOffset = HANDLER_NODE_ID_OFFSET + BitUtil.SIZE_OF_INT;
+    handlerNodeIdProp.setValue(mutableBuffer, handlerNodeIdOffset, handlerNodeIdLength);
+
+    final int tenantIdLengthOffset = handlerNodeIdOffset + handlerNodeIdLength;
+    final int tenantIdLength = mutableBuffer.getInt(tenantIdLengthOffset, BYTE_ORDER);
+    tenantIdProp.setValue(
+        mutableBuffer, tenantIdLengthOffset + BitUtil.SIZE_OF_INT, tenantIdLength);
+  }
+
+  @Override
+  public int getLength() {
+    if (!isCompactEncoding) {
+      return super.getLength();
+    }
+
+    return HANDLER_NODE_ID_OFFSET
+        + StateValueEncoding.lengthOfBytes(getHandlerNodeId())
+        + StateValueEncoding.lengthOfBytes(tenantIdProp.getValue());
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    if (!isCompactEncoding) {
+      super.write(buffer, offset);
+      return;
+    }
+
+    buffer.putByte(offset, VERSION);
+    buffer.putLong(offset + KEY_OFFSET, getKey(), BYTE_ORDER);
+    buffer.putLong(offset + ELEMENT_INSTANCE_KEY_OFFSET, getElementInstanceKey(), BYTE_ORDER);
+    buffer.putLong(offset + PROCESS_INSTANCE_KEY_OFFSET, getProcessInstanceKey(), BYTE_ORDER);
+    buffer.putLong(offset + PROCESS_DEFINITION_KEY_OFFSET, getProcessDefinitionKey(), BYTE_ORDER);
+    buffer.putLong(offset + DUE_DATE_OFFSET, getDueDate(), BYTE_ORDER);
+    buffer.putInt(offset + REPETITIONS_OFFSET, getRepetitions(), BYTE_ORDER);
+
+    final int tenantIdOffset =
+        StateValueEncoding.writeBytes(buffer, offset + HANDLER_NODE_ID_OFFSET, getHandlerNodeId());
+    StateValueEncoding.writeBytes(buffer, tenantIdOffset, tenantIdProp.getValue());
   }
 
   @Override
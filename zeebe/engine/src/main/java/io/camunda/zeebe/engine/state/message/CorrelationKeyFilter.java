@@ -0,0 +1,187 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.message;
+
+import org.agrona.BitUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.LongArrayList;
+
+/**
+ * An in-memory Bloom filter over the (tenant id, message name, correlation key) triples of a column
+ * family. It answers whether a triple may be contained, so that lookups for triples which are
+ * certainly not contained don't need to seek the column family at all. This is the common case when
+ * most messages are published without a waiting subscription, or most subscriptions are opened
+ * without a buffered message.
+ *
+ * <p>The filter is built lazily from the column family on the first lookup, and from then on
+ * triples are added eagerly whenever they are inserted. Triples are never removed; a removed triple
+ * is merely a false positive, which costs a seek as before. Since false positives accumulate, the
+ * filter is dropped once more triples were added than it was sized for, and built again from the
+ * remaining entries on the next lookup.
+ *
+ * <p>As the filter may contain triples which were only added in a transaction that was rolled back,
+ * or may have been built from a transaction that was rolled back, the owning state {@link #clear()
+ * clears} it whenever a transaction is rolled back.
+ */
+final class CorrelationKeyFilter {
+
+  private static final int BITS_PER_ENTRY = 10;
+  private static final int HASH_FUNCTIONS = 7;
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private final int minCapacity;
+
+  private long[] bits;
+  private long mask;
+  private int capacity;
+  private int addedSinceBuild;
+
+  /**
+   * @param minCapacity the number of triples the filter is sized for at least; if 0, the filter is
+   *     disabled and every triple may be contained
+   */
+  CorrelationKeyFilter(final int minCapacity) {
+    this.minCapacity = minCapacity;
+  }
+
+  boolean isEnabled() {
+    return minCapacity > 0;
+  }
+
+  /**
+   * Returns whether the given triple may be contained. Builds the filter with the given loader
+   * first if it is not built yet; the loader must visit all triples of the column family.
+   *
+   * <p>The given buffers are read before the loader is called, so they may be backed by the keys
+   * the loader iterates with.
+   *
+   * @return false if the triple is certainly not contained, true otherwise
+   */
+  boolean mightContain(
+      final DirectBuffer tenantId,
+      final DirectBuffer messageName,
+      final DirectBuffer correlationKey,
+      final Loader loader) {
+    if (!isEnabled()) {
+      return true;
+    }
+
+    final long hash = hash(tenantId, messageName, correlationKey);
+    if (bits == null) {
+      build(loader);
+    }
+
+    final long increment = increment(hash);
+    for (int i = 0; i < HASH_FUNCTIONS; i++) {
+      final long bit = (hash + i * increment) & mask;
+      if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Adds the given triple, if the filter is built already. Otherwise the triple is picked up once
+   * the filter is built.
+   */
+  void add(
+      final DirectBuffer tenantId,
+      final DirectBuffer messageName,
+      final DirectBuffer correlationKey) {
+    if (bits == null) {
+      return;
+    }
+
+    set(hash(tenantId, messageName, correlationKey));
+    addedSinceBuild++;
+    if (addedSinceBuild > capacity) {
+      // too many removed triples may linger; build the filter again from the live ones
+      clear();
+    }
+  }
+
+  /** Drops the filter; it is built again on the next lookup. */
+  void clear() {
+    bits = null;
+  }
+
+  private void build(final Loader loader) {
+    final var hashes = new LongArrayList();
+    loader.load(
+        (tenantId, messageName, correlationKey) ->
+            hashes.addLong(hash(tenantId, messageName, correlationKey)));
+
+    // leave room for as many new triples as there are live ones, so the filter is not built again
+    // too often
+    capacity = Math.max(minCapacity, hashes.size() * 2);
+    final long bitCount = BitUtil.findNextPositivePowerOfTwo((long) capacity * BITS_PER_ENTRY);
+    bits = new long[(int) Math.max(1, bitCount >>> 6)];
+    mask = Math.max(Long.SIZE, bitCount) - 1;
+    addedSinceBuild = 0;
+
+    for (int i = 0; i < hashes.size(); i++) {
+      set(hashes.getLong(i));
+    }
+  }
+
+  private void set(final long hash) {
+    final long increment = increment(hash);
+    for (int i = 0; i < HASH_FUNCTIONS; i++) {
+      final long bit = (hash + i * increment) & mask;
+      bits[(int) (bit >>> 6)] |= 1L << bit;
+    }
+  }
+
+  private static long hash(
+      final DirectBuffer tenantId,
+      final DirectBuffer messageName,
+      final DirectBuffer correlationKey) {
+    long hash = FNV_OFFSET_BASIS;
+    hash = hash(hash, tenantId);
+    hash = hash(hash, messageName);
+    hash = hash(hash, correlationKey);
+    return mix(hash);
+  }
+
+  private static long hash(long hash, final DirectBuffer buffer) {
+    final int length = buffer.capacity();
+    // include the length to distinguish e.g. ("ab", "c") from ("a", "bc")
+    hash = (hash ^ length) * FNV_PRIME;
+    for (int i = 0; i < length; i++) {
+      hash = (hash ^ buffer.getByte(i)) * FNV_PRIME;
+    }
+    return hash;
+  }
+
+  /** The increment between the probed bits (double hashing); odd, so it never cycles early. */
+  private static long increment(final long hash) {
+    return mix(hash ^ FNV_PRIME) | 1L;
+  }
+
+  private static long mix(long hash) {
+    // the finalizer of MurmurHash3, which spreads every input bit over the whole hash
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+
+  @FunctionalInterface
+  interface Loader {
+    void load(Visitor visitor);
+  }
+
+  @FunctionalInterface
+  interface Visitor {
+    void visit(DirectBuffer tenantId, DirectBuffer messageName, DirectBuffer correlationKey);
+  }
+}
@@ -11,6 +11,7 @@ import static io.camunda.zeebe.util.EnsureUtil.ensureGreaterThan;
 import static io.camunda.zeebe.util.EnsureUtil.ensureNotNullOrEmpty;
 
 import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.KeyValuePairVisitor;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
@@ -20,7 +21,9 @@ import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
+import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.metrics.BufferedMessagesMetrics;
+import io.camunda.zeebe.engine.state.duedate.DueDateIndex;
 import io.camunda.zeebe.engine.state.mutable.MutableMessageState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
@@ -70,8 +73,7 @@ public final class DbMessageState implements MutableMessageState {
   private final DbLong deadline;
 
   private final DbCompositeKey<DbLong, DbForeignKey<DbLong>> deadlineMessageKey;
-  private final ColumnFamily<DbCompositeKey<DbLong, DbForeignKey<DbLong>>, DbNil>
-      deadlineColumnFamily;
+  private final DueDateIndex<DbForeignKey<DbLong>> deadlineIndex;
 
   /**
    * <pre>count | key -> value
@@ -128,12 +130,28 @@ public final class DbMessageState implements MutableMessageState {
 
   private final BufferedMessagesMetrics bufferedMessagesMetrics;
 
+  /** may contain the (tenant id, message name, correlation key) of any buffered message */
+  private final CorrelationKeyFilter correlationKeyFilter;
+
   private Long localMessageDeadlineCount = 0L;
 
   public DbMessageState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final TransactionContext transactionContext,
       final int partitionId) {
+    // without a filter, since other instances of the state may modify the same column families
+    this(
+        zeebeDb,
+        transactionContext,
+        partitionId,
+        new EngineConfiguration().setMessagesCorrelationFilterCapacity(0));
+  }
+
+  public DbMessageState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final int partitionId,
+      final EngineConfiguration config) {
     messageKey = new DbLong();
     fkMessage = new DbForeignKey<>(messageKey, ZbColumnFamilies.MESSAGE_KEY);
     message = new StoredMessage();
@@ -156,12 +174,19 @@ public final class DbMessageState implements MutableMessageState {
 
     deadline = new DbLong();
     deadlineMessageKey = new DbCompositeKey<>(deadline, fkMessage);
-    deadlineColumnFamily =
+    final ColumnFamily<DbCompositeKey<DbLong, DbForeignKey<DbLong>>, DbNil> deadlineColumnFamily =
         zeebeDb.createColumnFamily(
             ZbColumnFamilies.MESSAGE_DEADLINES,
             transactionContext,
             deadlineMessageKey,
             DbNil.INSTANCE);
+    deadlineIndex =
+        new DueDateIndex<>(
+            DueDateIndex.Index.MESSAGE_DEADLINES,
+            zeebeDb,
+            transactionContext,
+            deadlineColumnFamily,
+            deadlineMessageKey);
 
     messagesDeadlineCount = new DbLong();
     messagesDeadlineCountKey = new DbString();
@@ -209,6 +234,8 @@ public final class DbMessageState implements MutableMessageState {
             correlationKey);
 
     bufferedMessagesMetrics = new BufferedMessagesMetrics(partitionId);
+    correlationKeyFilter = new CorrelationKeyFilter(config.getMessagesCorrelationFilterCapacity());
+    transactionContext.addRollbackListener(correlationKeyFilter::clear);
   }
 
   @Override
@@ -231,9 +258,11 @@ public final class DbMessageState implements MutableMessageState {
     messageName.wrapBuffer(record.getNameBuffer());
     correlationKey.wrapBuffer(record.getCorrelationKeyBuffer());
     nameCorrelationMessageColumnFamily.insert(nameCorrelationMessageKey, DbNil.INSTANCE);
+    correlationKeyFilter.add(
+        tenantIdKey.getBuffer(), messageName.getBuffer(), correlationKey.getBuffer());
 
     deadline.wrapLong(record.getDeadline());
-    deadlineColumnFamily.insert(deadlineMessageKey, DbNil.INSTANCE);
+    deadlineIndex.insert(deadlineMessageKey);
 
     localMessageDeadlineCount += 1L;
     messagesDeadlineCount.wrapLong(localMessageDeadlineCount);
@@ -333,7 +362,7 @@ public final class DbMessageState implements MutableMessageState {
     }
 
     deadline.wrapLong(storedMessage.getMessage().getDeadline());
-    deadlineColumnFamily.deleteExisting(deadlineMessageKey);
+    deadlineIndex.deleteExisting(deadlineMessageKey);
 
     localMessageDeadlineCount -= 1L;
     messagesDeadlineCount.wrapLong(localMessageDeadlineCount);
@@ -386,6 +415,10 @@ public final class DbMessageState implements MutableMessageState {
       final DirectBuffer name,
       final DirectBuffer correlationKey,
       final MessageVisitor visitor) {
+    if (!mightContainMessages(tenantId, name, correlationKey)) {
+      return;
+    }
+
     tenantIdKey.wrapString(tenantId);
     messageName.wrapBuffer(name);
     this.correlationKey.wrapBuffer(correlationKey);
@@ -408,17 +441,8 @@ public final class DbMessageState implements MutableMessageState {
   @Override
   public boolean visitMessagesWithDeadlineBeforeTimestamp(
       final long timestamp, final Index startAt, final ExpiredMessageVisitor visitor) {
-    final DbCompositeKey<DbLong, DbForeignKey<DbLong>> startAtKey;
-    if (startAt != null) {
-      deadline.wrapLong(startAt.deadline());
-      messageKey.wrapLong(startAt.key());
-      startAtKey = deadlineMessageKey;
-    } else {
-      startAtKey = null;
-    }
     final var stoppedByVisitor = new MutableBoolean(false);
-    deadlineColumnFamily.whileTrue(
-        startAtKey,
+    final KeyValuePairVisitor<DbCompositeKey<DbLong, DbForeignKey<DbLong>>, DbNil> deadlineVisitor =
         (key, value) -> {
           boolean shouldContinue = false;
           final long deadlineEntry = key.first().getValue();
@@ -428,7 +452,15 @@ public final class DbMessageState implements MutableMessageState {
             stoppedByVisitor.set(!shouldContinue);
           }
           return shouldContinue;
-        });
+        };
+
+    if (startAt != null) {
+      deadline.wrapLong(startAt.deadline());
+      messageKey.wrapLong(startAt.key());
+      deadlineIndex.whileTrue(deadlineMessageKey, deadlineVisitor);
+    } else {
+      deadlineIndex.whileTrue(deadlineVisitor);
+    }
 
     return stoppedByVisitor.get();
   }
@@ -439,6 +471,10 @@ public final class DbMessageState implements MutableMessageState {
       final DirectBuffer correlationKey,
       final DirectBuffer messageId,
       final String tenantId) {
+    if (!mightContainMessages(tenantId, name, correlationKey)) {
+      return false;
+    }
+
     tenantIdKey.wrapString(tenantId);
     messageName.wrapBuffer(name);
     this.correlationKey.wrapBuffer(correlationKey);
@@ -446,4 +482,33 @@ public final class DbMessageState implements MutableMessageState {
 
     return messageIdColumnFamily.exists(nameCorrelationMessageIdKey);
   }
+
+  private boolean mightContainMessages(
+      final String tenantId, final DirectBuffer name, final DirectBuffer correlationKey) {
+    tenantIdKey.wrapString(tenantId);
+    return correlationKeyFilter.mightContain(
+        tenantIdKey.getBuffer(), name, correlationKey, this::loadCorrelationKeys);
+  }
+
+  private void loadCorrelationKeys(final CorrelationKeyFilter.Visitor visitor) {
+    // every message id belongs to a buffered message, but include them to be on the safe side
+    nameCorrelationMessageColumnFamily.forEach(
+        (key, nil) -> {
+          visitCorrelationKey(key.first(), visitor);
+        });
+    messageIdColumnFamily.forEach(
+        (key, nil) -> {
+          visitCorrelationKey(key.first(), visitor);
+        });
+  }
+
+  private static void visitCorrelationKey(
+      final DbCompositeKey<DbTenantAwareKey<DbString>, DbString> nameAndCorrelationKey,
+      final CorrelationKeyFilter.Visitor visitor) {
+    final var tenantAwareMessageName = nameAndCorrelationKey.first();
+    visitor.visit(
+        tenantAwareMessageName.tenantKey().getBuffer(),
+        tenantAwareMessageName.wrappedKey().getBuffer(),
+        nameAndCorrelationKey.second().getBuffer());
+  }
 }
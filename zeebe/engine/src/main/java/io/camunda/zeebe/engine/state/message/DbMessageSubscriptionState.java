@@ -16,6 +16,7 @@ import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
+import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.Loggers;
 import io.camunda.zeebe.engine.state.immutable.PendingMessageSubscriptionState;
 import io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState.PendingSubscription;
@@ -54,12 +55,28 @@ public final class DbMessageSubscriptionState
           DbCompositeKey<DbTenantAwareKey<DbCompositeKey<DbString, DbString>>, DbLong>, DbNil>
       messageNameAndCorrelationKeyColumnFamily;
 
+  /** may contain the (tenant id, message name, correlation key) of any subscription */
+  private final CorrelationKeyFilter correlationKeyFilter;
+
   private final TransientPendingSubscriptionState transientState;
 
   public DbMessageSubscriptionState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final TransactionContext transactionContext,
       final TransientPendingSubscriptionState transientState) {
+    // without a filter, since other instances of the state may modify the same column families
+    this(
+        zeebeDb,
+        transactionContext,
+        transientState,
+        new EngineConfiguration().setMessagesCorrelationFilterCapacity(0));
+  }
+
+  public DbMessageSubscriptionState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final TransientPendingSubscriptionState transientState,
+      final EngineConfiguration config) {
 
     elementInstanceKey = new DbLong();
     messageName = new DbString();
@@ -85,6 +102,8 @@ public final class DbMessageSubscriptionState
             transactionContext,
             tenantAwareNameCorrelationAndElementInstanceKey,
             DbNil.INSTANCE);
+    correlationKeyFilter = new CorrelationKeyFilter(config.getMessagesCorrelationFilterCapacity());
+    transactionContext.addRollbackListener(correlationKeyFilter::clear);
     this.transientState = transientState;
   }
 
@@ -115,6 +134,10 @@ public final class DbMessageSubscriptionState
       final DirectBuffer correlationKey,
       final MessageSubscriptionVisitor visitor) {
 
+    if (!mightContainSubscriptions(tenantId, messageName, correlationKey)) {
+      return;
+    }
+
     tenantIdKey.wrapString(tenantId);
     this.messageName.wrapBuffer(messageName);
     this.correlationKey.wrapBuffer(correlationKey);
@@ -147,6 +170,8 @@ public final class DbMessageSubscriptionState
     correlationKey.wrapBuffer(record.getCorrelationKeyBuffer());
     messageNameAndCorrelationKeyColumnFamily.insert(
         tenantAwareNameCorrelationAndElementInstanceKey, DbNil.INSTANCE);
+    correlationKeyFilter.add(
+        tenantIdKey.getBuffer(), messageName.getBuffer(), correlationKey.getBuffer());
   }
 
   @Override
@@ -216,7 +241,8 @@ public final class DbMessageSubscriptionState
     tenantIdKey.wrapString(record.getTenantId());
     messageName.wrapBuffer(record.getMessageNameBuffer());
     correlationKey.wrapBuffer(record.getCorrelationKeyBuffer());
-    messageNameAndCorrelationKeyColumnFamily.deleteExisting(
+    // the entry is only written by insert(), which fails if it exists, so it's never overwritten
+    messageNameAndCorrelationKeyColumnFamily.deleteInsertedOnce(
         tenantAwareNameCorrelationAndElementInstanceKey);
 
     transientState.remove(
@@ -243,6 +269,25 @@ public final class DbMessageSubscriptionState
     subscriptionColumnFamily.update(elementKeyAndMessageName, messageSubscription);
   }
 
+  private boolean mightContainSubscriptions(
+      final String tenantId, final DirectBuffer messageName, final DirectBuffer correlationKey) {
+    tenantIdKey.wrapString(tenantId);
+    return correlationKeyFilter.mightContain(
+        tenantIdKey.getBuffer(), messageName, correlationKey, this::loadCorrelationKeys);
+  }
+
+  private void loadCorrelationKeys(final CorrelationKeyFilter.Visitor visitor) {
+    messageNameAndCorrelationKeyColumnFamily.forEach(
+        (key, nil) -> {
+          final var tenantAwareNameAndCorrelationKey = key.first();
+          final var nameAndCorrelationKey = tenantAwareNameAndCorrelationKey.wrappedKey();
+          visitor.visit(
+              tenantAwareNameAndCorrelationKey.tenantKey().getBuffer(),
+              nameAndCorrelationKey.first().getBuffer(),
+              nameAndCorrelationKey.second().getBuffer());
+        });
+  }
+
   private void updateCorrelatingFlag(
       final MessageSubscription subscription, final boolean correlating) {
     final var record = subscription.getRecord();
@@ -33,6 +33,14 @@ public interface MutableElementInstanceState extends ElementInstanceState {
   void setAwaitResultRequestMetadata(
       long processInstanceKey, AwaitProcessInstanceResultMetadata metadata);
 
+  /**
+   * Removes the metadata of the request which awaits the result of the given process instance, if
+   * any. The result of the process instance is no longer sent.
+   *
+   * @param processInstanceKey the key of the process instance
+   */
+  void removeAwaitResultRequestMetadata(long processInstanceKey);
+
   /**
    * Increments the number that counts how often the given sequence flow has been taken.
    *
@@ -82,4 +90,16 @@ public interface MutableElementInstanceState extends ElementInstanceState {
    * @param processDefinitionKey the key of the process definition to delete the reference for
    */
   void deleteProcessInstanceKeyByDefinitionKey(long processInstanceKey, long processDefinitionKey);
+
+  /**
+   * Adds the output element of a child instance of the given multi-instance body. The output
+   * elements are collected until the multi-instance body completes, and are removed together with
+   * the multi-instance body.
+   *
+   * @param multiInstanceBodyKey the key of the multi-instance body
+   * @param loopCounter the loop counter of the child instance that produced the output element
+   * @param outputElement the output element
+   */
+  void addMultiInstanceOutputElement(
+      long multiInstanceBodyKey, int loopCounter, DirectBuffer outputElement);
 }
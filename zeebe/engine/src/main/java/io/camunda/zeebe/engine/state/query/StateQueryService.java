@@ -12,10 +12,10 @@ import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.state.ProcessingDbState;
 import io.camunda.zeebe.engine.state.QueryService;
 import io.camunda.zeebe.engine.state.deployment.DeployedProcess;
+import io.camunda.zeebe.engine.state.deployment.DeployedResourceCache;
 import io.camunda.zeebe.engine.state.immutable.ProcessingState;
 import io.camunda.zeebe.engine.state.instance.ElementInstance;
 import io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState;
-import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
@@ -28,9 +28,16 @@ public final class StateQueryService implements QueryService {
   private volatile boolean isClosed;
   private ProcessingState state;
   private final ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private final int partitionId;
+  private final EngineConfiguration config;
 
-  public StateQueryService(final ZeebeDb<ZbColumnFamilies> zeebeDb) {
+  public StateQueryService(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final int partitionId,
+      final EngineConfiguration config) {
     this.zeebeDb = zeebeDb;
+    this.partitionId = partitionId;
+    this.config = config;
   }
 
   @Override
@@ -75,7 +82,7 @@ public final class StateQueryService implements QueryService {
       // we don't need a key generator here, so we set it to unsupported
       state =
           new ProcessingDbState(
-              Protocol.DEPLOYMENT_PARTITION,
+              partitionId,
               zeebeDb,
               zeebeDb.createContext(),
               () -> {
@@ -83,7 +90,12 @@ public final class StateQueryService implements QueryService {
               },
               new TransientPendingSubscriptionState(),
               new TransientPendingSubscriptionState(),
-              new EngineConfiguration());
+              // the processing state is modified concurrently, so cached instances may be stale
+              new EngineConfiguration()
+                  .setElementInstanceCacheCapacity(0)
+                  .setMessagesCorrelationFilterCapacity(0),
+              DeployedResourceCache.forQueryState(
+                  partitionId, config.getDeployedResourceCacheMemoryBudget()));
     }
   }
 }
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.engine.state.signal;
 
 import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.KeyValuePairVisitor;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
@@ -19,6 +20,7 @@ import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
 import io.camunda.zeebe.engine.state.mutable.MutableSignalSubscriptionState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.signal.SignalSubscriptionRecord;
+import java.util.function.BiFunction;
 import org.agrona.DirectBuffer;
 
 public final class DbSignalSubscriptionState implements MutableSignalSubscriptionState {
@@ -43,6 +45,8 @@ public final class DbSignalSubscriptionState implements MutableSignalSubscriptio
   private final ColumnFamily<DbCompositeKey<DbLong, DbTenantAwareKey<DbString>>, DbNil>
       subscriptionKeyAndSignalNameColumnFamily;
 
+  private final SignalSubscriptionCounts subscriptionCounts = new SignalSubscriptionCounts();
+
   public DbSignalSubscriptionState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
     signalName = new DbString();
@@ -66,6 +70,8 @@ public final class DbSignalSubscriptionState implements MutableSignalSubscriptio
             transactionContext,
             subscriptionKeyAndTenantAwareSignalName,
             DbNil.INSTANCE);
+
+    transactionContext.addRollbackListener(subscriptionCounts::clear);
   }
 
   @Override
@@ -74,6 +80,9 @@ public final class DbSignalSubscriptionState implements MutableSignalSubscriptio
 
     wrapSubscriptionKeys(subscription);
 
+    if (!signalNameAndSubscriptionKeyColumnFamily.exists(tenantAwareSignalNameAndSubscriptionKey)) {
+      subscriptionCounts.increment(tenantIdKey.getBuffer(), signalName.getBuffer());
+    }
     signalNameAndSubscriptionKeyColumnFamily.upsert(
         tenantAwareSignalNameAndSubscriptionKey, signalSubscription);
     subscriptionKeyAndSignalNameColumnFamily.upsert(
@@ -89,6 +98,7 @@ public final class DbSignalSubscriptionState implements MutableSignalSubscriptio
         tenantAwareSignalNameAndSubscriptionKey);
     subscriptionKeyAndSignalNameColumnFamily.deleteExisting(
         subscriptionKeyAndTenantAwareSignalName);
+    subscriptionCounts.decrement(tenantIdKey.getBuffer(), this.signalName.getBuffer());
   }
 
   @Override
@@ -111,6 +121,36 @@ public final class DbSignalSubscriptionState implements MutableSignalSubscriptio
         });
   }
 
+  @Override
+  public void visitBySignalName(
+      final DirectBuffer signalName,
+      final String tenantId,
+      final long startAtSubscriptionKey,
+      final BiFunction<Long, SignalSubscription, Boolean> visitor) {
+    wrapSubscriptionKeys(startAtSubscriptionKey, signalName, tenantId);
+    final KeyValuePairVisitor<
+            DbCompositeKey<DbTenantAwareKey<DbString>, DbLong>, SignalSubscription>
+        subscriptionVisitor = (key, value) -> visitor.apply(key.second().getValue(), value);
+
+    if (startAtSubscriptionKey < 0) {
+      // negative keys would be ordered after all others
+      signalNameAndSubscriptionKeyColumnFamily.whileEqualPrefix(
+          tenantAwareSignalName, subscriptionVisitor);
+    } else {
+      signalNameAndSubscriptionKeyColumnFamily.whileEqualPrefix(
+          tenantAwareSignalName, tenantAwareSignalNameAndSubscriptionKey, subscriptionVisitor);
+    }
+  }
+
+  @Override
+  public boolean hasSubscriptions(final DirectBuffer signalName, final String tenantId) {
+    tenantIdKey.wrapString(tenantId);
+    this.signalName.wrapBuffer(signalName);
+    return subscriptionCounts.get(
+            tenantIdKey.getBuffer(), this.signalName.getBuffer(), this::loadSubscriptionCounts)
+        > 0;
+  }
+
   @Override
   public void visitStartEventSubscriptionsByProcessDefinitionKey(
       final long processDefinitionKey, final SignalSubscriptionVisitor visitor) {
@@ -140,6 +180,13 @@ public final class DbSignalSubscriptionState implements MutableSignalSubscriptio
         });
   }
 
+  private void loadSubscriptionCounts(final SignalSubscriptionCounts.Visitor visitor) {
+    signalNameAndSubscriptionKeyColumnFamily.forEach(
+        (key, value) -> {
+          visitor.visit(key.first().tenantKey().getBuffer(), key.first().wrappedKey().getBuffer());
+        });
+  }
+
   private void wrapSubscriptionKeys(final SignalSubscriptionRecord subscription) {
     final var key = subscription.getSubscriptionKey();
     wrapSubscriptionKeys(key, subscription.getSignalNameBuffer(), subscription.getTenantId());
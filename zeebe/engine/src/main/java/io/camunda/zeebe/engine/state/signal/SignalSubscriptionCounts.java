@@ -0,0 +1,112 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.signal;
+
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.collections.Object2IntHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * An in-memory count of the signal subscriptions per (tenant id, signal name) pair of a column
+ * family. It answers how many subscriptions exist for a signal without seeking the column family,
+ * so that a broadcast of a signal nobody listens for can be skipped right away.
+ *
+ * <p>The counts are built lazily from the column family on the first lookup, and from then on are
+ * updated whenever a subscription is added or removed.
+ *
+ * <p>As the counts may contain changes of a transaction that was rolled back, or may have been
+ * built from a transaction that was rolled back, the owning state {@link #clear() clears} them
+ * whenever a transaction is rolled back.
+ */
+final class SignalSubscriptionCounts {
+
+  private static final int MISSING_VALUE = 0;
+
+  private final Object2IntHashMap<DirectBuffer> counts = new Object2IntHashMap<>(MISSING_VALUE);
+  private final ExpandableArrayBuffer keyBuffer = new ExpandableArrayBuffer();
+  private final DirectBuffer keyView = new UnsafeBuffer(0, 0);
+  private boolean isBuilt;
+
+  /**
+   * Returns the number of subscriptions of the given signal. Builds the counts with the given
+   * loader first if they are not built yet; the loader must visit all subscriptions of the column
+   * family.
+   */
+  int get(final DirectBuffer tenantId, final DirectBuffer signalName, final Loader loader) {
+    if (!isBuilt) {
+      // the buffers may be backed by the keys the loader iterates with, so copy them first
+      final var tenantIdCopy = BufferUtil.cloneBuffer(tenantId);
+      final var signalNameCopy = BufferUtil.cloneBuffer(signalName);
+      loader.load(this::add);
+      isBuilt = true;
+      return counts.getValue(wrapKey(tenantIdCopy, signalNameCopy));
+    }
+
+    return counts.getValue(wrapKey(tenantId, signalName));
+  }
+
+  /** Counts an added subscription; does nothing if the counts are not built yet. */
+  void increment(final DirectBuffer tenantId, final DirectBuffer signalName) {
+    if (isBuilt) {
+      add(tenantId, signalName);
+    }
+  }
+
+  /** Counts a removed subscription; does nothing if the counts are not built yet. */
+  void decrement(final DirectBuffer tenantId, final DirectBuffer signalName) {
+    if (!isBuilt) {
+      return;
+    }
+
+    final var key = wrapKey(tenantId, signalName);
+    final int count = counts.getValue(key);
+    if (count <= 1) {
+      counts.removeKey(key);
+    } else {
+      counts.put(key, count - 1);
+    }
+  }
+
+  void clear() {
+    counts.clear();
+    isBuilt = false;
+  }
+
+  private void add(final DirectBuffer tenantId, final DirectBuffer signalName) {
+    final var key = wrapKey(tenantId, signalName);
+    final int count = counts.getValue(key);
+    if (count == MISSING_VALUE) {
+      counts.put(BufferUtil.cloneBuffer(key), 1);
+    } else {
+      counts.put(key, count + 1);
+    }
+  }
+
+  private DirectBuffer wrapKey(final DirectBuffer tenantId, final DirectBuffer signalName) {
+    // prefix the tenant id with its length to keep the pairs unambiguous
+    final int tenantIdLength = tenantId.capacity();
+    keyBuffer.putInt(0, tenantIdLength);
+    keyBuffer.putBytes(Integer.BYTES, tenantId, 0, tenantIdLength);
+    keyBuffer.putBytes(Integer.BYTES + tenantIdLength, signalName, 0, signalName.capacity());
+
+    keyView.wrap(keyBuffer, 0, Integer.BYTES + tenantIdLength + signalName.capacity());
+    return keyView;
+  }
+
+  @FunctionalInterface
+  interface Loader {
+    void load(Visitor visitor);
+  }
+
+  @FunctionalInterface
+  interface Visitor {
+    void visit(DirectBuffer tenantId, DirectBuffer signalName);
+  }
+}
@@ -10,9 +10,11 @@ package io.camunda.zeebe.engine.state.variable;
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbBytes;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.state.instance.ParentScopeKey;
 import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
@@ -26,13 +28,22 @@ import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
-import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.LongHashSet;
 import org.agrona.collections.MutableInteger;
 import org.agrona.collections.ObjectHashSet;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public class DbVariableState implements MutableVariableState {
 
+  /**
+   * Up to this number of requested variable names, the variables are looked up by name in each
+   * scope instead of iterating over all variables of the scope. Jobs usually fetch only a handful
+   * of variables, while the scopes may contain many (and large) variables.
+   */
+  private static final int MAX_NAMES_FOR_POINT_LOOKUP = 16;
+
+  private static final DirectBuffer EMPTY_VALUE = new UnsafeBuffer(new byte[0]);
+
   private final MsgPackWriter writer = new MsgPackWriter();
   private final ExpandableArrayBuffer documentResultBuffer = new ExpandableArrayBuffer();
   private final DirectBuffer resultView = new UnsafeBuffer(0, 0);
@@ -49,15 +60,39 @@ public class DbVariableState implements MutableVariableState {
   private final DbLong scopeKey;
   private final DbString variableName;
 
-  private final VariableInstance newVariable = new VariableInstance();
+  // (variable key) => (variable value), for values larger than the offload threshold
+  private final ColumnFamily<DbLong, DbBytes> variableBlobsColumnFamily;
+  private final DbLong blobKey;
+  private final DbBytes blobValue;
+  private final int offloadThreshold;
+  // whether the state may contain offloaded values, which have to be cleaned up when the variable
+  // is overwritten; null until it is checked on the first write
+  private Boolean mayContainBlobs;
+
+  private final VariableInstance newVariable;
   private final DirectBuffer variableNameView = new UnsafeBuffer(0, 0);
 
   // collecting variables
   private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
+  private final List<UnsafeBuffer> collectedVariableNameViews = new ArrayList<>();
   private final ObjectHashSet<DirectBuffer> variablesToCollect = new ObjectHashSet<>();
+  private final MutableInteger collectedVariableCount = new MutableInteger();
+  private final ParentScopeVariables parentScopeVariables = new ParentScopeVariables();
+  private final LongHashSet parentScopeKeys = new LongHashSet();
 
   public DbVariableState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+    this(zeebeDb, transactionContext, new EngineConfiguration());
+  }
+
+  public DbVariableState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final EngineConfiguration config) {
+    offloadThreshold = config.getVariablesOffloadThreshold();
+    newVariable =
+        new VariableInstance().setCompactEncoding(config.isStateCompactValueEncodingEnabled());
+
     childKey = new DbLong();
     childParentColumnFamily =
         zeebeDb.createColumnFamily(
@@ -75,6 +110,14 @@ public class DbVariableState implements MutableVariableState {
             transactionContext,
             scopeKeyVariableNameKey,
             new VariableInstance());
+
+    blobKey = new DbLong();
+    blobValue = new DbBytes();
+    variableBlobsColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.VARIABLE_BLOBS, transactionContext, blobKey, blobValue);
+
+    transactionContext.addRollbackListener(parentScopeVariables::clear);
   }
 
   @Override
@@ -100,14 +143,37 @@ public class DbVariableState implements MutableVariableState {
       final int valueOffset,
       final int valueLength) {
 
-    newVariable.reset();
-    newVariable.setValue(value, valueOffset, valueLength);
-    newVariable.setKey(key);
+    parentScopeVariables.invalidate(scopeKey);
 
     this.scopeKey.wrapLong(scopeKey);
     variableNameView.wrap(name, nameOffset, nameLength);
     variableName.wrapBuffer(variableNameView);
 
+    final boolean offload = offloadThreshold > 0 && valueLength > offloadThreshold;
+    if (mayContainBlobs()) {
+      // only offloaded values need to be cleaned up, so without them the lookup can be skipped
+      final VariableInstance existingVariable = variablesColumnFamily.get(scopeKeyVariableNameKey);
+      if (existingVariable != null
+          && existingVariable.isOffloaded()
+          && (!offload || existingVariable.getKey() != key)) {
+        deleteBlob(existingVariable.getKey());
+      }
+    }
+
+    newVariable.reset();
+    newVariable.setKey(key);
+    if (offload) {
+      blobKey.wrapLong(key);
+      blobValue.wrapBuffer(value, valueOffset, valueLength);
+      variableBlobsColumnFamily.upsert(blobKey, blobValue);
+      mayContainBlobs = true;
+
+      newVariable.setOffloaded(true);
+      newVariable.setValue(EMPTY_VALUE, 0, 0);
+    } else {
+      newVariable.setValue(value, valueOffset, valueLength);
+    }
+
     variablesColumnFamily.upsert(scopeKeyVariableNameKey, newVariable);
   }
 
@@ -132,10 +198,16 @@ public class DbVariableState implements MutableVariableState {
 
   @Override
   public void removeAllVariables(final long scopeKey) {
+    parentScopeVariables.invalidate(scopeKey);
     visitVariablesLocal(
         scopeKey,
         dbString -> true,
-        (dbString, variable1) -> variablesColumnFamily.deleteExisting(scopeKeyVariableNameKey),
+        (name, variable) -> {
+          if (variable.isOffloaded()) {
+            deleteBlob(variable.getKey());
+          }
+          variablesColumnFamily.deleteExisting(scopeKeyVariableNameKey);
+        },
         () -> false);
   }
 
@@ -144,7 +216,7 @@ public class DbVariableState implements MutableVariableState {
     final VariableInstance variable = getVariableLocal(scopeKey, name, 0, name.capacity());
 
     if (variable != null) {
-      return variable.getValue();
+      return getValue(variable);
     } else {
       return null;
     }
@@ -183,7 +255,7 @@ public class DbVariableState implements MutableVariableState {
           getVariableLocal(currentScopeKey, name, nameOffset, nameLength);
 
       if (variable != null) {
-        return variable.getValue();
+        return getValue(variable);
       }
 
       currentScopeKey = getParentScopeKey(currentScopeKey);
@@ -194,28 +266,36 @@ public class DbVariableState implements MutableVariableState {
 
   @Override
   public DirectBuffer getVariablesAsDocument(final long scopeKey) {
-
     collectedVariables.clear();
+    collectedVariableCount.set(0);
     writer.wrap(documentResultBuffer, 0);
-
     writer.reserveMapHeader();
 
-    visitVariables(
-        scopeKey,
-        name -> !collectedVariables.contains(name.getBuffer()),
-        (name, value) -> {
-          final DirectBuffer variableNameBuffer = name.getBuffer();
-          writer.writeString(variableNameBuffer);
-          writer.writeRaw(value.getValue());
-
-          // must create a new name wrapper, because we keep them all in the hashset at the same
-          // time
-          final MutableDirectBuffer nameView = new UnsafeBuffer(variableNameBuffer);
-          collectedVariables.add(nameView);
-        },
-        () -> false);
+    long currentScopeKey = scopeKey;
+    do {
+      final long parentScopeKey = getParentScopeKey(currentScopeKey);
+      // variables of the outermost scope can't shadow any other variable, so we don't need to
+      // remember their names
+      final boolean isOutermostScope = parentScopeKey < 0;
+
+      visitVariablesLocal(
+          currentScopeKey,
+          name -> !collectedVariables.contains(name.getBuffer()),
+          (name, value) -> {
+            writer.writeString(name.getBuffer());
+            writer.writeRaw(getValue(value));
+            collectedVariableCount.increment();
+
+            if (!isOutermostScope) {
+              collectedVariables.add(collectedVariableNameView(name.getBuffer()));
+            }
+          },
+          () -> false);
+
+      currentScopeKey = parentScopeKey;
+    } while (currentScopeKey >= 0);
 
-    writer.writeReservedMapHeader(0, collectedVariables.size());
+    writer.writeReservedMapHeader(0, collectedVariableCount.get());
 
     resultView.wrap(documentResultBuffer, 0, writer.getOffset());
     return resultView;
@@ -227,23 +307,76 @@ public class DbVariableState implements MutableVariableState {
 
     variablesToCollect.clear();
     variablesToCollect.addAll(names);
+    collectedVariableCount.set(0);
 
     writer.wrap(documentResultBuffer, 0);
+    writer.reserveMapHeader();
+
+    if (variablesToCollect.size() <= MAX_NAMES_FOR_POINT_LOOKUP) {
+      collectVariablesByName(scopeKey, names);
+    } else {
+      visitVariables(
+          scopeKey,
+          name -> variablesToCollect.contains(name.getBuffer()),
+          (name, value) -> {
+            writer.writeString(name.getBuffer());
+            writer.writeRaw(getValue(value));
+            collectedVariableCount.increment();
+
+            variablesToCollect.remove(name.getBuffer());
+          },
+          variablesToCollect::isEmpty);
+    }
+
+    writer.writeReservedMapHeader(0, collectedVariableCount.get());
+
+    resultView.wrap(documentResultBuffer, 0, writer.getOffset());
+    return resultView;
+  }
+
+  @Override
+  public DirectBuffer getVariablesAsDocumentWithCachedParentScope(
+      final long scopeKey, final Collection<DirectBuffer> names) {
+    final long parentScopeKey = getParentScopeKey(scopeKey);
+    if (parentScopeKey < 0) {
+      return names.isEmpty()
+          ? getVariablesAsDocument(scopeKey)
+          : getVariablesAsDocument(scopeKey, names);
+    }
+
+    if (!parentScopeVariables.isCached(parentScopeKey, names)) {
+      cacheParentScopeVariables(parentScopeKey, names);
+    }
 
+    collectedVariables.clear();
+    collectedVariableCount.set(0);
+    variablesToCollect.clear();
+    variablesToCollect.addAll(names);
+    writer.wrap(documentResultBuffer, 0);
     writer.reserveMapHeader();
 
-    visitVariables(
+    visitVariablesLocal(
         scopeKey,
-        name -> variablesToCollect.contains(name.getBuffer()),
+        name -> variablesToCollect.isEmpty() || variablesToCollect.contains(name.getBuffer()),
         (name, value) -> {
           writer.writeString(name.getBuffer());
-          writer.writeRaw(value.getValue());
-
-          variablesToCollect.remove(name.getBuffer());
+          writer.writeRaw(getValue(value));
+          collectedVariableCount.increment();
+          collectedVariables.add(collectedVariableNameView(name.getBuffer()));
         },
-        variablesToCollect::isEmpty);
+        () -> false);
+
+    // the local variables shadow the ones of the parent scope
+    parentScopeVariables.forEach(
+        (name, value) -> {
+          if (!collectedVariables.contains(name)) {
+            writer.writeString(name);
+            writer.writeRaw(value);
+            collectedVariableCount.increment();
+          }
+        });
 
-    writer.writeReservedMapHeader(0, names.size() - variablesToCollect.size());
+    writer.writeReservedMapHeader(0, collectedVariableCount.get());
 
     resultView.wrap(documentResultBuffer, 0, writer.getOffset());
     return resultView;
@@ -260,7 +393,7 @@ public class DbVariableState implements MutableVariableState {
         name -> true,
         (name, value) -> {
           writer.writeString(name.getBuffer());
-          writer.writeRaw(value.getValue());
+          writer.writeRaw(getValue(value));
 
           variableCount.addAndGet(1);
         },
@@ -274,7 +407,9 @@ public class DbVariableState implements MutableVariableState {
 
   @Override
   public boolean isEmpty() {
-    return variablesColumnFamily.isEmpty() && childParentColumnFamily.isEmpty();
+    return variablesColumnFamily.isEmpty()
+        && childParentColumnFamily.isEmpty()
+        && variableBlobsColumnFamily.isEmpty();
   }
 
   @Override
@@ -289,14 +424,19 @@ public class DbVariableState implements MutableVariableState {
                     variable.getKey(),
                     scopeKey,
                     BufferUtil.cloneBuffer(name.getBuffer()),
-                    BufferUtil.cloneBuffer(variable.getValue()))),
+                    BufferUtil.cloneBuffer(getValue(variable)))),
         () -> false);
     return variables;
   }
 
   @Override
   public VariableInstance getVariableInstanceLocal(final long scopeKey, final DirectBuffer name) {
-    return getVariableLocal(scopeKey, name, 0, name.capacity());
+    final VariableInstance variable = getVariableLocal(scopeKey, name, 0, name.capacity());
+    if (variable != null && variable.isOffloaded()) {
+      final DirectBuffer value = getValue(variable);
+      variable.setValue(value, 0, value.capacity());
+    }
+    return variable;
   }
 
   @Override
@@ -307,6 +447,98 @@ public class DbVariableState implements MutableVariableState {
     return parentScopeKey != null ? parentScopeKey.get() : NO_PARENT;
   }
 
+  private void cacheParentScopeVariables(
+      final long parentScopeKey, final Collection<DirectBuffer> names) {
+    parentScopeKeys.clear();
+    long currentScopeKey = parentScopeKey;
+    do {
+      parentScopeKeys.add(currentScopeKey);
+      currentScopeKey = getParentScopeKey(currentScopeKey);
+    } while (currentScopeKey >= 0);
+
+    final DirectBuffer variables =
+        names.isEmpty()
+            ? getVariablesAsDocument(parentScopeKey)
+            : getVariablesAsDocument(parentScopeKey, names);
+    parentScopeVariables.cache(parentScopeKey, names, variables, parentScopeKeys);
+  }
+
+  /**
+   * Writes the variables with the given names to the document, looking them up by name in the given
+   * scope and its parent scopes, until all variables are found or there is no parent scope. Expects
+   * {@link #variablesToCollect} to contain the names.
+   */
+  private void collectVariablesByName(final long scopeKey, final Collection<DirectBuffer> names) {
+    long currentScopeKey = scopeKey;
+    do {
+      for (final DirectBuffer name : names) {
+        if (!variablesToCollect.contains(name)) {
+          continue;
+        }
+
+        final VariableInstance variable =
+            getVariableLocal(currentScopeKey, name, 0, name.capacity());
+        if (variable != null) {
+          writer.writeString(name);
+          writer.writeRaw(getValue(variable));
+          collectedVariableCount.increment();
+
+          variablesToCollect.remove(name);
+        }
+      }
+
+      currentScopeKey = getParentScopeKey(currentScopeKey);
+    } while (!variablesToCollect.isEmpty() && currentScopeKey >= 0);
+  }
+
+  /**
+   * Returns a view of the given variable name which can be kept in {@link #collectedVariables}. The
+   * views are reused across calls; this is safe as each decoded variable name is backed by its own
+   * array.
+   */
+  private DirectBuffer collectedVariableNameView(final DirectBuffer name) {
+    final int index = collectedVariables.size();
+    if (index == collectedVariableNameViews.size()) {
+      collectedVariableNameViews.add(new UnsafeBuffer(0, 0));
+    }
+
+    final UnsafeBuffer nameView = collectedVariableNameViews.get(index);
+    nameView.wrap(name);
+    return nameView;
+  }
+
+  /**
+   * Returns the value of the given variable. If the value is offloaded, it is read from the blob
+   * column family; the returned buffer is only valid until the next blob is read.
+   */
+  private DirectBuffer getValue(final VariableInstance variable) {
+    if (!variable.isOffloaded()) {
+      return variable.getValue();
+    }
+
+    blobKey.wrapLong(variable.getKey());
+    final DbBytes blob = variableBlobsColumnFamily.get(blobKey);
+    if (blob == null) {
+      throw new IllegalStateException(
+          "Expected to find the value of variable with key %d, but no value found"
+              .formatted(variable.getKey()));
+    }
+    return blob.getDirectBuffer();
+  }
+
+  private boolean mayContainBlobs() {
+    if (mayContainBlobs == null) {
+      // offloading may have been enabled before, even if it is disabled now
+      mayContainBlobs = offloadThreshold > 0 || !variableBlobsColumnFamily.isEmpty();
+    }
+    return mayContainBlobs;
+  }
+
+  private void deleteBlob(final long variableKey) {
+    blobKey.wrapLong(variableKey);
+    variableBlobsColumnFamily.deleteIfExists(blobKey);
+  }
+
   private VariableInstance getVariableLocal(
       final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
     this.scopeKey.wrapLong(scopeKey);
@@ -0,0 +1,116 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.variable;
+
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiConsumer;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.collections.IntArrayList;
+import org.agrona.collections.LongHashSet;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Caches the variables that the child scopes of a single parent scope inherit from it, i.e. the
+ * variables visible in the parent scope, optionally restricted to some names. Sibling scopes, like
+ * the inner instances of a multi-instance body, can then collect their variables without walking up
+ * the shared scopes again.
+ *
+ * <p>The cached variables depend on the variables of the parent scope and all its ancestors. The
+ * cache must be {@link #invalidate(long) invalidated} whenever a variable of one of these scopes
+ * changes, and {@link #clear() cleared} whenever a transaction is rolled back.
+ */
+final class ParentScopeVariables {
+
+  private static final long NO_SCOPE = -1L;
+
+  private final ExpandableArrayBuffer document = new ExpandableArrayBuffer();
+  private final MsgPackReader reader = new MsgPackReader();
+  private final DirectBuffer nameView = new UnsafeBuffer(0, 0);
+  private final DirectBuffer valueView = new UnsafeBuffer(0, 0);
+
+  // for each variable: name offset, name length, value offset, value length
+  private final IntArrayList variableOffsets = new IntArrayList();
+  private final LongHashSet dependentScopeKeys = new LongHashSet();
+  private final List<DirectBuffer> names = new ArrayList<>();
+
+  private long parentScopeKey = NO_SCOPE;
+
+  /** Returns true if the variables of the given parent scope, with the given names, are cached. */
+  boolean isCached(final long parentScopeKey, final Collection<DirectBuffer> names) {
+    return this.parentScopeKey == parentScopeKey
+        && this.names.size() == names.size()
+        && this.names.containsAll(names);
+  }
+
+  /**
+   * Caches the variables of the given parent scope.
+   *
+   * @param parentScopeKey the key of the parent scope
+   * @param names the names the variables are restricted to, or empty for all variables
+   * @param variables the document of the variables visible in the parent scope
+   * @param scopeKeys the key of the parent scope and its ancestors
+   */
+  void cache(
+      final long parentScopeKey,
+      final Collection<DirectBuffer> names,
+      final DirectBuffer variables,
+      final LongHashSet scopeKeys) {
+    clear();
+
+    document.putBytes(0, variables, 0, variables.capacity());
+    reader.wrap(document, 0, variables.capacity());
+    final int size = reader.readMapHeader();
+    for (int i = 0; i < size; i++) {
+      final int nameLength = reader.readStringLength();
+      variableOffsets.addInt(reader.getOffset());
+      variableOffsets.addInt(nameLength);
+      reader.skipBytes(nameLength);
+
+      final int valueOffset = reader.getOffset();
+      reader.skipValue();
+      variableOffsets.addInt(valueOffset);
+      variableOffsets.addInt(reader.getOffset() - valueOffset);
+    }
+
+    names.forEach(name -> this.names.add(BufferUtil.cloneBuffer(name)));
+    dependentScopeKeys.addAll(scopeKeys);
+    this.parentScopeKey = parentScopeKey;
+  }
+
+  /**
+   * Visits the cached variables. The given buffers are only valid during the visit.
+   *
+   * @param visitor receives the name and the value of each variable
+   */
+  void forEach(final BiConsumer<DirectBuffer, DirectBuffer> visitor) {
+    for (int i = 0; i < variableOffsets.size(); i += 4) {
+      nameView.wrap(document, variableOffsets.getInt(i), variableOffsets.getInt(i + 1));
+      valueView.wrap(document, variableOffsets.getInt(i + 2), variableOffsets.getInt(i + 3));
+      visitor.accept(nameView, valueView);
+    }
+  }
+
+  /** Invalidates the cache if it depends on the variables of the given scope. */
+  void invalidate(final long scopeKey) {
+    if (dependentScopeKeys.contains(scopeKey)) {
+      clear();
+    }
+  }
+
+  void clear() {
+    parentScopeKey = NO_SCOPE;
+    variableOffsets.clear();
+    dependentScopeKeys.clear();
+    names.clear();
+  }
+}
@@ -7,20 +7,44 @@
  */
 package io.camunda.zeebe.engine.state.variable;
 
+import static io.camunda.zeebe.engine.state.StateValueEncoding.BYTE_ORDER;
+
 import io.camunda.zeebe.db.DbValue;
+import io.camunda.zeebe.engine.state.StateValueEncoding;
 import io.camunda.zeebe.msgpack.UnpackedObject;
 import io.camunda.zeebe.msgpack.property.BinaryProperty;
+import io.camunda.zeebe.msgpack.property.BooleanProperty;
 import io.camunda.zeebe.msgpack.property.LongProperty;
+import org.agrona.BitUtil;
 import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
 
+/**
+ * A variable as it is stored in the state. It is written as MessagePack map, or, if enabled by
+ * {@link #setCompactEncoding(boolean)}, in a compact layout (see {@link StateValueEncoding}):
+ *
+ * <pre>version | flags | key | value length | value</pre>
+ *
+ * Variables are read in either format, regardless of the format they are written in.
+ */
 public final class VariableInstance extends UnpackedObject implements DbValue {
 
+  private static final byte VERSION = 1;
+  private static final byte OFFLOADED_FLAG = 1;
+  private static final int FLAGS_OFFSET = BitUtil.SIZE_OF_BYTE;
+  private static final int KEY_OFFSET = FLAGS_OFFSET + BitUtil.SIZE_OF_BYTE;
+  private static final int VALUE_OFFSET = KEY_OFFSET + BitUtil.SIZE_OF_LONG;
+
   private final LongProperty keyProp = new LongProperty("key");
   private final BinaryProperty valueProp = new BinaryProperty("value");
+  // if true, the value is stored in the VARIABLE_BLOBS column family by the key of the variable
+  private final BooleanProperty offloadedProp = new BooleanProperty("offloaded", false);
+
+  private boolean isCompactEncoding;
 
   public VariableInstance() {
-    super(2);
-    declareProperty(keyProp).declareProperty(valueProp);
+    super(3);
+    declareProperty(keyProp).declareProperty(valueProp).declareProperty(offloadedProp);
   }
 
   public long getKey() {
@@ -40,4 +64,59 @@ public final class VariableInstance extends UnpackedObject implements DbValue {
   public DirectBuffer getValue() {
     return valueProp.getValue();
   }
+
+  public boolean isOffloaded() {
+    return offloadedProp.getValue();
+  }
+
+  public VariableInstance setOffloaded(final boolean offloaded) {
+    offloadedProp.setValue(offloaded);
+    return this;
+  }
+
+  /**
+   * @param compactEncoding true to write the variable in the compact layout, false to write it as
+   *     MessagePack map
+   */
+  public VariableInstance setCompactEncoding(final boolean compactEncoding) {
+    isCompactEncoding = compactEncoding;
+    return this;
+  }
+
+  @Override
+  public void wrap(final DirectBuffer buffer, final int offset, final int length) {
+    if (!StateValueEncoding.isCompact(buffer, offset, length, VERSION)) {
+      super.wrap(buffer, offset, length);
+      return;
+    }
+
+    reset();
+    final byte flags = buffer.getByte(offset + FLAGS_OFFSET);
+    offloadedProp.setValue((flags & OFFLOADED_FLAG) != 0);
+    keyProp.setValue(buffer.getLong(offset + KEY_OFFSET, BYTE_ORDER));
+    final int valueLength = buffer.getInt(offset + VALUE_OFFSET, BYTE_ORDER);
+    valueProp.setValue(buffer, offset + VALUE_OFFSET + BitUtil.SIZE_OF_INT, valueLength);
+  }
+
+  @Override
+  public int getLength() {
+    if (!isCompactEncoding) {
+      return super.getLength();
+    }
+
+    return VALUE_OFFSET + StateValueEncoding.lengthOfBytes(getValue());
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    if (!isCompactEncoding) {
+      super.write(buffer, offset);
+      return;
+    }
+
+    buffer.putByte(offset, VERSION);
+    buffer.putByte(offset + FLAGS_OFFSET, isOffloaded() ? OFFLOADED_FLAG : 0);
+    buffer.putLong(offset + KEY_OFFSET, getKey(), BYTE_ORDER);
+    StateValueEncoding.writeBytes(buffer, offset + VALUE_OFFSET, getValue());
+  }
 }
@@ -13,7 +13,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.camunda.zeebe.el.Expression;
@@ -22,7 +24,11 @@ import io.camunda.zeebe.engine.processing.bpmn.BpmnElementContext;
 import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableLoopCharacteristics;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableMultiInstanceBody;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
+import io.camunda.zeebe.engine.state.immutable.ElementInstanceState;
+import io.camunda.zeebe.engine.state.immutable.ElementInstanceState.MultiInstanceOutputElementVisitor;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
 import io.camunda.zeebe.protocol.record.value.ErrorType;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferUtil;
@@ -32,6 +38,7 @@ import org.agrona.ExpandableArrayBuffer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -76,7 +83,12 @@ public class MultiInstanceOutputCollectionBehaviorTest {
     when(mockFlowScopeContext.getElementInstanceKey()).thenReturn(flowScopeContextKey);
 
     final var sut =
-        new MultiInstanceOutputCollectionBehavior(mockStateBehavior, mockExpressionProcessor);
+        new MultiInstanceOutputCollectionBehavior(
+            mockStateBehavior,
+            mockExpressionProcessor,
+            mock(ElementInstanceState.class),
+            mock(StateWriter.class),
+            false);
 
     // when
     final var result =
@@ -124,7 +136,12 @@ public class MultiInstanceOutputCollectionBehaviorTest {
     when(mockFlowScopeContext.getElementInstanceKey()).thenReturn(flowScopeContextKey);
 
     final var sut =
-        new MultiInstanceOutputCollectionBehavior(mockStateBehavior, mockExpressionProcessor);
+        new MultiInstanceOutputCollectionBehavior(
+            mockStateBehavior,
+            mockExpressionProcessor,
+            mock(ElementInstanceState.class),
+            mock(StateWriter.class),
+            false);
 
     // when
     final var result =
@@ -141,6 +158,166 @@ public class MultiInstanceOutputCollectionBehaviorTest {
     assertThat(failure.getVariableScopeKey()).isEqualTo(flowScopeContextKey);
   }
 
+  @Test
+  void shouldReturnFailureWhenAssemblingOutputCollectionOutOfBounds() {
+    // given
+    final var collectionWithSize1 = createCollection(1);
+    final var elementToAdd = createMsgPackString("element to add");
+    final var indexThatIsOutOfBounds = 2;
+    final var outputCollectionName = wrapString("OUTPUT_COLLECTION");
+    final var loopCharacteristics =
+        createLoopCharacteristics(outputCollectionName, new StaticExpression("dummy expression"));
+    final var flowScopeContextKey = 12345L;
+
+    final var mockStateBehavior = mock(BpmnStateBehavior.class, Answers.RETURNS_DEEP_STUBS);
+    when(mockStateBehavior.getLocalVariable(any(), eq(outputCollectionName)))
+        .thenReturn(collectionWithSize1);
+
+    final var mockElementInstanceState = mock(ElementInstanceState.class);
+    doAnswer(
+            invocation -> {
+              final MultiInstanceOutputElementVisitor visitor = invocation.getArgument(1);
+              visitor.visit(indexThatIsOutOfBounds, elementToAdd);
+              return null;
+            })
+        .when(mockElementInstanceState)
+        .forEachMultiInstanceOutputElement(eq(flowScopeContextKey), any());
+
+    final var mockElement = mock(ExecutableMultiInstanceBody.class);
+    when(mockElement.getLoopCharacteristics()).thenReturn(loopCharacteristics);
+
+    final var mockFlowScopeContext = mock(BpmnElementContext.class);
+    when(mockFlowScopeContext.getElementInstanceKey()).thenReturn(flowScopeContextKey);
+
+    final var sut =
+        new MultiInstanceOutputCollectionBehavior(
+            mockStateBehavior,
+            mock(ExpressionProcessor.class),
+            mockElementInstanceState,
+            mock(StateWriter.class),
+            true);
+
+    // when
+    final var result = sut.assembleOutputCollection(mockElement, mockFlowScopeContext);
+
+    // then
+    assertThat(result.isLeft()).isTrue();
+
+    final var failure = result.getLeft();
+    assertThat(failure.getErrorType()).isEqualTo(ErrorType.EXTRACT_VALUE_ERROR);
+    assertThat(failure.getMessage())
+        .isEqualTo(
+            "Unable to update an item in output collection 'OUTPUT_COLLECTION' at position 2 because the size of the collection is: 1. This may happen when multiple BPMN elements write to the same variable.");
+    assertThat(failure.getVariableScopeKey()).isEqualTo(flowScopeContextKey);
+  }
+
+  @Test
+  void shouldReturnFailureWhenAssemblingOutputCollectionWhichIsNotArray() {
+    // given
+    final var unexpectedValueType = createMsgPackString("lorem ipsum");
+    final var elementToAdd = createMsgPackString("element to add");
+    final var index = 1;
+    final var outputCollectionName = wrapString("OUTPUT_COLLECTION");
+    final var loopCharacteristics =
+        createLoopCharacteristics(outputCollectionName, new StaticExpression("dummy expression"));
+    final var flowScopeContextKey = 12345L;
+
+    final var mockStateBehavior = mock(BpmnStateBehavior.class, Answers.RETURNS_DEEP_STUBS);
+    when(mockStateBehavior.getLocalVariable(any(), eq(outputCollectionName)))
+        .thenReturn(unexpectedValueType);
+
+    final var mockElementInstanceState = mock(ElementInstanceState.class);
+    doAnswer(
+            invocation -> {
+              final MultiInstanceOutputElementVisitor visitor = invocation.getArgument(1);
+              visitor.visit(index, elementToAdd);
+              return null;
+            })
+        .when(mockElementInstanceState)
+        .forEachMultiInstanceOutputElement(eq(flowScopeContextKey), any());
+
+    final var mockElement = mock(ExecutableMultiInstanceBody.class);
+    when(mockElement.getLoopCharacteristics()).thenReturn(loopCharacteristics);
+
+    final var mockFlowScopeContext = mock(BpmnElementContext.class);
+    when(mockFlowScopeContext.getElementInstanceKey()).thenReturn(flowScopeContextKey);
+
+    final var sut =
+        new MultiInstanceOutputCollectionBehavior(
+            mockStateBehavior,
+            mock(ExpressionProcessor.class),
+            mockElementInstanceState,
+            mock(StateWriter.class),
+            true);
+
+    // when
+    final var result = sut.assembleOutputCollection(mockElement, mockFlowScopeContext);
+
+    // then
+    assertThat(result.isLeft()).isTrue();
+
+    final var failure = result.getLeft();
+    assertThat(failure.getErrorType()).isEqualTo(ErrorType.EXTRACT_VALUE_ERROR);
+    assertThat(failure.getMessage())
+        .isEqualTo(
+            "Unable to update an item in output collection 'OUTPUT_COLLECTION' because the type of the output collection is: STRING. This may happen when multiple BPMN elements write to the same variable.");
+    assertThat(failure.getVariableScopeKey()).isEqualTo(flowScopeContextKey);
+  }
+
+  @Test
+  void shouldWriteCollectedOutputElementsIntoOutputCollection() {
+    // given
+    final var collectionWithSize3 = createCollection(3);
+    final var firstElement = createMsgPackString("first");
+    final var thirdElement = createMsgPackString("third");
+    final var outputCollectionName = wrapString("OUTPUT_COLLECTION");
+    final var loopCharacteristics =
+        createLoopCharacteristics(outputCollectionName, new StaticExpression("dummy expression"));
+    final var flowScopeContextKey = 12345L;
+
+    final var mockStateBehavior = mock(BpmnStateBehavior.class);
+    when(mockStateBehavior.getLocalVariable(any(), eq(outputCollectionName)))
+        .thenReturn(collectionWithSize3);
+
+    final var mockElementInstanceState = mock(ElementInstanceState.class);
+    doAnswer(
+            invocation -> {
+              final MultiInstanceOutputElementVisitor visitor = invocation.getArgument(1);
+              visitor.visit(1, firstElement);
+              visitor.visit(3, thirdElement);
+              return null;
+            })
+        .when(mockElementInstanceState)
+        .forEachMultiInstanceOutputElement(eq(flowScopeContextKey), any());
+
+    final var mockElement = mock(ExecutableMultiInstanceBody.class);
+    when(mockElement.getLoopCharacteristics()).thenReturn(loopCharacteristics);
+
+    final var mockFlowScopeContext = mock(BpmnElementContext.class);
+    when(mockFlowScopeContext.getElementInstanceKey()).thenReturn(flowScopeContextKey);
+
+    final var sut =
+        new MultiInstanceOutputCollectionBehavior(
+            mockStateBehavior,
+            mock(ExpressionProcessor.class),
+            mockElementInstanceState,
+            mock(StateWriter.class),
+            true);
+
+    // when
+    final var result = sut.assembleOutputCollection(mockElement, mockFlowScopeContext);
+
+    // then
+    assertThat(result.isRight()).isTrue();
+
+    final var updatedCollection = ArgumentCaptor.forClass(DirectBuffer.class);
+    verify(mockStateBehavior)
+        .setLocalVariable(
+            eq(mockFlowScopeContext), eq(outputCollectionName), updatedCollection.capture());
+    assertThat(MsgPackConverter.convertToJson(updatedCollection.getValue()))
+        .isEqualTo("[\"first\",null,\"third\"]");
+  }
+
   private ExecutableLoopCharacteristics createLoopCharacteristics(
       final DirectBuffer outputCollection, final Expression outputElement) {
     return new ExecutableLoopCharacteristics(
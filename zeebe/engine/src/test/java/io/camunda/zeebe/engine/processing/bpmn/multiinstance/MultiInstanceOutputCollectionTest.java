@@ -0,0 +1,227 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.bpmn.multiinstance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.util.EngineRule;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
+import io.camunda.zeebe.model.bpmn.builder.MultiInstanceLoopCharacteristicsBuilder;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceBatchIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.intent.VariableIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.test.util.BrokerClassRuleHelper;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import io.camunda.zeebe.test.util.record.RecordingExporterTestWatcher;
+import io.camunda.zeebe.util.FeatureFlags;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class MultiInstanceOutputCollectionTest {
+
+  @ClassRule
+  public static final EngineRule ENGINE =
+      EngineRule.singlePartition()
+          .withFeatureFlags(new FeatureFlags(true, false, true, true, true, true, true, true));
+
+  private static final String ELEMENT_ID = "task";
+  private static final String OUTPUT_COLLECTION = "results";
+
+  @Rule
+  public final RecordingExporterTestWatcher recordingExporterTestWatcher =
+      new RecordingExporterTestWatcher();
+
+  @Rule public final BrokerClassRuleHelper helper = new BrokerClassRuleHelper();
+
+  @Test
+  public void shouldUpdateOutputCollectionOnceWhenBodyCompletes() {
+    // given
+    final var processId = helper.getBpmnProcessId();
+    ENGINE.deployment().withXmlResource(process(processId, m -> m.parallel())).deploy();
+
+    final long processInstanceKey = createProcessInstance(processId);
+
+    // when
+    completeJobsInReverseOrder(processInstanceKey);
+
+    // then
+    assertThat(
+            RecordingExporter.processInstanceBatchRecords()
+                .withIntent(ProcessInstanceBatchIntent.OUTPUT_ELEMENT_COLLECTED)
+                .withProcessInstanceKey(processInstanceKey)
+                .limit(3))
+        .hasSize(3);
+    assertThat(
+            RecordingExporter.records()
+                .limitToProcessInstance(processInstanceKey)
+                .variableRecords()
+                .withIntent(VariableIntent.UPDATED)
+                .withName(OUTPUT_COLLECTION))
+        .extracting(record -> record.getValue().getValue())
+        .describedAs("the output collection is updated once with all output elements")
+        .containsExactly("[10,20,30]");
+  }
+
+  @Test
+  public void shouldUpdateOutputCollectionOfSequentialMultiInstanceEagerly() {
+    // given
+    final var processId = helper.getBpmnProcessId();
+    ENGINE.deployment().withXmlResource(process(processId, m -> m.sequential())).deploy();
+
+    final long processInstanceKey = createProcessInstance(processId);
+
+    // when
+    for (int i = 0; i < 3; i++) {
+      final var job =
+          RecordingExporter.jobRecords(JobIntent.CREATED)
+              .withProcessInstanceKey(processInstanceKey)
+              .skip(i)
+              .getFirst();
+      ENGINE.job().withKey(job.getKey()).complete();
+    }
+
+    // then
+    assertThat(
+            RecordingExporter.records()
+                .limitToProcessInstance(processInstanceKey)
+                .variableRecords()
+                .withIntent(VariableIntent.UPDATED)
+                .withName(OUTPUT_COLLECTION))
+        .extracting(record -> record.getValue().getValue())
+        .describedAs("the next child instance sees the output elements of the previous ones")
+        .containsExactly("[10,null,null]", "[10,20,null]", "[10,20,30]");
+    assertThat(
+            RecordingExporter.records()
+                .limitToProcessInstance(processInstanceKey)
+                .withIntent(ProcessInstanceBatchIntent.OUTPUT_ELEMENT_COLLECTED)
+                .exists())
+        .isFalse();
+  }
+
+  @Test
+  public void shouldUpdateOutputCollectionEagerlyIfReadByCompletionCondition() {
+    // given
+    final var processId = helper.getBpmnProcessId();
+    ENGINE
+        .deployment()
+        .withXmlResource(
+            process(
+                processId,
+                m -> m.parallel().completionCondition("=count(" + OUTPUT_COLLECTION + ") < 0")))
+        .deploy();
+
+    final long processInstanceKey = createProcessInstance(processId);
+
+    // when
+    completeJobsInReverseOrder(processInstanceKey);
+
+    // then
+    assertThat(
+            RecordingExporter.variableRecords(VariableIntent.UPDATED)
+                .withProcessInstanceKey(processInstanceKey)
+                .withName(OUTPUT_COLLECTION)
+                .limit(3))
+        .extracting(record -> record.getValue().getValue())
+        .containsExactly("[null,null,30]", "[null,20,30]", "[10,20,30]");
+    assertThat(
+            RecordingExporter.records()
+                .limitToProcessInstance(processInstanceKey)
+                .withIntent(ProcessInstanceBatchIntent.OUTPUT_ELEMENT_COLLECTED)
+                .exists())
+        .isFalse();
+  }
+
+  @Test
+  public void shouldCollectOutputElementsIfCompletionConditionDoesNotReferToOutputCollection() {
+    // given
+    final var processId = helper.getBpmnProcessId();
+    ENGINE
+        .deployment()
+        .withXmlResource(
+            process(
+                processId,
+                m ->
+                    m.parallel()
+                        .completionCondition(
+                            "=numberOfCompletedInstances > 3 or \""
+                                + OUTPUT_COLLECTION
+                                + "\" = \"none\"")))
+        .deploy();
+
+    final long processInstanceKey = createProcessInstance(processId);
+
+    // when
+    completeJobsInReverseOrder(processInstanceKey);
+
+    // then
+    assertThat(
+            RecordingExporter.records()
+                .limitToProcessInstance(processInstanceKey)
+                .withIntent(ProcessInstanceBatchIntent.OUTPUT_ELEMENT_COLLECTED)
+                .count())
+        .isEqualTo(3);
+    assertThat(
+            RecordingExporter.records()
+                .limitToProcessInstance(processInstanceKey)
+                .variableRecords()
+                .withIntent(VariableIntent.UPDATED)
+                .withName(OUTPUT_COLLECTION))
+        .extracting(record -> record.getValue().getValue())
+        .containsExactly("[10,20,30]");
+  }
+
+  private long createProcessInstance(final String processId) {
+    return ENGINE
+        .processInstance()
+        .ofBpmnProcessId(processId)
+        .withVariable("items", List.of(1, 2, 3))
+        .create();
+  }
+
+  private void completeJobsInReverseOrder(final long processInstanceKey) {
+    RecordingExporter.jobRecords(JobIntent.CREATED)
+        .withProcessInstanceKey(processInstanceKey)
+        .limit(3)
+        .map(Record::getKey)
+        .toList()
+        .reversed()
+        .forEach(jobKey -> ENGINE.job().withKey(jobKey).complete());
+
+    RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_COMPLETED)
+        .withProcessInstanceKey(processInstanceKey)
+        .withElementType(BpmnElementType.PROCESS)
+        .await();
+  }
+
+  private BpmnModelInstance process(
+      final String processId, final Consumer<MultiInstanceLoopCharacteristicsBuilder> builder) {
+    return Bpmn.createExecutableProcess(processId)
+        .startEvent()
+        .serviceTask(
+            ELEMENT_ID,
+            t ->
+                t.zeebeJobType(helper.getJobType())
+                    .multiInstance(
+                        m -> {
+                          m.zeebeInputCollectionExpression("items")
+                              .zeebeInputElement("item")
+                              .zeebeOutputCollection(OUTPUT_COLLECTION)
+                              .zeebeOutputElementExpression("item * 10");
+                          builder.accept(m);
+                        }))
+        .endEvent()
+        .done();
+  }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.bpmn.multiinstance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.util.EngineRule;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
+import io.camunda.zeebe.model.bpmn.builder.ServiceTaskBuilder;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceBatchIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.test.util.BrokerClassRuleHelper;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import io.camunda.zeebe.test.util.record.RecordingExporterTestWatcher;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class ParallelMultiInstanceActivationTest {
+
+  @ClassRule public static final EngineRule ENGINE = EngineRule.singlePartition();
+
+  private static final String ELEMENT_ID = "task";
+
+  @Rule
+  public final RecordingExporterTestWatcher recordingExporterTestWatcher =
+      new RecordingExporterTestWatcher();
+
+  @Rule public final BrokerClassRuleHelper helper = new BrokerClassRuleHelper();
+
+  @Test
+  public void shouldActivateChildInstancesWithoutCommands() {
+    // given
+    final var processId = helper.getBpmnProcessId();
+    ENGINE.deployment().withXmlResource(process(processId, t -> {})).deploy();
+
+    // when
+    final long processInstanceKey =
+        ENGINE
+            .processInstance()
+            .ofBpmnProcessId(processId)
+            .withVariable("items", List.of(1, 2, 3))
+            .create();
+
+    // then
+    assertThat(
+            RecordingExporter.jobRecords(JobIntent.CREATED)
+                .withProcessInstanceKey(processInstanceKey)
+                .limit(3))
+        .hasSize(3);
+    assertThat(
+            RecordingExporter.processInstanceRecords()
+                .withProcessInstanceKey(processInstanceKey)
+                .withElementType(BpmnElementType.SERVICE_TASK)
+                .limit(6))
+        .extracting(Record::getIntent)
+        .containsExactly(
+            ProcessInstanceIntent.ELEMENT_ACTIVATING,
+            ProcessInstanceIntent.ELEMENT_ACTIVATED,
+            ProcessInstanceIntent.ELEMENT_ACTIVATING,
+            ProcessInstanceIntent.ELEMENT_ACTIVATED,
+            ProcessInstanceIntent.ELEMENT_ACTIVATING,
+            ProcessInstanceIntent.ELEMENT_ACTIVATED);
+
+    ENGINE
+        .jobs()
+        .withType(helper.getJobType())
+        .activate()
+        .getValue()
+        .getJobKeys()
+        .forEach(jobKey -> ENGINE.job().withKey(jobKey).complete());
+
+    assertThat(
+            RecordingExporter.processInstanceRecords()
+                .withProcessInstanceKey(processInstanceKey)
+                .limitToProcessInstanceCompleted()
+                .withElementType(BpmnElementType.SERVICE_TASK)
+                .withIntent(ProcessInstanceIntent.ACTIVATE_ELEMENT))
+        .describedAs("Expected the child instances to be activated without commands")
+        .isEmpty();
+  }
+
+  @Test
+  public void shouldActivateAllChildInstancesOfLargeCollection() {
+    // given
+    final var processId = helper.getBpmnProcessId();
+    ENGINE.deployment().withXmlResource(process(processId, t -> {})).deploy();
+    final var items = IntStream.rangeClosed(1, 1_000).boxed().toList();
+
+    // when
+    final long processInstanceKey =
+        ENGINE.processInstance().ofBpmnProcessId(processId).withVariable("items", items).create();
+
+    // then
+    assertThat(
+            RecordingExporter.variableRecords()
+                .withProcessInstanceKey(processInstanceKey)
+                .withName("loopCounter")
+                .limit(items.size())
+                .map(record -> Integer.parseInt(record.getValue().getValue())))
+        .containsExactlyInAnyOrderElementsOf(items);
+    assertThat(
+            RecordingExporter.processInstanceBatchRecords()
+                .withIntent(ProcessInstanceBatchIntent.ACTIVATE)
+                .withProcessInstanceKey(processInstanceKey)
+                .limit(1)
+                .exists())
+        .isTrue();
+  }
+
+  @Test
+  public void shouldActivateChildInstancesWithInputMappingsByCommands() {
+    // given
+    final var processId = helper.getBpmnProcessId();
+    ENGINE
+        .deployment()
+        .withXmlResource(process(processId, t -> t.zeebeInputExpression("item", "x")))
+        .deploy();
+
+    // when
+    final long processInstanceKey =
+        ENGINE
+            .processInstance()
+            .ofBpmnProcessId(processId)
+            .withVariable("items", List.of(1, 2))
+            .create();
+
+    // then
+    assertThat(
+            RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ACTIVATE_ELEMENT)
+                .withProcessInstanceKey(processInstanceKey)
+                .withElementType(BpmnElementType.SERVICE_TASK)
+                .limit(2))
+        .hasSize(2);
+    assertThat(
+            RecordingExporter.jobRecords(JobIntent.CREATED)
+                .withProcessInstanceKey(processInstanceKey)
+                .limit(2))
+        .hasSize(2);
+  }
+
+  private BpmnModelInstance process(
+      final String processId, final Consumer<ServiceTaskBuilder> taskBuilder) {
+    return Bpmn.createExecutableProcess(processId)
+        .startEvent()
+        .serviceTask(
+            ELEMENT_ID,
+            t -> {
+              t.zeebeJobType(helper.getJobType())
+                  .multiInstance(
+                      m ->
+                          m.parallel()
+                              .zeebeInputCollectionExpression("items")
+                              .zeebeInputElement("item"));
+              taskBuilder.accept(t);
+            })
+        .endEvent()
+        .done();
+  }
+}
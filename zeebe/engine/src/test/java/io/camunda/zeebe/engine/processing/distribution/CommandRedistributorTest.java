@@ -0,0 +1,183 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.distribution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.state.mutable.MutableDistributionState;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
+import io.camunda.zeebe.engine.util.ProcessingStateExtension;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
+import io.camunda.zeebe.protocol.impl.record.value.distribution.CommandDistributionRecord;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
+import io.camunda.zeebe.stream.api.InterPartitionCommandSender;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+
+@ExtendWith(ProcessingStateExtension.class)
+final class CommandRedistributorTest {
+
+  private static final int PARTITION_ID = 2;
+
+  private MutableProcessingState processingState;
+  private MutableDistributionState distributionState;
+  private InterPartitionCommandSender mockCommandSender;
+  private CommandRedistributor redistributor;
+
+  @BeforeEach
+  void setUp() {
+    distributionState = processingState.getDistributionState();
+    mockCommandSender = mock(InterPartitionCommandSender.class);
+    redistributor =
+        new CommandRedistributor(distributionState, mockCommandSender, new EngineConfiguration());
+  }
+
+  @Test
+  void shouldRetryWithExponentialBackoff() {
+    // given
+    addPendingDistribution(1L, PARTITION_ID);
+
+    // when
+    for (int cycle = 0; cycle < 8; cycle++) {
+      redistributor.runRetryCycle();
+    }
+
+    // then retried in the retry cycles 1, 2 and 4
+    verify(mockCommandSender, times(3))
+        .sendCommand(
+            eq(PARTITION_ID), eq(ValueType.DEPLOYMENT), eq(DeploymentIntent.CREATE), eq(1L), any());
+  }
+
+  @Test
+  void shouldNotRetryCompletedDistribution() {
+    // given
+    addPendingDistribution(1L, PARTITION_ID);
+    redistributor.runRetryCycle();
+
+    // when
+    distributionState.removePendingDistribution(1L, PARTITION_ID);
+    redistributor.runRetryCycle();
+
+    // then
+    verifyNoInteractions(mockCommandSender);
+  }
+
+  @Test
+  void shouldLimitRetriesPerPartitionInCycle() {
+    // given
+    final int otherPartitionId = 3;
+    final int retryLimit = 10;
+    redistributor =
+        new CommandRedistributor(
+            distributionState,
+            mockCommandSender,
+            new EngineConfiguration().setDistributionsRedistributionRetryLimit(retryLimit));
+    final int pendingDistributions = retryLimit + 1;
+    LongStream.rangeClosed(1, pendingDistributions)
+        .forEach(key -> addPendingDistribution(key, PARTITION_ID, otherPartitionId));
+    redistributor.runRetryCycle();
+
+    // when
+    redistributor.runRetryCycle();
+
+    // then
+    verify(mockCommandSender, times(retryLimit))
+        .sendCommand(eq(PARTITION_ID), any(), any(), anyLong(), any());
+    verify(mockCommandSender, times(retryLimit))
+        .sendCommand(eq(otherPartitionId), any(), any(), anyLong(), any());
+
+    // when
+    clearInvocations(mockCommandSender);
+    redistributor.runRetryCycle();
+    redistributor.runRetryCycle();
+
+    // then the remaining distributions are retried in one of the next cycles
+    verify(mockCommandSender)
+        .sendCommand(eq(PARTITION_ID), any(), any(), eq((long) pendingDistributions), any());
+    verify(mockCommandSender)
+        .sendCommand(eq(otherPartitionId), any(), any(), eq((long) pendingDistributions), any());
+  }
+
+  @Test
+  void shouldResumeScanWhereThePreviousCycleStopped() {
+    // given
+    final int scanLimit = 10;
+    redistributor =
+        new CommandRedistributor(
+            distributionState,
+            mockCommandSender,
+            new EngineConfiguration().setDistributionsRedistributionScanLimit(scanLimit));
+    final int pendingDistributions = scanLimit + 1;
+    LongStream.rangeClosed(1, pendingDistributions)
+        .forEach(key -> addPendingDistribution(key, PARTITION_ID));
+
+    // the first scan takes two cycles, the second scan retries the first distributions
+    redistributor.runRetryCycle();
+    redistributor.runRetryCycle();
+    redistributor.runRetryCycle();
+    clearInvocations(mockCommandSender);
+
+    // when
+    redistributor.runRetryCycle();
+
+    // then only the distribution after the cursor is visited and retried
+    final var keyCaptor = ArgumentCaptor.forClass(Long.class);
+    verify(mockCommandSender).sendCommand(anyInt(), any(), any(), keyCaptor.capture(), any());
+    assertThat(keyCaptor.getValue()).isEqualTo(pendingDistributions);
+  }
+
+  @Test
+  void shouldMeasureBackoffInRetryCyclesWhenScanTakesMultipleCycles() {
+    // given a scan that takes two cycles, visiting the distribution in every other cycle
+    redistributor =
+        new CommandRedistributor(
+            distributionState,
+            mockCommandSender,
+            new EngineConfiguration().setDistributionsRedistributionScanLimit(1));
+    addPendingDistribution(1L, PARTITION_ID);
+    addPendingDistribution(2L, PARTITION_ID);
+
+    // when
+    for (int cycle = 1; cycle <= 12; cycle++) {
+      redistributor.runRetryCycle();
+    }
+
+    // then it is retried in the cycles 3, 5, 7 and 11, as the backoff of 1, 2 and 4 cycles is
+    // counted in retry cycles rather than in visits
+    verify(mockCommandSender, times(4))
+        .sendCommand(
+            eq(PARTITION_ID), eq(ValueType.DEPLOYMENT), eq(DeploymentIntent.CREATE), eq(1L), any());
+  }
+
+  private void addPendingDistribution(final long distributionKey, final int... partitionIds) {
+    final var record =
+        new CommandDistributionRecord()
+            .setPartitionId(1)
+            .setValueType(ValueType.DEPLOYMENT)
+            .setIntent(DeploymentIntent.CREATE)
+            .setCommandValue(new DeploymentRecord());
+    distributionState.addCommandDistribution(distributionKey, record);
+    for (final int partitionId : partitionIds) {
+      distributionState.addPendingDistribution(distributionKey, partitionId);
+    }
+  }
+}
@@ -82,7 +82,7 @@ public class JobTimeoutCheckerTest {
     final Duration pollingInterval = EngineConfiguration.DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL;
     final int batchLimit = Integer.MAX_VALUE;
 
-    final var task = new JobTimeoutChecker(jobState, pollingInterval, batchLimit);
+    final var task = new JobTimeoutChecker(jobState, pollingInterval, batchLimit, false);
     task.setProcessingContext(mockContext);
     task.setShouldReschedule(true);
 
@@ -108,7 +108,7 @@ public class JobTimeoutCheckerTest {
     final Duration pollingInterval = EngineConfiguration.DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL;
     final int batchLimit = 3;
 
-    final var task = new JobTimeoutChecker(jobState, pollingInterval, batchLimit);
+    final var task = new JobTimeoutChecker(jobState, pollingInterval, batchLimit, false);
     task.setProcessingContext(mockContext);
     task.setShouldReschedule(true);
 
@@ -148,7 +148,7 @@ public class JobTimeoutCheckerTest {
     final Duration pollingInterval = EngineConfiguration.DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL;
     final int batchLimit = Integer.MAX_VALUE;
 
-    final var task = new JobTimeoutChecker(jobState, pollingInterval, batchLimit);
+    final var task = new JobTimeoutChecker(jobState, pollingInterval, batchLimit, false);
     task.setProcessingContext(mockContext);
     task.setShouldReschedule(true);
 
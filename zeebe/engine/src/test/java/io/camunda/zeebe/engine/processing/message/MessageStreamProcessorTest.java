@@ -81,7 +81,8 @@ public final class MessageStreamProcessorTest {
               processingContext.getWriters(),
               DEFAULT_ENGINE_CONFIGURATION,
               FeatureFlags.createDefault(),
-              spyCommandDistributionBehavior);
+              spyCommandDistributionBehavior,
+              1);
           return typedRecordProcessors;
         });
   }
@@ -0,0 +1,118 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.message;
+
+import static io.camunda.zeebe.protocol.Protocol.START_PARTITION_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+import io.camunda.zeebe.engine.util.EngineRule;
+import io.camunda.zeebe.protocol.impl.SubscriptionUtil;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageBatchPublishResult;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageBatchRecord;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.MessageIntent;
+import io.camunda.zeebe.stream.api.CommandResponseWriter;
+import io.camunda.zeebe.test.util.BrokerClassRuleHelper;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.awaitility.Awaitility;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.stubbing.Answer;
+
+public final class PublishMessageBatchMultiplePartitionsTest {
+
+  private static final String LOCAL_CORRELATION_KEY = "item-2";
+  private static final String REMOTE_CORRELATION_KEY = "item-1";
+
+  @Rule public final EngineRule engine = EngineRule.multiplePartition(3);
+  @Rule public final BrokerClassRuleHelper helper = new BrokerClassRuleHelper();
+
+  private final List<MessageBatchPublishResult> response = new CopyOnWriteArrayList<>();
+
+  @Before
+  public void init() {
+    assertThat(getPartitionId(LOCAL_CORRELATION_KEY)).isEqualTo(START_PARTITION_ID);
+    assertThat(getPartitionId(REMOTE_CORRELATION_KEY)).isEqualTo(START_PARTITION_ID + 1);
+
+    interceptResponseWriter(engine.getCommandResponseWriter());
+  }
+
+  @Test
+  public void shouldRejectMessageOfBatchWhichBelongsToOtherPartition() {
+    // given
+    final String messageName = helper.getMessageName();
+
+    // when
+    final long position =
+        engine
+            .messageBatch()
+            .withMessage(messageName, REMOTE_CORRELATION_KEY, Map.of())
+            .withMessage(messageName, LOCAL_CORRELATION_KEY, Map.of())
+            .publish();
+
+    // then
+    final var published =
+        RecordingExporter.messageRecords(MessageIntent.PUBLISHED)
+            .withPartitionId(START_PARTITION_ID)
+            .withSourceRecordPosition(position)
+            .getFirst();
+    assertThat(published.getValue().getCorrelationKey()).isEqualTo(LOCAL_CORRELATION_KEY);
+
+    Awaitility.await("until the response is written")
+        .untilAsserted(() -> assertThat(response).hasSize(2));
+    assertThat(response)
+        .extracting(MessageBatchPublishResult::getMessageKey)
+        .containsExactly(-1L, published.getKey());
+    assertThat(response.get(0).getRejectionType()).isEqualTo(RejectionType.INVALID_ARGUMENT);
+    assertThat(response.get(0).getRejectionReason())
+        .isEqualTo(
+            "Expected to publish message with correlation key '%s' on partition %d, but it belongs to partition %d",
+            REMOTE_CORRELATION_KEY, START_PARTITION_ID, START_PARTITION_ID + 1);
+  }
+
+  private int getPartitionId(final String correlationKey) {
+    return SubscriptionUtil.getSubscriptionPartitionId(
+        BufferUtil.wrapString(correlationKey), engine.getPartitionIds().size());
+  }
+
+  private void interceptResponseWriter(final CommandResponseWriter mockCommandResponseWriter) {
+    doAnswer(
+            (Answer<CommandResponseWriter>)
+                (invocation -> {
+                  final Object[] arguments = invocation.getArguments();
+                  if (arguments != null
+                      && arguments.length == 1
+                      && arguments[0] instanceof final MessageBatchRecord record) {
+                    // the record is reused by the processor, so copy the results right away
+                    record
+                        .results()
+                        .forEach(
+                            result -> {
+                              final var copy =
+                                  new MessageBatchPublishResult()
+                                      .setMessageKey(result.getMessageKey());
+                              if (!result.isPublished()) {
+                                copy.setRejection(
+                                    result.getRejectionType(), result.getRejectionReason());
+                              }
+                              response.add(copy);
+                            });
+                  }
+                  return mockCommandResponseWriter;
+                }))
+        .when(mockCommandResponseWriter)
+        .valueWriter(any());
+  }
+}
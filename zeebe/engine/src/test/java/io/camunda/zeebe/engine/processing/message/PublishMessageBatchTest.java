@@ -0,0 +1,212 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.message;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+import io.camunda.zeebe.engine.util.EngineRule;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageBatchPublishResult;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageBatchRecord;
+import io.camunda.zeebe.protocol.record.Assertions;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.MessageBatchIntent;
+import io.camunda.zeebe.protocol.record.intent.MessageIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.MessageRecordValue;
+import io.camunda.zeebe.stream.api.CommandResponseWriter;
+import io.camunda.zeebe.test.util.BrokerClassRuleHelper;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import io.camunda.zeebe.test.util.record.RecordingExporterTestWatcher;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.awaitility.Awaitility;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.stubbing.Answer;
+
+public final class PublishMessageBatchTest {
+
+  @Rule public final EngineRule engine = EngineRule.singlePartition();
+  private final List<MessageBatchPublishResult> response = new CopyOnWriteArrayList<>();
+
+  @Rule
+  public final RecordingExporterTestWatcher recordingExporterTestWatcher =
+      new RecordingExporterTestWatcher();
+
+  @Rule public final BrokerClassRuleHelper helper = new BrokerClassRuleHelper();
+
+  @Before
+  public void init() {
+    interceptResponseWriter(engine.getCommandResponseWriter());
+  }
+
+  @Test
+  public void shouldPublishMessagesOfBatch() {
+    // given
+    final String messageName = helper.getMessageName();
+
+    // when
+    final long position =
+        engine
+            .messageBatch()
+            .withMessage(messageName, "key-1", Map.of("x", 1))
+            .withMessage(messageName, "key-2", Map.of("x", 2))
+            .withMessage(messageName, "key-3", Map.of("x", 3))
+            .publish();
+
+    // then
+    final List<Record<MessageRecordValue>> published =
+        RecordingExporter.messageRecords(MessageIntent.PUBLISHED)
+            .withSourceRecordPosition(position)
+            .limit(3)
+            .asList();
+    assertThat(published)
+        .extracting(record -> record.getValue().getCorrelationKey())
+        .containsExactly("key-1", "key-2", "key-3");
+    assertThat(published)
+        .extracting(record -> record.getValue().getVariables())
+        .containsExactly(Map.of("x", 1), Map.of("x", 2), Map.of("x", 3));
+    assertThat(published)
+        .allSatisfy(record -> assertThat(record.getValue().getDeadline()).isPositive());
+
+    Awaitility.await("until the response is written")
+        .untilAsserted(() -> assertThat(response).hasSize(3));
+    assertThat(response)
+        .extracting(MessageBatchPublishResult::getMessageKey)
+        .containsExactlyElementsOf(published.stream().map(Record::getKey).toList());
+  }
+
+  @Test
+  public void shouldCorrelateMessagesOfBatch() {
+    // given
+    final String processId = helper.getBpmnProcessId();
+    final String messageName = helper.getMessageName();
+    engine
+        .deployment()
+        .withXmlResource(
+            Bpmn.createExecutableProcess(processId)
+                .startEvent()
+                .intermediateCatchEvent(
+                    "catch",
+                    c -> c.message(m -> m.name(messageName).zeebeCorrelationKeyExpression("key")))
+                .endEvent()
+                .done())
+        .deploy();
+
+    final long firstProcessInstanceKey =
+        engine.processInstance().ofBpmnProcessId(processId).withVariable("key", "a").create();
+    final long secondProcessInstanceKey =
+        engine.processInstance().ofBpmnProcessId(processId).withVariable("key", "b").create();
+
+    // when
+    engine
+        .messageBatch()
+        .withMessage(messageName, "a", Map.of("y", 1))
+        .withMessage(messageName, "b", Map.of("y", 2))
+        .publish();
+
+    // then
+    assertThat(
+            RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_COMPLETED)
+                .withBpmnProcessId(processId)
+                .withElementType(BpmnElementType.PROCESS)
+                .limit(2)
+                .map(Record::getKey))
+        .containsExactlyInAnyOrder(firstProcessInstanceKey, secondProcessInstanceKey);
+  }
+
+  @Test
+  public void shouldRejectMessageOfBatchWithSameId() {
+    // given
+    final String messageName = helper.getMessageName();
+
+    // when
+    final long position =
+        engine
+            .messageBatch()
+            .withMessage(messageName, "key", "id", Map.of())
+            .withMessage(messageName, "key", "id", Map.of())
+            .withMessage(messageName, "key", "other-id", Map.of())
+            .publish();
+
+    // then
+    final List<Record<MessageRecordValue>> published =
+        RecordingExporter.messageRecords(MessageIntent.PUBLISHED)
+            .withSourceRecordPosition(position)
+            .limit(2)
+            .asList();
+    assertThat(published)
+        .extracting(record -> record.getValue().getMessageId())
+        .containsExactly("id", "other-id");
+
+    Awaitility.await("until the response is written")
+        .untilAsserted(() -> assertThat(response).hasSize(3));
+    assertThat(response)
+        .extracting(MessageBatchPublishResult::getMessageKey)
+        .containsExactly(published.get(0).getKey(), -1L, published.get(1).getKey());
+    assertThat(response.get(1).getRejectionType()).isEqualTo(RejectionType.ALREADY_EXISTS);
+    assertThat(response.get(1).getRejectionReason())
+        .isEqualTo(
+            "Expected to publish a new message with id 'id', but a message with that id was already published");
+  }
+
+  @Test
+  public void shouldRejectEmptyBatch() {
+    // when
+    final long position = engine.messageBatch().publish();
+
+    // then
+    final var rejection =
+        RecordingExporter.messageBatchRecords()
+            .onlyCommandRejections()
+            .withIntent(MessageBatchIntent.PUBLISH)
+            .withSourceRecordPosition(position)
+            .getFirst();
+
+    Assertions.assertThat(rejection)
+        .hasRejectionType(RejectionType.INVALID_ARGUMENT)
+        .hasRejectionReason("Expected to publish at least one message, but none given");
+  }
+
+  private void interceptResponseWriter(
+      final CommandResponseWriter mockCommandResponseWriter) {
+    doAnswer(
+            (Answer<CommandResponseWriter>)
+                (invocation -> {
+                  final Object[] arguments = invocation.getArguments();
+                  if (arguments != null
+                      && arguments.length == 1
+                      && arguments[0] instanceof final MessageBatchRecord record) {
+                    // the record is reused by the processor, so copy the results right away
+                    record
+                        .results()
+                        .forEach(
+                            result -> {
+                              final var copy =
+                                  new MessageBatchPublishResult()
+                                      .setMessageKey(result.getMessageKey());
+                              if (!result.isPublished()) {
+                                copy.setRejection(
+                                    result.getRejectionType(), result.getRejectionReason());
+                              }
+                              response.add(copy);
+                            });
+                  }
+                  return mockCommandResponseWriter;
+                }))
+        .when(mockCommandResponseWriter)
+        .valueWriter(any());
+  }
+}
@@ -0,0 +1,331 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.processinstance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import io.camunda.zeebe.engine.util.EngineRule;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationBatchInstance;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
+import io.camunda.zeebe.protocol.record.Assertions;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.ProcessInstanceCreationRecordValue;
+import io.camunda.zeebe.stream.api.CommandResponseWriter;
+import io.camunda.zeebe.test.util.BrokerClassRuleHelper;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import io.camunda.zeebe.test.util.record.RecordingExporterTestWatcher;
+import io.camunda.zeebe.util.ByteValue;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.mockito.stubbing.Answer;
+
+public final class CreateProcessInstanceBatchTest {
+
+  @ClassRule public static final EngineRule ENGINE = EngineRule.singlePartition();
+  private static final List<ProcessInstanceCreationBatchInstance> RESPONSE =
+      new CopyOnWriteArrayList<>();
+  private static CommandResponseWriter mockCommandResponseWriter;
+
+  @Rule
+  public final RecordingExporterTestWatcher recordingExporterTestWatcher =
+      new RecordingExporterTestWatcher();
+
+  @Rule public final BrokerClassRuleHelper helper = new BrokerClassRuleHelper();
+
+  @BeforeClass
+  public static void init() {
+    mockCommandResponseWriter = ENGINE.getCommandResponseWriter();
+    interceptResponseWriter(mockCommandResponseWriter);
+  }
+
+  @Before
+  public void reset() {
+    Mockito.clearInvocations(mockCommandResponseWriter);
+    RESPONSE.clear();
+  }
+
+  @Test
+  public void shouldCreateProcessInstancesOfBatch() {
+    // given
+    final String processId = helper.getBpmnProcessId();
+    ENGINE
+        .deployment()
+        .withXmlResource(Bpmn.createExecutableProcess(processId).startEvent().endEvent().done())
+        .deploy();
+
+    // when
+    final long position =
+        ENGINE
+            .processInstance()
+            .ofBpmnProcessId(processId)
+            .withBatchInstance(Map.of("x", 1))
+            .withBatchInstance(Map.of("x", 2))
+            .withBatchInstance(Map.of("x", 3))
+            .createBatch();
+
+    // then
+    final List<Record<ProcessInstanceCreationRecordValue>> created =
+        RecordingExporter.processInstanceCreationRecords()
+            .withIntent(ProcessInstanceCreationIntent.CREATED)
+            .withSourceRecordPosition(position)
+            .limit(3)
+            .asList();
+    assertThat(created)
+        .extracting(record -> record.getValue().getVariables())
+        .containsExactly(Map.of("x", 1), Map.of("x", 2), Map.of("x", 3));
+    assertThat(created)
+        .allSatisfy(
+            record ->
+                Assertions.assertThat(record.getValue()).hasBpmnProcessId(processId).hasVersion(1));
+
+    created.forEach(
+        record ->
+            assertThat(
+                    RecordingExporter.processInstanceRecords()
+                        .withProcessInstanceKey(record.getValue().getProcessInstanceKey())
+                        .withElementType(BpmnElementType.PROCESS)
+                        .withIntent(ProcessInstanceIntent.ELEMENT_COMPLETED)
+                        .exists())
+                .isTrue());
+
+    verify(mockCommandResponseWriter, timeout(1000).times(1))
+        .intent(ProcessInstanceCreationIntent.CREATED);
+    assertThat(RESPONSE)
+        .extracting(ProcessInstanceCreationBatchInstance::getProcessInstanceKey)
+        .containsExactlyElementsOf(
+            created.stream().map(record -> record.getValue().getProcessInstanceKey()).toList());
+    assertThat(RESPONSE)
+        .allMatch(ProcessInstanceCreationBatchInstance::isCreated)
+        .allMatch(instance -> instance.getRejectionType() == RejectionType.NULL_VAL);
+  }
+
+  @Test
+  public void shouldSetVariablesOfEachProcessInstance() {
+    // given
+    final String processId = helper.getBpmnProcessId();
+    ENGINE
+        .deployment()
+        .withXmlResource(
+            Bpmn.createExecutableProcess(processId)
+                .startEvent()
+                .serviceTask("task", t -> t.zeebeJobType("task"))
+                .done())
+        .deploy();
+
+    // when
+    final long position =
+        ENGINE
+            .processInstance()
+            .ofBpmnProcessId(processId)
+            .withBatchInstance(Map.of("x", "a"))
+            .withBatchInstance(Map.of("x", "b"))
+            .createBatch();
+
+    // then
+    final var processInstanceKeys =
+        RecordingExporter.processInstanceCreationRecords()
+            .withIntent(ProcessInstanceCreationIntent.CREATED)
+            .withSourceRecordPosition(position)
+            .limit(2)
+            .map(record -> record.getValue().getProcessInstanceKey())
+            .toList();
+
+    assertThat(processInstanceKeys)
+        .extracting(
+            processInstanceKey ->
+                RecordingExporter.variableRecords()
+                    .withProcessInstanceKey(processInstanceKey)
+                    .withScopeKey(processInstanceKey)
+                    .withName("x")
+                    .getFirst()
+                    .getValue()
+                    .getValue())
+        .containsExactly("\"a\"", "\"b\"");
+  }
+
+  @Test
+  public void shouldCreateProcessInstancesOfBatchWithStartInstructions() {
+    // given
+    final String processId = helper.getBpmnProcessId();
+    ENGINE
+        .deployment()
+        .withXmlResource(
+            Bpmn.createExecutableProcess(processId)
+                .startEvent()
+                .serviceTask("task-1", t -> t.zeebeJobType("task-1"))
+                .serviceTask("task-2", t -> t.zeebeJobType("task-2"))
+                .done())
+        .deploy();
+
+    // when
+    final long position =
+        ENGINE
+            .processInstance()
+            .ofBpmnProcessId(processId)
+            .withStartInstruction("task-2")
+            .withBatchInstance(Map.of())
+            .withBatchInstance(Map.of())
+            .createBatch();
+
+    // then
+    RecordingExporter.processInstanceCreationRecords()
+        .withIntent(ProcessInstanceCreationIntent.CREATED)
+        .withSourceRecordPosition(position)
+        .limit(2)
+        .forEach(
+            record ->
+                assertThat(
+                        RecordingExporter.processInstanceRecords()
+                            .withProcessInstanceKey(record.getValue().getProcessInstanceKey())
+                            .withIntent(ProcessInstanceIntent.ELEMENT_ACTIVATED)
+                            .withElementType(BpmnElementType.SERVICE_TASK)
+                            .getFirst()
+                            .getValue()
+                            .getElementId())
+                    .isEqualTo("task-2"));
+  }
+
+  @Test
+  public void shouldRejectBatchIfProcessIsNotFound() {
+    // when
+    final long position =
+        ENGINE
+            .processInstance()
+            .ofBpmnProcessId("unknown-process")
+            .withBatchInstance(Map.of())
+            .createBatch();
+
+    // then
+    final var rejection =
+        RecordingExporter.processInstanceCreationRecords()
+            .onlyCommandRejections()
+            .withIntent(ProcessInstanceCreationIntent.CREATE_BATCH)
+            .withSourceRecordPosition(position)
+            .getFirst();
+
+    Assertions.assertThat(rejection)
+        .hasRejectionType(RejectionType.NOT_FOUND)
+        .hasRejectionReason(
+            "Expected to find process definition with process ID 'unknown-process', but none found");
+    assertThat(
+            RecordingExporter.processInstanceCreationRecords()
+                .withIntent(ProcessInstanceCreationIntent.CREATED)
+                .withSourceRecordPosition(position)
+                .exists())
+        .isFalse();
+  }
+
+  @Test
+  public void shouldRejectEmptyBatch() {
+    // given
+    final String processId = helper.getBpmnProcessId();
+    ENGINE
+        .deployment()
+        .withXmlResource(Bpmn.createExecutableProcess(processId).startEvent().endEvent().done())
+        .deploy();
+
+    // when
+    final long position = ENGINE.processInstance().ofBpmnProcessId(processId).createBatch();
+
+    // then
+    final var rejection =
+        RecordingExporter.processInstanceCreationRecords()
+            .onlyCommandRejections()
+            .withIntent(ProcessInstanceCreationIntent.CREATE_BATCH)
+            .withSourceRecordPosition(position)
+            .getFirst();
+
+    Assertions.assertThat(rejection)
+        .hasRejectionType(RejectionType.INVALID_ARGUMENT)
+        .hasRejectionReason("Expected to create at least one process instance, but none given");
+  }
+
+  @Test
+  public void shouldRejectInstancesWhichExceedTheBatchSize() {
+    // given
+    final String processId = helper.getBpmnProcessId();
+    ENGINE
+        .deployment()
+        .withXmlResource(Bpmn.createExecutableProcess(processId).startEvent().endEvent().done())
+        .deploy();
+    // the variables are written twice per instance, so only the first instance fits into the batch
+    final String largeValue = "x".repeat((int) ByteValue.ofKilobytes(1200));
+
+    // when
+    final long position =
+        ENGINE
+            .processInstance()
+            .ofBpmnProcessId(processId)
+            .withBatchInstance(Map.of("x", largeValue))
+            .withBatchInstance(Map.of("x", largeValue))
+            .withBatchInstance(Map.of("x", largeValue))
+            .createBatch();
+
+    // then
+    verify(mockCommandResponseWriter, timeout(1000).times(1))
+        .intent(ProcessInstanceCreationIntent.CREATED);
+    assertThat(RESPONSE).hasSize(3);
+    assertThat(RESPONSE.get(0).isCreated()).isTrue();
+    assertThat(RESPONSE.subList(1, 3))
+        .allMatch(instance -> !instance.isCreated())
+        .allMatch(
+            instance -> instance.getRejectionType() == RejectionType.EXCEEDED_BATCH_RECORD_SIZE);
+
+    assertThat(
+            RecordingExporter.processInstanceCreationRecords()
+                .withIntent(ProcessInstanceCreationIntent.CREATED)
+                .withSourceRecordPosition(position)
+                .getFirst()
+                .getValue()
+                .getProcessInstanceKey())
+        .isEqualTo(RESPONSE.get(0).getProcessInstanceKey());
+  }
+
+  private static void interceptResponseWriter(
+      final CommandResponseWriter mockCommandResponseWriter) {
+    doAnswer(
+            (Answer<CommandResponseWriter>)
+                (invocation -> {
+                  final Object[] arguments = invocation.getArguments();
+                  if (arguments != null
+                      && arguments.length == 1
+                      && arguments[0] instanceof final ProcessInstanceCreationRecord record) {
+                    // the record is reused by the processor, so copy the instances right away
+                    record
+                        .batchInstances()
+                        .forEach(
+                            instance ->
+                                RESPONSE.add(
+                                    new ProcessInstanceCreationBatchInstance()
+                                        .setProcessInstanceKey(instance.getProcessInstanceKey())
+                                        .setRejection(
+                                            instance.getRejectionType(),
+                                            instance.getRejectionReason())));
+                  }
+                  return mockCommandResponseWriter;
+                }))
+        .when(mockCommandResponseWriter)
+        .valueWriter(any());
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.processinstance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.util.EngineRule;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceResultIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.stream.api.CommandResponseWriter;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import io.camunda.zeebe.test.util.record.RecordingExporterTestWatcher;
+import java.time.Duration;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public final class CreateProcessInstanceWithResultTimeoutTest {
+
+  private static final Duration AWAIT_RESULT_TIMEOUT = Duration.ofMinutes(1);
+  private static final String PROCESS_ID = "process";
+  private static final String JOB_TYPE = "task";
+
+  @ClassRule
+  public static final EngineRule ENGINE =
+      EngineRule.singlePartition()
+          .withEngineConfiguration(
+              new EngineConfiguration()
+                  .setProcessInstancesAwaitResultTimeout(AWAIT_RESULT_TIMEOUT));
+
+  private static CommandResponseWriter mockCommandResponseWriter;
+
+  @Rule
+  public final RecordingExporterTestWatcher recordingExporterTestWatcher =
+      new RecordingExporterTestWatcher();
+
+  @BeforeClass
+  public static void init() {
+    mockCommandResponseWriter = ENGINE.getCommandResponseWriter();
+    ENGINE
+        .deployment()
+        .withXmlResource(
+            Bpmn.createExecutableProcess(PROCESS_ID)
+                .startEvent()
+                .serviceTask("task", t -> t.zeebeJobType(JOB_TYPE))
+                .endEvent()
+                .done())
+        .deploy();
+  }
+
+  @Before
+  public void reset() {
+    Mockito.clearInvocations(mockCommandResponseWriter);
+  }
+
+  @Test
+  public void shouldRejectRequestAfterTimeout() {
+    // given
+    final long processInstanceKey =
+        ENGINE
+            .processInstance()
+            .ofBpmnProcessId(PROCESS_ID)
+            .withResult()
+            .withRequestId(1L)
+            .withRequestStreamId(1)
+            .create();
+
+    // when
+    ENGINE.increaseTime(AWAIT_RESULT_TIMEOUT.plus(AwaitResultTimeoutChecker.CHECK_INTERVAL));
+
+    // then
+    assertThat(
+            RecordingExporter.processInstanceCreationRecords()
+                .onlyCommandRejections()
+                .withIntent(ProcessInstanceCreationIntent.EXPIRE_AWAITING_RESULT)
+                .withInstanceKey(processInstanceKey)
+                .getFirst()
+                .getRejectionType())
+        .isEqualTo(RejectionType.DEADLINE_EXCEEDED);
+    verify(mockCommandResponseWriter, timeout(5000).times(1))
+        .rejectionType(RejectionType.DEADLINE_EXCEEDED);
+    verify(mockCommandResponseWriter, timeout(5000).times(1)).tryWriteResponse(1, 1L);
+  }
+
+  @Test
+  public void shouldNotSendResultAfterTimeout() {
+    // given
+    final long processInstanceKey =
+        ENGINE
+            .processInstance()
+            .ofBpmnProcessId(PROCESS_ID)
+            .withResult()
+            .withRequestId(2L)
+            .withRequestStreamId(2)
+            .create();
+    ENGINE.increaseTime(AWAIT_RESULT_TIMEOUT.plus(AwaitResultTimeoutChecker.CHECK_INTERVAL));
+    verify(mockCommandResponseWriter, timeout(5000).times(1)).tryWriteResponse(2, 2L);
+
+    // when
+    ENGINE.job().ofInstance(processInstanceKey).withType(JOB_TYPE).complete();
+
+    // then
+    assertThat(
+            RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_COMPLETED)
+                .withProcessInstanceKey(processInstanceKey)
+                .withElementType(BpmnElementType.PROCESS)
+                .exists())
+        .isTrue();
+    verify(mockCommandResponseWriter, never()).intent(ProcessInstanceResultIntent.COMPLETED);
+  }
+}
@@ -11,8 +11,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.tuple;
 
 import io.camunda.zeebe.engine.util.EngineRule;
+import io.camunda.zeebe.engine.util.RecordToWrite;
 import io.camunda.zeebe.engine.util.client.SignalClient;
 import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.record.value.signal.SignalRecord;
 import io.camunda.zeebe.protocol.record.Assertions;
 import io.camunda.zeebe.protocol.record.ExecuteCommandResponseDecoder;
 import io.camunda.zeebe.protocol.record.Record;
@@ -20,12 +23,15 @@ import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.RejectionType;
 import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.intent.SignalIntent;
 import io.camunda.zeebe.protocol.record.intent.SignalSubscriptionIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
 import io.camunda.zeebe.protocol.record.value.DeploymentRecordValue;
 import io.camunda.zeebe.protocol.record.value.JobBatchRecordValue;
 import io.camunda.zeebe.test.util.record.RecordingExporter;
 import io.camunda.zeebe.test.util.record.RecordingExporterTestWatcher;
 import java.time.Duration;
+import java.util.stream.IntStream;
 import org.junit.ClassRule;
 import org.junit.Rule;
 import org.junit.Test;
@@ -290,4 +296,108 @@ public class SignalCatchEventTest {
         .contains(
             "ERROR: Multiple signal event definitions with the same name 'signal' are not allowed.");
   }
+
+  @Test
+  public void shouldTriggerAllCatchEventsIfTheyDontFitIntoOneBatch() {
+    // given
+    final var processId = "large-signal-process";
+    final var signalName = "large-signal";
+    final var process =
+        Bpmn.createExecutableProcess(processId)
+            .startEvent()
+            .intermediateCatchEvent(ELEMENT_ID)
+            .signal(signalName)
+            .endEvent()
+            .done();
+
+    ENGINE.deployment().withXmlResource(process).deploy();
+
+    final int processInstances = 60;
+    final var processInstanceKeys =
+        IntStream.range(0, processInstances)
+            .mapToObj(i -> ENGINE.processInstance().ofBpmnProcessId(processId).create())
+            .toList();
+
+    assertThat(
+            RecordingExporter.signalSubscriptionRecords(SignalSubscriptionIntent.CREATED)
+                .withSignalName(signalName)
+                .limit(processInstances))
+        .hasSize(processInstances);
+
+    // when
+    ENGINE
+        .signal()
+        .withSignalName(signalName)
+        .withVariable("large", "x".repeat(100 * 1024))
+        .broadcast();
+
+    // then
+    assertThat(
+            RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_COMPLETED)
+                .withBpmnProcessId(processId)
+                .withElementType(BpmnElementType.PROCESS)
+                .limit(processInstances))
+        .extracting(Record::getKey)
+        .containsExactlyInAnyOrderElementsOf(processInstanceKeys);
+    assertThat(
+            RecordingExporter.signalRecords(SignalIntent.TRIGGER_SUBSCRIPTIONS)
+                .withSignalName(signalName)
+                .exists())
+        .describedAs("the remaining subscriptions are triggered by a follow-up command")
+        .isTrue();
+  }
+
+  @Test
+  public void shouldNotTriggerSubscriptionOpenedAfterTheBroadcast() {
+    // given
+    final var processId = "bounded-signal-process";
+    final var signalName = "bounded-signal";
+    final var process =
+        Bpmn.createExecutableProcess(processId)
+            .startEvent()
+            .intermediateCatchEvent(ELEMENT_ID)
+            .signal(signalName)
+            .endEvent()
+            .done();
+
+    ENGINE.deployment().withXmlResource(process).deploy();
+
+    final var firstProcessInstanceKey =
+        ENGINE.processInstance().ofBpmnProcessId(processId).create();
+    final var secondProcessInstanceKey =
+        ENGINE.processInstance().ofBpmnProcessId(processId).create();
+
+    final var subscriptionKeys =
+        RecordingExporter.signalSubscriptionRecords(SignalSubscriptionIntent.CREATED)
+            .withSignalName(signalName)
+            .limit(2)
+            .map(Record::getKey)
+            .toList();
+
+    // when -- the remaining subscriptions of a broadcast are triggered, but the second subscription
+    // was opened after the broadcast was processed
+    ENGINE.writeRecords(
+        RecordToWrite.command()
+            .key(Protocol.encodePartitionId(Protocol.DEPLOYMENT_PARTITION, 1L))
+            .signal(
+                SignalIntent.TRIGGER_SUBSCRIPTIONS,
+                new SignalRecord()
+                    .setSignalName(signalName)
+                    .setSubscriptionKey(subscriptionKeys.get(0))
+                    .setSubscriptionKeyUpperBound(subscriptionKeys.get(1))));
+
+    // then
+    assertThat(
+            RecordingExporter.processInstanceRecords()
+                .limit(
+                    r ->
+                        r.getIntent() == ProcessInstanceIntent.ELEMENT_COMPLETED
+                            && r.getKey() == firstProcessInstanceKey)
+                .withProcessInstanceKey(secondProcessInstanceKey)
+                .withElementId(ELEMENT_ID)
+                .withIntent(ProcessInstanceIntent.ELEMENT_COMPLETED)
+                .exists())
+        .describedAs("Expected the subscription opened after the broadcast not to be triggered")
+        .isFalse();
+  }
 }
@@ -117,6 +117,7 @@ public final class BanInstanceTest {
       ////////////// MESSAGE BATCH ///////////////
       ////////////////////////////////////////
       {ValueType.MESSAGE_BATCH, MessageBatchIntent.EXPIRE, false},
+      {ValueType.MESSAGE_BATCH, MessageBatchIntent.PUBLISH, false},
 
       ////////////////////////////////////////
       ////////// MSG START EVENT SUB /////////
@@ -0,0 +1,168 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.state.deployment.DeployedResourceCache.Region;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+final class DeployedResourceCacheTest {
+
+  @Test
+  void shouldGetPutValue() {
+    // given
+    final var cache = new DeployedResourceCache(1, "test", 100);
+    final Region<Long, String> region = cache.createRegion("test", 10, String::length);
+
+    // when
+    region.put(1L, "value");
+
+    // then
+    assertThat(region.get(1L)).isEqualTo("value");
+    assertThat(region.get(2L)).isNull();
+    assertThat(cache.getWeight()).isEqualTo(5);
+  }
+
+  @Test
+  void shouldReplaceValue() {
+    // given
+    final var cache = new DeployedResourceCache(1, "test", 100);
+    final Region<Long, String> region = cache.createRegion("test", 10, String::length);
+    region.put(1L, "value");
+
+    // when
+    region.put(1L, "other value");
+
+    // then
+    assertThat(region.get(1L)).isEqualTo("other value");
+    assertThat(region.size()).isOne();
+    assertThat(cache.getWeight()).isEqualTo(11);
+  }
+
+  @Test
+  void shouldLoadValueOnlyIfNotCached() {
+    // given
+    final var cache = new DeployedResourceCache(1, "test", 100);
+    final Region<Long, String> region = cache.createRegion("test", 10, String::length);
+    final var loads = new AtomicInteger();
+
+    // when
+    region.getOrLoad(1L, key -> "value-" + loads.incrementAndGet());
+    final var value = region.getOrLoad(1L, key -> "value-" + loads.incrementAndGet());
+
+    // then
+    assertThat(value).isEqualTo("value-1");
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  void shouldNotCacheValueWhichDoesNotExist() {
+    // given
+    final var cache = new DeployedResourceCache(1, "test", 100);
+    final Region<Long, String> region = cache.createRegion("test", 10, String::length);
+
+    // when
+    final var value = region.getOrLoad(1L, key -> null);
+
+    // then
+    assertThat(value).isNull();
+    assertThat(region.size()).isZero();
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedValuesOfAllRegionsWhenOverBudget() {
+    // given
+    final var cache = new DeployedResourceCache(1, "test", 10);
+    final Region<Long, String> processes = cache.createRegion("process", 10, String::length);
+    final Region<Long, String> forms = cache.createRegion("form", 10, String::length);
+    processes.put(1L, "aaaa");
+    forms.put(1L, "bbbb");
+    processes.get(1L);
+
+    // when
+    forms.put(2L, "cccc");
+
+    // then
+    assertThat(forms.get(1L)).isNull();
+    assertThat(processes.get(1L)).isEqualTo("aaaa");
+    assertThat(forms.get(2L)).isEqualTo("cccc");
+    assertThat(cache.getWeight()).isEqualTo(8);
+  }
+
+  @Test
+  void shouldKeepLatestValueLargerThanBudget() {
+    // given
+    final var cache = new DeployedResourceCache(1, "test", 10);
+    final Region<Long, String> region = cache.createRegion("test", 10, String::length);
+    region.put(1L, "aaaa");
+
+    // when
+    region.put(2L, "b".repeat(20));
+
+    // then
+    assertThat(region.get(1L)).isNull();
+    assertThat(region.get(2L)).hasSize(20);
+    assertThat(cache.getWeight()).isEqualTo(20);
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedValueOfRegionWhenOverMaxEntries() {
+    // given
+    final var cache = new DeployedResourceCache(1, "test", 100);
+    final Region<Long, String> processes = cache.createRegion("process", 2, String::length);
+    final Region<Long, String> forms = cache.createRegion("form", 2, String::length);
+    forms.put(1L, "form");
+    processes.put(1L, "a");
+    processes.put(2L, "b");
+    processes.get(1L);
+
+    // when
+    processes.put(3L, "c");
+
+    // then
+    assertThat(processes.get(2L)).isNull();
+    assertThat(processes.get(1L)).isEqualTo("a");
+    assertThat(processes.get(3L)).isEqualTo("c");
+    assertThat(forms.get(1L)).isEqualTo("form");
+  }
+
+  @Test
+  void shouldInvalidateAllValuesOfRegionOnly() {
+    // given
+    final var cache = new DeployedResourceCache(1, "test", 100);
+    final Region<Long, String> processes = cache.createRegion("process", 10, String::length);
+    final Region<Long, String> forms = cache.createRegion("form", 10, String::length);
+    processes.put(1L, "a");
+    processes.put(2L, "b");
+    forms.put(1L, "form");
+
+    // when
+    processes.invalidateAll();
+
+    // then
+    assertThat(processes.size()).isZero();
+    assertThat(forms.get(1L)).isEqualTo("form");
+    assertThat(cache.getWeight()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldNotCacheIfBudgetIsZero() {
+    // given
+    final var cache = new DeployedResourceCache(1, "test", 0);
+    final Region<Long, String> region = cache.createRegion("test", 10, String::length);
+
+    // when
+    region.put(1L, "value");
+
+    // then
+    assertThat(region.get(1L)).isNull();
+    assertThat(cache.getWeight()).isZero();
+  }
+}
@@ -10,6 +10,7 @@ package io.camunda.zeebe.engine.state.distribution;
 import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 import io.camunda.zeebe.engine.state.mutable.MutableDistributionState;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
@@ -243,6 +244,34 @@ public final class DistributionStateTest {
     assertThat(visits).hasSize(10);
   }
 
+  @Test
+  public void shouldIterateOverPendingDistributionsStartingAtDistributionKey() {
+    // given
+    final int partitionId2 = 2;
+    final int partitionId3 = 3;
+    for (int distributionKey = 1; distributionKey <= 5; distributionKey++) {
+      stateHelper.addPendingDistributionForPartitions(
+          new PendingDistribution(distributionKey, createCommandDistributionRecord()),
+          partitionId2,
+          partitionId3);
+    }
+
+    // when
+    final List<PendingDistribution> visits = new ArrayList<>();
+    distributionState.foreachPendingDistribution(
+        3L,
+        (key, commandDistributionRecord) -> {
+          visits.add(new PendingDistribution(key, commandDistributionRecord));
+          return visits.size() < 3;
+        });
+
+    // then
+    assertThat(visits)
+        .extracting(PendingDistribution::key, visit -> visit.record().getPartitionId())
+        .describedAs("Expect that the iteration starts at the key and stops when told so")
+        .containsExactly(tuple(3L, partitionId2), tuple(3L, partitionId3), tuple(4L, partitionId2));
+  }
+
   @Test
   public void shouldNotFailOnMissingDeploymentInState() {
     // given
@@ -0,0 +1,342 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.duedate;
+
+import static io.camunda.zeebe.engine.state.duedate.DueDateIndex.BUCKET_WIDTH;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbInt;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbNil;
+import io.camunda.zeebe.engine.state.duedate.DueDateIndex.Index;
+import io.camunda.zeebe.engine.util.ProcessingStateExtension;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(ProcessingStateExtension.class)
+final class DueDateIndexTest {
+
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private TransactionContext transactionContext;
+
+  private DbLong dueDate;
+  private DbLong entryKey;
+  private DbCompositeKey<DbLong, DbLong> dueDateKey;
+  private ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbNil> entriesColumnFamily;
+  private ColumnFamily<DbCompositeKey<DbInt, DbLong>, DbLong> bucketsColumnFamily;
+  private DueDateIndex<DbLong> index;
+
+  @BeforeEach
+  void setup() {
+    dueDate = new DbLong();
+    entryKey = new DbLong();
+    dueDateKey = new DbCompositeKey<>(dueDate, entryKey);
+    entriesColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.JOB_BACKOFF, transactionContext, dueDateKey, DbNil.INSTANCE);
+    bucketsColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.DUE_DATE_BUCKETS,
+            transactionContext,
+            new DbCompositeKey<>(new DbInt(), new DbLong()),
+            new DbLong());
+    index =
+        new DueDateIndex<>(
+            Index.JOB_BACKOFF, zeebeDb, transactionContext, entriesColumnFamily, dueDateKey);
+  }
+
+  @Test
+  void shouldCountEntriesPerBucket() {
+    // when
+    insert(BUCKET_WIDTH, 1);
+    insert(BUCKET_WIDTH + 1, 2);
+    insert(3 * BUCKET_WIDTH + 5, 3);
+
+    // then
+    assertThat(bucketCounts()).containsOnly(Map.entry(1L, 2L), Map.entry(3L, 1L));
+  }
+
+  @Test
+  void shouldRemoveBucketWhenLastEntryIsDeleted() {
+    // given
+    insert(BUCKET_WIDTH, 1);
+    insert(BUCKET_WIDTH + 1, 2);
+
+    // when
+    delete(BUCKET_WIDTH, 1);
+    delete(BUCKET_WIDTH + 1, 2);
+
+    // then
+    assertThat(bucketCounts()).isEmpty();
+    assertThat(entriesColumnFamily.isEmpty()).isTrue();
+  }
+
+  @Test
+  void shouldIgnoreDeletionOfMissingEntry() {
+    // given
+    insert(BUCKET_WIDTH, 1);
+
+    // when
+    dueDate.wrapLong(BUCKET_WIDTH);
+    entryKey.wrapLong(2);
+    index.deleteIfExists(dueDateKey);
+
+    // then
+    assertThat(bucketCounts()).containsOnly(Map.entry(1L, 1L));
+  }
+
+  @Test
+  void shouldVisitEntriesStartingAtFirstNonEmptyBucket() {
+    // given
+    for (int i = 0; i < 100; i++) {
+      insert(BUCKET_WIDTH + i, i);
+    }
+    insert(5 * BUCKET_WIDTH, 100);
+    insert(5 * BUCKET_WIDTH, 101);
+    insert(7 * BUCKET_WIDTH + 1, 102);
+    for (int i = 0; i < 100; i++) {
+      delete(BUCKET_WIDTH + i, i);
+    }
+
+    // when
+    final var visited = visitAll();
+
+    // then
+    assertThat(visited).containsExactly(100L, 101L, 102L);
+  }
+
+  @Test
+  void shouldStopVisitingWhenVisitorReturnsFalse() {
+    // given
+    insert(BUCKET_WIDTH, 1);
+    insert(2 * BUCKET_WIDTH, 2);
+
+    // when
+    final var visited = new ArrayList<Long>();
+    index.whileTrue(
+        (key, nil) -> {
+          visited.add(key.second().getValue());
+          return false;
+        });
+
+    // then
+    assertThat(visited).containsExactly(1L);
+  }
+
+  @Test
+  void shouldStartAtGivenKeyIfItIsAfterFirstBucket() {
+    // given
+    insert(BUCKET_WIDTH, 1);
+    insert(2 * BUCKET_WIDTH, 2);
+    insert(2 * BUCKET_WIDTH, 3);
+
+    // when
+    dueDate.wrapLong(2 * BUCKET_WIDTH);
+    entryKey.wrapLong(3);
+    final var visited = new ArrayList<Long>();
+    index.whileTrue(
+        dueDateKey,
+        (key, nil) -> {
+          visited.add(key.second().getValue());
+          return true;
+        });
+
+    // then
+    assertThat(visited).containsExactly(3L);
+  }
+
+  @Test
+  void shouldStartAtFirstBucketIfGivenKeyIsBeforeIt() {
+    // given
+    insert(3 * BUCKET_WIDTH, 1);
+
+    // when
+    dueDate.wrapLong(0);
+    entryKey.wrapLong(0);
+    final var visited = new ArrayList<Long>();
+    index.whileTrue(
+        dueDateKey,
+        (key, nil) -> {
+          visited.add(key.second().getValue());
+          return true;
+        });
+
+    // then
+    assertThat(visited).containsExactly(1L);
+  }
+
+  @Test
+  void shouldCountExistingEntriesLazily() {
+    // given
+    insertWithoutIndex(BUCKET_WIDTH, 1);
+    insertWithoutIndex(BUCKET_WIDTH + 1, 2);
+    insertWithoutIndex(3 * BUCKET_WIDTH, 3);
+    insertWithoutIndex(5 * BUCKET_WIDTH, 4);
+
+    // when
+    delete(BUCKET_WIDTH, 1);
+
+    // then
+    assertThat(bucketCounts()).containsOnly(Map.entry(1L, 1L));
+    assertThat(visitAll()).containsExactly(2L, 3L, 4L);
+  }
+
+  @Test
+  void shouldCountExistingEntriesUntilAllAreCounted() {
+    // given
+    insertWithoutIndex(BUCKET_WIDTH, 1);
+    insertWithoutIndex(3 * BUCKET_WIDTH, 2);
+    insertWithoutIndex(5 * BUCKET_WIDTH, 3);
+
+    // when
+    insert(4 * BUCKET_WIDTH, 4);
+    delete(BUCKET_WIDTH, 1);
+    delete(5 * BUCKET_WIDTH, 3);
+    insert(6 * BUCKET_WIDTH, 5);
+    delete(3 * BUCKET_WIDTH, 2);
+
+    // then
+    assertThat(bucketCounts()).containsOnly(Map.entry(4L, 1L), Map.entry(6L, 1L));
+    assertThat(visitAll()).containsExactly(4L, 5L);
+  }
+
+  @Test
+  void shouldVisitExistingEntriesBeforeTheyAreCounted() {
+    // given
+    insertWithoutIndex(BUCKET_WIDTH, 1);
+    insertWithoutIndex(3 * BUCKET_WIDTH, 2);
+
+    // when
+    final var visited = visitAll();
+
+    // then
+    assertThat(visited).containsExactly(1L, 2L);
+    assertThat(bucketCounts()).isEmpty();
+  }
+
+  @Test
+  void shouldVisitEntriesInsertedInRolledBackTransactionOnlyBeforeRollback() throws Exception {
+    // given
+    insert(3 * BUCKET_WIDTH, 1);
+    assertThat(visitAll()).containsExactly(1L);
+
+    // when
+    final var transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> insert(BUCKET_WIDTH, 2));
+    final var visitedBeforeRollback = visitAll();
+    transaction.run(() -> delete(BUCKET_WIDTH, 2));
+    transaction.run(() -> delete(3 * BUCKET_WIDTH, 1));
+    transaction.rollback();
+
+    // then
+    assertThat(visitedBeforeRollback).containsExactly(2L, 1L);
+    assertThat(visitAll()).containsExactly(1L);
+  }
+
+  @Test
+  void shouldVisitEntriesInsertedAfterVisitingFromReadOnlyContext() {
+    // given
+    final var readOnlyContext = zeebeDb.createReadOnlyContext();
+    final var readOnlyDueDateKey = new DbCompositeKey<>(new DbLong(), new DbLong());
+    final var readOnlyIndex =
+        new DueDateIndex<>(
+            Index.JOB_BACKOFF,
+            zeebeDb,
+            readOnlyContext,
+            zeebeDb.createColumnFamily(
+                ZbColumnFamilies.JOB_BACKOFF, readOnlyContext, readOnlyDueDateKey, DbNil.INSTANCE),
+            readOnlyDueDateKey);
+    insert(3 * BUCKET_WIDTH, 1);
+    assertThat(visitAll(readOnlyIndex)).containsExactly(1L);
+
+    // when
+    insert(BUCKET_WIDTH, 2);
+
+    // then
+    assertThat(visitAll(readOnlyIndex)).containsExactly(2L, 1L);
+  }
+
+  @Test
+  void shouldNotCountBucketsOfOtherIndexes() {
+    // given
+    final var otherIndex =
+        new DueDateIndex<>(
+            Index.JOB_DEADLINES,
+            zeebeDb,
+            transactionContext,
+            zeebeDb.createColumnFamily(
+                ZbColumnFamilies.JOB_DEADLINES, transactionContext, dueDateKey, DbNil.INSTANCE),
+            dueDateKey);
+    dueDate.wrapLong(BUCKET_WIDTH);
+    entryKey.wrapLong(1);
+    otherIndex.insert(dueDateKey);
+    insert(3 * BUCKET_WIDTH, 2);
+
+    // when
+    final var visited = visitAll();
+
+    // then
+    assertThat(visited).containsExactly(2L);
+    assertThat(bucketCounts()).containsOnly(Map.entry(3L, 1L));
+  }
+
+  private void insert(final long dueDate, final long key) {
+    this.dueDate.wrapLong(dueDate);
+    entryKey.wrapLong(key);
+    index.insert(dueDateKey);
+  }
+
+  private void insertWithoutIndex(final long dueDate, final long key) {
+    this.dueDate.wrapLong(dueDate);
+    entryKey.wrapLong(key);
+    entriesColumnFamily.insert(dueDateKey, DbNil.INSTANCE);
+  }
+
+  private void delete(final long dueDate, final long key) {
+    this.dueDate.wrapLong(dueDate);
+    entryKey.wrapLong(key);
+    index.deleteExisting(dueDateKey);
+  }
+
+  private List<Long> visitAll() {
+    return visitAll(index);
+  }
+
+  private List<Long> visitAll(final DueDateIndex<DbLong> indexToVisit) {
+    final var visited = new ArrayList<Long>();
+    indexToVisit.whileTrue(
+        (key, nil) -> {
+          visited.add(key.second().getValue());
+          return true;
+        });
+    return visited;
+  }
+
+  private Map<Long, Long> bucketCounts() {
+    final var counts = new HashMap<Long, Long>();
+    bucketsColumnFamily.forEach(
+        (key, count) -> {
+          // only the counts of this index, without the progress of counting existing entries
+          if (key.first().getValue() == Index.JOB_BACKOFF.ordinal()
+              && key.second().getValue() != Long.MAX_VALUE) {
+            counts.put(key.second().getValue(), count.getValue());
+          }
+        });
+    return counts;
+  }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.junit.jupiter.api.Test;
+
+final class ActivatableJobCacheTest {
+
+  private static final DirectBuffer TYPE = wrapString("type");
+  private static final String TENANT = "<default>";
+
+  private final ActivatableJobCache cache = new ActivatableJobCache(3, 2);
+
+  @Test
+  void shouldVisitLoadedAndAddedJobsInOrder() {
+    // given
+    cache.ensureLoaded(TYPE, loader(2L));
+
+    // when
+    cache.add(TYPE, 3L, TENANT);
+    cache.add(TYPE, 1L, TENANT);
+
+    // then
+    assertThat(visitAll()).containsExactly(1L, 2L, 3L);
+  }
+
+  @Test
+  void shouldNotAddJobsOfTypeWhichIsNotLoaded() {
+    // when
+    cache.add(TYPE, 1L, TENANT);
+
+    // then
+    assertThat(visitAll()).isEmpty();
+  }
+
+  @Test
+  void shouldRemoveJobsWhichAreNotValid() {
+    // given
+    cache.ensureLoaded(TYPE, loader(1L, 2L, 3L));
+
+    // when
+    final var visited = new ArrayList<Long>();
+    cache.forEach(TYPE, (key, tenantId) -> key != 2L, (key, tenantId) -> visited.add(key));
+
+    // then
+    assertThat(visited).containsExactly(1L, 3L);
+    assertThat(visitAll()).containsExactly(1L, 3L);
+  }
+
+  @Test
+  void shouldStopVisitingWhenVisitorReturnsFalse() {
+    // given
+    cache.ensureLoaded(TYPE, loader(1L, 2L, 3L));
+
+    // when
+    final var visited = new ArrayList<Long>();
+    cache.forEach(TYPE, (key, tenantId) -> true, (key, tenantId) -> visited.add(key) && key < 2L);
+
+    // then
+    assertThat(visited).containsExactly(1L, 2L);
+  }
+
+  @Test
+  void shouldTolerateModificationsWhileVisiting() {
+    // given
+    cache.ensureLoaded(TYPE, loader(1L, 3L));
+
+    // when
+    final var visited = new ArrayList<Long>();
+    cache.forEach(
+        TYPE,
+        (key, tenantId) -> true,
+        (key, tenantId) -> {
+          if (key == 1L) {
+            cache.add(TYPE, 2L, TENANT);
+          }
+          return visited.add(key);
+        });
+
+    // then
+    assertThat(visited).containsExactly(1L, 2L, 3L);
+  }
+
+  @Test
+  void shouldNotLoadTypeExceedingMaxJobs() {
+    // when
+    final var loaded = cache.ensureLoaded(TYPE, loader(1L, 2L, 3L, 4L));
+
+    // then
+    assertThat(loaded).isFalse();
+  }
+
+  @Test
+  void shouldDropTypeWhenAddingExceedsMaxJobs() {
+    // given
+    cache.ensureLoaded(TYPE, loader(1L, 2L, 3L));
+
+    // when
+    cache.add(TYPE, 4L, TENANT);
+
+    // then
+    assertThat(visitAll()).isEmpty();
+    assertThat(cache.ensureLoaded(TYPE, loader(2L, 3L, 4L))).isTrue();
+    assertThat(visitAll()).containsExactly(2L, 3L, 4L);
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedType() {
+    // given
+    final var otherType = wrapString("other");
+    cache.ensureLoaded(TYPE, loader(1L));
+    cache.ensureLoaded(otherType, loader(2L));
+    cache.ensureLoaded(TYPE, loader());
+
+    // when
+    final var loaded = cache.ensureLoaded(wrapString("new"), loader(3L));
+
+    // then
+    assertThat(loaded).isTrue();
+    assertThat(visitAll()).containsExactly(1L);
+    assertThat(cache.ensureLoaded(otherType, loader(4L))).isTrue();
+    assertThat(visitAll(otherType)).containsExactly(4L);
+  }
+
+  @Test
+  void shouldLoadAgainAfterClear() {
+    // given
+    cache.ensureLoaded(TYPE, loader(1L));
+
+    // when
+    cache.clear();
+
+    // then
+    assertThat(visitAll()).isEmpty();
+    assertThat(cache.ensureLoaded(TYPE, loader(2L))).isTrue();
+    assertThat(visitAll()).containsExactly(2L);
+  }
+
+  private ActivatableJobCache.Loader loader(final long... keys) {
+    return visitor -> {
+      for (final long key : keys) {
+        if (!visitor.test(key, TENANT)) {
+          return;
+        }
+      }
+    };
+  }
+
+  private List<Long> visitAll() {
+    return visitAll(TYPE);
+  }
+
+  private List<Long> visitAll(final DirectBuffer type) {
+    final var visited = new ArrayList<Long>();
+    cache.forEach(type, (key, tenantId) -> true, (key, tenantId) -> visited.add(key));
+    return visited;
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import org.junit.jupiter.api.Test;
+
+final class ElementInstanceCacheTest {
+
+  private final ElementInstanceCache cache = new ElementInstanceCache(2);
+
+  @Test
+  void shouldCacheActiveFlowScope() {
+    // given
+    final var flowScope = flowScope(1L);
+
+    // when
+    cache.update(flowScope);
+
+    // then
+    final var cachedInstance = cache.get(1L);
+    assertThat(cachedInstance).isNotNull();
+    assertThat(cachedInstance.getKey()).isEqualTo(1L);
+    assertThat(cachedInstance.getNumberOfActiveElementInstances()).isOne();
+  }
+
+  @Test
+  void shouldNotCacheInstanceWithoutActiveChildren() {
+    // when
+    cache.update(new ElementInstance(1L, ProcessInstanceIntent.ELEMENT_ACTIVATED, record()));
+
+    // then
+    assertThat(cache.get(1L)).isNull();
+  }
+
+  @Test
+  void shouldRemoveFlowScopeWithoutActiveChildren() {
+    // given
+    final var flowScope = flowScope(1L);
+    cache.update(flowScope);
+
+    // when
+    flowScope.decrementChildCount();
+    cache.update(flowScope);
+
+    // then
+    assertThat(cache.get(1L)).isNull();
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedFlowScope() {
+    // given
+    cache.update(flowScope(1L));
+    cache.update(flowScope(2L));
+    cache.get(1L);
+
+    // when
+    cache.update(flowScope(3L));
+
+    // then
+    assertThat(cache.get(1L)).isNotNull();
+    assertThat(cache.get(2L)).isNull();
+    assertThat(cache.get(3L)).isNotNull();
+  }
+
+  @Test
+  void shouldNotCacheIfDisabled() {
+    // given
+    final var disabledCache = new ElementInstanceCache(0);
+
+    // when
+    disabledCache.update(flowScope(1L));
+
+    // then
+    assertThat(disabledCache.isEnabled()).isFalse();
+    assertThat(disabledCache.get(1L)).isNull();
+  }
+
+  @Test
+  void shouldDropAllFlowScopesOnClear() {
+    // given
+    cache.update(flowScope(1L));
+    cache.update(flowScope(2L));
+
+    // when
+    cache.clear();
+
+    // then
+    assertThat(cache.get(1L)).isNull();
+    assertThat(cache.get(2L)).isNull();
+  }
+
+  private static ElementInstance flowScope(final long key) {
+    final var flowScope =
+        new ElementInstance(key, ProcessInstanceIntent.ELEMENT_ACTIVATED, record());
+    new ElementInstance(key + 100, flowScope, ProcessInstanceIntent.ELEMENT_ACTIVATING, record());
+    return flowScope;
+  }
+
+  private static ProcessInstanceRecord record() {
+    return new ProcessInstanceRecord().setElementId("element");
+  }
+}
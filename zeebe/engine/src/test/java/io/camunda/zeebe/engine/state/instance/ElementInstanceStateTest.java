@@ -20,6 +20,7 @@ import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
 import io.camunda.zeebe.protocol.record.value.BpmnElementType;
 import io.camunda.zeebe.test.util.MsgPackUtil;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -512,6 +513,177 @@ public final class ElementInstanceStateTest {
     assertThat(metadata.getRequestStreamId()).isEqualTo(streamId);
   }
 
+  @Test
+  public void shouldVisitExpiredAwaitResultRequests() {
+    // given
+    elementInstanceState.setAwaitResultRequestMetadata(
+        10L, new AwaitProcessInstanceResultMetadata().setRequestId(1L).setDeadline(1000L));
+    elementInstanceState.setAwaitResultRequestMetadata(
+        11L, new AwaitProcessInstanceResultMetadata().setRequestId(2L).setDeadline(2000L));
+    elementInstanceState.setAwaitResultRequestMetadata(
+        12L, new AwaitProcessInstanceResultMetadata().setRequestId(3L));
+
+    // when
+    final List<Long> expiredProcessInstanceKeys = new ArrayList<>();
+    elementInstanceState.forEachExpiredAwaitResultRequest(
+        1000L, expiredProcessInstanceKeys::add);
+
+    // then
+    assertThat(expiredProcessInstanceKeys).containsExactly(10L);
+    assertThat(elementInstanceState.getAwaitResultRequestMetadata(10L)).isNotNull();
+  }
+
+  @Test
+  public void shouldRemoveAwaitResultMetadata() {
+    // given
+    elementInstanceState.setAwaitResultRequestMetadata(
+        10L, new AwaitProcessInstanceResultMetadata().setRequestId(1L).setDeadline(1000L));
+    elementInstanceState.setAwaitResultRequestMetadata(
+        11L, new AwaitProcessInstanceResultMetadata().setRequestId(2L).setDeadline(1000L));
+
+    // when
+    elementInstanceState.removeAwaitResultRequestMetadata(10L);
+
+    // then
+    final List<Long> expiredProcessInstanceKeys = new ArrayList<>();
+    elementInstanceState.forEachExpiredAwaitResultRequest(
+        1000L, expiredProcessInstanceKeys::add);
+    assertThat(expiredProcessInstanceKeys).containsExactly(11L);
+    assertThat(elementInstanceState.getAwaitResultRequestMetadata(10L)).isNull();
+  }
+
+  @Test
+  public void shouldNotVisitAwaitResultRequestsAfterRollback() throws Exception {
+    // given
+    elementInstanceState.setAwaitResultRequestMetadata(
+        10L, new AwaitProcessInstanceResultMetadata().setRequestId(1L).setDeadline(2000L));
+
+    // when -- the awaited process instances are updated by a transaction which is rolled back
+    final var transaction = stateRule.getTransactionContext().getCurrentTransaction();
+    transaction.run(
+        () -> {
+          elementInstanceState.removeAwaitResultRequestMetadata(10L);
+          elementInstanceState.setAwaitResultRequestMetadata(
+              11L, new AwaitProcessInstanceResultMetadata().setRequestId(2L).setDeadline(1000L));
+        });
+    transaction.rollback();
+
+    // then
+    final List<Long> expiredProcessInstanceKeys = new ArrayList<>();
+    elementInstanceState.forEachExpiredAwaitResultRequest(
+        2000L, expiredProcessInstanceKeys::add);
+    assertThat(expiredProcessInstanceKeys).containsExactly(10L);
+    assertThat(elementInstanceState.getAwaitResultRequestMetadata(10L).getRequestId())
+        .isEqualTo(1L);
+    assertThat(elementInstanceState.getAwaitResultRequestMetadata(11L)).isNull();
+  }
+
+  @Test
+  public void shouldRemoveAwaitResultMetadataWithProcessInstance() {
+    // given
+    final ProcessInstanceRecord processRecord = createProcessInstanceRecord();
+    processRecord.setBpmnElementType(BpmnElementType.PROCESS);
+    elementInstanceState.newInstance(100, processRecord, ProcessInstanceIntent.ELEMENT_ACTIVATED);
+    elementInstanceState.setAwaitResultRequestMetadata(
+        100, new AwaitProcessInstanceResultMetadata().setRequestId(1L));
+
+    // when
+    elementInstanceState.removeInstance(100);
+
+    // then
+    assertThat(elementInstanceState.getAwaitResultRequestMetadata(100)).isNull();
+  }
+
+  @Test
+  public void shouldReturnIndependentCopiesOfFlowScope() {
+    // given
+    final ElementInstance parentInstance =
+        elementInstanceState.newInstance(
+            100, createProcessInstanceRecord(), ProcessInstanceIntent.ELEMENT_ACTIVATED);
+    elementInstanceState.newInstance(
+        parentInstance,
+        101,
+        createProcessInstanceRecord(),
+        ProcessInstanceIntent.ELEMENT_ACTIVATING);
+
+    // when
+    final ElementInstance modifiedInstance = elementInstanceState.getInstance(100);
+    modifiedInstance.setState(ProcessInstanceIntent.ELEMENT_TERMINATING);
+    modifiedInstance.incrementNumberOfCompletedElementInstances();
+
+    // then
+    assertElementInstance(elementInstanceState.getInstance(100), 1);
+    Assertions.assertThat(
+            elementInstanceState.getInstance(100).getNumberOfCompletedElementInstances())
+        .isZero();
+  }
+
+  @Test
+  public void shouldReturnUpdatedFlowScopeAfterChildIsRemoved() {
+    // given
+    final ElementInstance parentInstance =
+        elementInstanceState.newInstance(
+            100, createProcessInstanceRecord(), ProcessInstanceIntent.ELEMENT_ACTIVATED);
+    elementInstanceState.newInstance(
+        parentInstance,
+        101,
+        createProcessInstanceRecord(),
+        ProcessInstanceIntent.ELEMENT_ACTIVATING);
+    elementInstanceState.newInstance(
+        parentInstance,
+        102,
+        createProcessInstanceRecord(),
+        ProcessInstanceIntent.ELEMENT_ACTIVATING);
+
+    // when
+    elementInstanceState.removeInstance(101);
+
+    // then
+    assertElementInstance(elementInstanceState.getInstance(100), 1);
+  }
+
+  @Test
+  public void shouldNotReturnRemovedFlowScope() {
+    // given
+    final ElementInstance parentInstance =
+        elementInstanceState.newInstance(
+            100, createProcessInstanceRecord(), ProcessInstanceIntent.ELEMENT_ACTIVATED);
+    elementInstanceState.newInstance(
+        parentInstance,
+        101,
+        createProcessInstanceRecord(),
+        ProcessInstanceIntent.ELEMENT_ACTIVATING);
+    elementInstanceState.getInstance(100);
+
+    // when
+    elementInstanceState.removeInstance(101);
+    elementInstanceState.removeInstance(100);
+
+    // then
+    Assertions.assertThat(elementInstanceState.getInstance(100)).isNull();
+  }
+
+  @Test
+  public void shouldReturnFlowScopeAfterRollback() throws Exception {
+    // given
+    elementInstanceState.newInstance(
+        100, createProcessInstanceRecord(), ProcessInstanceIntent.ELEMENT_ACTIVATED);
+
+    // when -- the cached flow scope is updated by a transaction which is rolled back
+    final var transaction = stateRule.getTransactionContext().getCurrentTransaction();
+    transaction.run(
+        () ->
+            elementInstanceState.newInstance(
+                elementInstanceState.getInstance(100),
+                101,
+                createProcessInstanceRecord(),
+                ProcessInstanceIntent.ELEMENT_ACTIVATING));
+    transaction.rollback();
+
+    // then
+    assertElementInstance(elementInstanceState.getInstance(100), 0);
+  }
+
   private void assertElementInstance(final ElementInstance elementInstance, final int childCount) {
     Assertions.assertThat(elementInstance.getKey()).isEqualTo(100);
     Assertions.assertThat(elementInstance.getState())
@@ -641,6 +641,92 @@ public final class JobStateTest {
     assertThat(jobKeys).containsExactly(256L, 65536L);
   }
 
+  @Test
+  public void shouldListJobsMadeActivatableAfterPreviousListing() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    final String tenantId = TenantOwned.DEFAULT_TENANT_IDENTIFIER;
+    jobState.create(256L, newJobRecord().setType(type));
+    createAndActivateJobRecord(512L, newJobRecord().setType(type));
+    getActivatableKeys(type, tenantId);
+
+    // when
+    jobState.create(128L, newJobRecord().setType(type));
+    jobState.fail(512L, newJobRecord().setType(type));
+    jobState.create(1024L, newJobRecord().setType(type));
+
+    // then
+    assertThat(getActivatableKeys(type, tenantId)).containsExactly(128L, 256L, 512L, 1024L);
+  }
+
+  @Test
+  public void shouldNotListJobsMadeNotActivatableAfterPreviousListing() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    final String tenantId = TenantOwned.DEFAULT_TENANT_IDENTIFIER;
+    jobState.create(256L, newJobRecord().setType(type));
+    jobState.create(512L, newJobRecord().setType(type));
+    jobState.create(1024L, newJobRecord().setType(type));
+    getActivatableKeys(type, tenantId);
+
+    // when
+    jobState.activate(256L, newJobRecord().setType(type));
+    jobState.complete(1024L, newJobRecord().setType(type));
+
+    // then
+    assertThat(getActivatableKeys(type, tenantId)).containsExactly(512L);
+  }
+
+  @Test
+  public void shouldListActivatableJobsAfterRollback() throws Exception {
+    // given
+    try (final var db = stateRule.createNewDb()) {
+      final var transactionContext = db.createContext();
+      final var jobStateWithRollback = new DbJobState(db, transactionContext);
+      final DirectBuffer type = wrapString("test");
+      final List<String> tenantIds = List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+      final List<Long> activatableKeys = new ArrayList<>();
+      jobStateWithRollback.create(256L, newJobRecord().setType(type));
+
+      // when -- the cached job is dropped as it is activated, but the activation is rolled back
+      final var transaction = transactionContext.getCurrentTransaction();
+      transaction.run(
+          () -> {
+            jobStateWithRollback.activate(256L, newJobRecord().setType(type));
+            jobStateWithRollback.forEachActivatableJobs(type, tenantIds, (k, e) -> true);
+          });
+      transaction.rollback();
+      jobStateWithRollback.forEachActivatableJobs(
+          type, tenantIds, (k, e) -> activatableKeys.add(k));
+
+      // then
+      assertThat(activatableKeys).containsExactly(256L);
+    }
+  }
+
+  @Test
+  public void shouldListActivatableJobsOfTypeExceedingCacheCapacity() throws Exception {
+    // given
+    try (final var db = stateRule.createNewDb()) {
+      final var jobStateWithSmallCache =
+          new DbJobState(db, db.createContext(), new ActivatableJobCache(2, 1));
+      final DirectBuffer type = wrapString("test");
+      final List<Long> activatableKeys = new ArrayList<>();
+      jobStateWithSmallCache.create(256L, newJobRecord().setType(type));
+      jobStateWithSmallCache.create(512L, newJobRecord().setType(type));
+      jobStateWithSmallCache.forEachActivatableJobs(
+          type, List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER), (k, e) -> true);
+
+      // when
+      jobStateWithSmallCache.create(1024L, newJobRecord().setType(type));
+      jobStateWithSmallCache.forEachActivatableJobs(
+          type, List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER), (k, e) -> activatableKeys.add(k));
+
+      // then
+      assertThat(activatableKeys).containsExactly(256L, 512L, 1024L);
+    }
+  }
+
   @Test
   public void shouldNotDoAnythingIfNoActivatableJobs() {
     // given
@@ -0,0 +1,115 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+final class TimerInstanceTest {
+
+  @Test
+  void shouldWriteAndReadCompactValue() {
+    // given
+    final var timer = createTimer();
+    final var buffer = new UnsafeBuffer(new byte[timer.getLength()]);
+
+    // when
+    timer.write(buffer, 0);
+    final var readTimer = new TimerInstance();
+    readTimer.wrap(buffer, 0, buffer.capacity());
+
+    // then
+    assertThat(readTimer).isEqualTo(timer);
+    assertThat(timer.getLength()).isLessThan(timer.getEncodedLength());
+  }
+
+  @Test
+  void shouldWriteMessagePackValueIfCompactEncodingIsDisabled() {
+    // given
+    final var timer = createTimer();
+    timer.setCompactEncoding(false);
+    final var buffer = new UnsafeBuffer(new byte[timer.getLength()]);
+
+    // when
+    timer.write(buffer, 0);
+    final var readTimer = new TimerInstance();
+    readTimer.wrap(buffer, 0, buffer.capacity());
+
+    // then
+    assertThat(timer.getLength()).isEqualTo(timer.getEncodedLength());
+    assertThat(readTimer).isEqualTo(timer);
+  }
+
+  @Test
+  void shouldReadMessagePackValue() {
+    // given
+    final var timer = createTimer();
+    final var buffer = new UnsafeBuffer(new byte[timer.getEncodedLength()]);
+    final var writer = new MsgPackWriter();
+    writer.wrap(buffer, 0);
+    timer.write(writer);
+
+    // when
+    final var readTimer = new TimerInstance();
+    readTimer.wrap(buffer, 0, buffer.capacity());
+
+    // then
+    assertThat(readTimer).isEqualTo(timer);
+  }
+
+  @Test
+  void shouldResetPropertiesWhenReadingCompactValue() {
+    // given
+    final var timer = new TimerInstance();
+    timer.setCompactEncoding(true);
+    timer.setKey(1L);
+    final var buffer = new UnsafeBuffer(new byte[timer.getLength()]);
+    timer.write(buffer, 0);
+
+    // when
+    final var readTimer = createTimer();
+    readTimer.wrap(buffer, 0, buffer.capacity());
+
+    // then
+    assertThat(readTimer).isEqualTo(timer);
+    assertThat(readTimer.getTenantId()).isEqualTo(timer.getTenantId());
+  }
+
+  @Test
+  void shouldRejectUnknownVersion() {
+    // given
+    final var timer = createTimer();
+    final var buffer = new UnsafeBuffer(new byte[timer.getLength()]);
+    timer.write(buffer, 0);
+    buffer.putByte(0, (byte) 2);
+
+    // when - then
+    assertThatThrownBy(() -> new TimerInstance().wrap(buffer, 0, buffer.capacity()))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("version 1, but was 2");
+  }
+
+  private static TimerInstance createTimer() {
+    final var timer = new TimerInstance();
+    timer.setKey(1L);
+    timer.setElementInstanceKey(2L);
+    timer.setProcessInstanceKey(3L);
+    timer.setProcessDefinitionKey(4L);
+    timer.setDueDate(1_000L);
+    timer.setRepetitions(5);
+    timer.setHandlerNodeId(BufferUtil.wrapString("timer"));
+    timer.setTenantId("tenant");
+    timer.setCompactEncoding(true);
+    return timer;
+  }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.message;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.state.message.CorrelationKeyFilter.Loader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+final class CorrelationKeyFilterTest {
+
+  private static final Loader EMPTY = visitor -> {};
+
+  @Test
+  void shouldNotContainTripleOfEmptyColumnFamily() {
+    // given
+    final var filter = new CorrelationKeyFilter(100);
+
+    // when - then
+    assertThat(mightContain(filter, "tenant", "name", "key", EMPTY)).isFalse();
+  }
+
+  @Test
+  void shouldContainLoadedTriples() {
+    // given
+    final var filter = new CorrelationKeyFilter(100);
+    final Loader loader = loaderOf(List.of("name-1", "name-2"));
+
+    // when - then
+    assertThat(mightContain(filter, "tenant", "name-1", "key", loader)).isTrue();
+    assertThat(mightContain(filter, "tenant", "name-2", "key", loader)).isTrue();
+    assertThat(mightContain(filter, "tenant", "name-3", "key", loader)).isFalse();
+    assertThat(mightContain(filter, "other", "name-1", "key", loader)).isFalse();
+    assertThat(mightContain(filter, "tenant", "name-1", "other", loader)).isFalse();
+  }
+
+  @Test
+  void shouldDistinguishBoundariesOfTriple() {
+    // given
+    final var filter = new CorrelationKeyFilter(100);
+    filter.mightContain(wrapString(""), wrapString(""), wrapString(""), EMPTY);
+
+    // when
+    filter.add(wrapString("tenant"), wrapString("ab"), wrapString("c"));
+
+    // then
+    assertThat(mightContain(filter, "tenant", "ab", "c", EMPTY)).isTrue();
+    assertThat(mightContain(filter, "tenant", "a", "bc", EMPTY)).isFalse();
+  }
+
+  @Test
+  void shouldContainAddedTripleOnceBuilt() {
+    // given
+    final var filter = new CorrelationKeyFilter(100);
+    final var loads = new AtomicInteger();
+    final Loader loader = visitor -> loads.incrementAndGet();
+    mightContain(filter, "tenant", "name", "key", loader);
+
+    // when
+    filter.add(wrapString("tenant"), wrapString("name"), wrapString("key"));
+
+    // then
+    assertThat(mightContain(filter, "tenant", "name", "key", loader)).isTrue();
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  void shouldBuildAgainWhenCleared() {
+    // given
+    final var filter = new CorrelationKeyFilter(100);
+    final var loads = new AtomicInteger();
+    final Loader loader = visitor -> loads.incrementAndGet();
+    filter.add(wrapString("tenant"), wrapString("name"), wrapString("key"));
+    mightContain(filter, "tenant", "name", "key", loader);
+    filter.add(wrapString("tenant"), wrapString("name"), wrapString("key"));
+
+    // when
+    filter.clear();
+
+    // then
+    assertThat(mightContain(filter, "tenant", "name", "key", loader)).isFalse();
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  void shouldBuildAgainWhenMoreTriplesWereAddedThanItIsSizedFor() {
+    // given
+    final var filter = new CorrelationKeyFilter(10);
+    final var loads = new AtomicInteger();
+    final Loader loader = visitor -> loads.incrementAndGet();
+    mightContain(filter, "tenant", "name", "key", loader);
+
+    // when
+    for (int i = 0; i <= 10; i++) {
+      filter.add(wrapString("tenant"), wrapString("name-" + i), wrapString("key"));
+    }
+
+    // then
+    mightContain(filter, "tenant", "name", "key", loader);
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  void shouldHaveFewFalsePositives() {
+    // given
+    final var filter = new CorrelationKeyFilter(1_000);
+    final List<String> names = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      names.add("name-" + i);
+    }
+    final Loader loader = loaderOf(names);
+
+    // when
+    int falsePositives = 0;
+    for (int i = 0; i < 10_000; i++) {
+      if (mightContain(filter, "tenant", "other-" + i, "key", loader)) {
+        falsePositives++;
+      }
+    }
+
+    // then
+    assertThat(names).allMatch(name -> mightContain(filter, "tenant", name, "key", loader));
+    assertThat(falsePositives).isLessThan(200);
+  }
+
+  @Test
+  void shouldAlwaysContainTripleIfDisabled() {
+    // given
+    final var filter = new CorrelationKeyFilter(0);
+    final var loads = new AtomicInteger();
+
+    // when - then
+    assertThat(mightContain(filter, "tenant", "name", "key", visitor -> loads.incrementAndGet()))
+        .isTrue();
+    assertThat(loads).hasValue(0);
+  }
+
+  private static boolean mightContain(
+      final CorrelationKeyFilter filter,
+      final String tenantId,
+      final String messageName,
+      final String correlationKey,
+      final Loader loader) {
+    return filter.mightContain(
+        wrapString(tenantId), wrapString(messageName), wrapString(correlationKey), loader);
+  }
+
+  private static Loader loaderOf(final List<String> messageNames) {
+    return visitor ->
+        messageNames.forEach(
+            name -> visitor.visit(wrapString("tenant"), wrapString(name), wrapString("key")));
+  }
+}
@@ -615,6 +615,55 @@ public final class MessageStateTest {
     assertThat(messageState.getProcessInstanceCorrelationKey(2L)).isEqualTo(wrapString("key-2"));
   }
 
+  @Test
+  public void shouldVisitMessagePutAfterFirstLookup() {
+    // given
+    final List<Long> keys = new ArrayList<>();
+    messageState.visitMessages(
+        DEFAULT_TENANT, wrapString("name"), wrapString("correlationKey"), m -> keys.add(1L));
+    assertThat(keys).isEmpty();
+
+    // when
+    messageState.put(1L, createMessage("name", "correlationKey", "{}", "id"));
+
+    // then
+    messageState.visitMessages(
+        DEFAULT_TENANT,
+        wrapString("name"),
+        wrapString("correlationKey"),
+        m -> keys.add(m.getMessageKey()));
+    assertThat(keys).containsExactly(1L);
+    assertThat(
+            messageState.exist(
+                wrapString("name"), wrapString("correlationKey"), wrapString("id"), DEFAULT_TENANT))
+        .isTrue();
+  }
+
+  @Test
+  public void shouldVisitMessageAfterRollback() throws Exception {
+    // given
+    messageState.put(1L, createMessage("name", "correlationKey"));
+
+    // when -- the correlation key filter is built by a transaction which is rolled back
+    final var transaction = stateRule.getTransactionContext().getCurrentTransaction();
+    transaction.run(
+        () -> {
+          messageState.remove(1L);
+          messageState.visitMessages(
+              DEFAULT_TENANT, wrapString("name"), wrapString("correlationKey"), m -> true);
+        });
+    transaction.rollback();
+
+    // then
+    final List<Long> keys = new ArrayList<>();
+    messageState.visitMessages(
+        DEFAULT_TENANT,
+        wrapString("name"),
+        wrapString("correlationKey"),
+        m -> keys.add(m.getMessageKey()));
+    assertThat(keys).containsExactly(1L);
+  }
+
   private MessageRecord createMessage(final String name, final String correlationKey) {
     return new MessageRecord()
         .setName(name)
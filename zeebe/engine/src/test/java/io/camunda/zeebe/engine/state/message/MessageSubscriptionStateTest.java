@@ -184,6 +184,51 @@ public final class MessageSubscriptionStateTest {
     assertThat(keys).hasSize(1).contains(1L);
   }
 
+  @Test
+  public void shouldVisitSubscriptionPutAfterFirstLookup() {
+    // given
+    final List<Long> keys = new ArrayList<>();
+    state.visitSubscriptions(
+        DEFAULT_TENANT, wrapString("messageName"), wrapString("correlationKey"), s -> keys.add(1L));
+    assertThat(keys).isEmpty();
+
+    // when
+    state.put(1L, subscription("messageName", "correlationKey", 1));
+
+    // then
+    state.visitSubscriptions(
+        DEFAULT_TENANT,
+        wrapString("messageName"),
+        wrapString("correlationKey"),
+        s -> keys.add(s.getRecord().getElementInstanceKey()));
+    assertThat(keys).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldVisitSubscriptionAfterRollback() throws Exception {
+    // given
+    state.put(1L, subscription("messageName", "correlationKey", 1));
+
+    // when -- the correlation key filter is built by a transaction which is rolled back
+    final var transaction = stateRule.getTransactionContext().getCurrentTransaction();
+    transaction.run(
+        () -> {
+          state.remove(1L, wrapString("messageName"));
+          state.visitSubscriptions(
+              DEFAULT_TENANT, wrapString("messageName"), wrapString("correlationKey"), s -> true);
+        });
+    transaction.rollback();
+
+    // then
+    final List<Long> keys = new ArrayList<>();
+    state.visitSubscriptions(
+        DEFAULT_TENANT,
+        wrapString("messageName"),
+        wrapString("correlationKey"),
+        s -> keys.add(s.getRecord().getElementInstanceKey()));
+    assertThat(keys).containsExactly(1L);
+  }
+
   private MessageSubscriptionRecord subscriptionWithElementInstanceKey(
       final long elementInstanceKey) {
     return subscription("messageName", "correlationKey", elementInstanceKey);
@@ -24,6 +24,7 @@ import io.camunda.zeebe.engine.state.deployment.DbDecisionState;
 import io.camunda.zeebe.engine.state.deployment.DbProcessState;
 import io.camunda.zeebe.engine.state.deployment.DeployedDrg;
 import io.camunda.zeebe.engine.state.deployment.DeployedProcess;
+import io.camunda.zeebe.engine.state.deployment.DeployedResourceCache;
 import io.camunda.zeebe.engine.state.deployment.PersistedDecision;
 import io.camunda.zeebe.engine.state.deployment.PersistedProcess.PersistedProcessState;
 import io.camunda.zeebe.engine.state.deployment.VersionInfo;
@@ -88,7 +89,14 @@ public class MultiTenancyMigrationTest {
     @BeforeEach
     void setup() {
       legacyState = new LegacyProcessState(zeebeDb, transactionContext);
-      processState = new DbProcessState(zeebeDb, transactionContext, new EngineConfiguration());
+      final var cfg = new EngineConfiguration();
+      processState =
+          new DbProcessState(
+              zeebeDb,
+              transactionContext,
+              cfg,
+              DeployedResourceCache.forProcessingState(
+                  1, cfg.getDeployedResourceCacheMemoryBudget()));
     }
 
     @Test
@@ -253,7 +261,13 @@ public class MultiTenancyMigrationTest {
     void setup() {
       final var cfg = new EngineConfiguration();
       legacyState = new LegacyDecisionState(zeebeDb, transactionContext, cfg);
-      decisionState = new DbDecisionState(zeebeDb, transactionContext, cfg);
+      decisionState =
+          new DbDecisionState(
+              zeebeDb,
+              transactionContext,
+              cfg,
+              DeployedResourceCache.forProcessingState(
+                  1, cfg.getDeployedResourceCacheMemoryBudget()));
     }
 
     @Test
@@ -12,6 +12,7 @@ import static org.assertj.core.api.Assertions.assertThatCode;
 
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.state.QueryService.ClosedServiceException;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.engine.util.ProcessingStateExtension;
@@ -40,7 +41,7 @@ final class StateQueryServiceTest {
 
   @BeforeEach
   void setup() {
-    sut = new StateQueryService(db);
+    sut = new StateQueryService(db, 1, new EngineConfiguration());
   }
 
   @ParameterizedTest(name = "[{index}] should throw ClosedServiceException when closed")
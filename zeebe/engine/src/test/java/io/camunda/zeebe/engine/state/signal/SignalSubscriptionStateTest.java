@@ -193,6 +193,91 @@ public final class SignalSubscriptionStateTest {
         .isEqualTo(BufferUtil.wrapString("foo"));
   }
 
+  @Test
+  public void shouldVisitForSignalNameStartingAtSubscriptionKey() {
+    // given
+    state.put(1L, createSubscription("signal", "startEvent1", 1));
+    state.put(2L, createSubscription("signal", "startEvent2", 2));
+    state.put(3L, createSubscription("signal", "startEvent3", 3));
+    state.put(4L, createSubscription("signal-other", "startEvent4", 4));
+
+    // when
+    final List<Long> visitedKeys = new ArrayList<>();
+    state.visitBySignalName(
+        wrapString("signal"),
+        TenantOwned.DEFAULT_TENANT_IDENTIFIER,
+        2L,
+        (subscriptionKey, subscription) -> visitedKeys.add(subscriptionKey));
+
+    // then
+    assertThat(visitedKeys).containsExactly(2L, 3L);
+  }
+
+  @Test
+  public void shouldStopVisitingForSignalNameIfVisitorReturnsFalse() {
+    // given
+    state.put(1L, createSubscription("signal", "startEvent1", 1));
+    state.put(2L, createSubscription("signal", "startEvent2", 2));
+
+    // when
+    final List<Long> visitedKeys = new ArrayList<>();
+    state.visitBySignalName(
+        wrapString("signal"),
+        TenantOwned.DEFAULT_TENANT_IDENTIFIER,
+        -1L,
+        (subscriptionKey, subscription) -> {
+          visitedKeys.add(subscriptionKey);
+          return false;
+        });
+
+    // then
+    assertThat(visitedKeys).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldCountSubscriptionsBySignalName() {
+    // given
+    state.put(1L, createSubscription("signal", "startEvent1", 1));
+    assertThat(state.hasSubscriptions(wrapString("signal"), TenantOwned.DEFAULT_TENANT_IDENTIFIER))
+        .isTrue();
+
+    // when
+    state.put(2L, createSubscription("signal", "startEvent2", 2));
+    state.remove(1L, wrapString("signal"), TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+
+    // then
+    assertThat(state.hasSubscriptions(wrapString("signal"), TenantOwned.DEFAULT_TENANT_IDENTIFIER))
+        .isTrue();
+    assertThat(state.hasSubscriptions(wrapString("other"), TenantOwned.DEFAULT_TENANT_IDENTIFIER))
+        .isFalse();
+    assertThat(state.hasSubscriptions(wrapString("signal"), "other-tenant")).isFalse();
+
+    state.remove(2L, wrapString("signal"), TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+    assertThat(state.hasSubscriptions(wrapString("signal"), TenantOwned.DEFAULT_TENANT_IDENTIFIER))
+        .isFalse();
+  }
+
+  @Test
+  public void shouldNotCountSubscriptionsAfterRollback() throws Exception {
+    // given -- the subscription counts are built by a transaction which is rolled back
+    final var transaction = stateRule.getTransactionContext().getCurrentTransaction();
+    transaction.run(
+        () -> {
+          state.put(1L, createSubscription("signal", "startEvent1", 1));
+          assertThat(
+                  state.hasSubscriptions(
+                      wrapString("signal"), TenantOwned.DEFAULT_TENANT_IDENTIFIER))
+              .isTrue();
+        });
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(state.hasSubscriptions(wrapString("signal"), TenantOwned.DEFAULT_TENANT_IDENTIFIER))
+        .isFalse();
+  }
+
   private SignalSubscriptionRecord createSubscription(
       final String signalName, final String startEventId, final long key) {
     return new SignalSubscriptionRecord()
@@ -0,0 +1,96 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.variable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.test.util.MsgPackUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+final class VariableInstanceTest {
+
+  private static final DirectBuffer VALUE = MsgPackUtil.asMsgPack("{'foo': 'bar'}");
+
+  @Test
+  void shouldWriteAndReadCompactValue() {
+    // given
+    final var variable =
+        new VariableInstance()
+            .setCompactEncoding(true)
+            .setKey(1L)
+            .setValue(VALUE, 0, VALUE.capacity())
+            .setOffloaded(true);
+    final var buffer = new UnsafeBuffer(new byte[variable.getLength()]);
+
+    // when
+    variable.write(buffer, 0);
+    final var readVariable = new VariableInstance();
+    readVariable.wrap(buffer, 0, buffer.capacity());
+
+    // then
+    assertThat(readVariable.getKey()).isEqualTo(1L);
+    assertThat(readVariable.getValue()).isEqualTo(VALUE);
+    assertThat(readVariable.isOffloaded()).isTrue();
+    assertThat(variable.getLength()).isLessThan(variable.getEncodedLength());
+  }
+
+  @Test
+  void shouldWriteMessagePackValueByDefault() {
+    // given
+    final var variable = new VariableInstance().setKey(1L).setValue(VALUE, 0, VALUE.capacity());
+    final var buffer = new UnsafeBuffer(new byte[variable.getLength()]);
+
+    // when
+    variable.write(buffer, 0);
+    final var readVariable = new VariableInstance();
+    readVariable.wrap(buffer, 0, buffer.capacity());
+
+    // then
+    assertThat(variable.getLength()).isEqualTo(variable.getEncodedLength());
+    assertThat(readVariable.getKey()).isEqualTo(1L);
+    assertThat(readVariable.getValue()).isEqualTo(VALUE);
+  }
+
+  @Test
+  void shouldReadMessagePackValue() {
+    // given
+    final var variable = new VariableInstance().setKey(1L).setValue(VALUE, 0, VALUE.capacity());
+    final var buffer = new UnsafeBuffer(new byte[variable.getEncodedLength()]);
+    final var writer = new MsgPackWriter();
+    writer.wrap(buffer, 0);
+    variable.write(writer);
+
+    // when
+    final var readVariable = new VariableInstance();
+    readVariable.wrap(buffer, 0, buffer.capacity());
+
+    // then
+    assertThat(readVariable.getKey()).isEqualTo(1L);
+    assertThat(readVariable.getValue()).isEqualTo(VALUE);
+    assertThat(readVariable.isOffloaded()).isFalse();
+  }
+
+  @Test
+  void shouldWriteEmptyValue() {
+    // given
+    final var variable =
+        new VariableInstance().setCompactEncoding(true).setKey(1L).setValue(VALUE, 0, 0);
+    final var buffer = new UnsafeBuffer(new byte[variable.getLength()]);
+
+    // when
+    variable.write(buffer, 0);
+    final var readVariable = new VariableInstance();
+    readVariable.wrap(buffer, 0, buffer.capacity());
+
+    // then
+    assertThat(readVariable.getValue().capacity()).isZero();
+  }
+}
@@ -16,6 +16,7 @@ import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.state.immutable.VariableState;
 import io.camunda.zeebe.engine.state.immutable.VariableState.Variable;
 import io.camunda.zeebe.engine.state.instance.ElementInstance;
@@ -23,11 +24,14 @@ import io.camunda.zeebe.engine.state.mutable.MutableElementInstanceState;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
 import io.camunda.zeebe.engine.util.ProcessingStateRule;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.StringJoiner;
 import java.util.concurrent.atomic.AtomicLong;
 import org.agrona.DirectBuffer;
 import org.junit.After;
@@ -38,12 +42,19 @@ import org.junit.Test;
 
 public final class VariableStateTest {
 
-  @ClassRule public static final ProcessingStateRule ZEEBE_STATE_RULE = new ProcessingStateRule();
+  private static final int OFFLOAD_THRESHOLD = 64 * 1024;
+
+  @ClassRule
+  public static final ProcessingStateRule ZEEBE_STATE_RULE =
+      new ProcessingStateRule(
+          new EngineConfiguration().setVariablesOffloadThreshold(OFFLOAD_THRESHOLD));
+
   private static final long PROCESS_KEY = 123;
   private static final AtomicLong PARENT_KEY = new AtomicLong(0);
   private static final AtomicLong CHILD_KEY = new AtomicLong(1);
   private static final AtomicLong SECOND_CHILD_KEY = new AtomicLong(2);
   private static final AtomicLong KEY_GENERATOR = new AtomicLong();
+  private static final String LARGE_STRING = "x".repeat(OFFLOAD_THRESHOLD);
   private static MutableElementInstanceState elementInstanceState;
   private static MutableVariableState variableState;
   private long parent;
@@ -241,6 +252,260 @@ public final class VariableStateTest {
     assertEquality(variablesDocument, "{'a': 1}");
   }
 
+  @Test
+  public void shouldNotCollectHiddenVariablesByName() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    setVariableLocal(parent, wrapString("b"), asMsgPack("2"));
+    setVariableLocal(child, wrapString("b"), asMsgPack("3"));
+
+    // when
+    final DirectBuffer variablesDocument =
+        variableState.getVariablesAsDocument(
+            child, Arrays.asList(wrapString("a"), wrapString("b")));
+
+    // then
+    assertEquality(variablesDocument, "{'a': 1, 'b': 3}");
+  }
+
+  @Test
+  public void shouldCollectDuplicateVariableNamesOnce() {
+    // given
+    declareScope(parent);
+
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+
+    // when
+    final DirectBuffer variablesDocument =
+        variableState.getVariablesAsDocument(
+            parent, Arrays.asList(wrapString("a"), wrapString("a")));
+
+    // then
+    assertEquality(variablesDocument, "{'a': 1}");
+  }
+
+  @Test
+  public void shouldCollectManyVariablesByNameFromMultipleScopes() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+
+    final var names = new ArrayList<DirectBuffer>();
+    final var expected = new StringJoiner(", ", "{", "}");
+    for (int i = 0; i < 20; i++) {
+      final var name = "var" + i;
+      names.add(wrapString(name));
+      setVariableLocal(parent, wrapString(name), asMsgPack("1"));
+      if (i % 2 == 0) {
+        setVariableLocal(child, wrapString(name), asMsgPack("2"));
+      }
+      expected.add("'%s': %d".formatted(name, i % 2 == 0 ? 2 : 1));
+    }
+    setVariableLocal(parent, wrapString("other"), asMsgPack("3"));
+
+    // when
+    final DirectBuffer variablesDocument = variableState.getVariablesAsDocument(child, names);
+
+    // then
+    assertEquality(variablesDocument, expected.toString());
+  }
+
+  @Test
+  public void shouldCollectVariablesOfSiblingScopesWithCachedParentScope() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    declareScope(parent, child2);
+
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    setVariableLocal(parent, wrapString("b"), asMsgPack("2"));
+    setVariableLocal(child, wrapString("b"), asMsgPack("3"));
+    setVariableLocal(child2, wrapString("c"), asMsgPack("4"));
+
+    // when
+    final DirectBuffer childVariables =
+        cloneBuffer(variableState.getVariablesAsDocumentWithCachedParentScope(child, List.of()));
+    final DirectBuffer child2Variables =
+        variableState.getVariablesAsDocumentWithCachedParentScope(child2, List.of());
+
+    // then
+    assertEquality(childVariables, "{'a': 1, 'b': 3}");
+    assertEquality(child2Variables, "{'a': 1, 'b': 2, 'c': 4}");
+  }
+
+  @Test
+  public void shouldCollectVariablesByNameWithCachedParentScope() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    declareScope(parent, child2);
+
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    setVariableLocal(parent, wrapString("b"), asMsgPack("2"));
+    setVariableLocal(child2, wrapString("b"), asMsgPack("3"));
+    variableState.getVariablesAsDocumentWithCachedParentScope(child, List.of());
+
+    // when
+    final DirectBuffer variablesDocument =
+        variableState.getVariablesAsDocumentWithCachedParentScope(
+            child2, List.of(wrapString("b")));
+
+    // then
+    assertEquality(variablesDocument, "{'b': 3}");
+  }
+
+  @Test
+  public void shouldInvalidateCachedParentScopeOnVariableUpdate() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    declareScope(parent, child2);
+
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    variableState.getVariablesAsDocumentWithCachedParentScope(child, List.of());
+
+    // when
+    setVariableLocal(parent, wrapString("a"), asMsgPack("2"));
+    final DirectBuffer variablesDocument =
+        variableState.getVariablesAsDocumentWithCachedParentScope(child2, List.of());
+
+    // then
+    assertEquality(variablesDocument, "{'a': 2}");
+  }
+
+  @Test
+  public void shouldNotCollectCachedParentScopeVariablesAfterRollback() throws Exception {
+    // given -- the parent scope variables are cached by a transaction which is rolled back
+    declareScope(parent);
+    declareScope(parent, child);
+    declareScope(parent, child2);
+
+    final var transaction = ZEEBE_STATE_RULE.getTransactionContext().getCurrentTransaction();
+    transaction.run(
+        () -> {
+          setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+          variableState.getVariablesAsDocumentWithCachedParentScope(child, List.of());
+        });
+
+    // when
+    transaction.rollback();
+    final DirectBuffer variablesDocument =
+        variableState.getVariablesAsDocumentWithCachedParentScope(child2, List.of());
+
+    // then
+    assertEquality(variablesDocument, "{}");
+  }
+
+  @Test
+  public void shouldNotCollectHiddenVariablesFromMultipleScopesRepeatedly() {
+    // given
+    final long grandparent = parent;
+    final long parent = child;
+    final long child = child2;
+    declareScope(grandparent);
+    declareScope(grandparent, parent);
+    declareScope(parent, child);
+
+    setVariableLocal(grandparent, wrapString("a"), asMsgPack("1"));
+    setVariableLocal(grandparent, wrapString("b"), asMsgPack("1"));
+    setVariableLocal(grandparent, wrapString("c"), asMsgPack("1"));
+    setVariableLocal(parent, wrapString("b"), asMsgPack("2"));
+    setVariableLocal(parent, wrapString("c"), asMsgPack("2"));
+    setVariableLocal(child, wrapString("c"), asMsgPack("3"));
+
+    // when
+    variableState.getVariablesAsDocument(child);
+    final DirectBuffer variablesDocument = variableState.getVariablesAsDocument(child);
+
+    // then
+    assertEquality(variablesDocument, "{'a': 1, 'b': 2, 'c': 3}");
+  }
+
+  @Test
+  public void shouldGetOffloadedVariable() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    final DirectBuffer largeValue = largeValue();
+
+    setVariableLocal(parent, wrapString("a"), largeValue);
+
+    // then
+    assertThat(variableState.getVariable(child, wrapString("a"))).isEqualTo(largeValue);
+    assertThat(variableState.getVariableLocal(parent, wrapString("a"))).isEqualTo(largeValue);
+    assertThat(variableState.getVariableInstanceLocal(parent, wrapString("a")).getValue())
+        .isEqualTo(largeValue);
+  }
+
+  @Test
+  public void shouldCollectOffloadedVariablesAsDocument() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    final DirectBuffer largeValue = largeValue();
+
+    setVariableLocal(parent, wrapString("a"), largeValue);
+    setVariableLocal(child, wrapString("b"), asMsgPack("1"));
+
+    // when
+    final DirectBuffer document = cloneBuffer(variableState.getVariablesAsDocument(child));
+    final DirectBuffer documentByName =
+        cloneBuffer(variableState.getVariablesAsDocument(child, List.of(wrapString("a"))));
+
+    // then
+    assertEquality(document, "{'a': '%s', 'b': 1}".formatted(LARGE_STRING));
+    assertEquality(documentByName, "{'a': '%s'}".formatted(LARGE_STRING));
+  }
+
+  @Test
+  public void shouldUpdateOffloadedVariable() {
+    // given
+    declareScope(parent);
+    final long key = setVariableLocal(parent, wrapString("a"), largeValue());
+
+    // when
+    variableState.setVariableLocal(key, parent, PROCESS_KEY, wrapString("a"), asMsgPack("1"));
+
+    // then
+    assertThat(variableState.getVariableLocal(parent, wrapString("a"))).isEqualTo(asMsgPack("1"));
+    assertThat(ZEEBE_STATE_RULE.getProcessingState().isEmpty(ZbColumnFamilies.VARIABLE_BLOBS))
+        .isTrue();
+  }
+
+  @Test
+  public void shouldRemoveOffloadedVariables() {
+    // given
+    declareScope(parent);
+    setVariableLocal(parent, wrapString("a"), largeValue());
+
+    // when
+    variableState.removeAllVariables(parent);
+
+    // then
+    assertThat(variableState.getVariableLocal(parent, wrapString("a"))).isNull();
+    assertThat(ZEEBE_STATE_RULE.getProcessingState().isEmpty(ZbColumnFamilies.VARIABLE_BLOBS))
+        .isTrue();
+  }
+
+  @Test
+  public void shouldNotOffloadVariablesByDefault() throws Exception {
+    // given
+    try (final var db = ZEEBE_STATE_RULE.createNewDb()) {
+      final var defaultVariableState = new DbVariableState(db, db.createContext());
+
+      // when
+      defaultVariableState.setVariableLocal(1L, 2L, PROCESS_KEY, wrapString("a"), largeValue());
+
+      // then
+      assertThat(defaultVariableState.getVariableLocal(2L, wrapString("a")))
+          .isEqualTo(largeValue());
+      assertThat(db.isEmpty(ZbColumnFamilies.VARIABLE_BLOBS, db.createContext())).isTrue();
+    }
+  }
+
   @Test
   public void shouldSetLocalVariable() {
     // given
@@ -494,6 +759,10 @@ public final class VariableStateTest {
     return processInstanceRecord;
   }
 
+  private static DirectBuffer largeValue() {
+    return asMsgPack("'%s'".formatted(LARGE_STRING));
+  }
+
   public long setVariableLocal(
       final long scopeKey, final DirectBuffer name, final DirectBuffer value) {
     final long key = KEY_GENERATOR.incrementAndGet();
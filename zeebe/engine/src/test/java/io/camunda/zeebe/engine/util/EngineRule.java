@@ -12,6 +12,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import io.camunda.zeebe.db.DbKey;
 import io.camunda.zeebe.db.DbValue;
+import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.processing.EngineProcessors;
 import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSender;
 import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer;
@@ -26,6 +27,7 @@ import io.camunda.zeebe.engine.util.client.JobActivationClient;
 import io.camunda.zeebe.engine.util.client.JobClient;
 import io.camunda.zeebe.engine.util.client.MessageCorrelationClient;
 import io.camunda.zeebe.engine.util.client.ProcessInstanceClient;
+import io.camunda.zeebe.engine.util.client.PublishMessageBatchClient;
 import io.camunda.zeebe.engine.util.client.PublishMessageClient;
 import io.camunda.zeebe.engine.util.client.ResourceDeletionClient;
 import io.camunda.zeebe.engine.util.client.SignalClient;
@@ -147,6 +149,11 @@ public final class EngineRule extends ExternalResource {
     return this;
   }
 
+  public EngineRule withEngineConfiguration(final EngineConfiguration engineConfiguration) {
+    environmentRule.withEngineConfiguration(engineConfiguration);
+    return this;
+  }
+
   public EngineRule withOnProcessedCallback(final Consumer<TypedRecord> onProcessedCallback) {
     this.onProcessedCallback = this.onProcessedCallback.andThen(onProcessedCallback);
     return this;
@@ -286,6 +293,10 @@ public final class EngineRule extends ExternalResource {
     return new PublishMessageClient(environmentRule, partitionCount);
   }
 
+  public PublishMessageBatchClient messageBatch() {
+    return new PublishMessageBatchClient(environmentRule);
+  }
+
   public MessageCorrelationClient messageCorrelation() {
     return new MessageCorrelationClient(environmentRule, partitionCount);
   }
@@ -394,11 +405,19 @@ public final class EngineRule extends ExternalResource {
                                   Arrays.toString(
                                       BufferUtil.cloneBuffer(key.getDirectBuffer())
                                           .byteArray()), // the key is written as plain bytes
-                                  MsgPackConverter.convertToJson(value.getDirectBuffer())));
+                                  valueAsString(value.getDirectBuffer())));
                   return entries;
                 }));
   }
 
+  private static String valueAsString(final DirectBuffer value) {
+    // compact state values and primitive values are not written as MessagePack map
+    final boolean isMsgPack = value.capacity() > 0 && (value.getByte(0) & 0xFF) >= 0x80;
+    return isMsgPack
+        ? MsgPackConverter.convertToJson(value)
+        : Arrays.toString(BufferUtil.cloneBuffer(value).byteArray());
+  }
+
   public void awaitProcessingOf(final Record<?> record) {
     final var recordPosition = record.getPosition();
 
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.util;
 
+import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
@@ -23,7 +24,9 @@ public final class ProcessingStateRule extends ExternalResource {
 
   private final TemporaryFolder tempFolder = new TemporaryFolder();
   private final int partition;
+  private final EngineConfiguration config;
   private ZeebeDb<ZbColumnFamilies> db;
+  private TransactionContext transactionContext;
   private MutableProcessingState processingState;
 
   public ProcessingStateRule() {
@@ -31,7 +34,16 @@ public final class ProcessingStateRule extends ExternalResource {
   }
 
   public ProcessingStateRule(final int partition) {
+    this(partition, new EngineConfiguration());
+  }
+
+  public ProcessingStateRule(final EngineConfiguration config) {
+    this(Protocol.DEPLOYMENT_PARTITION, config);
+  }
+
+  public ProcessingStateRule(final int partition, final EngineConfiguration config) {
     this.partition = partition;
+    this.config = config;
   }
 
   @Override
@@ -39,17 +51,17 @@ public final class ProcessingStateRule extends ExternalResource {
     tempFolder.create();
     db = createNewDb();
 
-    final var context = db.createContext();
-    final var keyGenerator = new DbKeyGenerator(partition, db, context);
+    transactionContext = db.createContext();
+    final var keyGenerator = new DbKeyGenerator(partition, db, transactionContext);
     processingState =
         new ProcessingDbState(
             partition,
             db,
-            context,
+            transactionContext,
             keyGenerator,
             new TransientPendingSubscriptionState(),
             new TransientPendingSubscriptionState(),
-            new EngineConfiguration());
+            config);
   }
 
   @Override
@@ -66,6 +78,10 @@ public final class ProcessingStateRule extends ExternalResource {
     return processingState;
   }
 
+  public TransactionContext getTransactionContext() {
+    return transactionContext;
+  }
+
   public ZeebeDb<ZbColumnFamilies> createNewDb() {
     try {
 
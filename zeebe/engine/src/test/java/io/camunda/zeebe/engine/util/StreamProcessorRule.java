@@ -10,6 +10,7 @@ package io.camunda.zeebe.engine.util;
 import static io.camunda.zeebe.engine.util.StreamProcessingComposite.getLogName;
 
 import io.camunda.zeebe.db.ZeebeDbFactory;
+import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessorFactory;
 import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
@@ -65,6 +66,7 @@ public final class StreamProcessorRule implements TestRule, CommandWriter {
   private ListLogStorage sharedStorage = null;
   private StreamProcessorMode streamProcessorMode = StreamProcessorMode.PROCESSING;
   private int maxCommandsInBatch = StreamProcessorContext.DEFAULT_MAX_COMMANDS_IN_BATCH;
+  private EngineConfiguration engineConfiguration = new EngineConfiguration();
 
   public StreamProcessorRule() {
     this(new TemporaryFolder());
@@ -260,6 +262,12 @@ public final class StreamProcessorRule implements TestRule, CommandWriter {
     this.maxCommandsInBatch = maxCommandsInBatch;
   }
 
+  public StreamProcessorRule withEngineConfiguration(
+      final EngineConfiguration engineConfiguration) {
+    this.engineConfiguration = engineConfiguration;
+    return this;
+  }
+
   private class SetupRule extends ExternalResource {
 
     private final int startPartitionId;
@@ -275,6 +283,7 @@ public final class StreamProcessorRule implements TestRule, CommandWriter {
       streams = new TestStreams(tempFolder, closeables, actorSchedulerRule.get());
       streams.withStreamProcessorMode(streamProcessorMode);
       streams.maxCommandsInBatch(maxCommandsInBatch);
+      streams.withEngineConfiguration(engineConfiguration);
 
       int partitionId = startPartitionId;
       for (int i = 0; i < partitionCount; i++) {
@@ -90,6 +90,7 @@ public final class TestStreams {
   private boolean snapshotWasTaken = false;
   private StreamProcessorMode streamProcessorMode = StreamProcessorMode.PROCESSING;
   private int maxCommandsInBatch = StreamProcessorContext.DEFAULT_MAX_COMMANDS_IN_BATCH;
+  private EngineConfiguration engineConfiguration = new EngineConfiguration();
   private ListLogStorage listLogStorage;
 
   public TestStreams(
@@ -267,7 +268,7 @@ public final class TestStreams {
             .actorSchedulingService(actorScheduler)
             .commandResponseWriter(mockCommandResponseWriter)
             .listener(new StreamProcessorListenerRelay(streamProcessorListeners))
-            .recordProcessors(List.of(new Engine(wrappedFactory, new EngineConfiguration())))
+            .recordProcessors(List.of(new Engine(wrappedFactory, engineConfiguration)))
             .streamProcessorMode(streamProcessorMode)
             .maxCommandsInBatch(maxCommandsInBatch)
             .partitionCommandSender(mock(InterPartitionCommandSender.class));
@@ -330,6 +331,10 @@ public final class TestStreams {
     this.maxCommandsInBatch = maxCommandsInBatch;
   }
 
+  public void withEngineConfiguration(final EngineConfiguration engineConfiguration) {
+    this.engineConfiguration = engineConfiguration;
+  }
+
   public static class FluentLogWriter {
 
     protected final RecordMetadata metadata = new RecordMetadata();
@@ -123,6 +123,22 @@ public final class ProcessInstanceClient {
       return new ProcessInstanceCreationWithResultClient(writer, processInstanceCreationRecord);
     }
 
+    public ProcessInstanceCreationClient withBatchInstance(final Map<String, Object> variables) {
+      processInstanceCreationRecord.addBatchInstance(MsgPackUtil.asMsgPack(variables));
+      return this;
+    }
+
+    /**
+     * Writes a {@link ProcessInstanceCreationIntent#CREATE_BATCH} command with the batch instances
+     * added so far, with request metadata so that the engine responds to it.
+     *
+     * @return the position of the written command
+     */
+    public long createBatch() {
+      return writer.writeCommand(
+          1, 1L, ProcessInstanceCreationIntent.CREATE_BATCH, processInstanceCreationRecord);
+    }
+
     public long create() {
       final long position =
           writer.writeCommand(ProcessInstanceCreationIntent.CREATE, processInstanceCreationRecord);
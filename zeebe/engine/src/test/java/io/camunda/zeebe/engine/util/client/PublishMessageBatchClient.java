@@ -0,0 +1,56 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.util.client;
+
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageBatchRecord;
+import io.camunda.zeebe.protocol.record.intent.MessageBatchIntent;
+import io.camunda.zeebe.test.util.MsgPackUtil;
+import java.time.Duration;
+import java.util.Map;
+
+public final class PublishMessageBatchClient {
+
+  private static final Duration DEFAULT_MSG_TTL = Duration.ofHours(1);
+
+  private final MessageBatchRecord messageBatchRecord = new MessageBatchRecord();
+  private final CommandWriter writer;
+
+  public PublishMessageBatchClient(final CommandWriter writer) {
+    this.writer = writer;
+  }
+
+  public PublishMessageBatchClient withMessage(
+      final String name, final String correlationKey, final Map<String, Object> variables) {
+    return withMessage(name, correlationKey, "", variables);
+  }
+
+  public PublishMessageBatchClient withMessage(
+      final String name,
+      final String correlationKey,
+      final String messageId,
+      final Map<String, Object> variables) {
+    messageBatchRecord
+        .addMessage()
+        .setName(name)
+        .setCorrelationKey(correlationKey)
+        .setMessageId(messageId)
+        .setTimeToLive(DEFAULT_MSG_TTL.toMillis())
+        .setVariables(MsgPackUtil.asMsgPack(variables));
+    return this;
+  }
+
+  /**
+   * Writes a {@link MessageBatchIntent#PUBLISH} command with the messages added so far, with
+   * request metadata so that the engine responds to it.
+   *
+   * @return the position of the written command
+   */
+  public long publish() {
+    return writer.writeCommand(1, 1L, MessageBatchIntent.PUBLISH, messageBatchRecord);
+  }
+}
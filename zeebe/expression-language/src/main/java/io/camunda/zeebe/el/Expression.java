@@ -8,6 +8,7 @@
 package io.camunda.zeebe.el;
 
 import java.util.Optional;
+import java.util.Set;
 
 /** A parsed expression. */
 public interface Expression {
@@ -23,12 +24,26 @@ public interface Expression {
    */
   Optional<String> getVariableName();
 
+  /**
+   * @return the names of the variables which the expression refers to, i.e. the first name of each
+   *     variable reference or path; it may also contain the names of variables which are defined
+   *     within the expression itself, like the iteration variable of a {@code for} loop
+   */
+  Set<String> getVariableNames();
+
   /**
    * @return {@code true} if it is a static expression that does not require additional context
    *     variables
    */
   boolean isStatic();
 
+  /**
+   * @return {@code true} if the expression does not depend on context variables or the current
+   *     time, i.e. it is static or it is composed of literals only, so that it evaluates to the same
+   *     result every time
+   */
+  boolean isConstant();
+
   /**
    * @return {@code true} if the expression is valid and can be evaluated
    */
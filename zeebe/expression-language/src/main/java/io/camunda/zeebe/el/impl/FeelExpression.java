@@ -7,19 +7,53 @@
  */
 package io.camunda.zeebe.el.impl;
 
+import io.camunda.zeebe.el.EvaluationResult;
 import io.camunda.zeebe.el.Expression;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
+import org.camunda.feel.syntaxtree.ConstInputValue$;
 import org.camunda.feel.syntaxtree.Exp;
+import org.camunda.feel.syntaxtree.FunctionDefinition;
+import org.camunda.feel.syntaxtree.FunctionInvocation;
 import org.camunda.feel.syntaxtree.ParsedExpression;
 import org.camunda.feel.syntaxtree.PathExpression;
+import org.camunda.feel.syntaxtree.QualifiedFunctionInvocation;
 import org.camunda.feel.syntaxtree.Ref;
+import scala.Product;
+import scala.collection.Iterable;
+import scala.collection.Iterator;
 
 public final class FeelExpression implements Expression {
 
+  /**
+   * The built-in functions whose result depends only on their arguments. Other functions may depend
+   * on the current time (e.g. {@code now()}) or are provided by the engine.
+   */
+  private static final Set<String> PURE_FUNCTIONS =
+      Set.of(
+          "date",
+          "time",
+          "date and time",
+          "duration",
+          "years and months duration",
+          "number",
+          "string");
+
   private final ParsedExpression expression;
+  private final boolean constant;
+  private final Set<String> variableNames;
+
+  // the result of a constant expression, once it was evaluated successfully
+  private EvaluationResult constantResult;
 
   public FeelExpression(final ParsedExpression expression) {
     this.expression = expression;
+    constant = isConstant(expression.expression());
+
+    final var names = new HashSet<String>();
+    collectVariableNames(expression.expression(), names);
+    variableNames = Set.copyOf(names);
   }
 
   @Override
@@ -32,11 +66,21 @@ public final class FeelExpression implements Expression {
     return extractVariableName(expression.expression());
   }
 
+  @Override
+  public Set<String> getVariableNames() {
+    return variableNames;
+  }
+
   @Override
   public boolean isStatic() {
     return false;
   }
 
+  @Override
+  public boolean isConstant() {
+    return constant;
+  }
+
   @Override
   public boolean isValid() {
     return true;
@@ -59,10 +103,77 @@ public final class FeelExpression implements Expression {
     return Optional.empty();
   }
 
+  /**
+   * Returns true if the given part of the expression is composed of literals, and of invocations of
+   * {@link #PURE_FUNCTIONS pure functions} with constant arguments. The syntax tree is walked
+   * generically, through the case classes and collections it is made of.
+   */
+  private static boolean isConstant(final Object node) {
+    if (node instanceof Ref
+        || node instanceof ConstInputValue$
+        || node instanceof FunctionDefinition
+        || node instanceof QualifiedFunctionInvocation) {
+      return false;
+    }
+    if (node instanceof FunctionInvocation
+        && !PURE_FUNCTIONS.contains(((FunctionInvocation) node).function())) {
+      return false;
+    }
+
+    final Iterator<?> children;
+    if (node instanceof Iterable<?>) {
+      children = ((Iterable<?>) node).iterator();
+    } else if (node instanceof Product) {
+      children = ((Product) node).productIterator();
+    } else {
+      // a value of a literal, like a string or a number
+      return true;
+    }
+
+    while (children.hasNext()) {
+      if (!isConstant(children.next())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Collects the first name of every variable reference in the given part of the expression. Like
+   * {@link #isConstant(Object)}, the syntax tree is walked generically.
+   */
+  private static void collectVariableNames(final Object node, final Set<String> variableNames) {
+    if (node instanceof Ref) {
+      variableNames.add(((Ref) node).names().head());
+      return;
+    }
+
+    final Iterator<?> children;
+    if (node instanceof Iterable<?>) {
+      children = ((Iterable<?>) node).iterator();
+    } else if (node instanceof Product) {
+      children = ((Product) node).productIterator();
+    } else {
+      return;
+    }
+
+    while (children.hasNext()) {
+      collectVariableNames(children.next(), variableNames);
+    }
+  }
+
   public ParsedExpression getParsedExpression() {
     return expression;
   }
 
+  EvaluationResult getConstantResult() {
+    return constantResult;
+  }
+
+  void setConstantResult(final EvaluationResult constantResult) {
+    this.constantResult = constantResult;
+  }
+
   @Override
   public String toString() {
     return "FeelExpression{" + "expression=" + expression + '}';
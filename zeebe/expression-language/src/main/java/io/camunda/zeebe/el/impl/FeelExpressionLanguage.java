@@ -107,6 +107,13 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
       final EvaluationContext context,
       final FeelExpression feelExpression) {
 
+    if (feelExpression.isConstant()) {
+      final var constantResult = feelExpression.getConstantResult();
+      if (constantResult != null) {
+        return constantResult;
+      }
+    }
+
     final var parsedExpression = feelExpression.getParsedExpression();
     final var feelContext = new FeelVariableContext(context);
 
@@ -120,8 +127,14 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
 
     final var result = evaluationResult.result();
     if (result instanceof Val) {
-      return new FeelEvaluationResult(
-          expression, (Val) result, evaluationWarnings, messagePackTransformer::toMessagePack);
+      final var feelEvaluationResult =
+          new FeelEvaluationResult(
+              expression, (Val) result, evaluationWarnings, messagePackTransformer::toMessagePack);
+      if (feelExpression.isConstant()) {
+        // the expression is parsed once per process definition, which caches the result with it
+        feelExpression.setConstantResult(feelEvaluationResult);
+      }
+      return feelEvaluationResult;
 
     } else {
       throw new IllegalStateException(
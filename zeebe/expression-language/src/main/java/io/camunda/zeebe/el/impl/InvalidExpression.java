@@ -9,6 +9,7 @@ package io.camunda.zeebe.el.impl;
 
 import io.camunda.zeebe.el.Expression;
 import java.util.Optional;
+import java.util.Set;
 
 public final class InvalidExpression implements Expression {
 
@@ -30,11 +31,21 @@ public final class InvalidExpression implements Expression {
     return Optional.empty();
   }
 
+  @Override
+  public Set<String> getVariableNames() {
+    return Set.of();
+  }
+
   @Override
   public boolean isStatic() {
     return false;
   }
 
+  @Override
+  public boolean isConstant() {
+    return false;
+  }
+
   @Override
   public boolean isValid() {
     return false;
@@ -20,6 +20,7 @@ import java.time.ZonedDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.agrona.DirectBuffer;
 
 /**
@@ -62,11 +63,21 @@ public final class StaticExpression implements Expression, EvaluationResult {
     return Optional.empty();
   }
 
+  @Override
+  public Set<String> getVariableNames() {
+    return Set.of();
+  }
+
   @Override
   public boolean isStatic() {
     return true;
   }
 
+  @Override
+  public boolean isConstant() {
+    return true;
+  }
+
   @Override
   public boolean isValid() {
     return true;
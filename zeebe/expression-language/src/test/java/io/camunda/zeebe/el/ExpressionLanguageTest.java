@@ -234,4 +234,65 @@ public class ExpressionLanguageTest {
     assertThat(evaluationResult).isNotNull();
     assertThat(evaluationResult.getString()).isEqualTo("Hello \"Zee\"!");
   }
+
+  @Test
+  public void shouldParseConstantExpression() {
+    assertThat(expressionLanguage.parseExpression("x").isConstant()).isTrue();
+    assertThat(expressionLanguage.parseExpression("=\"a\" + \"b\"").isConstant()).isTrue();
+    assertThat(expressionLanguage.parseExpression("=[1, 2, {x: 3}]").isConstant()).isTrue();
+    assertThat(expressionLanguage.parseExpression("=duration(\"PT5M\")").isConstant()).isTrue();
+  }
+
+  @Test
+  public void shouldParseNonConstantExpression() {
+    assertThat(expressionLanguage.parseExpression("=x + 1").isConstant()).isFalse();
+    assertThat(expressionLanguage.parseExpression("=now()").isConstant()).isFalse();
+    assertThat(expressionLanguage.parseExpression("=duration(x)").isConstant()).isFalse();
+    assertThat(expressionLanguage.parseExpression("=for i in [1, 2] return i").isConstant())
+        .isFalse();
+    assertThat(expressionLanguage.parseExpression("=x +").isConstant()).isFalse();
+  }
+
+  @Test
+  public void shouldParseVariableNames() {
+    assertThat(
+            expressionLanguage
+                .parseExpression("=count(results) > 2 and resultCount < 5")
+                .getVariableNames())
+        .containsExactlyInAnyOrder("results", "resultCount");
+    assertThat(expressionLanguage.parseExpression("=order.items[1].price").getVariableNames())
+        .containsExactly("order");
+    assertThat(expressionLanguage.parseExpression("=\"results\" + \"x\"").getVariableNames())
+        .isEmpty();
+    assertThat(expressionLanguage.parseExpression("results").getVariableNames()).isEmpty();
+    assertThat(expressionLanguage.parseExpression("=x +").getVariableNames()).isEmpty();
+  }
+
+  @Test
+  public void shouldEvaluateConstantExpressionOnce() {
+    // given
+    final var expression = expressionLanguage.parseExpression("=\"job-\" + \"type\"");
+    final var firstResult = expressionLanguage.evaluateExpression(expression, EMPTY_CONTEXT);
+
+    // when
+    final var secondResult = expressionLanguage.evaluateExpression(expression, EMPTY_CONTEXT);
+
+    // then
+    assertThat(secondResult).isSameAs(firstResult);
+    assertThat(secondResult.getString()).isEqualTo("job-type");
+  }
+
+  @Test
+  public void shouldEvaluateNonConstantExpressionEveryTime() {
+    // given
+    final var expression = expressionLanguage.parseExpression("=x");
+    expressionLanguage.evaluateExpression(expression, name -> asMsgPack("1"));
+
+    // when
+    final var evaluationResult =
+        expressionLanguage.evaluateExpression(expression, name -> asMsgPack("2"));
+
+    // then
+    assertThat(evaluationResult.getNumber().longValue()).isEqualTo(2);
+  }
 }
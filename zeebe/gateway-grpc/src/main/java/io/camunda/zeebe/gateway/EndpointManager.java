@@ -13,11 +13,13 @@ import io.camunda.zeebe.auth.impl.Authorization;
 import io.camunda.zeebe.broker.client.api.BrokerClient;
 import io.camunda.zeebe.broker.client.api.BrokerClusterState;
 import io.camunda.zeebe.broker.client.api.BrokerTopologyManager;
+import io.camunda.zeebe.broker.client.api.NoTopologyAvailableException;
 import io.camunda.zeebe.broker.client.api.dto.BrokerRequest;
 import io.camunda.zeebe.gateway.ResponseMapper.BrokerResponseMapper;
 import io.camunda.zeebe.gateway.grpc.ServerStreamObserver;
 import io.camunda.zeebe.gateway.impl.broker.RequestRetryHandler;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerPublishMessageBatchRequest;
 import io.camunda.zeebe.gateway.impl.configuration.MultiTenancyCfg;
 import io.camunda.zeebe.gateway.impl.job.ActivateJobsHandler;
 import io.camunda.zeebe.gateway.impl.stream.StreamJobsHandler;
@@ -33,6 +35,8 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstance
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceBatchRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceBatchResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultRequest;
@@ -54,6 +58,8 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ModifyProcessInstance
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.Partition;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBrokerHealth;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBrokerRole;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageBatchRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageBatchResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentRequest;
@@ -68,8 +74,10 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesReque
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobTimeoutRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobTimeoutResponse;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageBatchRecord;
 import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
 import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.VersionUtil;
 import io.grpc.Context;
 import io.grpc.stub.ServerCallStreamObserver;
@@ -77,6 +85,8 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Function;
 
 public final class EndpointManager {
@@ -226,6 +236,16 @@ public final class EndpointManager {
         responseObserver);
   }
 
+  public void createProcessInstanceBatch(
+      final CreateProcessInstanceBatchRequest request,
+      final ServerStreamObserver<CreateProcessInstanceBatchResponse> responseObserver) {
+    sendRequestWithRetryPartitions(
+        request,
+        RequestMapper::toCreateProcessInstanceBatchRequest,
+        ResponseMapper::toCreateProcessInstanceBatchResponse,
+        responseObserver);
+  }
+
   public void createProcessInstanceWithResult(
       final CreateProcessInstanceWithResultRequest request,
       final ServerStreamObserver<CreateProcessInstanceWithResultResponse> responseObserver) {
@@ -307,6 +327,57 @@ public final class EndpointManager {
         responseObserver);
   }
 
+  public void publishMessageBatch(
+      final PublishMessageBatchRequest request,
+      final ServerStreamObserver<PublishMessageBatchResponse> responseObserver) {
+
+    final List<BrokerPublishMessageBatchRequest> brokerRequests;
+    try {
+      final var topology = topologyManager.getTopology();
+      if (topology == null || topology.getPartitionsCount() == 0) {
+        throw new NoTopologyAvailableException(
+            "Expected to pick partitions for the messages of the batch, but no topology is available");
+      }
+
+      brokerRequests =
+          RequestMapper.toPublishMessageBatchRequests(request, topology.getPartitionsCount());
+      for (final var brokerRequest : brokerRequests) {
+        mapToBrokerRequest(brokerRequest, Function.identity());
+      }
+    } catch (final Exception e) {
+      responseObserver.onError(e);
+      return;
+    }
+
+    // a failed partition only fails its own messages, the others may have been published already
+    final List<CompletableFuture<Either<Throwable, MessageBatchRecord>>> brokerResponses =
+        brokerRequests.stream()
+            .map(
+                brokerRequest ->
+                    brokerClient
+                        .sendRequestWithRetry(brokerRequest)
+                        .handle(
+                            (response, error) ->
+                                error == null
+                                    ? Either.<Throwable, MessageBatchRecord>right(
+                                        response.getResponse())
+                                    : Either.<Throwable, MessageBatchRecord>left(
+                                        error instanceof CompletionException
+                                            ? error.getCause()
+                                            : error)))
+            .toList();
+    CompletableFuture.allOf(brokerResponses.toArray(CompletableFuture[]::new))
+        .thenRun(
+            () -> {
+              responseObserver.onNext(
+                  ResponseMapper.toPublishMessageBatchResponse(
+                      request,
+                      brokerRequests,
+                      brokerResponses.stream().map(CompletableFuture::join).toList()));
+              responseObserver.onCompleted();
+            });
+  }
+
   public void resolveIncident(
       final ResolveIncidentRequest request,
       final ServerStreamObserver<ResolveIncidentResponse> responseObserver) {
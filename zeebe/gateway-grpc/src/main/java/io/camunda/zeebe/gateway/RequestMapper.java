@@ -15,6 +15,7 @@ import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerBroadcastSignalRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCancelProcessInstanceRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCreateProcessInstanceBatchRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCreateProcessInstanceWithResultRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerDeleteResourceRequest;
@@ -23,6 +24,7 @@ import io.camunda.zeebe.gateway.impl.broker.request.BrokerEvaluateDecisionReques
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerFailJobRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerMigrateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerModifyProcessInstanceRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerPublishMessageBatchRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerPublishMessageRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerResolveIncidentRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerSetVariablesRequest;
@@ -34,6 +36,7 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BroadcastSignalRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceBatchRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DeleteResourceRequest;
@@ -44,6 +47,7 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.MigrateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ModifyProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ProcessRequestObject;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageBatchRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.Resource;
@@ -53,11 +57,14 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobTimeoutRequest;
 import io.camunda.zeebe.msgpack.value.StringValue;
+import io.camunda.zeebe.protocol.impl.SubscriptionUtil;
 import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
 import io.camunda.zeebe.protocol.impl.stream.job.JobActivationPropertiesImpl;
 import io.camunda.zeebe.protocol.record.value.TenantOwned;
 import io.grpc.Context;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.regex.Pattern;
 import org.agrona.DirectBuffer;
 import org.apache.commons.lang3.StringUtils;
@@ -119,6 +126,38 @@ public final class RequestMapper extends RequestUtil {
     return brokerRequest;
   }
 
+  /**
+   * Groups the messages of the given request by the partition which their correlation key belongs
+   * to, and maps each group to a request to that partition.
+   */
+  public static List<BrokerPublishMessageBatchRequest> toPublishMessageBatchRequests(
+      final PublishMessageBatchRequest grpcRequest, final int partitionsCount) {
+    if (grpcRequest.getMessagesCount() == 0) {
+      throw new IllegalArgumentException(
+          "Expected to publish at least one message, but none given");
+    }
+
+    final Map<Integer, BrokerPublishMessageBatchRequest> brokerRequests = new TreeMap<>();
+    for (int i = 0; i < grpcRequest.getMessagesCount(); i++) {
+      final PublishMessageRequest message = grpcRequest.getMessages(i);
+      final int partitionId =
+          SubscriptionUtil.getSubscriptionPartitionId(
+              wrapString(message.getCorrelationKey()), partitionsCount);
+
+      brokerRequests
+          .computeIfAbsent(partitionId, BrokerPublishMessageBatchRequest::new)
+          .addMessage(
+              i,
+              message.getName(),
+              message.getCorrelationKey(),
+              message.getMessageId(),
+              message.getTimeToLive(),
+              ensureJsonSet(message.getVariables()),
+              ensureTenantIdSet("PublishMessageBatch", message.getTenantId()));
+    }
+    return List.copyOf(brokerRequests.values());
+  }
+
   public static BrokerUpdateJobRetriesRequest toUpdateJobRetriesRequest(
       final UpdateJobRetriesRequest grpcRequest) {
     final var brokerRequest =
@@ -177,6 +216,27 @@ public final class RequestMapper extends RequestUtil {
     return brokerRequest;
   }
 
+  public static BrokerCreateProcessInstanceBatchRequest toCreateProcessInstanceBatchRequest(
+      final CreateProcessInstanceBatchRequest grpcRequest) {
+    final var brokerRequest = new BrokerCreateProcessInstanceBatchRequest();
+
+    brokerRequest
+        .setBpmnProcessId(grpcRequest.getBpmnProcessId())
+        .setKey(grpcRequest.getProcessDefinitionKey())
+        .setVersion(grpcRequest.getVersion())
+        .setTenantId(ensureTenantIdSet("CreateProcessInstanceBatch", grpcRequest.getTenantId()))
+        .setStartInstructions(grpcRequest.getStartInstructionsList());
+    grpcRequest
+        .getVariablesList()
+        .forEach(variables -> brokerRequest.addInstance(ensureJsonSet(variables)));
+
+    if (grpcRequest.hasOperationReference()) {
+      brokerRequest.setOperationReference(grpcRequest.getOperationReference());
+    }
+
+    return brokerRequest;
+  }
+
   public static BrokerCreateProcessInstanceWithResultRequest
       toCreateProcessInstanceWithResultRequest(
           final CreateProcessInstanceWithResultRequest grpcRequest) {
@@ -10,6 +10,7 @@ package io.camunda.zeebe.gateway;
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsArray;
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerPublishMessageBatchRequest;
 import io.camunda.zeebe.gateway.impl.job.JobActivationResponse;
 import io.camunda.zeebe.gateway.impl.job.JobActivationResult;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
@@ -18,6 +19,7 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BroadcastSignalResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceBatchResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DecisionMetadata;
@@ -34,7 +36,11 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FormMetadata;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.MatchedDecisionRule;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.MigrateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ModifyProcessInstanceResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ProcessInstanceCreationBatchResult;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ProcessMetadata;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageBatchRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageBatchResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageBatchResult;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesResponse;
@@ -47,6 +53,8 @@ import io.camunda.zeebe.protocol.impl.record.value.decision.DecisionEvaluationRe
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.camunda.zeebe.protocol.impl.record.value.incident.IncidentRecord;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageBatchPublishResult;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageBatchRecord;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceMigrationRecord;
@@ -57,7 +65,9 @@ import io.camunda.zeebe.protocol.impl.record.value.resource.ResourceDeletionReco
 import io.camunda.zeebe.protocol.impl.record.value.signal.SignalRecord;
 import io.camunda.zeebe.protocol.impl.record.value.variable.VariableDocumentRecord;
 import io.camunda.zeebe.protocol.record.value.EvaluatedDecisionValue;
+import io.camunda.zeebe.util.Either;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import org.agrona.DirectBuffer;
@@ -151,6 +161,49 @@ public final class ResponseMapper {
         .build();
   }
 
+  /**
+   * Merges the responses of the given partition requests, which together contain all messages of
+   * the batch, back into the order of the batch. The messages of a partition whose request failed
+   * are not published, and carry the failure as rejection reason.
+   */
+  public static PublishMessageBatchResponse toPublishMessageBatchResponse(
+      final PublishMessageBatchRequest grpcRequest,
+      final List<BrokerPublishMessageBatchRequest> brokerRequests,
+      final List<Either<Throwable, MessageBatchRecord>> brokerResponses) {
+    final PublishMessageBatchResult[] results =
+        new PublishMessageBatchResult[grpcRequest.getMessagesCount()];
+    for (int i = 0; i < brokerRequests.size(); i++) {
+      final BrokerPublishMessageBatchRequest brokerRequest = brokerRequests.get(i);
+      final Either<Throwable, MessageBatchRecord> brokerResponse = brokerResponses.get(i);
+      final Iterator<Integer> requestIndices = brokerRequest.getRequestIndices().iterator();
+
+      if (brokerResponse.isLeft()) {
+        final String rejectionReason =
+            "Expected to publish the message on partition %d, but the request failed: %s"
+                .formatted(brokerRequest.getPartitionId(), brokerResponse.getLeft().getMessage());
+        for (final MessageRecord message : brokerRequest.getRequestWriter().messages()) {
+          results[requestIndices.next()] =
+              PublishMessageBatchResult.newBuilder()
+                  .setKey(-1L)
+                  .setTenantId(message.getTenantId())
+                  .setRejectionReason(rejectionReason)
+                  .build();
+        }
+        continue;
+      }
+
+      for (final MessageBatchPublishResult result : brokerResponse.get().results()) {
+        results[requestIndices.next()] =
+            PublishMessageBatchResult.newBuilder()
+                .setKey(result.getMessageKey())
+                .setTenantId(result.getTenantId())
+                .setRejectionReason(result.getRejectionReason())
+                .build();
+      }
+    }
+    return PublishMessageBatchResponse.newBuilder().addAllMessages(Arrays.asList(results)).build();
+  }
+
   public static UpdateJobRetriesResponse toUpdateJobRetriesResponse(
       final long key, final JobRecord brokerResponse) {
     return UpdateJobRetriesResponse.getDefaultInstance();
@@ -186,6 +239,27 @@ public final class ResponseMapper {
         .build();
   }
 
+  public static CreateProcessInstanceBatchResponse toCreateProcessInstanceBatchResponse(
+      final long key, final ProcessInstanceCreationRecord brokerResponse) {
+    final var response =
+        CreateProcessInstanceBatchResponse.newBuilder()
+            .setProcessDefinitionKey(brokerResponse.getProcessDefinitionKey())
+            .setBpmnProcessId(bufferAsString(brokerResponse.getBpmnProcessIdBuffer()))
+            .setVersion(brokerResponse.getVersion())
+            .setTenantId(brokerResponse.getTenantId());
+    brokerResponse
+        .batchInstances()
+        .forEach(
+            instance ->
+                response.addProcessInstances(
+                    ProcessInstanceCreationBatchResult.newBuilder()
+                        .setProcessInstanceKey(instance.getProcessInstanceKey())
+                        .setRejectionType(
+                            instance.isCreated() ? "" : instance.getRejectionType().name())
+                        .setRejectionReason(instance.getRejectionReason())));
+    return response.build();
+  }
+
   public static CreateProcessInstanceWithResultResponse toCreateProcessInstanceWithResultResponse(
       final long key, final ProcessInstanceResultRecord brokerResponse) {
     return CreateProcessInstanceWithResultResponse.newBuilder()
@@ -217,6 +217,9 @@ public final class GrpcErrorMapper {
       case PROCESSING_ERROR:
         builder.setCode(Code.INTERNAL_VALUE);
         break;
+      case DEADLINE_EXCEEDED:
+        builder.setCode(Code.DEADLINE_EXCEEDED_VALUE);
+        break;
       case SBE_UNKNOWN:
       case NULL_VAL:
       default:
@@ -0,0 +1,79 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.api.process;
+
+import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient;
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient.RequestStub;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCreateProcessInstanceBatchRequest;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
+import io.camunda.zeebe.protocol.record.RejectionType;
+
+/**
+ * Responds with a created process instance for every requested instance, except for the last one if
+ * there are more than one, which is rejected.
+ */
+public final class CreateProcessInstanceBatchStub
+    implements RequestStub<
+        BrokerCreateProcessInstanceBatchRequest, BrokerResponse<ProcessInstanceCreationRecord>> {
+
+  public static final long FIRST_PROCESS_INSTANCE_KEY = 123;
+  public static final String PROCESS_ID = "process";
+  public static final int PROCESS_VERSION = 1;
+  public static final long PROCESS_KEY = 456;
+  public static final String REJECTION_REASON = "exceeded batch size";
+
+  @Override
+  public void registerWith(final StubbedBrokerClient gateway) {
+    gateway.registerHandler(BrokerCreateProcessInstanceBatchRequest.class, this);
+  }
+
+  public long getFirstProcessInstanceKey() {
+    return FIRST_PROCESS_INSTANCE_KEY;
+  }
+
+  public String getProcessId() {
+    return PROCESS_ID;
+  }
+
+  public int getProcessVersion() {
+    return PROCESS_VERSION;
+  }
+
+  public long getProcessDefinitionKey() {
+    return PROCESS_KEY;
+  }
+
+  public String getRejectionReason() {
+    return REJECTION_REASON;
+  }
+
+  @Override
+  public BrokerResponse<ProcessInstanceCreationRecord> handle(
+      final BrokerCreateProcessInstanceBatchRequest request) {
+    final var piCreationRecord = request.getRequestWriter();
+    final var record = new ProcessInstanceCreationRecord();
+    record
+        .setBpmnProcessId(PROCESS_ID)
+        .setVersion(PROCESS_VERSION)
+        .setTenantId(piCreationRecord.getTenantId())
+        .setProcessDefinitionKey(PROCESS_KEY);
+
+    final int instances = (int) piCreationRecord.batchInstances().stream().count();
+    for (int i = 0; i < instances; i++) {
+      final var instance = record.batchInstances().add();
+      if (i > 0 && i == instances - 1) {
+        instance.setRejection(RejectionType.EXCEEDED_BATCH_RECORD_SIZE, REJECTION_REASON);
+      } else {
+        instance.setProcessInstanceKey(FIRST_PROCESS_INSTANCE_KEY + i);
+      }
+    }
+
+    return new BrokerResponse<>(record, 0, -1);
+  }
+}
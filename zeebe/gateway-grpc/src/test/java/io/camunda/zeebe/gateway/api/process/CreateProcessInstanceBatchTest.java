@@ -0,0 +1,74 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.api.process;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCreateProcessInstanceBatchRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceBatchRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceBatchResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ProcessInstanceCreationBatchResult;
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import java.util.Map;
+import org.junit.Test;
+
+public final class CreateProcessInstanceBatchTest extends GatewayTest {
+
+  @Test
+  public void shouldMapRequestAndResponse() {
+    // given
+    final CreateProcessInstanceBatchStub stub = new CreateProcessInstanceBatchStub();
+    stub.registerWith(brokerClient);
+
+    final CreateProcessInstanceBatchRequest request =
+        CreateProcessInstanceBatchRequest.newBuilder()
+            .setProcessDefinitionKey(stub.getProcessDefinitionKey())
+            .addVariables("{\"x\": 1}")
+            .addVariables("")
+            .addVariables("{\"x\": 3}")
+            .build();
+
+    // when
+    final CreateProcessInstanceBatchResponse response = client.createProcessInstanceBatch(request);
+
+    // then
+    assertThat(response.getBpmnProcessId()).isEqualTo(stub.getProcessId());
+    assertThat(response.getVersion()).isEqualTo(stub.getProcessVersion());
+    assertThat(response.getProcessDefinitionKey()).isEqualTo(stub.getProcessDefinitionKey());
+    assertThat(response.getTenantId()).isEqualTo(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+    assertThat(response.getProcessInstancesList())
+        .extracting(
+            ProcessInstanceCreationBatchResult::getProcessInstanceKey,
+            ProcessInstanceCreationBatchResult::getRejectionType,
+            ProcessInstanceCreationBatchResult::getRejectionReason)
+        .containsExactly(
+            tuple(stub.getFirstProcessInstanceKey(), "", ""),
+            tuple(stub.getFirstProcessInstanceKey() + 1, "", ""),
+            tuple(-1L, RejectionType.EXCEEDED_BATCH_RECORD_SIZE.name(), stub.getRejectionReason()));
+
+    final BrokerCreateProcessInstanceBatchRequest brokerRequest =
+        brokerClient.getSingleBrokerRequest();
+    assertThat(brokerRequest.getIntent()).isEqualTo(ProcessInstanceCreationIntent.CREATE_BATCH);
+    assertThat(brokerRequest.getValueType()).isEqualTo(ValueType.PROCESS_INSTANCE_CREATION);
+
+    final ProcessInstanceCreationRecord brokerRequestValue = brokerRequest.getRequestWriter();
+    assertThat(brokerRequestValue.getProcessDefinitionKey())
+        .isEqualTo(stub.getProcessDefinitionKey());
+    assertThat(brokerRequestValue.getTenantId()).isEqualTo(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+    assertThat(brokerRequestValue.batchInstances())
+        .extracting(instance -> MsgPackConverter.convertToMap(instance.getVariablesBuffer()))
+        .containsExactly(Map.of("x", 1), Map.of(), Map.of("x", 3));
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.api.process;
+
+import io.camunda.zeebe.broker.client.api.dto.BrokerError;
+import io.camunda.zeebe.broker.client.api.dto.BrokerErrorResponse;
+import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient;
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient.RequestStub;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerPublishMessageBatchRequest;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageBatchRecord;
+import io.camunda.zeebe.protocol.record.ErrorCode;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import java.util.Iterator;
+
+/**
+ * Responds with a published message for every requested message, except for messages with the
+ * {@link #DUPLICATE_MESSAGE_ID}, which are rejected. The key of a published message is the {@link
+ * #FIRST_MESSAGE_KEY} plus the position of the message in the batch requested by the client. The
+ * request to an {@link #withUnavailablePartition(int) unavailable partition} fails with {@link
+ * ErrorCode#RESOURCE_EXHAUSTED}.
+ */
+public final class PublishMessageBatchStub
+    implements RequestStub<BrokerPublishMessageBatchRequest, BrokerResponse<MessageBatchRecord>> {
+
+  public static final long FIRST_MESSAGE_KEY = 123;
+  public static final String DUPLICATE_MESSAGE_ID = "duplicate";
+  public static final String REJECTION_REASON = "already published";
+  public static final String UNAVAILABLE_PARTITION_ERROR = "partition is exhausted";
+
+  private int unavailablePartitionId = -1;
+
+  @Override
+  public void registerWith(final StubbedBrokerClient gateway) {
+    gateway.registerHandler(BrokerPublishMessageBatchRequest.class, this);
+  }
+
+  public PublishMessageBatchStub withUnavailablePartition(final int partitionId) {
+    unavailablePartitionId = partitionId;
+    return this;
+  }
+
+  @Override
+  public BrokerResponse<MessageBatchRecord> handle(final BrokerPublishMessageBatchRequest request)
+      throws Exception {
+    if (request.getPartitionId() == unavailablePartitionId) {
+      return new BrokerErrorResponse<>(
+          new BrokerError(ErrorCode.RESOURCE_EXHAUSTED, UNAVAILABLE_PARTITION_ERROR));
+    }
+
+    final var responseRecord = new MessageBatchRecord();
+    final Iterator<Integer> requestIndices = request.getRequestIndices().iterator();
+
+    request
+        .getRequestWriter()
+        .messages()
+        .forEach(
+            message -> {
+              final var result = responseRecord.results().add().setTenantId(message.getTenantId());
+              final int requestIndex = requestIndices.next();
+              if (DUPLICATE_MESSAGE_ID.equals(message.getMessageId())) {
+                result.setRejection(RejectionType.ALREADY_EXISTS, REJECTION_REASON);
+              } else {
+                result.setMessageKey(FIRST_MESSAGE_KEY + requestIndex);
+              }
+            });
+
+    return new BrokerResponse<>(responseRecord, request.getPartitionId(), -1);
+  }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.api.process;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerPublishMessageBatchRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageBatchRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageBatchResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageBatchResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
+import io.camunda.zeebe.protocol.impl.SubscriptionUtil;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.MessageBatchIntent;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.Test;
+
+public final class PublishMessageBatchTest extends GatewayTest {
+
+  @Test
+  public void shouldMapRequestAndResponse() {
+    // given
+    final PublishMessageBatchStub stub = new PublishMessageBatchStub();
+    stub.registerWith(brokerClient);
+
+    final List<String> correlationKeys = List.of("a", "b", "c", "d", "e", "f");
+    final PublishMessageBatchRequest.Builder request = PublishMessageBatchRequest.newBuilder();
+    correlationKeys.forEach(
+        correlationKey ->
+            request.addMessages(
+                PublishMessageRequest.newBuilder()
+                    .setName("message")
+                    .setCorrelationKey(correlationKey)
+                    .setMessageId(
+                        correlationKey.equals("c")
+                            ? PublishMessageBatchStub.DUPLICATE_MESSAGE_ID
+                            : correlationKey)
+                    .setTimeToLive(1000)));
+
+    // when
+    final PublishMessageBatchResponse response = client.publishMessageBatch(request.build());
+
+    // then
+    assertThat(response.getMessagesList())
+        .extracting(
+            PublishMessageBatchResult::getKey,
+            PublishMessageBatchResult::getTenantId,
+            PublishMessageBatchResult::getRejectionReason)
+        .containsExactlyElementsOf(
+            IntStream.range(0, correlationKeys.size())
+                .mapToObj(
+                    i ->
+                        correlationKeys.get(i).equals("c")
+                            ? tuple(
+                                -1L,
+                                TenantOwned.DEFAULT_TENANT_IDENTIFIER,
+                                PublishMessageBatchStub.REJECTION_REASON)
+                            : tuple(
+                                PublishMessageBatchStub.FIRST_MESSAGE_KEY + i,
+                                TenantOwned.DEFAULT_TENANT_IDENTIFIER,
+                                ""))
+                .toList());
+
+    final List<BrokerPublishMessageBatchRequest> brokerRequests =
+        brokerClient.getBrokerRequests().stream()
+            .map(BrokerPublishMessageBatchRequest.class::cast)
+            .toList();
+    assertThat(brokerRequests)
+        .hasSizeGreaterThan(1)
+        .allSatisfy(
+            brokerRequest -> {
+              assertThat(brokerRequest.getIntent()).isEqualTo(MessageBatchIntent.PUBLISH);
+              assertThat(brokerRequest.getValueType()).isEqualTo(ValueType.MESSAGE_BATCH);
+              assertThat(brokerRequest.getRequestWriter().messages())
+                  .allSatisfy(
+                      message ->
+                          assertThat(
+                                  SubscriptionUtil.getSubscriptionPartitionId(
+                                      wrapString(message.getCorrelationKey()), 8))
+                              .isEqualTo(brokerRequest.getPartitionId()));
+            });
+  }
+
+  @Test
+  public void shouldOnlyFailMessagesOfUnavailablePartition() {
+    // given
+    final List<String> correlationKeys = List.of("a", "b", "c", "d", "e", "f");
+    final int unavailablePartitionId = partitionOf("a");
+    final PublishMessageBatchStub stub =
+        new PublishMessageBatchStub().withUnavailablePartition(unavailablePartitionId);
+    stub.registerWith(brokerClient);
+
+    final PublishMessageBatchRequest.Builder request = PublishMessageBatchRequest.newBuilder();
+    correlationKeys.forEach(
+        correlationKey ->
+            request.addMessages(
+                PublishMessageRequest.newBuilder()
+                    .setName("message")
+                    .setCorrelationKey(correlationKey)
+                    .setTimeToLive(1000)));
+
+    // when
+    final PublishMessageBatchResponse response = client.publishMessageBatch(request.build());
+
+    // then
+    assertThat(response.getMessagesList()).hasSize(correlationKeys.size());
+    for (int i = 0; i < correlationKeys.size(); i++) {
+      final PublishMessageBatchResult result = response.getMessages(i);
+      if (partitionOf(correlationKeys.get(i)) == unavailablePartitionId) {
+        assertThat(result.getKey()).isEqualTo(-1L);
+        assertThat(result.getTenantId()).isEqualTo(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+        assertThat(result.getRejectionReason())
+            .startsWith(
+                "Expected to publish the message on partition %d, but the request failed"
+                    .formatted(unavailablePartitionId))
+            .contains(PublishMessageBatchStub.UNAVAILABLE_PARTITION_ERROR);
+      } else {
+        assertThat(result.getKey()).isEqualTo(PublishMessageBatchStub.FIRST_MESSAGE_KEY + i);
+        assertThat(result.getRejectionReason()).isEmpty();
+      }
+    }
+    assertThat(correlationKeys)
+        .extracting(PublishMessageBatchTest::partitionOf)
+        .contains(unavailablePartitionId)
+        .anyMatch(partitionId -> partitionId != unavailablePartitionId);
+  }
+
+  @Test
+  public void shouldRejectEmptyBatch() {
+    // when / then
+    assertThatThrownBy(
+            () -> client.publishMessageBatch(PublishMessageBatchRequest.newBuilder().build()))
+        .isInstanceOf(StatusRuntimeException.class)
+        .extracting(error -> ((StatusRuntimeException) error).getStatus().getCode())
+        .isEqualTo(Status.Code.INVALID_ARGUMENT);
+  }
+
+  private static int partitionOf(final String correlationKey) {
+    return SubscriptionUtil.getSubscriptionPartitionId(wrapString(correlationKey), 8);
+  }
+}
@@ -12,6 +12,7 @@ import static io.camunda.zeebe.protocol.record.RejectionType.INVALID_ARGUMENT;
 import io.camunda.identity.automation.usermanagement.CamundaGroup;
 import io.camunda.identity.automation.usermanagement.CamundaUserWithPassword;
 import io.camunda.service.JobServices.ActivateJobsRequest;
+import io.camunda.service.ProcessInstanceServices.ProcessInstanceBatchCreateRequest;
 import io.camunda.service.security.auth.Authentication;
 import io.camunda.service.security.auth.Authentication.Builder;
 import io.camunda.zeebe.auth.api.JwtAuthorizationBuilder;
@@ -20,10 +21,14 @@ import io.camunda.zeebe.gateway.protocol.rest.CamundaGroupRequest;
 import io.camunda.zeebe.gateway.protocol.rest.CamundaUserWithPasswordRequest;
 import io.camunda.zeebe.gateway.protocol.rest.Changeset;
 import io.camunda.zeebe.gateway.protocol.rest.JobActivationRequest;
+import io.camunda.zeebe.gateway.protocol.rest.ProcessInstanceBatchCreationInstance;
+import io.camunda.zeebe.gateway.protocol.rest.ProcessInstanceBatchCreationRequest;
+import io.camunda.zeebe.gateway.protocol.rest.ProcessInstanceCreationStartInstruction;
 import io.camunda.zeebe.gateway.protocol.rest.UserTaskAssignmentRequest;
 import io.camunda.zeebe.gateway.protocol.rest.UserTaskCompletionRequest;
 import io.camunda.zeebe.gateway.protocol.rest.UserTaskUpdateRequest;
 import io.camunda.zeebe.protocol.impl.record.value.usertask.UserTaskRecord;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
 import io.camunda.zeebe.util.Either;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeParseException;
@@ -121,6 +126,39 @@ public class RequestMapper {
                             activationRequest, JobActivationRequest::getRequestTimeout))));
   }
 
+  public static Either<ProblemDetail, ProcessInstanceBatchCreateRequest>
+      toProcessInstanceBatchCreateRequest(
+          final ProcessInstanceBatchCreationRequest creationRequest) {
+
+    final var validationErrorResponse =
+        validateProcessInstanceBatchCreationRequest(creationRequest);
+    return validationErrorResponse
+        .<Either<ProblemDetail, ProcessInstanceBatchCreateRequest>>map(Either::left)
+        .orElseGet(
+            () -> {
+              final String tenantId =
+                  getStringOrEmpty(
+                      creationRequest, ProcessInstanceBatchCreationRequest::getTenantId);
+              return Either.right(
+                  new ProcessInstanceBatchCreateRequest(
+                      creationRequest.getProcessDefinitionKey() == null
+                          ? -1L
+                          : creationRequest.getProcessDefinitionKey(),
+                      getStringOrEmpty(
+                          creationRequest, ProcessInstanceBatchCreationRequest::getBpmnProcessId),
+                      creationRequest.getVersion() == null ? -1 : creationRequest.getVersion(),
+                      tenantId.isBlank() ? TenantOwned.DEFAULT_TENANT_IDENTIFIER : tenantId,
+                      creationRequest.getStartInstructions() == null
+                          ? List.of()
+                          : creationRequest.getStartInstructions().stream()
+                              .map(ProcessInstanceCreationStartInstruction::getElementId)
+                              .toList(),
+                      creationRequest.getInstances().stream()
+                          .map(ProcessInstanceBatchCreationInstance::getVariables)
+                          .toList()));
+            });
+  }
+
   private static Optional<ProblemDetail> validateAssignmentRequest(
       final UserTaskAssignmentRequest assignmentRequest) {
     if (assignmentRequest.getAssignee() == null || assignmentRequest.getAssignee().isBlank()) {
@@ -182,6 +220,26 @@ public class RequestMapper {
             HttpStatus.BAD_REQUEST, String.join(". ", violations), INVALID_ARGUMENT.name()));
   }
 
+  private static Optional<ProblemDetail> validateProcessInstanceBatchCreationRequest(
+      final ProcessInstanceBatchCreationRequest creationRequest) {
+    final List<String> violations = new ArrayList<>();
+    if (creationRequest.getProcessDefinitionKey() == null
+        && (creationRequest.getBpmnProcessId() == null
+            || creationRequest.getBpmnProcessId().isBlank())) {
+      violations.add(
+          ERROR_MESSAGE_EMPTY_ATTRIBUTE.formatted("processDefinitionKey or bpmnProcessId"));
+    }
+    if (creationRequest.getInstances() == null || creationRequest.getInstances().isEmpty()) {
+      violations.add(ERROR_MESSAGE_EMPTY_ATTRIBUTE.formatted("instances"));
+    }
+    if (violations.isEmpty()) {
+      return Optional.empty();
+    }
+    return Optional.of(
+        RestErrorMapper.createProblemDetail(
+            HttpStatus.BAD_REQUEST, String.join(". ", violations), INVALID_ARGUMENT.name()));
+  }
+
   private static void validateDate(
       final String dateString, final String attributeName, final List<String> violations) {
     if (dateString != null && !dateString.isEmpty()) {
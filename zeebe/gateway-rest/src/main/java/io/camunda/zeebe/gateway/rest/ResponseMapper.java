@@ -16,8 +16,11 @@ import io.camunda.zeebe.gateway.protocol.rest.ActivatedJob;
 import io.camunda.zeebe.gateway.protocol.rest.CamundaGroupResponse;
 import io.camunda.zeebe.gateway.protocol.rest.CamundaUserResponse;
 import io.camunda.zeebe.gateway.protocol.rest.JobActivationResponse;
+import io.camunda.zeebe.gateway.protocol.rest.ProcessInstanceBatchCreationResponse;
+import io.camunda.zeebe.gateway.protocol.rest.ProcessInstanceBatchCreationResult;
 import io.camunda.zeebe.msgpack.value.LongValue;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -60,6 +63,28 @@ public final class ResponseMapper {
         .tenantId(job.getTenantId());
   }
 
+  public static ProcessInstanceBatchCreationResponse toProcessInstanceBatchCreationResponse(
+      final ProcessInstanceCreationRecord brokerResponse) {
+    final var response =
+        new ProcessInstanceBatchCreationResponse()
+            .processDefinitionKey(brokerResponse.getProcessDefinitionKey())
+            .bpmnProcessId(bufferAsString(brokerResponse.getBpmnProcessIdBuffer()))
+            .version(brokerResponse.getVersion())
+            .tenantId(brokerResponse.getTenantId());
+    brokerResponse
+        .batchInstances()
+        .forEach(
+            instance ->
+                response.addInstancesItem(
+                    new ProcessInstanceBatchCreationResult()
+                        .processInstanceKey(instance.getProcessInstanceKey())
+                        .rejectionType(
+                            instance.isCreated() ? null : instance.getRejectionType().name())
+                        .rejectionReason(
+                            instance.isCreated() ? null : instance.getRejectionReason())));
+    return response;
+  }
+
   public static CamundaUserResponse toUserResponse(final CamundaUser camundaUser) {
     final CamundaUserResponse camundaUserDto = new CamundaUserResponse();
     camundaUserDto.setId(camundaUser.getId());
@@ -42,6 +42,8 @@ public class RestErrorMapper {
           case INVALID_ARGUMENT:
           case ALREADY_EXISTS:
             yield RestErrorMapper.createProblemDetail(HttpStatus.BAD_REQUEST, message, title);
+          case DEADLINE_EXCEEDED:
+            yield RestErrorMapper.createProblemDetail(HttpStatus.GATEWAY_TIMEOUT, message, title);
           default:
             {
               yield RestErrorMapper.createProblemDetail(
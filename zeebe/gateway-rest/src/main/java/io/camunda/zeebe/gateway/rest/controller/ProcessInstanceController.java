@@ -8,13 +8,18 @@
 package io.camunda.zeebe.gateway.rest.controller;
 
 import io.camunda.service.ProcessInstanceServices;
+import io.camunda.service.ProcessInstanceServices.ProcessInstanceBatchCreateRequest;
 import io.camunda.service.search.query.ProcessInstanceQuery;
+import io.camunda.zeebe.gateway.protocol.rest.ProcessInstanceBatchCreationRequest;
 import io.camunda.zeebe.gateway.protocol.rest.ProcessInstanceSearchQueryRequest;
 import io.camunda.zeebe.gateway.protocol.rest.ProcessInstanceSearchQueryResponse;
+import io.camunda.zeebe.gateway.rest.RequestMapper;
+import io.camunda.zeebe.gateway.rest.ResponseMapper;
 import io.camunda.zeebe.gateway.rest.RestErrorMapper;
 import io.camunda.zeebe.gateway.rest.SearchQueryRequestMapper;
 import io.camunda.zeebe.gateway.rest.SearchQueryResponseMapper;
 import io.camunda.zeebe.gateway.rest.TenantAttributeHolder;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -37,6 +42,30 @@ public class ProcessInstanceController {
         .fold(this::search, RestErrorMapper::mapProblemToResponse);
   }
 
+  @PostMapping(
+      path = "/process-instances/batch-creation",
+      produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_PROBLEM_JSON_VALUE},
+      consumes = MediaType.APPLICATION_JSON_VALUE)
+  public CompletableFuture<ResponseEntity<Object>> createProcessInstanceBatch(
+      @RequestBody final ProcessInstanceBatchCreationRequest creationRequest) {
+    return RequestMapper.toProcessInstanceBatchCreateRequest(creationRequest)
+        .fold(this::createProcessInstanceBatch, RestErrorMapper::mapProblemToCompletedResponse);
+  }
+
+  private CompletableFuture<ResponseEntity<Object>> createProcessInstanceBatch(
+      final ProcessInstanceBatchCreateRequest request) {
+    return processInstanceServices
+        .withAuthentication(RequestMapper.getAuthentication())
+        .createProcessInstanceBatch(request)
+        .handleAsync(
+            (response, error) ->
+                RestErrorMapper.getResponse(error, RestErrorMapper.DEFAULT_REJECTION_MAPPER)
+                    .orElseGet(
+                        () ->
+                            ResponseEntity.ok(
+                                ResponseMapper.toProcessInstanceBatchCreationResponse(response))));
+  }
+
   private ResponseEntity<ProcessInstanceSearchQueryResponse> search(
       final ProcessInstanceQuery query) {
     try {
@@ -13,12 +13,17 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.camunda.service.ProcessInstanceServices;
+import io.camunda.service.ProcessInstanceServices.ProcessInstanceBatchCreateRequest;
 import io.camunda.service.entities.ProcessInstanceEntity;
 import io.camunda.service.search.query.ProcessInstanceQuery;
 import io.camunda.service.search.query.SearchQueryResult;
 import io.camunda.service.search.query.SearchQueryResult.Builder;
 import io.camunda.service.search.sort.ProcessInstanceSort;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -61,6 +66,8 @@ public class ProcessInstanceControllerTest extends RestControllerTest {
           .build();
 
   static final String PROCESS_INSTANCES_SEARCH_URL = "/v2/process-instances/search";
+  static final String PROCESS_INSTANCES_BATCH_CREATION_URL =
+      "/v2/process-instances/batch-creation";
 
   @MockBean ProcessInstanceServices processInstanceServices;
 
@@ -270,4 +277,66 @@ public class ProcessInstanceControllerTest extends RestControllerTest {
 
     verify(processInstanceServices, never()).search(any(ProcessInstanceQuery.class));
   }
+
+  @Test
+  void shouldCreateProcessInstanceBatch() {
+    // given
+    final var record =
+        new ProcessInstanceCreationRecord()
+            .setBpmnProcessId("process")
+            .setVersion(1)
+            .setProcessDefinitionKey(456L)
+            .setTenantId(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+    record.batchInstances().add().setProcessInstanceKey(123L);
+    record
+        .batchInstances()
+        .add()
+        .setRejection(RejectionType.EXCEEDED_BATCH_RECORD_SIZE, "exceeded batch size");
+    when(processInstanceServices.createProcessInstanceBatch(
+            any(ProcessInstanceBatchCreateRequest.class)))
+        .thenReturn(CompletableFuture.completedFuture(record));
+    final var request =
+        """
+        {
+            "processDefinitionKey": 456,
+            "instances": [
+                {
+                    "variables": {"x": 1}
+                },
+                {}
+            ]
+        }""";
+    final var expectedResponse =
+        """
+        {
+            "processDefinitionKey": 456,
+            "bpmnProcessId": "process",
+            "version": 1,
+            "tenantId": "<default>",
+            "instances": [
+                {
+                    "processInstanceKey": 123
+                },
+                {
+                    "processInstanceKey": -1,
+                    "rejectionType": "EXCEEDED_BATCH_RECORD_SIZE",
+                    "rejectionReason": "exceeded batch size"
+                }
+            ]
+        }""";
+    // when / then
+    webClient
+        .post()
+        .uri(PROCESS_INSTANCES_BATCH_CREATION_URL)
+        .accept(MediaType.APPLICATION_JSON)
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(request)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectHeader()
+        .contentType(MediaType.APPLICATION_JSON)
+        .expectBody()
+        .json(expectedResponse);
+  }
 }
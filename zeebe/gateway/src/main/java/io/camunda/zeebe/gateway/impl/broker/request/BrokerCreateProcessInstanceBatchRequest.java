@@ -0,0 +1,79 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.broker.request;
+
+import io.camunda.zeebe.broker.client.api.dto.BrokerExecuteCommand;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ProcessInstanceCreationStartInstruction;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
+import java.util.List;
+import org.agrona.DirectBuffer;
+
+public class BrokerCreateProcessInstanceBatchRequest
+    extends BrokerExecuteCommand<ProcessInstanceCreationRecord> {
+
+  private final ProcessInstanceCreationRecord requestDto = new ProcessInstanceCreationRecord();
+
+  public BrokerCreateProcessInstanceBatchRequest() {
+    super(ValueType.PROCESS_INSTANCE_CREATION, ProcessInstanceCreationIntent.CREATE_BATCH);
+  }
+
+  public BrokerCreateProcessInstanceBatchRequest setBpmnProcessId(final String bpmnProcessId) {
+    requestDto.setBpmnProcessId(bpmnProcessId);
+    return this;
+  }
+
+  public BrokerCreateProcessInstanceBatchRequest setKey(final long key) {
+    requestDto.setProcessDefinitionKey(key);
+    return this;
+  }
+
+  public BrokerCreateProcessInstanceBatchRequest setVersion(final int version) {
+    requestDto.setVersion(version);
+    return this;
+  }
+
+  public BrokerCreateProcessInstanceBatchRequest setTenantId(final String tenantId) {
+    requestDto.setTenantId(tenantId);
+    return this;
+  }
+
+  /** Adds a process instance to create with the given variables to the batch. */
+  public BrokerCreateProcessInstanceBatchRequest addInstance(final DirectBuffer variables) {
+    requestDto.addBatchInstance(variables);
+    return this;
+  }
+
+  public BrokerCreateProcessInstanceBatchRequest setStartInstructions(
+      final List<ProcessInstanceCreationStartInstruction> startInstructionsList) {
+    startInstructionsList.forEach(
+        startInstructionReq -> addStartInstruction(startInstructionReq.getElementId()));
+    return this;
+  }
+
+  public BrokerCreateProcessInstanceBatchRequest addStartInstruction(final String elementId) {
+    requestDto.addStartInstruction(
+        new io.camunda.zeebe.protocol.impl.record.value.processinstance
+                .ProcessInstanceCreationStartInstruction()
+            .setElementId(elementId));
+    return this;
+  }
+
+  @Override
+  public ProcessInstanceCreationRecord getRequestWriter() {
+    return requestDto;
+  }
+
+  @Override
+  protected ProcessInstanceCreationRecord toResponseDto(final DirectBuffer buffer) {
+    final ProcessInstanceCreationRecord responseDto = new ProcessInstanceCreationRecord();
+    responseDto.wrap(buffer);
+    return responseDto;
+  }
+}
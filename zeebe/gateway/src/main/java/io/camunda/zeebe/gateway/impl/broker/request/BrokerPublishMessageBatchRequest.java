@@ -0,0 +1,70 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.broker.request;
+
+import io.camunda.zeebe.broker.client.api.dto.BrokerExecuteCommand;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageBatchRecord;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.MessageBatchIntent;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+
+/**
+ * Publishes the messages of a batch which belong to a single partition, i.e. whose correlation keys
+ * are hashed to that partition. Remembers the position of every message in the batch requested by
+ * the client, so that the results of all partitions can be merged back into the requested order.
+ */
+public final class BrokerPublishMessageBatchRequest
+    extends BrokerExecuteCommand<MessageBatchRecord> {
+
+  private final MessageBatchRecord requestDto = new MessageBatchRecord();
+  private final List<Integer> requestIndices = new ArrayList<>();
+
+  public BrokerPublishMessageBatchRequest(final int partitionId) {
+    super(ValueType.MESSAGE_BATCH, MessageBatchIntent.PUBLISH);
+    setPartitionId(partitionId);
+  }
+
+  public BrokerPublishMessageBatchRequest addMessage(
+      final int requestIndex,
+      final String messageName,
+      final String correlationKey,
+      final String messageId,
+      final long timeToLive,
+      final DirectBuffer variables,
+      final String tenantId) {
+    requestDto
+        .addMessage()
+        .setName(messageName)
+        .setCorrelationKey(correlationKey)
+        .setMessageId(messageId)
+        .setTimeToLive(timeToLive)
+        .setVariables(variables)
+        .setTenantId(tenantId);
+    requestIndices.add(requestIndex);
+    return this;
+  }
+
+  /** Returns the position of every message of this request in the batch requested by the client. */
+  public List<Integer> getRequestIndices() {
+    return requestIndices;
+  }
+
+  @Override
+  public MessageBatchRecord getRequestWriter() {
+    return requestDto;
+  }
+
+  @Override
+  protected MessageBatchRecord toResponseDto(final DirectBuffer buffer) {
+    final MessageBatchRecord responseDto = new MessageBatchRecord();
+    responseDto.wrap(buffer);
+    return responseDto;
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.protocol.impl.record.value.message;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
+
+import io.camunda.zeebe.msgpack.property.EnumProperty;
+import io.camunda.zeebe.msgpack.property.LongProperty;
+import io.camunda.zeebe.msgpack.property.StringProperty;
+import io.camunda.zeebe.msgpack.value.ObjectValue;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
+
+/**
+ * The result of a single message of a {@link
+ * io.camunda.zeebe.protocol.record.intent.MessageBatchIntent#PUBLISH} command: the tenant of the
+ * message, and either the key of the published message or the reason why it was not published.
+ */
+public final class MessageBatchPublishResult extends ObjectValue {
+
+  private final LongProperty messageKeyProperty = new LongProperty("messageKey", -1);
+  private final StringProperty tenantIdProperty =
+      new StringProperty("tenantId", TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+  private final EnumProperty<RejectionType> rejectionTypeProperty =
+      new EnumProperty<>("rejectionType", RejectionType.class, RejectionType.NULL_VAL);
+  private final StringProperty rejectionReasonProperty = new StringProperty("rejectionReason", "");
+
+  public MessageBatchPublishResult() {
+    super(4);
+    declareProperty(messageKeyProperty)
+        .declareProperty(tenantIdProperty)
+        .declareProperty(rejectionTypeProperty)
+        .declareProperty(rejectionReasonProperty);
+  }
+
+  public long getMessageKey() {
+    return messageKeyProperty.getValue();
+  }
+
+  public MessageBatchPublishResult setMessageKey(final long messageKey) {
+    messageKeyProperty.setValue(messageKey);
+    return this;
+  }
+
+  public String getTenantId() {
+    return bufferAsString(tenantIdProperty.getValue());
+  }
+
+  public MessageBatchPublishResult setTenantId(final String tenantId) {
+    tenantIdProperty.setValue(tenantId);
+    return this;
+  }
+
+  public RejectionType getRejectionType() {
+    return rejectionTypeProperty.getValue();
+  }
+
+  public String getRejectionReason() {
+    return bufferAsString(rejectionReasonProperty.getValue());
+  }
+
+  public MessageBatchPublishResult setRejection(
+      final RejectionType rejectionType, final String rejectionReason) {
+    rejectionTypeProperty.setValue(rejectionType);
+    rejectionReasonProperty.setValue(rejectionReason);
+    return this;
+  }
+
+  /** Returns true if the message was published, false if it was rejected. */
+  public boolean isPublished() {
+    return getMessageKey() >= 0;
+  }
+}
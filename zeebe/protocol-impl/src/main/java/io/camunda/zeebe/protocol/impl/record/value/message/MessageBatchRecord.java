@@ -21,16 +21,41 @@ public final class MessageBatchRecord extends UnifiedRecordValue
 
   private final ArrayProperty<LongValue> messageKeysProp =
       new ArrayProperty<>("messageKeys", LongValue::new);
+  private final ArrayProperty<MessageRecord> messagesProp =
+      new ArrayProperty<>("messages", MessageRecord::new);
+  private final ArrayProperty<MessageBatchPublishResult> resultsProp =
+      new ArrayProperty<>("results", MessageBatchPublishResult::new);
 
   public MessageBatchRecord() {
-    super(1);
-    declareProperty(messageKeysProp);
+    super(3);
+    declareProperty(messageKeysProp).declareProperty(messagesProp).declareProperty(resultsProp);
   }
 
   public ValueArray<LongValue> messageKeys() {
     return messageKeysProp;
   }
 
+  /**
+   * The messages of a {@link io.camunda.zeebe.protocol.record.intent.MessageBatchIntent#PUBLISH}
+   * command; empty for all other intents.
+   */
+  public ArrayProperty<MessageRecord> messages() {
+    return messagesProp;
+  }
+
+  public MessageRecord addMessage() {
+    return messagesProp.add();
+  }
+
+  /**
+   * The result of every message of a {@link
+   * io.camunda.zeebe.protocol.record.intent.MessageBatchIntent#PUBLISH} command, in the order of
+   * the messages; only set in the response to the command.
+   */
+  public ArrayProperty<MessageBatchPublishResult> results() {
+    return resultsProp;
+  }
+
   @Override
   public boolean isEmpty() {
     return messageKeysProp.isEmpty();
@@ -7,10 +7,14 @@
  */
 package io.camunda.zeebe.protocol.impl.record.value.processinstance;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.camunda.zeebe.msgpack.property.BinaryProperty;
 import io.camunda.zeebe.msgpack.property.LongProperty;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.protocol.record.value.ProcessInstanceBatchRecordValue;
 import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public final class ProcessInstanceBatchRecord extends UnifiedRecordValue
     implements ProcessInstanceBatchRecordValue {
@@ -30,15 +34,22 @@ public final class ProcessInstanceBatchRecord extends UnifiedRecordValue
    *       batch.
    *   <li>ACTIVATE - The index is a counter, indicating how many more child instances need to be
    *       activated.
+   *   <li>OUTPUT_ELEMENT_COLLECTED - The index is the loop counter of the child instance whose
+   *       output element was collected.
    * </ul>
    */
   private final LongProperty indexProperty = new LongProperty("index", -1L);
 
+  /** The collected output element, only set for OUTPUT_ELEMENT_COLLECTED. */
+  private final BinaryProperty outputElementProperty =
+      new BinaryProperty("outputElement", new UnsafeBuffer());
+
   public ProcessInstanceBatchRecord() {
-    super(3);
+    super(4);
     declareProperty(processInstanceKeyProperty)
         .declareProperty(batchElementInstanceKeyProperty)
-        .declareProperty(indexProperty);
+        .declareProperty(indexProperty)
+        .declareProperty(outputElementProperty);
   }
 
   @Override
@@ -71,6 +82,16 @@ public final class ProcessInstanceBatchRecord extends UnifiedRecordValue
     return this;
   }
 
+  @JsonIgnore
+  public DirectBuffer getOutputElementBuffer() {
+    return outputElementProperty.getValue();
+  }
+
+  public ProcessInstanceBatchRecord setOutputElement(final DirectBuffer outputElement) {
+    outputElementProperty.setValue(outputElement);
+    return this;
+  }
+
   @Override
   public String getTenantId() {
     // todo(#13774): replace dummy implementation
@@ -0,0 +1,108 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.protocol.impl.record.value.processinstance;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import io.camunda.zeebe.msgpack.property.DocumentProperty;
+import io.camunda.zeebe.msgpack.property.EnumProperty;
+import io.camunda.zeebe.msgpack.property.LongProperty;
+import io.camunda.zeebe.msgpack.property.StringProperty;
+import io.camunda.zeebe.msgpack.value.ObjectValue;
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.value.ProcessInstanceCreationRecordValue.ProcessInstanceCreationBatchInstanceValue;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+
+/**
+ * A single process instance of a {@link
+ * io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent#CREATE_BATCH} command. In
+ * the command, it holds the variables of the instance to create; in the response, it holds either
+ * the key of the created instance, or the reason why it was not created.
+ */
+@JsonIgnoreProperties({
+  /* These fields are inherited from ObjectValue; there have no purpose in exported JSON records*/
+  "encodedLength",
+  "empty"
+})
+public final class ProcessInstanceCreationBatchInstance extends ObjectValue
+    implements ProcessInstanceCreationBatchInstanceValue {
+
+  private final DocumentProperty variablesProperty = new DocumentProperty("variables");
+  private final LongProperty processInstanceKeyProperty =
+      new LongProperty("processInstanceKey", -1);
+  private final EnumProperty<RejectionType> rejectionTypeProperty =
+      new EnumProperty<>("rejectionType", RejectionType.class, RejectionType.NULL_VAL);
+  private final StringProperty rejectionReasonProperty = new StringProperty("rejectionReason", "");
+
+  public ProcessInstanceCreationBatchInstance() {
+    super(4);
+    declareProperty(variablesProperty)
+        .declareProperty(processInstanceKeyProperty)
+        .declareProperty(rejectionTypeProperty)
+        .declareProperty(rejectionReasonProperty);
+  }
+
+  @Override
+  public Map<String, Object> getVariables() {
+    return MsgPackConverter.convertToMap(variablesProperty.getValue());
+  }
+
+  @JsonIgnore
+  public DirectBuffer getVariablesBuffer() {
+    return variablesProperty.getValue();
+  }
+
+  public ProcessInstanceCreationBatchInstance setVariables(final DirectBuffer variables) {
+    variablesProperty.setValue(variables);
+    return this;
+  }
+
+  @Override
+  public long getProcessInstanceKey() {
+    return processInstanceKeyProperty.getValue();
+  }
+
+  public ProcessInstanceCreationBatchInstance setProcessInstanceKey(final long processInstanceKey) {
+    processInstanceKeyProperty.setValue(processInstanceKey);
+    return this;
+  }
+
+  @Override
+  public RejectionType getRejectionType() {
+    return rejectionTypeProperty.getValue();
+  }
+
+  @Override
+  public String getRejectionReason() {
+    return bufferAsString(rejectionReasonProperty.getValue());
+  }
+
+  public ProcessInstanceCreationBatchInstance setRejection(
+      final RejectionType rejectionType, final String rejectionReason) {
+    rejectionTypeProperty.setValue(rejectionType);
+    rejectionReasonProperty.setValue(rejectionReason);
+    return this;
+  }
+
+  /** Returns true if the instance was created, false if it was rejected. */
+  @JsonIgnore
+  public boolean isCreated() {
+    return getProcessInstanceKey() >= 0;
+  }
+
+  public void copy(final ProcessInstanceCreationBatchInstance instance) {
+    setVariables(BufferUtil.cloneBuffer(instance.getVariablesBuffer()));
+    setProcessInstanceKey(instance.getProcessInstanceKey());
+    setRejection(instance.getRejectionType(), instance.getRejectionReason());
+  }
+}
@@ -44,8 +44,11 @@ public final class ProcessInstanceCreationRecord extends UnifiedRecordValue
   private final ArrayProperty<ProcessInstanceCreationStartInstruction> startInstructionsProperty =
       new ArrayProperty<>("startInstructions", ProcessInstanceCreationStartInstruction::new);
 
+  private final ArrayProperty<ProcessInstanceCreationBatchInstance> batchInstancesProperty =
+      new ArrayProperty<>("batchInstances", ProcessInstanceCreationBatchInstance::new);
+
   public ProcessInstanceCreationRecord() {
-    super(8);
+    super(9);
     declareProperty(bpmnProcessIdProperty)
         .declareProperty(processDefinitionKeyProperty)
         .declareProperty(processInstanceKeyProperty)
@@ -53,7 +56,8 @@ public final class ProcessInstanceCreationRecord extends UnifiedRecordValue
         .declareProperty(variablesProperty)
         .declareProperty(fetchVariablesProperty)
         .declareProperty(startInstructionsProperty)
-        .declareProperty(tenantIdProperty);
+        .declareProperty(tenantIdProperty)
+        .declareProperty(batchInstancesProperty);
   }
 
   @Override
@@ -90,6 +94,20 @@ public final class ProcessInstanceCreationRecord extends UnifiedRecordValue
         .toList();
   }
 
+  @Override
+  public List<ProcessInstanceCreationBatchInstanceValue> getBatchInstances() {
+    // like the start instructions, each element is copied as the inner values are updated during
+    // the iteration
+    return batchInstancesProperty.stream()
+        .map(
+            element -> {
+              final var elementCopy = new ProcessInstanceCreationBatchInstance();
+              elementCopy.copy(element);
+              return (ProcessInstanceCreationBatchInstanceValue) elementCopy;
+            })
+        .toList();
+  }
+
   public ProcessInstanceCreationRecord setVersion(final int version) {
     versionProperty.setValue(version);
     return this;
@@ -155,6 +173,20 @@ public final class ProcessInstanceCreationRecord extends UnifiedRecordValue
     return this;
   }
 
+  /**
+   * The process instances of a {@link
+   * io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent#CREATE_BATCH} command and
+   * its response; empty for all other intents.
+   */
+  public ArrayProperty<ProcessInstanceCreationBatchInstance> batchInstances() {
+    return batchInstancesProperty;
+  }
+
+  public ProcessInstanceCreationRecord addBatchInstance(final DirectBuffer variables) {
+    batchInstancesProperty.add().setVariables(variables);
+    return this;
+  }
+
   @JsonIgnore
   public DirectBuffer getBpmnProcessIdBuffer() {
     return bpmnProcessIdProperty.getValue();
@@ -11,6 +11,7 @@ import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.camunda.zeebe.msgpack.property.DocumentProperty;
+import io.camunda.zeebe.msgpack.property.LongProperty;
 import io.camunda.zeebe.msgpack.property.StringProperty;
 import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
@@ -25,10 +26,20 @@ public final class SignalRecord extends UnifiedRecordValue implements SignalReco
   private final DocumentProperty variablesProp = new DocumentProperty("variables");
   private final StringProperty tenantIdProp =
       new StringProperty("tenantId", TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+  // the key of the next subscription to trigger, only set on TRIGGER_SUBSCRIPTIONS commands
+  private final LongProperty subscriptionKeyProp = new LongProperty("subscriptionKey", -1L);
+  // subscriptions with this key or a higher one were opened after the broadcast and are not
+  // triggered, only set on TRIGGER_SUBSCRIPTIONS commands
+  private final LongProperty subscriptionKeyUpperBoundProp =
+      new LongProperty("subscriptionKeyUpperBound", -1L);
 
   public SignalRecord() {
-    super(3);
-    declareProperty(signalNameProp).declareProperty(variablesProp).declareProperty(tenantIdProp);
+    super(5);
+    declareProperty(signalNameProp)
+        .declareProperty(variablesProp)
+        .declareProperty(tenantIdProp)
+        .declareProperty(subscriptionKeyProp)
+        .declareProperty(subscriptionKeyUpperBoundProp);
   }
 
   public void wrap(final SignalRecord record) {
@@ -81,4 +92,24 @@ public final class SignalRecord extends UnifiedRecordValue implements SignalReco
     tenantIdProp.setValue(tenantId);
     return this;
   }
+
+  @JsonIgnore
+  public long getSubscriptionKey() {
+    return subscriptionKeyProp.getValue();
+  }
+
+  public SignalRecord setSubscriptionKey(final long subscriptionKey) {
+    subscriptionKeyProp.setValue(subscriptionKey);
+    return this;
+  }
+
+  @JsonIgnore
+  public long getSubscriptionKeyUpperBound() {
+    return subscriptionKeyUpperBoundProp.getValue();
+  }
+
+  public SignalRecord setSubscriptionKeyUpperBound(final long subscriptionKeyUpperBound) {
+    subscriptionKeyUpperBoundProp.setValue(subscriptionKeyUpperBound);
+    return this;
+  }
 }
@@ -1316,6 +1316,8 @@ final class JsonSerializableToJsonTest {
                           MsgPackConverter.convertToMsgPack("{'foo':'bar','baz':'boz'}")))
                   .addStartInstruction(
                       new ProcessInstanceCreationStartInstruction().setElementId("element"))
+                  .addBatchInstance(
+                      new UnsafeBuffer(MsgPackConverter.convertToMsgPack("{'foo':'baz'}")))
                   .setProcessInstanceKey(instanceKey);
             },
         """
@@ -1333,6 +1335,16 @@ final class JsonSerializableToJsonTest {
               "elementId": "element"
             }
           ],
+          "batchInstances": [
+            {
+              "variables": {
+                "foo": "baz"
+              },
+              "processInstanceKey": -1,
+              "rejectionType": "NULL_VAL",
+              "rejectionReason": ""
+            }
+          ],
           "tenantId": "test-tenant"
         }
         """
@@ -1352,6 +1364,7 @@ final class JsonSerializableToJsonTest {
           "version": -1,
           "processInstanceKey": -1,
           "startInstructions": [],
+          "batchInstances": [],
           "tenantId": "<default>"
         }
         """
@@ -169,7 +169,13 @@ public enum ZbColumnFamilies implements EnumValue {
 
   USER_TASKS(79),
   USER_TASK_STATES(80),
-  COMPENSATION_SUBSCRIPTION(81);
+  COMPENSATION_SUBSCRIPTION(81),
+
+  VARIABLE_BLOBS(82),
+
+  DUE_DATE_BUCKETS(83),
+
+  MULTI_INSTANCE_OUTPUT_ELEMENTS(84);
 
   private final int value;
 
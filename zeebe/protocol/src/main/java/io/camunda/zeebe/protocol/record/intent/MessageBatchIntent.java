@@ -16,7 +16,9 @@
 package io.camunda.zeebe.protocol.record.intent;
 
 public enum MessageBatchIntent implements Intent {
-  EXPIRE((short) 0);
+  EXPIRE((short) 0),
+  PUBLISH((short) 1);
+
   private final short value;
 
   MessageBatchIntent(final short value) {
@@ -37,6 +39,8 @@ public enum MessageBatchIntent implements Intent {
     switch (value) {
       case 0:
         return EXPIRE;
+      case 1:
+        return PUBLISH;
       default:
         return Intent.UNKNOWN;
     }
@@ -17,18 +17,23 @@ package io.camunda.zeebe.protocol.record.intent;
 
 public enum ProcessInstanceBatchIntent implements ProcessInstanceRelatedIntent {
   TERMINATE(0),
-  ACTIVATE(1);
+  ACTIVATE(1),
+  /** The output element of a child instance of a multi-instance body was collected. */
+  OUTPUT_ELEMENT_COLLECTED(2, true, true);
 
   private final short value;
   private final boolean shouldBanInstance;
+  private final boolean isEvent;
 
   ProcessInstanceBatchIntent(final int value) {
-    this(value, true);
+    this(value, true, false);
   }
 
-  ProcessInstanceBatchIntent(final int value, final boolean shouldBanInstance) {
+  ProcessInstanceBatchIntent(
+      final int value, final boolean shouldBanInstance, final boolean isEvent) {
     this.value = (short) value;
     this.shouldBanInstance = shouldBanInstance;
+    this.isEvent = isEvent;
   }
 
   public static Intent from(final short value) {
@@ -37,6 +42,8 @@ public enum ProcessInstanceBatchIntent implements ProcessInstanceRelatedIntent {
         return TERMINATE;
       case 1:
         return ACTIVATE;
+      case 2:
+        return OUTPUT_ELEMENT_COLLECTED;
       default:
         return UNKNOWN;
     }
@@ -49,7 +56,7 @@ public enum ProcessInstanceBatchIntent implements ProcessInstanceRelatedIntent {
 
   @Override
   public boolean isEvent() {
-    return false;
+    return isEvent;
   }
 
   @Override
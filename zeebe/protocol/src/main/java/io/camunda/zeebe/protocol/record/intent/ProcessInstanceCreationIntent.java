@@ -18,7 +18,9 @@ package io.camunda.zeebe.protocol.record.intent;
 public enum ProcessInstanceCreationIntent implements Intent, ProcessInstanceRelatedIntent {
   CREATE(0, false),
   CREATED(1, true),
-  CREATE_WITH_AWAITING_RESULT(2, false);
+  CREATE_WITH_AWAITING_RESULT(2, false),
+  CREATE_BATCH(3, false),
+  EXPIRE_AWAITING_RESULT(4, false);
 
   private final short value;
   private final boolean shouldBanInstance;
@@ -55,6 +57,10 @@ public enum ProcessInstanceCreationIntent implements Intent, ProcessInstanceRela
         return CREATED;
       case 2:
         return CREATE_WITH_AWAITING_RESULT;
+      case 3:
+        return CREATE_BATCH;
+      case 4:
+        return EXPIRE_AWAITING_RESULT;
       default:
         return UNKNOWN;
     }
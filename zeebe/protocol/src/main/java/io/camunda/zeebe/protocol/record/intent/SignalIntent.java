@@ -17,7 +17,13 @@ package io.camunda.zeebe.protocol.record.intent;
 
 public enum SignalIntent implements Intent {
   BROADCAST((short) 0),
-  BROADCASTED((short) 1);
+  BROADCASTED((short) 1),
+  /**
+   * Continues triggering the subscriptions of a broadcasted signal on the partition, starting at
+   * the subscription key of the record. Only written by the engine if not all subscriptions could
+   * be triggered while processing the previous command.
+   */
+  TRIGGER_SUBSCRIPTIONS((short) 2);
 
   private final short value;
 
@@ -46,6 +52,8 @@ public enum SignalIntent implements Intent {
         return BROADCAST;
       case 1:
         return BROADCASTED;
+      case 2:
+        return TRIGGER_SUBSCRIPTIONS;
       default:
         return Intent.UNKNOWN;
     }
@@ -17,6 +17,7 @@ package io.camunda.zeebe.protocol.record.value;
 
 import io.camunda.zeebe.protocol.record.ImmutableProtocol;
 import io.camunda.zeebe.protocol.record.RecordValueWithVariables;
+import io.camunda.zeebe.protocol.record.RejectionType;
 import java.util.List;
 import org.immutables.value.Value;
 
@@ -42,9 +43,39 @@ public interface ProcessInstanceCreationRecordValue
   /** Returns a list of start instructions (if available), or an empty list. */
   List<ProcessInstanceCreationStartInstructionValue> getStartInstructions();
 
+  /**
+   * Returns the process instances of a batch creation, i.e. of a {@link
+   * io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent#CREATE_BATCH} command and
+   * its response, or an empty list for all other intents.
+   */
+  List<ProcessInstanceCreationBatchInstanceValue> getBatchInstances();
+
   @Value.Immutable
   @ImmutableProtocol(builder = ImmutableProcessInstanceCreationStartInstructionValue.Builder.class)
   interface ProcessInstanceCreationStartInstructionValue {
     String getElementId();
   }
+
+  @Value.Immutable
+  @ImmutableProtocol(builder = ImmutableProcessInstanceCreationBatchInstanceValue.Builder.class)
+  interface ProcessInstanceCreationBatchInstanceValue extends RecordValueWithVariables {
+
+    /**
+     * @return the key of the created process instance, or -1 in the command or if the instance
+     *     was not created
+     */
+    long getProcessInstanceKey();
+
+    /**
+     * @return the reason why the instance was not created, or {@link RejectionType#NULL_VAL} if it
+     *     was created
+     */
+    RejectionType getRejectionType();
+
+    /**
+     * @return the description why the instance was not created, or an empty string if it was
+     *     created
+     */
+    String getRejectionReason();
+  }
 }
@@ -26,7 +26,7 @@ import io.camunda.client.CamundaClientBuilder;
 import io.camunda.client.api.response.BrokerInfo;
 import io.camunda.client.api.response.Topology;
 import io.camunda.commons.actor.ActorClockConfiguration;
-import io.camunda.commons.actor.ActorIdleStrategyConfiguration.IdleStrategySupplier;
+import io.camunda.commons.actor.ActorIdleStrategyConfiguration.IdleStrategySuppliers;
 import io.camunda.commons.actor.ActorSchedulerConfiguration;
 import io.camunda.commons.broker.client.BrokerClientConfiguration;
 import io.camunda.commons.clustering.AtomixClusterConfiguration;
@@ -346,7 +346,7 @@ public class ClusteringRule extends ExternalResource {
     final var scheduler =
         new ActorSchedulerConfiguration(
                 brokerSpringConfig.schedulerConfiguration(),
-                IdleStrategySupplier.ofDefault(),
+                IdleStrategySuppliers.ofDefault(),
                 actorClockConfiguration)
             .scheduler();
 
@@ -469,7 +469,7 @@ public class ClusteringRule extends ExternalResource {
 
     final ActorScheduler actorScheduler =
         new ActorSchedulerConfiguration(
-                actorConfig, IdleStrategySupplier.ofDefault(), actorClockConfiguration)
+                actorConfig, IdleStrategySuppliers.ofDefault(), actorClockConfiguration)
             .scheduler();
 
     final var clusterConfiguration = new AtomixClusterConfiguration(clusterConfig);
@@ -9,7 +9,7 @@ package io.camunda.zeebe.it.config;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-import io.camunda.commons.actor.ActorIdleStrategyConfiguration.IdleStrategySupplier;
+import io.camunda.commons.actor.ActorIdleStrategyConfiguration.IdleStrategySuppliers;
 import io.camunda.zeebe.qa.util.cluster.TestStandaloneGateway;
 import java.time.Duration;
 import org.junit.jupiter.api.Test;
@@ -29,7 +29,7 @@ final class IdleStrategyConfigIT {
       gateway.start();
 
       // then
-      final var idleStrategy = gateway.bean(IdleStrategySupplier.class).get();
+      final var idleStrategy = gateway.bean(IdleStrategySuppliers.class).cpuBound().get();
       assertThat(idleStrategy)
           .hasFieldOrPropertyWithValue("maxSpins", 50L)
           .hasFieldOrPropertyWithValue("maxYields", 62L)
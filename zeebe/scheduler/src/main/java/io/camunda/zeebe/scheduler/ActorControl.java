@@ -240,6 +240,24 @@ public class ActorControl implements ConcurrencyControl {
     }
   }
 
+  /**
+   * Runs a blocking section, e.g. copying files or calling a remote service, without occupying the
+   * actor thread, if the scheduler is configured to run blocking tasks on virtual threads (see
+   * {@link
+   * ActorScheduler.ActorSchedulerBuilder#setVirtualThreadsForBlockingTasksEnabled(boolean)}).
+   * Otherwise, the callable is executed directly on the actor thread.
+   *
+   * <p>The callable may run concurrently to the actor, so it must not access the actor's state. Use
+   * {@link #runOnCompletion(ActorFuture, BiConsumer)} to consume the result on the actor thread.
+   *
+   * @param callable the blocking section to run
+   * @return a future which is completed with the result of the callable
+   */
+  public <T> ActorFuture<T> runBlocking(final Callable<T> callable) {
+    ensureCalledFromWithinActor("runBlocking(...)");
+    return ActorThread.current().getActorThreadGroup().getBlockingTaskExecutor().submit(callable);
+  }
+
   /**
    * Invoke the callback when the given future is completed (successfully or exceptionally). This
    * call does not block the actor. If close is requested the actor will wait on this future and not
@@ -19,10 +19,12 @@ import java.util.concurrent.CompletableFuture;
 public final class ActorExecutor {
   private final ActorThreadGroup cpuBoundThreads;
   private final ActorThreadGroup ioBoundThreads;
+  private final BlockingTaskExecutor blockingTaskExecutor;
 
   public ActorExecutor(final ActorSchedulerBuilder builder) {
     ioBoundThreads = builder.getIoBoundActorThreads();
     cpuBoundThreads = builder.getCpuBoundActorThreads();
+    blockingTaskExecutor = builder.getBlockingTaskExecutor();
   }
 
   /**
@@ -54,7 +56,8 @@ public final class ActorExecutor {
   }
 
   public CompletableFuture<Void> closeAsync() {
-    return CompletableFuture.allOf(ioBoundThreads.closeAsync(), cpuBoundThreads.closeAsync());
+    return CompletableFuture.allOf(ioBoundThreads.closeAsync(), cpuBoundThreads.closeAsync())
+        .thenRun(blockingTaskExecutor::close);
   }
 
   public ActorThreadGroup getCpuBoundThreads() {
@@ -38,6 +38,19 @@ public final class ActorJob {
   @Async.Execute
   void execute(final ActorThread runner) {
     observeSchedulingLatency(runner.getActorMetrics());
+    final var profiler = runner.getActorProfiler();
+    final var profiledTask = task;
+    final long queueWaitNs;
+    final long startedAt;
+    if (profiler.isEnabled()) {
+      startedAt = System.nanoTime();
+      final long queuedAt = getQueuedAt();
+      queueWaitNs = queuedAt != -1 ? startedAt - queuedAt : -1;
+    } else {
+      startedAt = -1;
+      queueWaitNs = -1;
+    }
+
     try {
       invoke();
     } catch (final Throwable e) {
@@ -51,25 +64,42 @@ public final class ActorJob {
         schedulingState = TaskSchedulingState.QUEUED;
         scheduledAt = System.nanoTime();
       }
+
+      if (startedAt != -1) {
+        profiler.recordJob(profiledTask.getName(), queueWaitNs, System.nanoTime() - startedAt);
+      }
     }
   }
 
   private void observeSchedulingLatency(final ActorMetrics metrics) {
     if (metrics.isEnabled()) {
-      final var now = System.nanoTime();
-      if (subscription instanceof final ActorFutureSubscription s
-          && s.getFuture() instanceof final CompletableActorFuture<?> f) {
-        final var subscriptionCompleted = f.getCompletedAt();
-        metrics.observeJobSchedulingLatency(now - subscriptionCompleted, "Future");
-      } else if (subscription instanceof final TimerSubscription s) {
-        final var timerExpired = s.getTimerExpiredAt();
-        metrics.observeJobSchedulingLatency(now - timerExpired, "Timer");
-      } else if (subscription == null && scheduledAt != -1) {
-        metrics.observeJobSchedulingLatency(now - scheduledAt, "None");
+      final var queuedAt = getQueuedAt();
+      if (queuedAt != -1) {
+        final var subscriptionType =
+            subscription == null
+                ? "None"
+                : subscription instanceof TimerSubscription ? "Timer" : "Future";
+        metrics.observeJobSchedulingLatency(System.nanoTime() - queuedAt, subscriptionType);
       }
     }
   }
 
+  /**
+   * @return the time (in nanos) at which the job became ready to run, i.e. when its future was
+   *     completed, its timer expired, or it was submitted, or -1 if unknown
+   */
+  private long getQueuedAt() {
+    if (subscription instanceof final ActorFutureSubscription s
+        && s.getFuture() instanceof final CompletableActorFuture<?> f) {
+      return f.getCompletedAt();
+    } else if (subscription instanceof final TimerSubscription s) {
+      return s.getTimerExpiredAt();
+    } else if (subscription == null) {
+      return scheduledAt;
+    }
+    return -1;
+  }
+
   private void invoke() throws Exception {
     final Object invocationResult;
     if (callable != null) {
@@ -47,10 +47,43 @@ final class ActorMetrics {
           .help("The length of the job queue for an actor task")
           .labelNames("actorName")
           .register();
+
+  private static final Counter STEAL_COUNT =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_thread_steal_count")
+          .help("Number of actor tasks an actor thread stole from the queue of another thread")
+          .labelNames("threadName")
+          .register();
+
+  private static final Counter THREAD_BUSY_TIME =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_thread_busy_time_seconds")
+          .help("Time an actor thread spent executing actor tasks")
+          .labelNames("threadName")
+          .register();
+
+  private static final Counter THREAD_IDLE_TIME =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_thread_idle_time_seconds")
+          .help("Time an actor thread spent idling because no actor task was available")
+          .labelNames("threadName")
+          .register();
   private final boolean enabled;
+  private final Counter.Child threadBusyTime;
+  private final Counter.Child threadIdleTime;
 
-  public ActorMetrics(final boolean metricsEnabled) {
+  public ActorMetrics(final boolean metricsEnabled, final String threadName) {
     enabled = metricsEnabled;
+    if (enabled) {
+      threadBusyTime = THREAD_BUSY_TIME.labels(threadName);
+      threadIdleTime = THREAD_IDLE_TIME.labels(threadName);
+    } else {
+      threadBusyTime = null;
+      threadIdleTime = null;
+    }
   }
 
   Histogram.Timer startExecutionTimer(final String name) {
@@ -72,6 +105,24 @@ final class ActorMetrics {
     }
   }
 
+  void addThreadBusyTime(final long busyTimeNs) {
+    if (threadBusyTime != null) {
+      threadBusyTime.inc(busyTimeNs / 1_000_000_000d);
+    }
+  }
+
+  void addThreadIdleTime(final long idleTimeNs) {
+    if (threadIdleTime != null) {
+      threadIdleTime.inc(idleTimeNs / 1_000_000_000d);
+    }
+  }
+
+  void countSteal(final String threadName) {
+    if (enabled) {
+      STEAL_COUNT.labels(threadName).inc();
+    }
+  }
+
   public void observeJobSchedulingLatency(final long waitTimeNs, final String subscriptionType) {
     if (enabled) {
       SCHEDULING_LATENCY.labels(subscriptionType).observe(waitTimeNs / 1_000_000_000f);
@@ -0,0 +1,154 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import io.prometheus.client.Counter;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An opt-in profiler which records, per actor, how many jobs were executed, how long they ran on
+ * the actor thread, and how long they waited in the actor's queue before they ran. The timings are
+ * sampled with {@link System#nanoTime()} on job boundaries only, so the overhead is a handful of
+ * clock reads and a map lookup per job.
+ *
+ * <p>The profile is exposed both as Prometheus counters and as a snapshot via {@link
+ * #getProfiles()}, which helps to find out which actor monopolises a thread when a node is slow.
+ */
+public final class ActorProfiler {
+
+  private static final Counter JOB_COUNT =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_job_count")
+          .help("Number of jobs executed by a certain actor")
+          .labelNames("actorName")
+          .register();
+
+  private static final Counter JOB_EXECUTION_TIME =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_job_execution_time_seconds")
+          .help("Time a certain actor spent executing jobs on an actor thread")
+          .labelNames("actorName")
+          .register();
+
+  private static final Counter JOB_QUEUE_WAIT_TIME =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_job_queue_wait_time_seconds")
+          .help("Time the jobs of a certain actor waited in the queue before they were executed")
+          .labelNames("actorName")
+          .register();
+
+  private static final ActorProfiler DISABLED = new ActorProfiler(false);
+
+  private final boolean enabled;
+  private final Map<String, Profile> profiles = new ConcurrentHashMap<>();
+
+  private ActorProfiler(final boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public static ActorProfiler enabled() {
+    return new ActorProfiler(true);
+  }
+
+  public static ActorProfiler disabled() {
+    return DISABLED;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Records the execution of a single job.
+   *
+   * @param actorName the name of the actor which executed the job
+   * @param queueWaitNs the time the job waited in the queue, or a negative value if unknown
+   * @param executionNs the time it took to execute the job
+   */
+  void recordJob(final String actorName, final long queueWaitNs, final long executionNs) {
+    if (!enabled) {
+      return;
+    }
+
+    profiles.computeIfAbsent(actorName, Profile::new).record(queueWaitNs, executionNs);
+  }
+
+  /**
+   * @return a snapshot of the profiles of all actors which executed at least one job since the
+   *     profiler was created, ordered by execution time, descending
+   */
+  public List<ActorProfile> getProfiles() {
+    return profiles.values().stream()
+        .map(Profile::snapshot)
+        .sorted(Comparator.comparing(ActorProfile::executionTime).reversed())
+        .toList();
+  }
+
+  /**
+   * @param actorName the name of the actor
+   * @param jobCount the number of jobs executed by the actor
+   * @param executionTime the total time the actor spent executing jobs
+   * @param queueWaitTime the total time the actor's jobs waited in its queue
+   * @param maxQueueWaitTime the longest time a single job of the actor waited in its queue
+   */
+  public record ActorProfile(
+      String actorName,
+      long jobCount,
+      Duration executionTime,
+      Duration queueWaitTime,
+      Duration maxQueueWaitTime) {}
+
+  private static final class Profile {
+    private final String actorName;
+    private final LongAdder jobCount = new LongAdder();
+    private final LongAdder executionNs = new LongAdder();
+    private final LongAdder queueWaitNs = new LongAdder();
+    private final LongAccumulator maxQueueWaitNs = new LongAccumulator(Math::max, 0);
+    private final Counter.Child jobCountCounter;
+    private final Counter.Child executionTimeCounter;
+    private final Counter.Child queueWaitTimeCounter;
+
+    private Profile(final String actorName) {
+      this.actorName = actorName;
+      jobCountCounter = JOB_COUNT.labels(actorName);
+      executionTimeCounter = JOB_EXECUTION_TIME.labels(actorName);
+      queueWaitTimeCounter = JOB_QUEUE_WAIT_TIME.labels(actorName);
+    }
+
+    private void record(final long queueWaitNs, final long executionNs) {
+      jobCount.increment();
+      jobCountCounter.inc();
+      this.executionNs.add(executionNs);
+      executionTimeCounter.inc(executionNs / 1_000_000_000d);
+
+      if (queueWaitNs >= 0) {
+        this.queueWaitNs.add(queueWaitNs);
+        maxQueueWaitNs.accumulate(queueWaitNs);
+        queueWaitTimeCounter.inc(queueWaitNs / 1_000_000_000d);
+      }
+    }
+
+    private ActorProfile snapshot() {
+      return new ActorProfile(
+          actorName,
+          jobCount.sum(),
+          Duration.ofNanos(executionNs.sum()),
+          Duration.ofNanos(queueWaitNs.sum()),
+          Duration.ofNanos(maxQueueWaitNs.get()));
+    }
+  }
+}
@@ -9,6 +9,7 @@ package io.camunda.zeebe.scheduler;
 
 import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import java.util.BitSet;
 import java.util.Objects;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -20,10 +21,12 @@ import org.agrona.concurrent.IdleStrategy;
 public final class ActorScheduler implements AutoCloseable, ActorSchedulingService {
   private final AtomicReference<SchedulerState> state = new AtomicReference<>();
   private final ActorExecutor actorTaskExecutor;
+  private final ActorProfiler actorProfiler;
 
   public ActorScheduler(final ActorSchedulerBuilder builder) {
     state.set(SchedulerState.NEW);
     actorTaskExecutor = builder.getActorExecutor();
+    actorProfiler = builder.getActorProfiler();
   }
 
   /**
@@ -88,6 +91,14 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     }
   }
 
+  /**
+   * @return the profiler of this scheduler, which is only recording if profiling was enabled via
+   *     {@link ActorSchedulerBuilder#setProfilingEnabled(boolean)}
+   */
+  public ActorProfiler getActorProfiler() {
+    return actorProfiler;
+  }
+
   /**
    * Convenience implementation for blocking stop which can be used with try-with-resources and
    * other constructs.
@@ -131,8 +142,17 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     private ActorExecutor actorExecutor;
     private ActorTimerQueue actorTimerQueue;
     private boolean enableMetrics = false;
+    private BitSet cpuBoundThreadAffinity = new BitSet();
+    private BitSet ioBoundThreadAffinity = new BitSet();
+    private boolean partitionAffinityEnabled = false;
+    private boolean virtualThreadsForBlockingTasksEnabled = false;
+    private BlockingTaskExecutor blockingTaskExecutor;
+    private boolean profilingEnabled = false;
+    private ActorProfiler actorProfiler;
     private Supplier<IdleStrategy> idleStrategySupplier =
         ActorSchedulerBuilder::defaultIdleStrategySupplier;
+    private Supplier<IdleStrategy> cpuBoundIdleStrategySupplier;
+    private Supplier<IdleStrategy> ioBoundIdleStrategySupplier;
 
     public static IdleStrategy defaultIdleStrategySupplier() {
       return new BackoffIdleStrategy(
@@ -170,6 +190,38 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return this;
     }
 
+    /**
+     * @return the idle strategy supplier for the CPU bound threads, which defaults to {@link
+     *     #getIdleStrategySupplier()} if none was set explicitly
+     */
+    public Supplier<IdleStrategy> getCpuBoundIdleStrategySupplier() {
+      return cpuBoundIdleStrategySupplier != null
+          ? cpuBoundIdleStrategySupplier
+          : idleStrategySupplier;
+    }
+
+    public ActorSchedulerBuilder setCpuBoundIdleStrategySupplier(
+        final Supplier<IdleStrategy> idleStrategySupplier) {
+      cpuBoundIdleStrategySupplier = Objects.requireNonNull(idleStrategySupplier);
+      return this;
+    }
+
+    /**
+     * @return the idle strategy supplier for the I/O bound threads, which defaults to {@link
+     *     #getIdleStrategySupplier()} if none was set explicitly
+     */
+    public Supplier<IdleStrategy> getIoBoundIdleStrategySupplier() {
+      return ioBoundIdleStrategySupplier != null
+          ? ioBoundIdleStrategySupplier
+          : idleStrategySupplier;
+    }
+
+    public ActorSchedulerBuilder setIoBoundIdleStrategySupplier(
+        final Supplier<IdleStrategy> idleStrategySupplier) {
+      ioBoundIdleStrategySupplier = Objects.requireNonNull(idleStrategySupplier);
+      return this;
+    }
+
     public ActorTimerQueue getActorTimerQueue() {
       return actorTimerQueue;
     }
@@ -228,6 +280,115 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return this;
     }
 
+    public BitSet getCpuBoundThreadAffinity() {
+      return cpuBoundThreadAffinity;
+    }
+
+    /**
+     * Pins the CPU bound actor threads to the given CPUs. Each thread is pinned to exactly one of
+     * the CPUs, assigned round-robin in ascending order. If empty, the threads are not pinned.
+     *
+     * @param cpus the CPUs to pin the CPU bound threads to
+     * @return this builder
+     */
+    public ActorSchedulerBuilder setCpuBoundThreadAffinity(final BitSet cpus) {
+      cpuBoundThreadAffinity = Objects.requireNonNull(cpus);
+      return this;
+    }
+
+    public BitSet getIoBoundThreadAffinity() {
+      return ioBoundThreadAffinity;
+    }
+
+    /**
+     * Pins the I/O bound actor threads to the given CPUs. As these threads spend most of their time
+     * blocked, all of them share the whole set of CPUs. If empty, the threads are not pinned.
+     *
+     * @param cpus the CPUs to pin the I/O bound threads to
+     * @return this builder
+     */
+    public ActorSchedulerBuilder setIoBoundThreadAffinity(final BitSet cpus) {
+      ioBoundThreadAffinity = Objects.requireNonNull(cpus);
+      return this;
+    }
+
+    public boolean isPartitionAffinityEnabled() {
+      return partitionAffinityEnabled;
+    }
+
+    /**
+     * When enabled, actors which belong to a partition (see {@link Actor#ACTOR_PROP_PARTITION_ID})
+     * are always submitted to the queue of the same thread within their thread group, such that all
+     * actors of a partition prefer to run on the same thread. Idle threads may still steal them.
+     *
+     * @param partitionAffinityEnabled whether partition affinity is enabled
+     * @return this builder
+     */
+    public ActorSchedulerBuilder setPartitionAffinityEnabled(
+        final boolean partitionAffinityEnabled) {
+      this.partitionAffinityEnabled = partitionAffinityEnabled;
+      return this;
+    }
+
+    public boolean isVirtualThreadsForBlockingTasksEnabled() {
+      return virtualThreadsForBlockingTasksEnabled;
+    }
+
+    /**
+     * When enabled, blocking sections submitted via {@link ActorControl#runBlocking} run on virtual
+     * threads instead of blocking the calling actor thread. This prevents long blocking operations
+     * of some I/O bound actors from starving the other actors of the same thread group.
+     *
+     * @param virtualThreadsForBlockingTasksEnabled whether blocking tasks run on virtual threads
+     * @return this builder
+     */
+    public ActorSchedulerBuilder setVirtualThreadsForBlockingTasksEnabled(
+        final boolean virtualThreadsForBlockingTasksEnabled) {
+      this.virtualThreadsForBlockingTasksEnabled = virtualThreadsForBlockingTasksEnabled;
+      return this;
+    }
+
+    BlockingTaskExecutor getBlockingTaskExecutor() {
+      initBlockingTaskExecutor();
+      return blockingTaskExecutor;
+    }
+
+    public boolean isProfilingEnabled() {
+      return profilingEnabled;
+    }
+
+    /**
+     * When enabled, the scheduler records per actor how many jobs it executed, how long they ran
+     * and how long they waited in the queue. See {@link ActorProfiler}.
+     *
+     * @param profilingEnabled whether actor profiling is enabled
+     * @return this builder
+     */
+    public ActorSchedulerBuilder setProfilingEnabled(final boolean profilingEnabled) {
+      this.profilingEnabled = profilingEnabled;
+      return this;
+    }
+
+    ActorProfiler getActorProfiler() {
+      initActorProfiler();
+      return actorProfiler;
+    }
+
+    private void initActorProfiler() {
+      if (actorProfiler == null) {
+        actorProfiler = profilingEnabled ? ActorProfiler.enabled() : ActorProfiler.disabled();
+      }
+    }
+
+    private void initBlockingTaskExecutor() {
+      if (blockingTaskExecutor == null) {
+        blockingTaskExecutor =
+            virtualThreadsForBlockingTasksEnabled
+                ? BlockingTaskExecutor.virtualThreads(schedulerName)
+                : BlockingTaskExecutor.inline();
+      }
+    }
+
     private void initActorThreadFactory() {
       if (actorThreadFactory == null) {
         actorThreadFactory = new DefaultActorThreadFactory();
@@ -254,6 +415,8 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
 
     public ActorScheduler build() {
       initActorThreadFactory();
+      initBlockingTaskExecutor();
+      initActorProfiler();
       initCpuBoundActorThreadGroup();
       initIoBoundActorThreadGroup();
       initActorExecutor();
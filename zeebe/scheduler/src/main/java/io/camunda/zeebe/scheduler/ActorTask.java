@@ -31,6 +31,9 @@ import org.slf4j.LoggerFactory;
  */
 @SuppressWarnings("restriction")
 public class ActorTask {
+  /** Signals that the task has no preference for a specific thread. */
+  public static final int NO_AFFINITY = -1;
+
   private static final Logger LOG = LoggerFactory.getLogger(ActorTask.class);
   private static final AtomicReferenceFieldUpdater<ActorTask, ActorLifecyclePhase>
       LIFECYCLE_UPDATER =
@@ -49,6 +52,7 @@ public class ActorTask {
   private final CompletableActorFuture<Void> startingFuture = new CompletableActorFuture<>();
   private final CompletableActorFuture<Void> jobStartingTaskFuture = new CompletableActorFuture<>();
   private ActorThreadGroup actorThreadGroup;
+  private int partitionAffinity = NO_AFFINITY;
   private Deque<ActorJob> fastLaneJobs = new ClosedQueue();
   private volatile ActorLifecyclePhase lifecyclePhase = ActorLifecyclePhase.CLOSED;
   private List<ActorSubscription> subscriptions = new ArrayList<>();
@@ -66,6 +70,7 @@ public class ActorTask {
   /** called when the task is initially scheduled. */
   public ActorFuture<Void> onTaskScheduled(final ActorThreadGroup actorThreadGroup) {
     this.actorThreadGroup = actorThreadGroup;
+    partitionAffinity = determinePartitionAffinity(actor);
     // reset previous state to allow re-scheduling
     closeFuture.close();
     closeFuture.setAwaitingResult();
@@ -503,6 +508,27 @@ public class ActorTask {
     actorThreadGroup.submit(this);
   }
 
+  /**
+   * @return the id of the partition the actor belongs to, which can be used as a hint to always run
+   *     the actor on the same thread, or {@link #NO_AFFINITY} if it belongs to no partition
+   */
+  public int getPartitionAffinity() {
+    return partitionAffinity;
+  }
+
+  private static int determinePartitionAffinity(final Actor actor) {
+    final var partitionId = actor.getContext().get(Actor.ACTOR_PROP_PARTITION_ID);
+    if (partitionId == null) {
+      return NO_AFFINITY;
+    }
+
+    try {
+      return Math.max(NO_AFFINITY, Integer.parseInt(partitionId));
+    } catch (final NumberFormatException e) {
+      return NO_AFFINITY;
+    }
+  }
+
   public void insertJob(@Async.Schedule final ActorJob job) {
     fastLaneJobs.addFirst(job);
   }
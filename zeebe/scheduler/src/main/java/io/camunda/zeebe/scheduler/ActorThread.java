@@ -14,6 +14,7 @@ import io.camunda.zeebe.util.Loggers;
 import io.camunda.zeebe.util.error.FatalErrorHandler;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
+import java.util.BitSet;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
@@ -42,6 +43,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   protected ActorTaskRunnerIdleStrategy idleStrategy;
   ActorTask currentTask;
   private final ActorMetrics actorMetrics;
+  private final ActorProfiler actorProfiler;
   private final CompletableFuture<Void> terminationFuture = new CompletableFuture<>();
   private final ActorClock clock;
   private final int threadId;
@@ -49,6 +51,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   private final BoundedArrayQueue<ActorJob> jobs = new BoundedArrayQueue<>(2048);
   private final ActorThreadGroup actorThreadGroup;
   private volatile ActorThreadState state;
+  private BitSet cpuAffinity;
 
   public ActorThread(
       final String name,
@@ -85,7 +88,8 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     timerJobQueue = timerQueue != null ? timerQueue : new ActorTimerQueue(this.clock);
     actorThreadGroup = threadGroup;
     this.taskScheduler = taskScheduler;
-    actorMetrics = new ActorMetrics(metricsEnabled);
+    actorMetrics = new ActorMetrics(metricsEnabled, name);
+    actorProfiler = threadGroup != null ? threadGroup.getActorProfiler() : ActorProfiler.disabled();
     this.idleStrategy = new ActorTaskRunnerIdleStrategy(idleStrategy);
   }
 
@@ -93,6 +97,18 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     return actorMetrics;
   }
 
+  ActorProfiler getActorProfiler() {
+    return actorProfiler;
+  }
+
+  /**
+   * Sets the CPUs this thread should be pinned to once it is started. Must be called before the
+   * thread is started.
+   */
+  void setCpuAffinity(final BitSet cpuAffinity) {
+    this.cpuAffinity = cpuAffinity;
+  }
+
   private void doWork() {
     submittedCallbacks.drain(this);
 
@@ -104,13 +120,21 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
 
     if (currentTask != null) {
       final var actorName = currentTask.actor.getName();
-      try (final var timer = actorMetrics.startExecutionTimer(actorName)) {
-        executeCurrentTask();
-      }
       if (actorMetrics.isEnabled()) {
+        final long busyStart = System.nanoTime();
+        try (final var timer = actorMetrics.startExecutionTimer(actorName)) {
+          executeCurrentTask();
+        }
+        actorMetrics.addThreadBusyTime(System.nanoTime() - busyStart);
         actorMetrics.updateJobQueueLength(actorName, currentTask.estimateQueueLength());
         actorMetrics.countExecution(actorName);
+      } else {
+        executeCurrentTask();
       }
+    } else if (actorMetrics.isEnabled()) {
+      final long idleStart = System.nanoTime();
+      idleStrategy.onIdle();
+      actorMetrics.addThreadIdleTime(System.nanoTime() - idleStart);
     } else {
       idleStrategy.onIdle();
     }
@@ -219,6 +243,10 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
 
   @Override
   public void run() {
+    if (cpuAffinity != null) {
+      ThreadAffinity.pinCurrentThread(cpuAffinity);
+    }
+
     idleStrategy.init();
     MDC.put("actor-scheduler", actorThreadGroup.getSchedulerName());
 
@@ -9,8 +9,11 @@ package io.camunda.zeebe.scheduler;
 
 import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
 import io.camunda.zeebe.util.Loggers;
+import java.util.BitSet;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import org.agrona.concurrent.IdleStrategy;
 
 /**
  * A thread group is a group of threads which process the same kind of tasks (ie. blocking I/O vs.
@@ -22,15 +25,45 @@ public abstract class ActorThreadGroup {
   protected final WorkStealingGroup tasks;
   protected final int numOfThreads;
   private final String schedulerName;
+  private final boolean partitionAffinityEnabled;
+  private final BlockingTaskExecutor blockingTaskExecutor;
+  private final ActorProfiler actorProfiler;
 
   public ActorThreadGroup(
       final String groupName,
       final int numOfThreads,
       final ActorSchedulerBuilder builder,
       final String schedulerName) {
+    this(
+        groupName,
+        numOfThreads,
+        builder,
+        schedulerName,
+        builder.getIdleStrategySupplier(),
+        new BitSet(),
+        false);
+  }
+
+  /**
+   * @param idleStrategySupplier supplies the idle strategy for each thread of this group
+   * @param cpuAffinity the CPUs to pin the threads of this group to, or empty to not pin them
+   * @param pinToSingleCpu if true, each thread is pinned to a single CPU of the given set (assigned
+   *     round-robin), otherwise each thread is pinned to the whole set
+   */
+  protected ActorThreadGroup(
+      final String groupName,
+      final int numOfThreads,
+      final ActorSchedulerBuilder builder,
+      final String schedulerName,
+      final Supplier<IdleStrategy> idleStrategySupplier,
+      final BitSet cpuAffinity,
+      final boolean pinToSingleCpu) {
     this.groupName = groupName;
     this.numOfThreads = numOfThreads;
     this.schedulerName = schedulerName;
+    partitionAffinityEnabled = builder.isPartitionAffinityEnabled();
+    blockingTaskExecutor = builder.getBlockingTaskExecutor();
+    actorProfiler = builder.getActorProfiler();
 
     tasks = new WorkStealingGroup(numOfThreads);
 
@@ -49,15 +82,42 @@ public abstract class ActorThreadGroup {
                   builder.getActorClock(),
                   builder.getActorTimerQueue(),
                   builder.isMetricsEnabled(),
-                  builder.getIdleStrategySupplier().get());
+                  idleStrategySupplier.get());
+
+      if (!cpuAffinity.isEmpty()) {
+        thread.setCpuAffinity(
+            pinToSingleCpu ? nthCpu(cpuAffinity, t) : (BitSet) cpuAffinity.clone());
+      }
 
       threads[t] = thread;
     }
   }
 
+  private static BitSet nthCpu(final BitSet cpus, final int n) {
+    final int index = n % cpus.cardinality();
+    int cpu = cpus.nextSetBit(0);
+    for (int i = 0; i < index; i++) {
+      cpu = cpus.nextSetBit(cpu + 1);
+    }
+
+    final var singleCpu = new BitSet();
+    singleCpu.set(cpu);
+    return singleCpu;
+  }
+
   public void submit(final ActorTask actorTask) {
     final ActorThread current = ActorThread.current();
-    if (current != null && current.getActorThreadGroup() == this) {
+    final int partitionAffinity =
+        partitionAffinityEnabled ? actorTask.getPartitionAffinity() : ActorTask.NO_AFFINITY;
+
+    if (partitionAffinity != ActorTask.NO_AFFINITY) {
+      // always use the same thread for the partition's actors to improve cache locality
+      final int threadId = partitionAffinity % numOfThreads;
+      tasks.submit(actorTask, threadId);
+      if (current != threads[threadId]) {
+        threads[threadId].hintWorkAvailable();
+      }
+    } else if (current != null && current.getActorThreadGroup() == this) {
       tasks.submit(actorTask, current.getRunnerId());
     } else {
       final int threadId = ThreadLocalRandom.current().nextInt(numOfThreads);
@@ -76,6 +136,14 @@ public abstract class ActorThreadGroup {
     return schedulerName;
   }
 
+  BlockingTaskExecutor getBlockingTaskExecutor() {
+    return blockingTaskExecutor;
+  }
+
+  ActorProfiler getActorProfiler() {
+    return actorProfiler;
+  }
+
   public CompletableFuture<Void> closeAsync() {
     Loggers.ACTOR_LOGGER.debug("Closing actor thread ground '{}'", groupName);
 
@@ -0,0 +1,74 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import io.camunda.zeebe.util.Loggers;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Executes blocking sections of actors, e.g. file copies or remote calls, outside of the actor
+ * threads. When enabled, every blocking task runs on its own virtual thread, such that long
+ * blocking operations cannot occupy all threads of a thread group and starve the other actors in
+ * it. When disabled, blocking tasks run directly on the calling actor thread, which is the same as
+ * calling them inline.
+ *
+ * <p>Blocking tasks only produce a result; the result must be consumed on the actor thread (e.g.
+ * via {@link ActorControl#runOnCompletion(ActorFuture, java.util.function.BiConsumer)}) to keep the
+ * actor's single-threaded semantics. A blocking task must therefore never access the actor's state.
+ */
+final class BlockingTaskExecutor {
+  private final ExecutorService executor;
+
+  private BlockingTaskExecutor(final ExecutorService executor) {
+    this.executor = executor;
+  }
+
+  static BlockingTaskExecutor inline() {
+    return new BlockingTaskExecutor(null);
+  }
+
+  static BlockingTaskExecutor virtualThreads(final String schedulerName) {
+    final var threadFactory = Thread.ofVirtual().name(schedulerName + "-zb-blocking-", 0).factory();
+    return new BlockingTaskExecutor(Executors.newThreadPerTaskExecutor(threadFactory));
+  }
+
+  <T> ActorFuture<T> submit(final Callable<T> task) {
+    final var future = new CompletableActorFuture<T>();
+    if (executor == null) {
+      complete(future, task);
+      return future;
+    }
+
+    try {
+      executor.execute(() -> complete(future, task));
+    } catch (final RejectedExecutionException e) {
+      future.completeExceptionally(e);
+    }
+    return future;
+  }
+
+  void close() {
+    if (executor != null) {
+      Loggers.ACTOR_LOGGER.debug("Closing blocking task executor");
+      executor.shutdownNow();
+    }
+  }
+
+  private static <T> void complete(final CompletableActorFuture<T> future, final Callable<T> task) {
+    try {
+      future.complete(task.call());
+    } catch (final Exception e) {
+      future.completeExceptionally(e);
+    }
+  }
+}
@@ -86,7 +86,7 @@ public final class StampedTimerSubscription implements TimerSubscription {
   public void onTimerExpired(final TimeUnit timeUnit, final long now) {
     if (!isCanceled) {
       isDone = true;
-      timerExpiredAt = timeUnit.toNanos(now);
+      timerExpiredAt = System.nanoTime();
       task.tryWakeup();
     }
   }
@@ -0,0 +1,110 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import com.sun.jna.LastErrorException;
+import com.sun.jna.Library;
+import com.sun.jna.Native;
+import com.sun.jna.Platform;
+import io.camunda.zeebe.util.Loggers;
+import java.util.BitSet;
+import org.slf4j.Logger;
+
+/**
+ * Utility to pin the calling thread to a set of CPUs. Pinning is only supported on Linux, where it
+ * is implemented by calling {@code sched_setaffinity} from the C standard library. On other
+ * platforms, or if the native call fails, the thread is simply not pinned.
+ */
+public final class ThreadAffinity {
+  private static final Logger LOG = Loggers.ACTOR_LOGGER;
+
+  private ThreadAffinity() {}
+
+  /**
+   * Pins the calling thread to the given CPUs, i.e. the operating system will only schedule the
+   * thread on one of them.
+   *
+   * @param cpus the ids of the CPUs the thread may run on
+   * @return true if the thread was pinned, false otherwise
+   */
+  public static boolean pinCurrentThread(final BitSet cpus) {
+    if (cpus.isEmpty()) {
+      return false;
+    }
+
+    if (!Platform.isLinux()) {
+      LOG.warn(
+          "Expected to pin thread '{}' to CPUs {}, but thread pinning is only supported on Linux",
+          Thread.currentThread().getName(),
+          cpus);
+      return false;
+    }
+
+    try {
+      final long[] mask = cpus.toLongArray();
+      // pid 0 refers to the calling thread
+      LibC.INSTANCE.sched_setaffinity(0, mask.length * Long.BYTES, mask);
+      LOG.debug("Pinned thread '{}' to CPUs {}", Thread.currentThread().getName(), cpus);
+      return true;
+    } catch (final LastErrorException | LinkageError e) {
+      LOG.warn(
+          "Failed to pin thread '{}' to CPUs {}, it will run on any CPU instead",
+          Thread.currentThread().getName(),
+          cpus,
+          e);
+      return false;
+    }
+  }
+
+  /**
+   * Parses a CPU list in the format used by Linux (see {@code cpuset(7)}), e.g. {@code
+   * 0-3,8,10-11}.
+   *
+   * @param cpuList the CPU list to parse, may be empty
+   * @return the set of CPU ids described by the list
+   * @throws IllegalArgumentException if the list is malformed
+   */
+  public static BitSet parseCpuList(final String cpuList) {
+    final var cpus = new BitSet();
+    if (cpuList == null || cpuList.isBlank()) {
+      return cpus;
+    }
+
+    for (final String part : cpuList.split(",")) {
+      final var range = part.trim();
+      try {
+        final int separator = range.indexOf('-');
+        if (separator < 0) {
+          cpus.set(Integer.parseInt(range));
+        } else {
+          final int from = Integer.parseInt(range.substring(0, separator).trim());
+          final int to = Integer.parseInt(range.substring(separator + 1).trim());
+          if (from > to) {
+            throw new IllegalArgumentException(
+                "Expected CPU range '%s' to be ascending, but it is not".formatted(range));
+          }
+          cpus.set(from, to + 1);
+        }
+      } catch (final NumberFormatException | IndexOutOfBoundsException e) {
+        throw new IllegalArgumentException(
+            "Expected CPU list '%s' to consist of CPU ids and ranges like '0-3,8', but '%s' is not"
+                .formatted(cpuList, range),
+            e);
+      }
+    }
+
+    return cpus;
+  }
+
+  private interface LibC extends Library {
+    LibC INSTANCE = Native.load("c", LibC.class);
+
+    @SuppressWarnings("UnusedReturnValue")
+    int sched_setaffinity(int pid, int cpusetsize, long[] mask) throws LastErrorException;
+  }
+}
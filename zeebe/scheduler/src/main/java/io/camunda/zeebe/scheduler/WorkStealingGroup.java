@@ -47,6 +47,10 @@ public final class WorkStealingGroup implements TaskScheduler {
 
     if (nextTask == null) {
       nextTask = trySteal(currentThread);
+
+      if (nextTask != null) {
+        currentThread.getActorMetrics().countSteal(currentThread.getName());
+      }
     }
 
     return nextTask;
@@ -0,0 +1,130 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import io.camunda.zeebe.scheduler.ActorProfiler.ActorProfile;
+import io.camunda.zeebe.scheduler.clock.ActorClock;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class ActorProfilerTest {
+  private ActorScheduler scheduler;
+
+  @AfterEach
+  void tearDown() throws Exception {
+    if (scheduler != null) {
+      scheduler.close();
+    }
+  }
+
+  @Test
+  void shouldNotRecordIfDisabled() {
+    // given
+    scheduler = ActorScheduler.newActorScheduler().build();
+    scheduler.start();
+    final var actor = new ProfiledActor("disabled");
+    scheduler.submitActor(actor).join();
+
+    // when
+    actor.call(() -> null).join();
+
+    // then
+    assertThat(scheduler.getActorProfiler().isEnabled()).isFalse();
+    assertThat(scheduler.getActorProfiler().getProfiles()).isEmpty();
+  }
+
+  @Test
+  void shouldRecordExecutedJobs() {
+    // given
+    scheduler = ActorScheduler.newActorScheduler().setProfilingEnabled(true).build();
+    scheduler.start();
+    final var actor = new ProfiledActor("executed");
+    scheduler.submitActor(actor).join();
+    final var jobsBefore = getProfile("executed").jobCount();
+
+    // when
+    actor.call(() -> sleep(Duration.ofMillis(10))).join();
+    actor.call(() -> null).join();
+
+    // then -- the job is recorded right after its result future is completed
+    await()
+        .untilAsserted(
+            () -> {
+              final var profile = getProfile("executed");
+              assertThat(profile.jobCount()).isEqualTo(jobsBefore + 2);
+              assertThat(profile.executionTime()).isGreaterThanOrEqualTo(Duration.ofMillis(10));
+            });
+  }
+
+  @Test
+  void shouldRecordQueueWaitTime() {
+    // given
+    scheduler = ActorScheduler.newActorScheduler().setProfilingEnabled(true).build();
+    scheduler.start();
+    final var actor = new ProfiledActor("waiting");
+    scheduler.submitActor(actor).join();
+
+    // when -- the second job has to wait until the first one is done
+    final var blockingJob = actor.call(() -> sleep(Duration.ofMillis(100)));
+    final var waitingJob = actor.call(() -> null);
+    blockingJob.join();
+    waitingJob.join();
+
+    // then
+    await()
+        .untilAsserted(
+            () ->
+                assertThat(getProfile("waiting").maxQueueWaitTime())
+                    .isGreaterThanOrEqualTo(Duration.ofMillis(50)));
+  }
+
+  @Test
+  void shouldMeasureTimerExpiryOnTheQueueWaitClock() {
+    // given -- timers expire by the actor clock, but queue wait is measured with System.nanoTime
+    final var job = new ActorJob();
+    job.onJobAddedToTask(new ActorTask(new ProfiledActor("timer")));
+    final var timer = new DelayedTimerSubscription(job, 10, TimeUnit.MILLISECONDS, false);
+    final var before = System.nanoTime();
+
+    // when
+    timer.onTimerExpired(TimeUnit.MILLISECONDS, ActorClock.currentTimeMillis());
+
+    // then
+    assertThat(timer.getTimerExpiredAt()).isBetween(before, System.nanoTime());
+  }
+
+  private ActorProfile getProfile(final String actorName) {
+    return scheduler.getActorProfiler().getProfiles().stream()
+        .filter(profile -> profile.actorName().equals(actorName))
+        .findFirst()
+        .orElseThrow();
+  }
+
+  private static Void sleep(final Duration duration) throws InterruptedException {
+    Thread.sleep(duration.toMillis());
+    return null;
+  }
+
+  private static final class ProfiledActor extends Actor {
+    private final String name;
+
+    private ProfiledActor(final String name) {
+      this.name = name;
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.BitSet;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+final class ThreadAffinityTest {
+
+  @ParameterizedTest
+  @ValueSource(strings = {"", " "})
+  void shouldParseEmptyCpuList(final String cpuList) {
+    // when
+    final var cpus = ThreadAffinity.parseCpuList(cpuList);
+
+    // then
+    assertThat(cpus.isEmpty()).isTrue();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"0-3,8,10-11", "0,1,2,3,8,10,11", " 0 - 3 , 8 ,10-11"})
+  void shouldParseCpuList(final String cpuList) {
+    // given
+    final var expected = new BitSet();
+    expected.set(0, 4);
+    expected.set(8);
+    expected.set(10, 12);
+
+    // when
+    final var cpus = ThreadAffinity.parseCpuList(cpuList);
+
+    // then
+    assertThat(cpus).isEqualTo(expected);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"a", "1-", "-1", "3-1", "1,,2", "1-2-3"})
+  void shouldRejectMalformedCpuList(final String cpuList) {
+    // when + then
+    assertThatThrownBy(() -> ThreadAffinity.parseCpuList(cpuList))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldNotPinToEmptyCpuSet() {
+    // when
+    final var pinned = ThreadAffinity.pinCurrentThread(new BitSet());
+
+    // then
+    assertThat(pinned).isFalse();
+  }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler.iobound;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.ActorThread;
+import io.camunda.zeebe.scheduler.ActorThreadGroup;
+import io.camunda.zeebe.scheduler.SchedulingHints;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class BlockingTaskIntegrationTest {
+  private static final int BLOCKING_ACTORS = 100;
+
+  private ActorScheduler scheduler;
+
+  @AfterEach
+  void tearDown() throws Exception {
+    if (scheduler != null) {
+      scheduler.close();
+    }
+  }
+
+  @Test
+  void shouldNotStarveIoBoundActorsWhileBlocking() {
+    // given -- a single io thread and many actors which block until released
+    final var builder =
+        ActorScheduler.newActorScheduler()
+            .setIoBoundActorThreadCount(1)
+            .setVirtualThreadsForBlockingTasksEnabled(true);
+    scheduler = builder.build();
+    scheduler.start();
+
+    final var release = new CountDownLatch(1);
+    final var completed = new AtomicInteger();
+    final var continuedOnWrongThread = new AtomicBoolean();
+    final ActorThreadGroup ioThreads = builder.getIoBoundActorThreads();
+    final List<ActorFuture<Void>> started = new ArrayList<>();
+    for (int i = 0; i < BLOCKING_ACTORS; i++) {
+      final var blockingActor =
+          new BlockingActor(
+              () -> {
+                release.await();
+                return null;
+              },
+              (result, error) -> {
+                if (ActorThread.current().getActorThreadGroup() != ioThreads) {
+                  continuedOnWrongThread.set(true);
+                }
+                completed.incrementAndGet();
+              });
+      started.add(scheduler.submitActor(blockingActor, SchedulingHints.ioBound()));
+    }
+    started.forEach(ActorFuture::join);
+
+    // when
+    final var otherActor = new Actor() {};
+    scheduler.submitActor(otherActor, SchedulingHints.ioBound()).join();
+    final var otherActorCall = otherActor.call(() -> 1);
+
+    // then -- the other actor still makes progress while all blocking tasks are blocked
+    assertThat(otherActorCall).succeedsWithin(Duration.ofSeconds(5)).isEqualTo(1);
+    assertThat(completed).hasValue(0);
+
+    // then -- the blocking actors continue on their own thread once released
+    release.countDown();
+    await().until(() -> completed.get() == BLOCKING_ACTORS);
+    assertThat(continuedOnWrongThread).isFalse();
+  }
+
+  @Test
+  void shouldRunBlockingTaskOnVirtualThreadWhenEnabled() {
+    // given
+    scheduler =
+        ActorScheduler.newActorScheduler().setVirtualThreadsForBlockingTasksEnabled(true).build();
+    scheduler.start();
+
+    // when
+    final var result = runBlocking(() -> Thread.currentThread().isVirtual());
+
+    // then
+    assertThat(result).succeedsWithin(Duration.ofSeconds(5)).isEqualTo(true);
+  }
+
+  @Test
+  void shouldRunBlockingTaskOnActorThreadWhenDisabled() {
+    // given
+    scheduler = ActorScheduler.newActorScheduler().build();
+    scheduler.start();
+
+    // when
+    final var result = runBlocking(() -> ActorThread.current() != null);
+
+    // then
+    assertThat(result).succeedsWithin(Duration.ofSeconds(5)).isEqualTo(true);
+  }
+
+  @Test
+  void shouldCompleteExceptionallyIfBlockingTaskFails() {
+    // given
+    scheduler =
+        ActorScheduler.newActorScheduler().setVirtualThreadsForBlockingTasksEnabled(true).build();
+    scheduler.start();
+    final var failure = new IllegalStateException("expected");
+
+    // when
+    final var result =
+        runBlocking(
+            () -> {
+              throw failure;
+            });
+
+    // then
+    assertThat(result)
+        .failsWithin(Duration.ofSeconds(5))
+        .withThrowableThat()
+        .havingCause()
+        .isSameAs(failure);
+  }
+
+  private <T> ActorFuture<T> runBlocking(final Callable<T> task) {
+    final var actor = new RunBlockingActor();
+    scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+    return actor.runBlocking(task);
+  }
+
+  private static final class RunBlockingActor extends Actor {
+    private <T> ActorFuture<T> runBlocking(final Callable<T> task) {
+      return actor.call(() -> actor.runBlocking(task)).join();
+    }
+  }
+
+  private static final class BlockingActor extends Actor {
+    private final Callable<Void> blockingTask;
+    private final BiConsumer<Void, Throwable> callback;
+
+    private BlockingActor(
+        final Callable<Void> blockingTask, final BiConsumer<Void, Throwable> callback) {
+      this.blockingTask = blockingTask;
+      this.callback = callback;
+    }
+
+    @Override
+    protected void onActorStarted() {
+      actor.runOnCompletion(actor.runBlocking(blockingTask), callback);
+    }
+  }
+}
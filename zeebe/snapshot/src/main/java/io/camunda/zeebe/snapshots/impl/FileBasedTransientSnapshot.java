@@ -39,6 +39,8 @@ public final class FileBasedTransientSnapshot implements TransientSnapshot {
   private final FileBasedSnapshotId snapshotId;
   private final ActorFuture<Void> takenFuture = new CompletableActorFuture<>();
   private boolean isValid = false;
+  private boolean isAborted = false;
+  private boolean isTaking = false;
   private PersistedSnapshot snapshot;
   private MutableChecksumsSFV checksum;
   private final ChecksumProvider checksumProvider;
@@ -71,32 +73,55 @@ public final class FileBasedTransientSnapshot implements TransientSnapshot {
 
   private void takeInternal(final Consumer<Path> takeSnapshot) {
     final var snapshotMetrics = snapshotStore.getSnapshotMetrics();
+    final var timer = snapshotMetrics.startTimer();
+    isTaking = true;
+
+    // creating the checkpoint and computing the checksums copies and reads every snapshot file, so
+    // it runs as a blocking section; the outcome is applied on the actor
+    final var checksumFuture =
+        actor.runBlocking(
+            () -> {
+              takeSnapshot.accept(getPath());
+              if (!directory.toFile().exists() || directory.toFile().listFiles().length == 0) {
+                // If no snapshot files are created, snapshot is not valid
+                return null;
+              }
+              return SnapshotChecksum.calculateWithProvidedChecksums(directory, checksumProvider);
+            });
+
+    actor.runOnCompletion(
+        checksumFuture,
+        (calculatedChecksum, error) -> {
+          timer.close();
+          onSnapshotTaken(calculatedChecksum, error);
+        });
+  }
 
-    try (final var ignored = snapshotMetrics.startTimer()) {
-      try {
-        takeSnapshot.accept(getPath());
-        if (!directory.toFile().exists() || directory.toFile().listFiles().length == 0) {
-          // If no snapshot files are created, snapshot is not valid
-          abortInternal();
-          takenFuture.completeExceptionally(
-              new IllegalStateException(
-                  String.format(
-                      "Expected to find transient snapshot in directory %s, but the directory is empty or does not exists",
-                      directory)));
-
-        } else {
-          checksum = SnapshotChecksum.calculateWithProvidedChecksums(directory, checksumProvider);
-
-          snapshot = null;
-          isValid = true;
-          takenFuture.complete(null);
-        }
-
-      } catch (final Exception exception) {
-        LOGGER.warn("Unexpected exception on taking snapshot ({})", snapshotId, exception);
-        abortInternal();
-        takenFuture.completeExceptionally(exception);
-      }
+  private void onSnapshotTaken(
+      final MutableChecksumsSFV calculatedChecksum, final Throwable error) {
+    isTaking = false;
+    if (error != null) {
+      LOGGER.warn("Unexpected exception on taking snapshot ({})", snapshotId, error);
+      abortInternal();
+      takenFuture.completeExceptionally(error);
+    } else if (isAborted) {
+      // remove the files which were written after the snapshot was aborted
+      abortInternal();
+      takenFuture.completeExceptionally(
+          new SnapshotNotFoundException(
+              String.format("Snapshot %s was aborted while it was taken.", snapshotId)));
+    } else if (calculatedChecksum == null) {
+      abortInternal();
+      takenFuture.completeExceptionally(
+          new IllegalStateException(
+              String.format(
+                  "Expected to find transient snapshot in directory %s, but the directory is empty or does not exists",
+                  directory)));
+    } else {
+      checksum = calculatedChecksum;
+      snapshot = null;
+      isValid = true;
+      takenFuture.complete(null);
     }
   }
 
@@ -105,8 +130,15 @@ public final class FileBasedTransientSnapshot implements TransientSnapshot {
     final CompletableActorFuture<Void> abortFuture = new CompletableActorFuture<>();
     actor.run(
         () -> {
-          abortInternal();
-          abortFuture.complete(null);
+          if (isTaking) {
+            // the snapshot is still written into the directory, so it can only be deleted once the
+            // snapshot is taken, see onSnapshotTaken
+            isAborted = true;
+            actor.runOnCompletion(takenFuture, (ignored, error) -> abortFuture.complete(null));
+          } else {
+            abortInternal();
+            abortFuture.complete(null);
+          }
         });
     return abortFuture;
   }
@@ -181,6 +213,7 @@ public final class FileBasedTransientSnapshot implements TransientSnapshot {
   private void abortInternal() {
     try {
       isValid = false;
+      isAborted = true;
       snapshot = null;
       LOGGER.debug("Aborting transient snapshot {}", this);
       FileUtil.deleteFolderIfExists(directory);
@@ -12,6 +12,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.camunda.zeebe.scheduler.testing.ActorSchedulerRule;
+import io.camunda.zeebe.snapshots.SnapshotException.SnapshotNotFoundException;
 import io.camunda.zeebe.snapshots.SnapshotMetadata;
 import io.camunda.zeebe.test.util.asserts.DirectoryAssert;
 import io.camunda.zeebe.util.FileUtil;
@@ -22,6 +23,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -120,6 +122,35 @@ public class FileBasedTransientSnapshotTest {
     assertThat(pendingDir).as("the pending directory is empty after abort").isEmptyDirectory();
   }
 
+  @Test
+  public void shouldDeleteTransientDirectoryWhenAbortedWhileTaken() {
+    // given
+    final var transientSnapshot = snapshotStore.newTransientSnapshot(1L, 0L, 1L, 0L).get();
+    final var writeSnapshot = new CountDownLatch(1);
+    final var didTakeSnapshot =
+        transientSnapshot.take(
+            path -> {
+              try {
+                writeSnapshot.await();
+              } catch (final InterruptedException e) {
+                throw new IllegalStateException(e);
+              }
+              writeSnapshot(path);
+            });
+
+    // when
+    final var didAbort = transientSnapshot.abort();
+    writeSnapshot.countDown();
+
+    // then
+    didAbort.join();
+    assertThatThrownBy(didTakeSnapshot::join).hasCauseInstanceOf(SnapshotNotFoundException.class);
+    assertThat(transientSnapshot.getPath())
+        .as("the transient directory should not exist after abort")
+        .doesNotExist();
+    assertThat(pendingDir).as("the pending directory is empty after abort").isEmptyDirectory();
+  }
+
   @Test
   public void shouldNotDeletePersistedSnapshotOnPurge() {
     // given
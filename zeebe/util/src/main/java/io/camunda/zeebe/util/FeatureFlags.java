@@ -15,7 +15,10 @@ public record FeatureFlags(
     boolean enableActorMetrics,
     boolean enableMessageTTLCheckerAsync,
     boolean enableTimerDueDateCheckerAsync,
-    boolean enableStraightThroughProcessingLoopDetector
+    boolean enableStraightThroughProcessingLoopDetector,
+    boolean enableJobDueDateCheckerAsync,
+    boolean enableInterPartitionCommandBatching,
+    boolean enableIncrementalOutputCollection
     /*, boolean foo*/ ) {
 
   /* To add a new feature toggle, please follow these steps:
@@ -51,6 +54,9 @@ public record FeatureFlags(
   private static final boolean ENABLE_MSG_TTL_CHECKER_ASYNC = false;
   private static final boolean ENABLE_DUE_DATE_CHECKER_ASYNC = false;
   private static final boolean ENABLE_STRAIGHT_THOUGH_PROCESSING_LOOP_DETECTOR = true;
+  private static final boolean ENABLE_JOB_DUE_DATE_CHECKER_ASYNC = false;
+  private static final boolean ENABLE_INTER_PARTITION_COMMAND_BATCHING = false;
+  private static final boolean ENABLE_INCREMENTAL_OUTPUT_COLLECTION = false;
 
   public static FeatureFlags createDefault() {
     return new FeatureFlags(
@@ -58,7 +64,10 @@ public record FeatureFlags(
         ENABLE_ACTOR_METRICS,
         ENABLE_MSG_TTL_CHECKER_ASYNC,
         ENABLE_DUE_DATE_CHECKER_ASYNC,
-        ENABLE_STRAIGHT_THOUGH_PROCESSING_LOOP_DETECTOR
+        ENABLE_STRAIGHT_THOUGH_PROCESSING_LOOP_DETECTOR,
+        ENABLE_JOB_DUE_DATE_CHECKER_ASYNC,
+        ENABLE_INTER_PARTITION_COMMAND_BATCHING,
+        ENABLE_INCREMENTAL_OUTPUT_COLLECTION
         /*, FOO_DEFAULT*/ );
   }
 
@@ -73,7 +82,10 @@ public record FeatureFlags(
         false, /* ENABLE_ACTOR_METRICS */
         true, /* ENABLE_MSG_TTL_CHECKER_ASYNC */
         true, /* ENABLE_DUE_DATE_CHECKER_ASYNC */
-        true /* ENABLE_STRAIGHT_THOUGH_PROCESSING_LOOP_DETECTOR */
+        true, /* ENABLE_STRAIGHT_THOUGH_PROCESSING_LOOP_DETECTOR */
+        true, /* ENABLE_JOB_DUE_DATE_CHECKER_ASYNC */
+        true, /* ENABLE_INTER_PARTITION_COMMAND_BATCHING */
+        false /* ENABLE_INCREMENTAL_OUTPUT_COLLECTION */
         /*, FOO_DEFAULT*/ );
   }
 
@@ -22,6 +22,9 @@ class FeatureFlagsTest {
     assertThat(sut.yieldingDueDateChecker()).isTrue();
     assertThat(sut.enableActorMetrics()).isFalse();
     assertThat(sut.enableMessageTTLCheckerAsync()).isFalse();
+    assertThat(sut.enableJobDueDateCheckerAsync()).isFalse();
+    assertThat(sut.enableInterPartitionCommandBatching()).isFalse();
+    assertThat(sut.enableIncrementalOutputCollection()).isFalse();
   }
 
   @Test
@@ -32,5 +35,8 @@ class FeatureFlagsTest {
     // then
     assertThat(sut.yieldingDueDateChecker()).isTrue();
     assertThat(sut.enableMessageTTLCheckerAsync()).isTrue();
+    assertThat(sut.enableJobDueDateCheckerAsync()).isTrue();
+    assertThat(sut.enableInterPartitionCommandBatching()).isTrue();
+    assertThat(sut.enableIncrementalOutputCollection()).isFalse();
   }
 }
@@ -144,6 +144,20 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
    */
   void deleteExisting(KeyType key);
 
+  /**
+   * Deletes the key-value pair with the given key, which must exist in the column family. Unlike
+   * {@link #deleteExisting(DbKey)}, the deletion does not leave a tombstone behind once it meets
+   * the inserted value in a flush or compaction, so it doesn't slow down later scans over the
+   * column family. For short-lived keys, both are usually dropped when the memtable is flushed.
+   *
+   * <p>This must only be used for keys which were inserted once and never updated since, e.g. index
+   * entries whose keys are unique. Otherwise, a previous value may become visible again or the
+   * database may report a corruption on compaction.
+   *
+   * @throws IllegalStateException if the key does not exist
+   */
+  void deleteInsertedOnce(KeyType key);
+
   /**
    * Deletes the key-value pair if the key does exist in the column family. No-op if the key does
    * not exist.
@@ -34,4 +34,26 @@ public interface TransactionContext {
    * @return the transaction object
    */
   ZeebeDbTransaction getCurrentTransaction();
+
+  /**
+   * Registers a listener which is called whenever a transaction of this context is rolled back
+   * before it was committed, i.e. whenever its changes are discarded. Components which keep an
+   * in-memory view of the state, like caches or indexes, can use it to drop what they derived from
+   * the discarded changes.
+   *
+   * <p>The listener is called on the thread which rolls back the transaction.
+   *
+   * @param listener the listener to call on rollback
+   */
+  void addRollbackListener(Runnable listener);
+
+  /**
+   * Returns whether the transactions of this context can only read from the database, see {@link
+   * ZeebeDb#createReadOnlyContext()}. Such a context does not observe the changes of other contexts
+   * within a transaction, so components must not keep an in-memory view of the state across its
+   * transactions.
+   *
+   * @return true if the transactions of this context can't write, false otherwise
+   */
+  boolean isReadOnly();
 }
@@ -55,6 +55,21 @@ public interface ZeebeDb<ColumnFamilyType extends Enum<? extends EnumValue> & En
 
   TransactionContext createContext();
 
+  /**
+   * Creates a context whose transactions can only read from the database. Each transaction reads
+   * from a consistent point-in-time snapshot of the database, which is taken when the transaction
+   * starts and released when it ends. Changes committed concurrently by other contexts are not
+   * visible until the next transaction is started.
+   *
+   * <p>This makes it safe to scan the state from a different thread than the one modifying it, for
+   * example from scheduled tasks running asynchronously to the stream processor.
+   *
+   * <p>Any write done in a transaction of this context results in an exception.
+   *
+   * @return the read-only transaction context
+   */
+  TransactionContext createReadOnlyContext();
+
   /**
    * Checks the database if the given column is empty.
    *
@@ -22,6 +22,10 @@ public final class DbBytes implements DbKey, DbValue {
     bytes.wrap(value);
   }
 
+  public void wrapBuffer(final DirectBuffer buffer, final int offset, final int length) {
+    bytes.wrap(buffer, offset, length);
+  }
+
   @Override
   public void wrap(final DirectBuffer directBuffer, final int offset, final int length) {
     final byte[] bytesToWrap = new byte[length];
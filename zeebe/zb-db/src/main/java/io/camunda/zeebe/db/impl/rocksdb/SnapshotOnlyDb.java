@@ -67,6 +67,11 @@ final class SnapshotOnlyDb<ColumnFamilyType extends Enum<? extends EnumValue> &
     throw unsupported("createContext");
   }
 
+  @Override
+  public TransactionContext createReadOnlyContext() {
+    throw unsupported("createReadOnlyContext");
+  }
+
   @Override
   public boolean isEmpty(final ColumnFamilyType column, final TransactionContext context) {
     throw unsupported("isEmpty");
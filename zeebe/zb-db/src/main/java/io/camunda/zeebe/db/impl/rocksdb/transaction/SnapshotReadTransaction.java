@@ -0,0 +1,138 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static io.camunda.zeebe.db.impl.rocksdb.transaction.ZeebeTransactionDb.getNativeHandle;
+
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
+import org.rocksdb.Snapshot;
+import org.rocksdb.Transaction;
+
+/**
+ * A read-only transaction which reads from a RocksDB snapshot. Every time the transaction is
+ * (re)started, a new snapshot is acquired, and it is released again when the transaction ends. All
+ * reads and iterations done within the same transaction therefore observe the same consistent,
+ * point-in-time view of the database, regardless of what is concurrently committed by other
+ * transactions.
+ *
+ * <p>This allows scanning large parts of the state from a different thread than the one which
+ * modifies it, e.g. in scheduled tasks that run asynchronously to the processing actor.
+ *
+ * <p>Any attempt to write through this transaction results in an {@link
+ * UnsupportedOperationException}.
+ */
+final class SnapshotReadTransaction extends ZeebeTransaction {
+
+  private final ZeebeTransactionDb<?> transactionDb;
+  private final ReadOptions snapshotReadOptions;
+  private final ReadOptions snapshotPrefixReadOptions;
+  private final long snapshotReadOptionsHandle;
+  private Snapshot snapshot;
+
+  SnapshotReadTransaction(
+      final Transaction transaction, final ZeebeTransactionDb<?> transactionDb) {
+    super(transaction, transactionDb);
+    this.transactionDb = transactionDb;
+    snapshotReadOptions = new ReadOptions();
+    snapshotPrefixReadOptions = new ReadOptions(transactionDb.getPrefixReadOptions());
+    snapshotReadOptionsHandle = getNativeHandle(snapshotReadOptions);
+  }
+
+  @Override
+  public void put(
+      final long columnFamilyHandle,
+      final byte[] key,
+      final int keyLength,
+      final byte[] value,
+      final int valueLength) {
+    throw new UnsupportedOperationException(
+        "Expected to write to a read-only snapshot transaction, but writes are not supported");
+  }
+
+  @Override
+  public byte[] get(
+      final long columnFamilyHandle,
+      final long readOptionsHandle,
+      final byte[] key,
+      final int keyLength)
+      throws Exception {
+    return super.get(columnFamilyHandle, snapshotReadOptionsHandle, key, keyLength);
+  }
+
+  @Override
+  public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength) {
+    throw new UnsupportedOperationException(
+        "Expected to delete from a read-only snapshot transaction, but deletes are not supported");
+  }
+
+  @Override
+  public void singleDelete(final long columnFamilyHandle, final byte[] key, final int keyLength) {
+    throw new UnsupportedOperationException(
+        "Expected to delete from a read-only snapshot transaction, but deletes are not supported");
+  }
+
+  @Override
+  public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
+    // the column families only iterate with the prefix read options, but we check to be safe
+    final var snapshotOptions =
+        options.prefixSameAsStart() ? snapshotPrefixReadOptions : snapshotReadOptions;
+    return super.newIterator(snapshotOptions, handle);
+  }
+
+  @Override
+  boolean isReadOnly() {
+    return true;
+  }
+
+  @Override
+  void resetTransaction() {
+    super.resetTransaction();
+    releaseSnapshot();
+    snapshot = transactionDb.getSnapshot();
+    snapshotReadOptions.setSnapshot(snapshot);
+    snapshotPrefixReadOptions.setSnapshot(snapshot);
+  }
+
+  @Override
+  void commitInternal() throws RocksDBException {
+    try {
+      super.commitInternal();
+    } finally {
+      releaseSnapshot();
+    }
+  }
+
+  @Override
+  void rollbackInternal() throws RocksDBException {
+    try {
+      super.rollbackInternal();
+    } finally {
+      releaseSnapshot();
+    }
+  }
+
+  @Override
+  public void close() {
+    releaseSnapshot();
+    snapshotReadOptions.close();
+    snapshotPrefixReadOptions.close();
+    super.close();
+  }
+
+  private void releaseSnapshot() {
+    if (snapshot != null) {
+      snapshotReadOptions.setSnapshot(null);
+      snapshotPrefixReadOptions.setSnapshot(null);
+      transactionDb.releaseSnapshot(snapshot);
+      snapshot = null;
+    }
+  }
+}
@@ -233,6 +233,21 @@ class TransactionalColumnFamily<
     }
   }
 
+  @Override
+  public void deleteInsertedOnce(final KeyType key) {
+    try (final var timer = metrics.measureDeleteLatency()) {
+      ensureInOpenTransaction(
+          transaction -> {
+            columnFamilyContext.writeKey(key);
+            assertKeyExists(transaction);
+            transaction.singleDelete(
+                transactionDb.getDefaultNativeHandle(),
+                columnFamilyContext.getKeyBufferArray(),
+                columnFamilyContext.getKeyLength());
+          });
+    }
+  }
+
   @Override
   public void deleteIfExists(final KeyType key) {
     try (final var timer = metrics.measureDeleteLatency()) {
@@ -12,6 +12,8 @@ import static io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRoc
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
+import java.util.ArrayList;
+import java.util.List;
 import org.agrona.LangUtil;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
@@ -23,6 +25,7 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   private final long nativeHandle;
   private final TransactionRenovator transactionRenovator;
+  private final List<Runnable> rollbackListeners = new ArrayList<>();
 
   private boolean inCurrentTransaction;
   private Transaction transaction;
@@ -97,6 +100,16 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  public void singleDelete(final long columnFamilyHandle, final byte[] key, final int keyLength)
+      throws Exception {
+    try {
+      RocksDbInternal.singleRemoveWithHandle.invokeExact(
+          transaction, nativeHandle, key, keyLength, columnFamilyHandle, false);
+    } catch (final Throwable e) {
+      LangUtil.rethrowUnchecked(e);
+    }
+  }
+
   public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
     return transaction.getIterator(options, handle);
   }
@@ -110,6 +123,10 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     return inCurrentTransaction;
   }
 
+  boolean isReadOnly() {
+    return false;
+  }
+
   @Override
   public void run(final TransactionOperation operations) throws Exception {
     try {
@@ -155,10 +172,18 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
   }
 
   void rollbackInternal() throws RocksDBException {
+    if (inCurrentTransaction) {
+      // the transaction was not committed, so its changes are discarded
+      rollbackListeners.forEach(Runnable::run);
+    }
     inCurrentTransaction = false;
     transaction.rollback();
   }
 
+  void addRollbackListener(final Runnable listener) {
+    rollbackListeners.add(listener);
+  }
+
   @Override
   public void close() {
     transaction.close();
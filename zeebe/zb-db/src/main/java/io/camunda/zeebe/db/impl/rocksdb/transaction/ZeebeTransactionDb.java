@@ -35,6 +35,7 @@ import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksObject;
+import org.rocksdb.Snapshot;
 import org.rocksdb.Transaction;
 import org.rocksdb.WriteOptions;
 import org.slf4j.Logger;
@@ -140,6 +141,14 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     return getNativeHandle(defaultReadOptions);
   }
 
+  Snapshot getSnapshot() {
+    return optimisticTransactionDB.getSnapshot();
+  }
+
+  void releaseSnapshot(final Snapshot snapshot) {
+    optimisticTransactionDB.releaseSnapshot(snapshot);
+  }
+
   protected long getDefaultNativeHandle() {
     return defaultNativeHandle;
   }
@@ -199,6 +208,15 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     return new DefaultTransactionContext(zeebeTransaction);
   }
 
+  @Override
+  public TransactionContext createReadOnlyContext() {
+    final Transaction transaction = optimisticTransactionDB.beginTransaction(defaultWriteOptions);
+    final SnapshotReadTransaction snapshotTransaction =
+        new SnapshotReadTransaction(transaction, this);
+    closables.add(snapshotTransaction);
+    return new DefaultTransactionContext(snapshotTransaction);
+  }
+
   @Override
   public boolean isEmpty(
       final ColumnFamilyNames columnFamilyName, final TransactionContext context) {
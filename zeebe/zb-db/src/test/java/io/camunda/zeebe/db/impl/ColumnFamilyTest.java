@@ -164,6 +164,37 @@ public final class ColumnFamilyTest {
     assertThat(zbLong).isNull();
   }
 
+  @Test
+  public void shouldDeleteInsertedOnce() {
+    // given
+    key.wrapLong(1213);
+    value.wrapLong(255);
+    columnFamily.insert(key, value);
+
+    // when
+    columnFamily.deleteInsertedOnce(key);
+
+    // then
+    assertThat(columnFamily.exists(key)).isFalse();
+    assertThat(columnFamily.get(key)).isNull();
+  }
+
+  @Test
+  public void shouldInsertAgainAfterDeleteInsertedOnce() {
+    // given
+    key.wrapLong(1213);
+    value.wrapLong(255);
+    columnFamily.insert(key, value);
+    columnFamily.deleteInsertedOnce(key);
+
+    // when
+    value.wrapLong(256);
+    columnFamily.insert(key, value);
+
+    // then
+    assertThat(columnFamily.get(key).getValue()).isEqualTo(256);
+  }
+
   @Test
   public void shouldNotDeleteDifferentKey() {
     // given
@@ -436,6 +467,14 @@ public final class ColumnFamilyTest {
         .isInstanceOf(ZeebeDbInconsistentException.class);
   }
 
+  @Test
+  public void shouldThrowOnDeleteInsertedOnce() {
+    key.wrapLong(1);
+    assertThatThrownBy(() -> columnFamily.deleteInsertedOnce(key))
+        .hasMessageContaining("does not exist")
+        .isInstanceOf(ZeebeDbInconsistentException.class);
+  }
+
   @Test
   public void shouldThrowOnMissingForeignKeyInKeyPosition() {
     // given
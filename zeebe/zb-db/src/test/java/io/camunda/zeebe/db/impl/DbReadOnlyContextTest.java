@@ -0,0 +1,174 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.ZeebeDbFactory;
+import io.camunda.zeebe.protocol.EnumValue;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class DbReadOnlyContextTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+  private final ZeebeDbFactory<ColumnFamilies> dbFactory =
+      DefaultZeebeDbFactory.getDefaultFactory();
+
+  private ZeebeDb<ColumnFamilies> zeebeDb;
+  private TransactionContext readOnlyContext;
+
+  private ColumnFamily<DbLong, DbLong> writeColumnFamily;
+  private ColumnFamily<DbLong, DbLong> readColumnFamily;
+
+  private final DbLong writeKey = new DbLong();
+  private final DbLong writeValue = new DbLong();
+  private final DbLong readKey = new DbLong();
+  private final DbLong readValue = new DbLong();
+
+  @Before
+  public void setup() throws Exception {
+    final File pathName = temporaryFolder.newFolder();
+    zeebeDb = dbFactory.createDb(pathName);
+    final TransactionContext writeContext = zeebeDb.createContext();
+    readOnlyContext = zeebeDb.createReadOnlyContext();
+
+    writeColumnFamily =
+        zeebeDb.createColumnFamily(ColumnFamilies.ONE, writeContext, writeKey, writeValue);
+    readColumnFamily =
+        zeebeDb.createColumnFamily(ColumnFamilies.ONE, readOnlyContext, readKey, readValue);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+  }
+
+  @Test
+  public void shouldReadCommittedValues() {
+    // given
+    put(1, 10);
+
+    // when
+    readKey.wrapLong(1);
+    final var value = readColumnFamily.get(readKey);
+
+    // then
+    assertThat(value).isNotNull();
+    assertThat(value.getValue()).isEqualTo(10);
+  }
+
+  @Test
+  public void shouldNotSeeChangesCommittedDuringTransaction() {
+    // given
+    put(1, 10);
+    put(2, 20);
+
+    // when
+    final List<Long> visitedKeys = new ArrayList<>();
+    readOnlyContext.runInTransaction(
+        () ->
+            readColumnFamily.forEach(
+                (key, value) -> {
+                  visitedKeys.add(key.getValue());
+                  // concurrent modification by another context
+                  put(3, 30);
+                  delete(2);
+                }));
+
+    // then
+    assertThat(visitedKeys).containsExactly(1L, 2L);
+  }
+
+  @Test
+  public void shouldSeeChangesCommittedBeforeTransaction() {
+    // given
+    put(1, 10);
+    readOnlyContext.runInTransaction(() -> readColumnFamily.forEach((key, value) -> {}));
+
+    // when
+    put(2, 20);
+
+    // then
+    final List<Long> visitedKeys = new ArrayList<>();
+    readColumnFamily.forEach((key, value) -> visitedKeys.add(key.getValue()));
+    assertThat(visitedKeys).containsExactly(1L, 2L);
+  }
+
+  @Test
+  public void shouldRejectWrites() {
+    // given
+    readKey.wrapLong(1);
+    readValue.wrapLong(10);
+
+    // then
+    assertThatThrownBy(() -> readColumnFamily.insert(readKey, readValue))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  public void shouldRejectDeletes() {
+    // given
+    put(1, 10);
+    readKey.wrapLong(1);
+
+    // then
+    assertThatThrownBy(() -> readColumnFamily.deleteIfExists(readKey))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  public void shouldRejectSingleDeletes() {
+    // given
+    put(1, 10);
+    readKey.wrapLong(1);
+
+    // then
+    assertThatThrownBy(() -> readColumnFamily.deleteInsertedOnce(readKey))
+        .isInstanceOf(UnsupportedOperationException.class);
+    assertThat(readColumnFamily.exists(readKey)).isTrue();
+  }
+
+  @Test
+  public void shouldOnlyMarkReadOnlyContextAsReadOnly() {
+    // then
+    assertThat(readOnlyContext.isReadOnly()).isTrue();
+    assertThat(zeebeDb.createContext().isReadOnly()).isFalse();
+  }
+
+  private void put(final long key, final long value) {
+    writeKey.wrapLong(key);
+    writeValue.wrapLong(value);
+    writeColumnFamily.upsert(writeKey, writeValue);
+  }
+
+  private void delete(final long key) {
+    writeKey.wrapLong(key);
+    writeColumnFamily.deleteIfExists(writeKey);
+  }
+
+  private enum ColumnFamilies implements EnumValue {
+    DEFAULT, // rocksDB needs a default column family
+    ONE;
+
+    @Override
+    public int getValue() {
+      return ordinal();
+    }
+  }
+}
@@ -228,5 +228,13 @@ final class ZeebeRocksDbFactoryTest {
     public ZeebeDbTransaction getCurrentTransaction() {
       return null;
     }
+
+    @Override
+    public void addRollbackListener(final Runnable listener) {}
+
+    @Override
+    public boolean isReadOnly() {
+      return false;
+    }
   }
 }
@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -20,6 +22,7 @@ import io.camunda.zeebe.db.impl.DefaultColumnFamily;
 import io.camunda.zeebe.db.impl.DefaultZeebeDbFactory;
 import io.camunda.zeebe.util.exception.RecoverableException;
 import java.io.File;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -214,4 +217,53 @@ public final class ZeebeRocksDbTransactionTest {
     // when
     currentTransaction.rollback();
   }
+
+  @Test
+  public void shouldNotifyRollbackListenerOnRollback() throws Exception {
+    // given
+    final var rollbacks = new AtomicInteger();
+    transactionContext.addRollbackListener(rollbacks::incrementAndGet);
+    final ZeebeDbTransaction currentTransaction = transactionContext.getCurrentTransaction();
+
+    // when
+    currentTransaction.rollback();
+
+    // then
+    assertThat(rollbacks).hasValue(1);
+  }
+
+  @Test
+  public void shouldNotifyRollbackListenerIfOperationFails() {
+    // given
+    final var rollbacks = new AtomicInteger();
+    transactionContext.addRollbackListener(rollbacks::incrementAndGet);
+
+    // when
+    assertThatThrownBy(
+        () ->
+            transactionContext.runInTransaction(
+                () -> {
+                  throw new IllegalStateException("expected");
+                }))
+        .isInstanceOf(IllegalStateException.class);
+
+    // then
+    assertThat(rollbacks).hasValue(1);
+  }
+
+  @Test
+  public void shouldNotNotifyRollbackListenerAfterCommit() throws Exception {
+    // given
+    final var rollbacks = new AtomicInteger();
+    transactionContext.addRollbackListener(rollbacks::incrementAndGet);
+    final ZeebeDbTransaction currentTransaction = transactionContext.getCurrentTransaction();
+    currentTransaction.commit();
+
+    // when
+    transactionContext.runInTransaction(() -> {});
+    currentTransaction.rollback();
+
+    // then
+    assertThat(rollbacks).hasValue(0);
+  }
 }